@@ -0,0 +1,204 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.anim.AnimClip;
+import com.jme3.anim.AnimTrack;
+import com.jme3.anim.TransformTrack;
+import com.jme3.animation.Animation;
+import com.jme3.animation.BoneTrack;
+import com.jme3.animation.SpatialTrack;
+import com.jme3.animation.Track;
+import com.jme3.asset.AssetManager;
+import com.jme3.scene.Spatial;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import jme3utilities.wes.TrackEdit;
+import jme3utilities.wes.TweenTransforms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the whole-animation edits of LoadedAnimation (reduce,
+ * resample, and simplify), applied track-by-track to the first animation of
+ * each bundled C-G model, the same way LoadedAnimation applies them.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class AnimationBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * reduction factor for reduce()
+     */
+    final private static int reductionFactor = 2;
+    /**
+     * sample rate for resampleAtRate() (in frames per second)
+     */
+    final private static float sampleRate = 30f;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AnimationBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * duration of the animation (in seconds)
+     */
+    private float duration;
+    /**
+     * tracks of the animation being measured
+     */
+    private Object[] tracks;
+    /**
+     * name of the bundled C-G model to measure
+     */
+    @Param({"Jaime", "Puppet", "Sinbad"})
+    public String cgmName;
+    /**
+     * tweening techniques for resampling
+     */
+    final private TweenTransforms techniques = new TweenTransforms();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Reduce each track of the animation by a factor of 2.
+     *
+     * @param blackhole sink for the new tracks (not null)
+     */
+    @Benchmark
+    public void reduce(Blackhole blackhole) {
+        for (Object oldTrack : tracks) {
+            Object newTrack;
+            if (oldTrack instanceof BoneTrack
+                    || oldTrack instanceof SpatialTrack) {
+                newTrack = TrackEdit.reduce((Track) oldTrack, reductionFactor);
+            } else if (oldTrack instanceof TransformTrack) {
+                newTrack = TrackEdit.reduce(
+                        (TransformTrack) oldTrack, reductionFactor);
+            } else {
+                newTrack = TrackEdit.cloneTrack(oldTrack);
+            }
+            blackhole.consume(newTrack);
+        }
+    }
+
+    /**
+     * Resample each track of the animation at 30 frames per second.
+     *
+     * @param blackhole sink for the new tracks (not null)
+     */
+    @Benchmark
+    public void resampleAtRate(Blackhole blackhole) {
+        for (Object oldTrack : tracks) {
+            Object newTrack;
+            if (oldTrack instanceof BoneTrack
+                    || oldTrack instanceof SpatialTrack) {
+                newTrack = techniques.resampleAtRate(
+                        (Track) oldTrack, sampleRate, duration);
+            } else if (oldTrack instanceof TransformTrack) {
+                newTrack = TrackEdit.resampleAtRate(
+                        (TransformTrack) oldTrack, sampleRate, duration);
+            } else {
+                newTrack = TrackEdit.cloneTrack(oldTrack);
+            }
+            blackhole.consume(newTrack);
+        }
+    }
+
+    /**
+     * Load the C-G model and select its first animation, before the
+     * measurements.
+     */
+    @Setup
+    public void setup() {
+        AssetManager assetManager = BenchmarkAssets.createAssetManager();
+        Spatial cgmRoot = BenchmarkAssets.loadModel(assetManager, cgmName);
+        List<String> names = BenchmarkAssets.listAnimationNames(cgmRoot);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("no animations in " + cgmName);
+        }
+        String animationName = names.get(0);
+        Object animation
+                = BenchmarkAssets.findAnimation(cgmRoot, animationName);
+
+        if (animation instanceof Animation) {
+            Animation anim = (Animation) animation;
+            duration = anim.getLength();
+            tracks = anim.getTracks();
+        } else {
+            AnimClip clip = (AnimClip) animation;
+            duration = (float) clip.getLength();
+            AnimTrack<?>[] clipTracks = clip.getTracks();
+            tracks = clipTracks;
+        }
+        logger.info(cgmName + ": " + animationName + ", " + tracks.length
+                + " tracks");
+    }
+
+    /**
+     * Simplify each track of the animation.
+     *
+     * @param blackhole sink for the new tracks (not null)
+     */
+    @Benchmark
+    public void simplify(Blackhole blackhole) {
+        for (Object oldTrack : tracks) {
+            Object newTrack;
+            if (oldTrack instanceof BoneTrack
+                    || oldTrack instanceof SpatialTrack) {
+                newTrack = TrackEdit.simplify((Track) oldTrack);
+            } else if (oldTrack instanceof TransformTrack) {
+                newTrack = TrackEdit.simplify((TransformTrack) oldTrack);
+            } else {
+                newTrack = TrackEdit.cloneTrack(oldTrack);
+            }
+            blackhole.consume(newTrack);
+        }
+    }
+}
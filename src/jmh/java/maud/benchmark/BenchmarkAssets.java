@@ -0,0 +1,293 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.anim.AnimClip;
+import com.jme3.anim.AnimComposer;
+import com.jme3.anim.SkinningControl;
+import com.jme3.animation.AnimControl;
+import com.jme3.animation.Animation;
+import com.jme3.animation.SkeletonControl;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetManager;
+import com.jme3.asset.DesktopAssetManager;
+import com.jme3.asset.ModelKey;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.SceneGraphVisitorAdapter;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.control.Control;
+import com.jme3.scene.plugins.bvh.BVHLoader;
+import com.jme3.scene.plugins.bvh.SkeletonMapping;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3_ext_xbuf.XbufLoader;
+import maud.LoadUtil;
+import net.bithaven.jme.IQELoader;
+
+/**
+ * Utility methods to load the bundled assets for benchmarking, without a
+ * running application or rendering context.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchmarkAssets {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BenchmarkAssets.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchmarkAssets() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Create a headless asset manager that loads from the classpath, with the
+     * same extra loaders that Maud registers in startup1().
+     *
+     * @return a new instance
+     */
+    static AssetManager createAssetManager() {
+        AssetManager result = new DesktopAssetManager(true);
+        result.registerLoader(BVHLoader.class, "bvh", "BVH");
+        result.registerLoader(IQELoader.class, "iqe");
+        result.registerLoader(XbufLoader.class, "xbuf");
+
+        return result;
+    }
+
+    /**
+     * Find the named animation in the specified C-G model.
+     *
+     * @param cgmRoot the root of the C-G model (not null, unaffected)
+     * @param animationName the name of the animation (not null)
+     * @return the pre-existing AnimClip or Animation (not null)
+     */
+    static Object findAnimation(Spatial cgmRoot, String animationName) {
+        Object result = null;
+        AnimComposer composer = findControl(cgmRoot, AnimComposer.class);
+        if (composer != null) {
+            result = composer.getAnimClip(animationName);
+        } else {
+            AnimControl animControl = findControl(cgmRoot, AnimControl.class);
+            if (animControl != null) {
+                result = animControl.getAnim(animationName);
+            }
+        }
+        if (result == null) {
+            throw new IllegalArgumentException(
+                    "no animation named " + animationName);
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the first Control of the specified type in a depth-first traversal
+     * of the specified subtree.
+     *
+     * @param <T> the type of Control to find
+     * @param subtree the subtree to search (not null, unaffected)
+     * @param controlType the type of Control to find (not null)
+     * @return the pre-existing Control, or null if none found
+     */
+    static <T extends Control> T findControl(
+            Spatial subtree, final Class<T> controlType) {
+        final List<T> found = new ArrayList<>(1);
+        subtree.depthFirstTraversal(new SceneGraphVisitorAdapter() {
+            @Override
+            public void visit(Geometry geometry) {
+                check(geometry);
+            }
+
+            @Override
+            public void visit(Node node) {
+                check(node);
+            }
+
+            private void check(Spatial spatial) {
+                T control = spatial.getControl(controlType);
+                if (control != null && found.isEmpty()) {
+                    found.add(control);
+                }
+            }
+        });
+
+        T result = found.isEmpty() ? null : found.get(0);
+        return result;
+    }
+
+    /**
+     * Find the Armature or Skeleton of the specified C-G model.
+     *
+     * @param cgmRoot the root of the C-G model (not null, unaffected)
+     * @return the pre-existing Armature or Skeleton (not null)
+     */
+    static Object findSkeleton(Spatial cgmRoot) {
+        Object result = null;
+        SkinningControl skinner = findControl(cgmRoot, SkinningControl.class);
+        if (skinner != null) {
+            result = skinner.getArmature();
+        } else {
+            SkeletonControl skeletonControl
+                    = findControl(cgmRoot, SkeletonControl.class);
+            if (skeletonControl != null) {
+                result = skeletonControl.getSkeleton();
+            }
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("no skeleton");
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the Geometry with the most vertices in the specified subtree.
+     *
+     * @param subtree the subtree to search (not null, unaffected)
+     * @return the pre-existing Geometry (not null)
+     */
+    static Geometry largestGeometry(Spatial subtree) {
+        final List<Geometry> largest = new ArrayList<>(1);
+        subtree.depthFirstTraversal(new SceneGraphVisitorAdapter() {
+            @Override
+            public void visit(Geometry geometry) {
+                Mesh mesh = geometry.getMesh();
+                if (largest.isEmpty()) {
+                    largest.add(geometry);
+                } else if (mesh.getVertexCount()
+                        > largest.get(0).getMesh().getVertexCount()) {
+                    largest.set(0, geometry);
+                }
+            }
+        });
+        if (largest.isEmpty()) {
+            throw new IllegalArgumentException("no geometries");
+        }
+
+        Geometry result = largest.get(0);
+        return result;
+    }
+
+    /**
+     * Enumerate the animations in the specified C-G model.
+     *
+     * @param cgmRoot the root of the C-G model (not null, unaffected)
+     * @return a new sorted list of names
+     */
+    static List<String> listAnimationNames(Spatial cgmRoot) {
+        List<String> result = new ArrayList<>(20);
+        AnimComposer composer = findControl(cgmRoot, AnimComposer.class);
+        if (composer != null) {
+            Collection<AnimClip> clips = composer.getAnimClips();
+            for (AnimClip clip : clips) {
+                result.add(clip.getName());
+            }
+        } else {
+            AnimControl animControl = findControl(cgmRoot, AnimControl.class);
+            if (animControl != null) {
+                for (String name : animControl.getAnimationNames()) {
+                    Animation animation = animControl.getAnim(name);
+                    if (animation.getLength() > 0f) {
+                        result.add(name);
+                    }
+                }
+            }
+        }
+        Collections.sort(result);
+
+        return result;
+    }
+
+    /**
+     * Load one of the bundled skeleton maps.
+     *
+     * @param assetManager the asset manager to use (not null)
+     * @param mapName the name of the map, such as "SinbadToJaime" (not null)
+     * @return a new map (not null)
+     */
+    static SkeletonMapping loadMap(
+            AssetManager assetManager, String mapName) {
+        String assetPath = "SkeletonMaps/" + mapName + ".j3o";
+        AssetKey<SkeletonMapping> key = new AssetKey<>(assetPath);
+        SkeletonMapping result = LoadUtil.loadMapAsset(assetManager, key, true);
+        if (result == null) {
+            throw new IllegalStateException("failed to load " + assetPath);
+        }
+
+        return result;
+    }
+
+    /**
+     * Load one of the bundled C-G models, bypassing the asset cache.
+     *
+     * @param assetManager the asset manager to use (not null)
+     * @param cgmName the name of the model: "Jaime", "Puppet", or "Sinbad"
+     * @return a new orphan spatial (not null)
+     */
+    static Spatial loadModel(AssetManager assetManager, String cgmName) {
+        String fileName;
+        switch (cgmName) {
+            case "Jaime":
+                fileName = "Jaime.j3o";
+                break;
+            case "Puppet":
+                fileName = "Puppet.xbuf";
+                break;
+            case "Sinbad":
+                fileName = "Sinbad.mesh.xml";
+                break;
+            default:
+                throw new IllegalArgumentException("cgmName = " + cgmName);
+        }
+        String assetPath = "Models/" + cgmName + "/" + fileName;
+        ModelKey key = new ModelKey(assetPath);
+        assetManager.deleteFromCache(key);
+
+        Spatial result = LoadUtil.loadCgmAsset(assetManager, key, false);
+        if (result == null) {
+            throw new IllegalStateException("failed to load " + assetPath);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.export.binary.BinaryExporter;
+import com.jme3.export.binary.BinaryImporter;
+import com.jme3.scene.Spatial;
+import com.jme3.util.clone.Cloner;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import maud.CheckLoaded;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for whole-model operations: validation after a load, the deep
+ * copy made for each checkpoint, and J3O serialization.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class CgmBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(CgmBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * asset manager for loading and for the J3O importer
+     */
+    private AssetManager assetManager;
+    /**
+     * serialized form of the C-G model, for loadJ3o()
+     */
+    private byte[] j3oBytes;
+    /**
+     * root of the C-G model being measured
+     */
+    private Spatial cgmRoot;
+    /**
+     * name of the bundled C-G model to measure
+     */
+    @Param({"Jaime", "Puppet", "Sinbad"})
+    public String cgmName;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Validate the C-G model, as done after each load.
+     *
+     * @return true if the model is valid, otherwise false
+     */
+    @Benchmark
+    public boolean checkLoaded() {
+        boolean result = CheckLoaded.cgm(cgmRoot);
+        return result;
+    }
+
+    /**
+     * Deep-copy the C-G model the way a checkpoint does (see Cgm.clone()).
+     *
+     * @return the copy
+     */
+    @Benchmark
+    public Spatial checkpointCopy() {
+        Cloner cloner = new Cloner();
+        Spatial result = cloner.clone(cgmRoot);
+
+        return result;
+    }
+
+    /**
+     * Load the C-G model from J3O data held in memory.
+     *
+     * @return the loaded model
+     * @throws IOException if the data can't be parsed
+     */
+    @Benchmark
+    public Spatial loadJ3o() throws IOException {
+        BinaryImporter importer = BinaryImporter.getInstance();
+        importer.setAssetManager(assetManager);
+        Spatial result = (Spatial) importer.load(j3oBytes);
+
+        return result;
+    }
+
+    /**
+     * Save the C-G model as J3O data held in memory.
+     *
+     * @return the serialized data
+     * @throws IOException if the model can't be serialized
+     */
+    @Benchmark
+    public byte[] saveJ3o() throws IOException {
+        byte[] result = serialize(cgmRoot);
+        return result;
+    }
+
+    /**
+     * Load the C-G model and serialize it once, before the measurements.
+     *
+     * @throws IOException if the model can't be serialized
+     */
+    @Setup
+    public void setup() throws IOException {
+        assetManager = BenchmarkAssets.createAssetManager();
+        cgmRoot = BenchmarkAssets.loadModel(assetManager, cgmName);
+        j3oBytes = serialize(cgmRoot);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Serialize the specified subtree in J3O format.
+     *
+     * @param subtree the subtree to serialize (not null, unaffected)
+     * @return a new array
+     * @throws IOException if the subtree can't be serialized
+     */
+    private static byte[] serialize(Spatial subtree) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(1 << 20);
+        BinaryExporter exporter = BinaryExporter.getInstance();
+        exporter.save(subtree, stream);
+        byte[] result = stream.toByteArray();
+
+        return result;
+    }
+}
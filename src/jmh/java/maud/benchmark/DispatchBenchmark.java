@@ -0,0 +1,158 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import maud.action.ActionPrefix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for matching a prefixed action string to its ActionPrefix. The
+ * action handlers test each prefix of a verb with startsWith() in turn; the
+ * alternative is to hash the prefixes and look up each leading substring that
+ * ends with a space. Each benchmark matches the worst case: an action built
+ * from the last prefix of the verb, with an argument that contains spaces.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class DispatchBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DispatchBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * prefixes of the verb, in declaration order
+     */
+    final private List<String> verbPrefixes = new ArrayList<>(80);
+    /**
+     * all prefixes defined in the ActionPrefix class
+     */
+    final private Set<String> allPrefixes = new HashSet<>(400);
+    /**
+     * action string to match
+     */
+    private String actionString;
+    /**
+     * first word of the prefixes to test
+     */
+    @Param({"select", "set"})
+    public String verb;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Match the action by looking up its leading substrings in a hash set.
+     *
+     * @return the matching prefix
+     */
+    @Benchmark
+    public String hashedPrefixes() {
+        int spaceIndex = actionString.indexOf(' ');
+        while (spaceIndex != -1) {
+            String candidate = actionString.substring(0, spaceIndex + 1);
+            if (allPrefixes.contains(candidate)) {
+                return candidate;
+            }
+            spaceIndex = actionString.indexOf(' ', spaceIndex + 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Build the prefix collections and the action string.
+     *
+     * @throws IllegalAccessException if a prefix can't be read
+     */
+    @Setup
+    public void setup() throws IllegalAccessException {
+        verbPrefixes.clear();
+        allPrefixes.clear();
+
+        String verbSpace = verb + " ";
+        for (Field field : ActionPrefix.class.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers)
+                    && field.getType() == String.class) {
+                String prefix = (String) field.get(null);
+                allPrefixes.add(prefix);
+                if (prefix.startsWith(verbSpace)) {
+                    verbPrefixes.add(prefix);
+                }
+            }
+        }
+
+        int lastIndex = verbPrefixes.size() - 1;
+        actionString = verbPrefixes.get(lastIndex) + "Models/some path.j3o";
+    }
+
+    /**
+     * Match the action by testing each prefix of its verb in turn.
+     *
+     * @return the matching prefix
+     */
+    @Benchmark
+    public String startsWithChain() {
+        for (String prefix : verbPrefixes) {
+            if (actionString.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+
+        return null;
+    }
+}
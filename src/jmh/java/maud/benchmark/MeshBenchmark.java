@@ -0,0 +1,130 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import jme3utilities.MeshNormals;
+import maud.MeshUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the mesh operations in MeshUtil, applied to the largest
+ * mesh of each bundled C-G model.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class MeshBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MeshBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * mesh being measured
+     */
+    private Mesh mesh;
+    /**
+     * name of the bundled C-G model to measure
+     */
+    @Param({"Jaime", "Puppet", "Sinbad"})
+    public String cgmName;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate facet normals for the mesh.
+     *
+     * @return the resulting mesh
+     */
+    @Benchmark
+    public Mesh generateFacetNormals() {
+        Mesh result = MeshUtil.generateNormals(mesh, MeshNormals.Facet);
+        return result;
+    }
+
+    /**
+     * Generate smooth normals for the mesh.
+     *
+     * @return the resulting mesh
+     */
+    @Benchmark
+    public Mesh generateSmoothNormals() {
+        Mesh result = MeshUtil.generateNormals(mesh, MeshNormals.Smooth);
+        return result;
+    }
+
+    /**
+     * Partition the mesh into connected submeshes, using the default
+     * vertex-position tolerance.
+     *
+     * @return the submeshes
+     */
+    @Benchmark
+    public Mesh[] partition() {
+        Mesh[] result
+                = MeshUtil.partition(mesh, VertexBuffer.Type.Position, 0f);
+        return result;
+    }
+
+    /**
+     * Load the C-G model and select its largest mesh, before the
+     * measurements.
+     */
+    @Setup
+    public void setup() {
+        AssetManager assetManager = BenchmarkAssets.createAssetManager();
+        Spatial cgmRoot = BenchmarkAssets.loadModel(assetManager, cgmName);
+        mesh = BenchmarkAssets.largestGeometry(cgmRoot).getMesh();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetManager;
+import com.jme3.asset.ModelKey;
+import com.jme3.math.FastMath;
+import com.jme3.scene.plugins.bvh.BVHAnimData;
+import com.jme3.scene.plugins.bvh.BVHLoader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import net.bithaven.jme.IQELoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the BVH and IQE parsers. Since no BVH or IQE assets are
+ * bundled, each benchmark parses a synthetic file (a chain of joints with a
+ * sinusoidal animation) generated in memory, so the asset cache and file
+ * system stay out of the measurement.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class ParseBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of joints in each synthetic skeleton
+     */
+    final private static int numJoints = 20;
+    /**
+     * number of quads along each edge of the synthetic IQE mesh
+     */
+    final private static int quadsPerEdge = 32;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ParseBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * asset manager to pass to the loaders
+     */
+    private AssetManager assetManager;
+    /**
+     * synthetic BVH file
+     */
+    private byte[] bvhBytes;
+    /**
+     * synthetic IQE file
+     */
+    private byte[] iqeBytes;
+    /**
+     * number of animation frames in each synthetic file
+     */
+    @Param({"100", "1000"})
+    public int numFrames;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Parse the synthetic BVH file.
+     *
+     * @return the parsed data
+     * @throws IOException if the data can't be parsed
+     */
+    @Benchmark
+    public Object parseBvh() throws IOException {
+        AssetKey<BVHAnimData> key = new AssetKey<>("Benchmark/synthetic.bvh");
+        AssetInfo info = info(key, bvhBytes);
+        Object result = new BVHLoader().load(info);
+
+        return result;
+    }
+
+    /**
+     * Parse the synthetic IQE file.
+     *
+     * @return the parsed model
+     * @throws IOException if the data can't be parsed
+     */
+    @Benchmark
+    public Object parseIqe() throws IOException {
+        ModelKey key = new ModelKey("Benchmark/synthetic.iqe");
+        AssetInfo info = info(key, iqeBytes);
+        Object result = new IQELoader().load(info);
+
+        return result;
+    }
+
+    /**
+     * Generate the synthetic files, before the measurements.
+     */
+    @Setup
+    public void setup() {
+        assetManager = BenchmarkAssets.createAssetManager();
+        bvhBytes = generateBvh().getBytes(StandardCharsets.US_ASCII);
+        iqeBytes = generateIqe().getBytes(StandardCharsets.US_ASCII);
+        logger.info("BVH: " + bvhBytes.length + " bytes, IQE: "
+                + iqeBytes.length + " bytes");
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Calculate a joint angle for the synthetic animations.
+     *
+     * @param frameIndex the index of the frame (&ge;0)
+     * @param jointIndex the index of the joint (&ge;0)
+     * @return the angle (in radians)
+     */
+    private static float angle(int frameIndex, int jointIndex) {
+        float result = 0.3f * FastMath.sin(0.1f * frameIndex + jointIndex);
+        return result;
+    }
+
+    /**
+     * Generate a BVH file with a chain of joints.
+     *
+     * @return the text of the file
+     */
+    private String generateBvh() {
+        StringBuilder builder = new StringBuilder(4096 + 200 * numFrames);
+        builder.append("HIERARCHY\n");
+        for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+            builder.append(jointIndex == 0 ? "ROOT" : "JOINT")
+                    .append(" Joint").append(jointIndex).append("\n{\n")
+                    .append("OFFSET 0 1 0\n");
+            if (jointIndex == 0) {
+                builder.append("CHANNELS 6 Xposition Yposition Zposition"
+                        + " Zrotation Xrotation Yrotation\n");
+            } else {
+                builder.append(
+                        "CHANNELS 3 Zrotation Xrotation Yrotation\n");
+            }
+        }
+        builder.append("End Site\n{\nOFFSET 0 1 0\n}\n");
+        for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+            builder.append("}\n");
+        }
+
+        builder.append("MOTION\nFrames: ").append(numFrames)
+                .append("\nFrame Time: 0.033333\n");
+        for (int frameIndex = 0; frameIndex < numFrames; ++frameIndex) {
+            builder.append("0 0 0");
+            for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+                float degrees = FastMath.RAD_TO_DEG
+                        * angle(frameIndex, jointIndex);
+                builder.append(' ').append(degrees).append(" 0 0");
+            }
+            builder.append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Generate an IQE file with a chain of joints and a grid mesh.
+     *
+     * @return the text of the file
+     */
+    private String generateIqe() {
+        StringBuilder builder = new StringBuilder(
+                65_536 + 100 * numJoints * numFrames);
+        builder.append("# Inter-Quake Export\n");
+        for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+            builder.append("joint Joint").append(jointIndex).append(' ')
+                    .append(jointIndex - 1).append('\n');
+        }
+        for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+            builder.append("pq 0 1 0 0 0 0 1\n");
+        }
+
+        builder.append("mesh grid\n");
+        int verticesPerEdge = quadsPerEdge + 1;
+        for (int y = 0; y < verticesPerEdge; ++y) {
+            for (int x = 0; x < verticesPerEdge; ++x) {
+                builder.append("vp ").append(x).append(' ').append(y)
+                        .append(" 0\nvn 0 0 1\n");
+            }
+        }
+        for (int y = 0; y < quadsPerEdge; ++y) {
+            for (int x = 0; x < quadsPerEdge; ++x) {
+                int v00 = x + verticesPerEdge * y;
+                int v10 = v00 + 1;
+                int v01 = v00 + verticesPerEdge;
+                int v11 = v01 + 1;
+                builder.append("fm ").append(v00).append(' ').append(v10)
+                        .append(' ').append(v11).append('\n');
+                builder.append("fm ").append(v00).append(' ').append(v11)
+                        .append(' ').append(v01).append('\n');
+            }
+        }
+
+        builder.append("animation wave\nframerate 30\n");
+        for (int frameIndex = 0; frameIndex < numFrames; ++frameIndex) {
+            builder.append("frame\n");
+            for (int jointIndex = 0; jointIndex < numJoints; ++jointIndex) {
+                float halfAngle = 0.5f * angle(frameIndex, jointIndex);
+                builder.append("pq 0 1 0 ")
+                        .append(FastMath.sin(halfAngle)).append(" 0 0 ")
+                        .append(FastMath.cos(halfAngle)).append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Wrap the specified data for a loader.
+     *
+     * @param key the asset key to report (not null)
+     * @param data the data to be parsed (not null, alias created)
+     * @return a new instance
+     */
+    private AssetInfo info(AssetKey<?> key, final byte[] data) {
+        AssetInfo result = new AssetInfo(assetManager, key) {
+            @Override
+            public InputStream openStream() {
+                return new ByteArrayInputStream(data);
+            }
+        };
+
+        return result;
+    }
+}
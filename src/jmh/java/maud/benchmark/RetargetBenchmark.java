@@ -0,0 +1,169 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.benchmark;
+
+import com.jme3.anim.AnimClip;
+import com.jme3.anim.Armature;
+import com.jme3.animation.Animation;
+import com.jme3.animation.Skeleton;
+import com.jme3.asset.AssetManager;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.plugins.bvh.SkeletonMapping;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import jme3utilities.wes.AnimationEdit;
+import jme3utilities.wes.TweenTransforms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for retargeting an animation using one of the bundled skeleton
+ * maps, the same way SelectedAnimControl retargets.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class RetargetBenchmark {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * name for the retargeted animation
+     */
+    final private static String newAnimName = "retargeted";
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RetargetBenchmark.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * skeleton map being measured
+     */
+    private SkeletonMapping map;
+    /**
+     * source animation (an AnimClip or an Animation)
+     */
+    private Object sourceAnimation;
+    /**
+     * source skeleton (an Armature or a Skeleton)
+     */
+    private Object sourceSkeleton;
+    /**
+     * target skeleton (an Armature or a Skeleton)
+     */
+    private Object targetSkeleton;
+    /**
+     * name of the bundled skeleton map, in the form "{source}To{target}"
+     */
+    @Param({"PuppetToSinbad", "SinbadToJaime"})
+    public String mapName;
+    /**
+     * tweening techniques for retargeting
+     */
+    final private TweenTransforms techniques = new TweenTransforms();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Retarget the first animation of the source model to the target model.
+     *
+     * @return a new AnimClip or Animation
+     */
+    @Benchmark
+    public Object retarget() {
+        Object result;
+        if (sourceAnimation instanceof Animation
+                && sourceSkeleton instanceof Skeleton
+                && targetSkeleton instanceof Skeleton) {
+            result = AnimationEdit.retargetAnimation(
+                    (Animation) sourceAnimation, (Skeleton) sourceSkeleton,
+                    (Skeleton) targetSkeleton, map, techniques, newAnimName);
+
+        } else if (sourceAnimation instanceof AnimClip
+                && sourceSkeleton instanceof Armature
+                && targetSkeleton instanceof Skeleton) {
+            result = AnimationEdit.retargetAnimation(
+                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
+                    (Skeleton) targetSkeleton, map, newAnimName);
+
+        } else if (sourceAnimation instanceof AnimClip
+                && sourceSkeleton instanceof Armature
+                && targetSkeleton instanceof Armature) {
+            result = AnimationEdit.retargetAnimation(
+                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
+                    (Armature) targetSkeleton, map, newAnimName);
+
+        } else {
+            throw new IllegalStateException("unsupported combination for "
+                    + mapName);
+        }
+
+        return result;
+    }
+
+    /**
+     * Load the skeleton map and both C-G models, before the measurements.
+     */
+    @Setup
+    public void setup() {
+        AssetManager assetManager = BenchmarkAssets.createAssetManager();
+        map = BenchmarkAssets.loadMap(assetManager, mapName);
+
+        int toIndex = mapName.indexOf("To");
+        String sourceName = mapName.substring(0, toIndex);
+        String targetName = mapName.substring(toIndex + 2);
+
+        Spatial source = BenchmarkAssets.loadModel(assetManager, sourceName);
+        List<String> names = BenchmarkAssets.listAnimationNames(source);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("no animations in " + sourceName);
+        }
+        sourceAnimation = BenchmarkAssets.findAnimation(source, names.get(0));
+        sourceSkeleton = BenchmarkAssets.findSkeleton(source);
+
+        Spatial target = BenchmarkAssets.loadModel(assetManager, targetName);
+        targetSkeleton = BenchmarkAssets.findSkeleton(target);
+    }
+}
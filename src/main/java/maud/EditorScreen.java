@@ -29,6 +29,8 @@ package maud;
 import com.jme3.app.Application;
 import com.jme3.app.StatsAppState;
 import com.jme3.app.state.AppStateManager;
+import com.jme3.font.BitmapFont;
+import com.jme3.font.BitmapText;
 import com.jme3.material.MatParamTexture;
 import com.jme3.material.Material;
 import com.jme3.math.ColorRGBA;
@@ -132,6 +134,18 @@ public class EditorScreen extends GuiScreenController {
      * controllers for tool windows
      */
     final public EditorTools tools = new EditorTools(this);
+    /**
+     * true once Nifty has bound this screen, otherwise false
+     */
+    private boolean isBound = false;
+    /**
+     * HUD text for the StageTimes performance mode, or null if not created yet
+     */
+    private BitmapText stageTimesText = null;
+    /**
+     * time since the stage-times HUD was refreshed (in seconds, &ge;0)
+     */
+    private float stageTimesAge = 0f;
     /**
      * previewer for the selected Texture
      */
@@ -405,6 +419,7 @@ public class EditorScreen extends GuiScreenController {
     @Override
     public void bind(Nifty nifty, Screen screen) {
         super.bind(nifty, screen);
+        isBound = true;
 
         Maud maud = Maud.getApplication();
         maud.startup2();
@@ -447,9 +462,10 @@ public class EditorScreen extends GuiScreenController {
     public void update(float tpf) {
         super.update(tpf);
 
-        if (findTool("spatial") == null) {
+        if (!isBound) {
             return;
         }
+        tools.update();
 
         // Check whether further initialization remains to be done.
         EditorModel model = Maud.getModel();
@@ -463,13 +479,15 @@ public class EditorScreen extends GuiScreenController {
         float y = options.submenuWarpY();
         setSubmenuWarp(x, y);
 
-        updatePerformanceMode();
+        StageTimes.endFrame();
+        updatePerformanceMode(tpf);
         Drag.updateBoundary();
         updateBoundaryHandle();
         EditorViewPorts.update();
         updateBars();
 
         // Update the loaded animations.
+        long startNanos = StageTimes.begin();
         Cgm source = model.getSource();
         if (source.getAnimation().isMoving()) {
             updateTrackTime(source, tpf);
@@ -479,6 +497,7 @@ public class EditorScreen extends GuiScreenController {
         } else if (target.getAnimation().isRetargetedPose()) {
             target.getPose().setToAnimation();
         }
+        StageTimes.end(UpdateStage.Pose, startNanos);
 
         ViewType viewType = mouseViewType();
         if (viewType == ViewType.Scene) {
@@ -511,10 +530,15 @@ public class EditorScreen extends GuiScreenController {
         updateTexturePreviewer();
 
         // Update the views.
+        startNanos = StageTimes.begin();
         source.getSceneView().update(null, tpf);
         target.getSceneView().update(null, tpf);
+        StageTimes.end(UpdateStage.Scene, startNanos);
+
+        startNanos = StageTimes.begin();
         source.getScoreView().update(source, tpf);
         target.getScoreView().update(target, tpf);
+        StageTimes.end(UpdateStage.Score, startNanos);
     }
     // *************************************************************************
     // private methods
@@ -633,9 +657,12 @@ public class EditorScreen extends GuiScreenController {
     }
 
     /**
-     * Enable/disable the performance-monitoring app states.
+     * Enable/disable the performance-monitoring app states and the stage-times
+     * HUD.
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
      */
-    private void updatePerformanceMode() {
+    private void updatePerformanceMode(float tpf) {
         PerformanceAppState pas
                 = stateManager.getState(PerformanceAppState.class);
         StatsAppState sas = stateManager.getState(StatsAppState.class);
@@ -646,32 +673,81 @@ public class EditorScreen extends GuiScreenController {
                 pas.setEnabled(true);
                 sas.setDisplayFps(false);
                 sas.setDisplayStatView(false);
+                StageTimes.setEnabled(false);
                 break;
 
             case JmeStats:
                 pas.setEnabled(false);
                 sas.setDisplayFps(true);
                 sas.setDisplayStatView(true);
+                StageTimes.setEnabled(false);
                 break;
 
             case Off:
                 pas.setEnabled(false);
                 sas.setDisplayFps(false);
                 sas.setDisplayStatView(false);
+                StageTimes.setEnabled(false);
+                break;
+
+            case StageTimes:
+                pas.setEnabled(false);
+                sas.setDisplayFps(false);
+                sas.setDisplayStatView(false);
+                StageTimes.setEnabled(true);
                 break;
 
             default:
                 logger.log(Level.SEVERE, "mode={0}", mode);
                 throw new IllegalStateException("invalid performance mode");
         }
+
+        updateStageTimesHud(tpf);
+    }
+
+    /**
+     * Update the stage-times HUD, refreshing its text twice per second.
+     *
+     * @param tpf time interval between frames (in seconds, &ge;0)
+     */
+    private void updateStageTimesHud(float tpf) {
+        if (!StageTimes.isEnabled()) {
+            if (stageTimesText != null) {
+                stageTimesText.removeFromParent();
+            }
+            return;
+        }
+
+        if (stageTimesText == null) {
+            BitmapFont font
+                    = assetManager.loadFont("Interface/Fonts/Console.fnt");
+            stageTimesText = new BitmapText(font);
+            stageTimesText.setName("stage times");
+        }
+        if (stageTimesText.getParent() == null) {
+            guiNode.attachChild(stageTimesText);
+            stageTimesAge = Float.POSITIVE_INFINITY; // refresh immediately
+        }
+
+        stageTimesAge += tpf;
+        if (stageTimesAge >= 0.5f) {
+            stageTimesAge = 0f;
+            String text = StageTimes.describe();
+            stageTimesText.setText(text);
+
+            // Keep the text near the lower-left corner of the display.
+            float height = stageTimesText.getHeight();
+            stageTimesText.setLocalTranslation(10f, height + 40f, 0f);
+        }
     }
 
     /**
      * Update the texture previewer.
      */
     private void updateTexturePreviewer() {
-        Tool textureTool = Maud.gui.findTool("texture");
-        boolean enabled = textureTool.isEnabled();
+        Tool textureTool = tools.find("texture");
+        boolean enabled = textureTool != null && textureTool.isInitialized()
+                && textureTool.isEnabled();
         boolean visible = Maud.getModel().getMisc().isTexturePreviewVisible();
         if (visible && enabled) {
             guiNode.attachChild(texturePreviewer);
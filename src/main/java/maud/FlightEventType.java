@@ -0,0 +1,149 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+/**
+ * Enumerate the custom Java Flight Recorder events emitted by Maud, along with
+ * the names and types of their fields.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum FlightEventType {
+    // *************************************************************************
+    // values
+
+    /**
+     * a bulk edit of the loaded animation, such as reduce or resample
+     */
+    AnimationEdit("Animation Edit",
+            new String[]{"model", "animation", "operation", "tracks"},
+            new Class<?>[]{String.class, String.class, String.class,
+                int.class}),
+    /**
+     * the addition or restoration of a History checkpoint, with the mesh
+     * memory of the live (source and target) models
+     */
+    Checkpoint("Checkpoint",
+            new String[]{"operation", "checkpointIndex", "numCheckpoints",
+                "liveMeshBytes"},
+            new Class<?>[]{String.class, int.class, int.class, long.class}),
+    /**
+     * a non-continuous edit of a C-G model or skeleton map
+     */
+    Edit("Edit",
+            new String[]{"description", "editCount"},
+            new Class<?>[]{String.class, int.class}),
+    /**
+     * a load of a C-G model from an asset
+     */
+    Load("Model Load",
+            new String[]{"model", "assetPath", "vertices", "bones", "tracks",
+                "meshBytes"},
+            new Class<?>[]{String.class, String.class, int.class, int.class,
+                int.class, long.class}),
+    /**
+     * a write of a C-G model to the filesystem
+     */
+    Save("Model Save",
+            new String[]{"model", "filePath", "vertices", "bones", "tracks",
+                "fileBytes"},
+            new Class<?>[]{String.class, String.class, int.class, int.class,
+                int.class, long.class});
+    // *************************************************************************
+    // fields
+
+    /**
+     * names of the event's fields, in the order they're committed
+     */
+    final private String[] fieldNames;
+    /**
+     * types of the event's fields, in the order they're committed
+     */
+    final private Class<?>[] fieldTypes;
+    /**
+     * human-readable name for the event
+     */
+    final private String label;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a FlightEventType value.
+     *
+     * @param label the human-readable name for the event (not null)
+     * @param fieldNames the names of the fields (not null, alias created)
+     * @param fieldTypes the types of the fields (not null, same length as
+     * fieldNames, alias created)
+     */
+    FlightEventType(String label, String[] fieldNames, Class<?>[] fieldTypes) {
+        assert fieldNames.length == fieldTypes.length;
+
+        this.label = label;
+        this.fieldNames = fieldNames;
+        this.fieldTypes = fieldTypes;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the event's fields.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countFields() {
+        return fieldNames.length;
+    }
+
+    /**
+     * Read the name of the indexed field.
+     *
+     * @param fieldIndex the index of the field (&ge;0, &lt;numFields)
+     * @return the name (not null, not empty)
+     */
+    public String fieldName(int fieldIndex) {
+        return fieldNames[fieldIndex];
+    }
+
+    /**
+     * Read the type of the indexed field.
+     *
+     * @param fieldIndex the index of the field (&ge;0, &lt;numFields)
+     * @return the type: String or a primitive type (not null)
+     */
+    public Class<?> fieldType(int fieldIndex) {
+        return fieldTypes[fieldIndex];
+    }
+
+    /**
+     * Read the human-readable name for the event.
+     *
+     * @return the label (not null, not empty)
+     */
+    public String label() {
+        return label;
+    }
+}
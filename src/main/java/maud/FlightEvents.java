@@ -0,0 +1,399 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import com.jme3.anim.AnimClip;
+import com.jme3.anim.AnimComposer;
+import com.jme3.anim.SkinningControl;
+import com.jme3.animation.AnimControl;
+import com.jme3.animation.Animation;
+import com.jme3.animation.SkeletonControl;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MySpatial;
+
+/**
+ * Emit Maud's custom Java Flight Recorder events, so that a recording shows
+ * which load, save, edit, or checkpoint caused a stall or a burst of
+ * allocation.
+ * <p>
+ * Maud targets Java 8, which lacks the jdk.jfr API at compile time, so the
+ * event types are defined at runtime using jdk.jfr.EventFactory, accessed via
+ * reflection. If the API isn't available, an event costs a null test. If no
+ * recording has its type enabled, an event costs one reflective invocation
+ * of jdk.jfr.EventType.isEnabled(), and nothing is allocated.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class FlightEvents {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * JFR category for all of Maud's events
+     */
+    final private static String category = "Maud";
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(FlightEvents.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * jdk.jfr.Event.begin(), or null if the API isn't available
+     */
+    private static Method beginMethod;
+    /**
+     * jdk.jfr.Event.commit(), or null if the API isn't available
+     */
+    private static Method commitMethod;
+    /**
+     * jdk.jfr.Event.end(), or null if the API isn't available
+     */
+    private static Method endMethod;
+    /**
+     * jdk.jfr.Event.isEnabled(), or null if the API isn't available
+     */
+    private static Method isEnabledMethod;
+    /**
+     * jdk.jfr.EventType.isEnabled(), or null if the API isn't available
+     */
+    private static Method isTypeEnabledMethod;
+    /**
+     * jdk.jfr.EventFactory.newEvent(), or null if the API isn't available
+     */
+    private static Method newEventMethod;
+    /**
+     * jdk.jfr.Event.set(int, Object), or null if the API isn't available
+     */
+    private static Method setMethod;
+    /**
+     * jdk.jfr.Event.shouldCommit(), or null if the API isn't available
+     */
+    private static Method shouldCommitMethod;
+    /**
+     * JFR event types indexed by FlightEventType ordinal, or null if the API
+     * isn't available
+     */
+    private static Object[] eventTypes;
+    /**
+     * event factories indexed by FlightEventType ordinal, or null if the API
+     * isn't available
+     */
+    private static Object[] factories;
+
+    static {
+        try {
+            defineEventTypes();
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            factories = null;
+            logger.log(Level.INFO, "JFR events are unavailable: {0}",
+                    exception.toString());
+        }
+    }
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private FlightEvents() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Begin timing an event of the specified type, provided a recording has
+     * that type enabled.
+     *
+     * @param type the type of event (not null)
+     * @return a new event to pass to {@link #end(java.lang.Object)} and
+     * {@link #commit(java.lang.Object, java.lang.Object...)}, or null if the
+     * event won't be recorded
+     */
+    public static Object begin(FlightEventType type) {
+        if (factories == null) {
+            return null;
+        }
+
+        Object result = null;
+        int ordinal = type.ordinal();
+        try {
+            boolean isTypeEnabled
+                    = (Boolean) isTypeEnabledMethod.invoke(eventTypes[ordinal]);
+            if (isTypeEnabled) {
+                Object event = newEventMethod.invoke(factories[ordinal]);
+                boolean isEnabled = (Boolean) isEnabledMethod.invoke(event);
+                if (isEnabled) {
+                    beginMethod.invoke(event);
+                    result = event;
+                }
+            }
+        } catch (ReflectiveOperationException exception) {
+            disable(exception);
+        }
+
+        return result;
+    }
+
+    /**
+     * Commit the specified event with the specified field values. Callers
+     * should invoke {@link #end(java.lang.Object)} before calculating the
+     * values, so the event's duration excludes that work, and callers with
+     * costly values should test the event for null before calculating them.
+     *
+     * @param event the event returned by begin(), or null for none
+     * @param values the field values, in the order listed by the event's
+     * FlightEventType (not null, unaffected)
+     */
+    public static void commit(Object event, Object... values) {
+        if (event == null || factories == null) {
+            return;
+        }
+
+        try {
+            boolean shouldCommit = (Boolean) shouldCommitMethod.invoke(event);
+            if (shouldCommit) {
+                for (int fieldIndex = 0; fieldIndex < values.length;
+                        ++fieldIndex) {
+                    setMethod.invoke(event, fieldIndex, values[fieldIndex]);
+                }
+                commitMethod.invoke(event);
+            }
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            disable(exception);
+        }
+    }
+
+    /**
+     * Count the bones in the specified subtree, using the first skinning or
+     * skeleton control found.
+     *
+     * @param subtree the subtree to analyze (may be null, unaffected)
+     * @return the count (&ge;0)
+     */
+    public static int countBones(Spatial subtree) {
+        int result = 0;
+        if (subtree != null) {
+            for (Spatial spatial : MySpatial.listSpatials(subtree)) {
+                SkinningControl skinner
+                        = spatial.getControl(SkinningControl.class);
+                if (skinner != null) {
+                    result = skinner.getArmature().getJointCount();
+                    break;
+                }
+                SkeletonControl skeletonControl
+                        = spatial.getControl(SkeletonControl.class);
+                if (skeletonControl != null) {
+                    result = skeletonControl.getSkeleton().getBoneCount();
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Estimate the memory occupied by the mesh buffers in the specified
+     * subtree, counting each distinct mesh once.
+     *
+     * @param subtree the subtree to analyze (may be null, unaffected)
+     * @return the number of bytes (&ge;0)
+     */
+    public static long countMeshBytes(Spatial subtree) {
+        long result = 0L;
+        if (subtree != null) {
+            List<Geometry> geometries
+                    = MySpatial.listSpatials(subtree, Geometry.class, null);
+            Set<Mesh> meshes = Collections.newSetFromMap(
+                    new IdentityHashMap<Mesh, Boolean>(geometries.size()));
+            for (Geometry geometry : geometries) {
+                Mesh mesh = geometry.getMesh();
+                if (meshes.add(mesh)) {
+                    for (VertexBuffer vertexBuffer
+                            : mesh.getBufferList().getArray()) {
+                        Buffer data = vertexBuffer.getData();
+                        if (data != null) {
+                            int componentBytes = vertexBuffer.getFormat()
+                                    .getComponentSize();
+                            result += (long) data.capacity() * componentBytes;
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the animation tracks in the specified subtree.
+     *
+     * @param subtree the subtree to analyze (may be null, unaffected)
+     * @return the count (&ge;0)
+     */
+    public static int countTracks(Spatial subtree) {
+        int result = 0;
+        if (subtree != null) {
+            for (Spatial spatial : MySpatial.listSpatials(subtree)) {
+                AnimComposer composer = spatial.getControl(AnimComposer.class);
+                if (composer != null) {
+                    for (AnimClip clip : composer.getAnimClips()) {
+                        result += clip.getTracks().length;
+                    }
+                }
+                AnimControl animControl
+                        = spatial.getControl(AnimControl.class);
+                if (animControl != null) {
+                    for (String name : animControl.getAnimationNames()) {
+                        Animation animation = animControl.getAnim(name);
+                        result += animation.getTracks().length;
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stop timing the specified event.
+     *
+     * @param event the event returned by begin(), or null for none
+     */
+    public static void end(Object event) {
+        if (event == null || factories == null) {
+            return;
+        }
+
+        try {
+            endMethod.invoke(event);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            disable(exception);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Define a JFR event type for each FlightEventType and look up the
+     * methods needed to emit them.
+     *
+     * @throws ReflectiveOperationException if the jdk.jfr API isn't available
+     */
+    private static void defineEventTypes()
+            throws ReflectiveOperationException {
+        Class<?> elementClass = Class.forName("jdk.jfr.AnnotationElement");
+        Constructor<?> newElement
+                = elementClass.getConstructor(Class.class, Object.class);
+        Class<?> descriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+        Constructor<?> newDescriptor = descriptorClass.getConstructor(
+                Class.class, String.class, List.class);
+        Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory");
+        Method create
+                = factoryClass.getMethod("create", List.class, List.class);
+
+        Class<?> categoryAnnotation = Class.forName("jdk.jfr.Category");
+        Class<?> dataAmountAnnotation = Class.forName("jdk.jfr.DataAmount");
+        Class<?> labelAnnotation = Class.forName("jdk.jfr.Label");
+        Class<?> nameAnnotation = Class.forName("jdk.jfr.Name");
+
+        Method getEventType = factoryClass.getMethod("getEventType");
+
+        FlightEventType[] types = FlightEventType.values();
+        Object[] newFactories = new Object[types.length];
+        Object[] newEventTypes = new Object[types.length];
+        for (FlightEventType type : types) {
+            List<Object> annotations = new ArrayList<>(3);
+            annotations.add(newElement.newInstance(
+                    nameAnnotation, "maud." + type.name()));
+            annotations.add(
+                    newElement.newInstance(labelAnnotation, type.label()));
+            annotations.add(newElement.newInstance(
+                    categoryAnnotation, new String[]{category}));
+
+            int numFields = type.countFields();
+            List<Object> fields = new ArrayList<>(numFields);
+            for (int fieldIndex = 0; fieldIndex < numFields; ++fieldIndex) {
+                String fieldName = type.fieldName(fieldIndex);
+                List<Object> fieldAnnotations = new ArrayList<>(1);
+                if (fieldName.endsWith("Bytes")) {
+                    fieldAnnotations.add(newElement.newInstance(
+                            dataAmountAnnotation, "BYTES"));
+                }
+                Class<?> fieldType = type.fieldType(fieldIndex);
+                fields.add(newDescriptor.newInstance(
+                        fieldType, fieldName, fieldAnnotations));
+            }
+
+            Object factory = create.invoke(null, annotations, fields);
+            newFactories[type.ordinal()] = factory;
+            newEventTypes[type.ordinal()] = getEventType.invoke(factory);
+        }
+
+        Class<?> eventClass = Class.forName("jdk.jfr.Event");
+        beginMethod = eventClass.getMethod("begin");
+        commitMethod = eventClass.getMethod("commit");
+        endMethod = eventClass.getMethod("end");
+        isEnabledMethod = eventClass.getMethod("isEnabled");
+        setMethod = eventClass.getMethod("set", int.class, Object.class);
+        shouldCommitMethod = eventClass.getMethod("shouldCommit");
+        Class<?> typeClass = Class.forName("jdk.jfr.EventType");
+        isTypeEnabledMethod = typeClass.getMethod("isEnabled");
+        newEventMethod = factoryClass.getMethod("newEvent");
+        eventTypes = newEventTypes;
+        factories = newFactories;
+
+        logger.log(Level.INFO, "defined {0} JFR event types", types.length);
+    }
+
+    /**
+     * Stop emitting events after an unexpected failure.
+     *
+     * @param exception the cause of the failure (not null)
+     */
+    private static void disable(Exception exception) {
+        factories = null;
+        logger.log(Level.WARNING, "disabled JFR events: {0}",
+                exception.toString());
+    }
+}
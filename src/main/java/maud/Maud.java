@@ -164,6 +164,8 @@ public class Maud extends GuiApplication {
      * @param arguments array of command-line arguments (not null)
      */
     public static void main(String[] arguments) {
+        StartupTimer.mark("launch");
+
         // Mute the chatty loggers found in certain packages.
         Heart.setLoggingLevels(Level.WARNING);
         Logger.getLogger(ALAudioRenderer.class.getName())
@@ -252,9 +254,6 @@ public class Maud extends GuiApplication {
     void startup2() {
         logger.info("");
 
-        // Attach controllers for windows in the editor screen.
-        gui.tools.attachAll(stateManager);
-
          // Disable flyCam.
         flyCam.setEnabled(false);
 
@@ -267,12 +266,17 @@ public class Maud extends GuiApplication {
         ViewPortAppState viewPortState = new ViewPortAppState();
         success = stateManager.attach(viewPortState);
         assert success;
+
+        StartupTimer.mark("startup2");
     }
 
     /**
-     * Initialization performed after the editor-screen tools have initialized.
+     * Initialization performed during the first update of the bound editor
+     * screen. Tools are instantiated on demand, so none need be initialized.
      */
     void startup3() {
+        StartupTimer.mark("firstUpdate");
+
         if (loadStartupScript) {
             logger.log(Level.INFO, "load {0}",
                     MyString.quote(startupScriptAssetPath));
@@ -283,6 +287,7 @@ public class Maud extends GuiApplication {
 
             String eventDescription = "load the startup script";
             editorModel.getOptionsEditState().setPristine(eventDescription);
+            StartupTimer.mark("startupScript");
         } else {
             logger.info("loadStartupScript=false");
         }
@@ -293,7 +298,10 @@ public class Maud extends GuiApplication {
             logger.info("loading Jaime");
             boolean success = target.loadNamed("Jaime");
             assert success;
+            StartupTimer.mark("defaultModelLoad");
         }
+
+        StartupTimer.logSummary();
     }
     // *************************************************************************
     // GuiApplication methods
@@ -317,6 +325,7 @@ public class Maud extends GuiApplication {
      */
     @Override
     public void guiInitializeApplication() {
+        StartupTimer.mark("contextCreation");
         logger.info("");
 
         if (!Heart.areAssertionsEnabled()) {
@@ -489,7 +498,13 @@ public class Maud extends GuiApplication {
         };
         displaySettingsScreen = new DsScreen(displaySettings);
 
+        /*
+         * The settings dialog (if shown) waits on the user,
+         * so exclude its duration from the startup total.
+         */
+        StartupTimer.mark("startup0");
         AppSettings appSettings = displaySettings.initialize();
+        StartupTimer.markExcluded("settingsDialog");
         if (appSettings != null) {
             application.setSettings(appSettings);
             /*
@@ -553,5 +568,7 @@ public class Maud extends GuiApplication {
          */
         setDisplayFps(false);
         setDisplayStatView(false);
+
+        StartupTimer.mark("startup1");
     }
 }
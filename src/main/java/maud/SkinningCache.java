@@ -0,0 +1,608 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import com.jme3.math.Matrix4f;
+import com.jme3.math.Transform;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import jme3utilities.MyMesh;
+import jme3utilities.Validate;
+import jme3utilities.math.MyBuffer;
+import jme3utilities.math.MyVector3f;
+import jme3utilities.wes.Pose;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
+import maud.model.cgm.DisplayedPose;
+
+/**
+ * Cache the CPU-skinned world locations of mesh vertices, so that features
+ * which examine many vertices needn't re-skin them while the pose and the
+ * geometry's world transform remain unchanged.
+ * <p>
+ * The locations of a geometry's vertices are recomputed only when its
+ * world transform or mesh differs from those used for the cached locations,
+ * or when the pose has changed. Given a {@link DisplayedPose}, a change is
+ * detected by comparing its version and the Content counter of
+ * {@link ModelVersion}, which costs nothing per bone. Given bare skinning
+ * matrices, the matrices themselves are compared.
+ * <p>
+ * Large meshes are skinned in parallel, in ranges of vertices. Skinning is
+ * done the same way as
+ * {@link jme3utilities.MyMesh#vertexWorldLocation(Geometry, int, Matrix4f[],
+ * Vector3f)}.
+ * <p>
+ * Meshes are snapshotted when first used, so
+ * {@link #invalidateAll()} must be invoked after any in-place edit to their
+ * vertex buffers. Intended for use on the update thread only.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class SkinningCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of weights per vertex in the BoneWeight buffer
+     */
+    final private static int weightStride = 4;
+    /**
+     * number of vertices in a range that is skinned without splitting
+     */
+    final private static int rangeSize = 16_384;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SkinningCache.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * cached data for each geometry used
+     */
+    final private static Map<Geometry, Entry> entries = new WeakHashMap<>(8);
+    /**
+     * reusable storage for skinning matrices
+     */
+    private static Matrix4f[] tmpMatrices = new Matrix4f[0];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private SkinningCache() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Discard all cached locations and mesh snapshots. Invoke after any edit
+     * that alters vertex buffers in place.
+     */
+    public static void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Calculate the world location of the indexed vertex in the specified
+     * pose. The cached locations are used if they're current. Otherwise only
+     * the indexed vertex is skinned, to avoid skinning the entire mesh for a
+     * single lookup.
+     *
+     * @param geometry the geometry containing the vertex (not null)
+     * @param vertexIndex the index of the vertex (&ge;0)
+     * @param pose the displayed pose to apply (not null, unaffected)
+     * @param storeResult storage for the result (modified if not null)
+     * @return the location (in world coordinates, either storeResult or a new
+     * instance)
+     */
+    public static Vector3f worldLocation(Geometry geometry, int vertexIndex,
+            DisplayedPose pose, Vector3f storeResult) {
+        Validate.nonNull(geometry, "geometry");
+        Validate.nonNegative(vertexIndex, "vertex index");
+        Vector3f result = (storeResult == null) ? new Vector3f() : storeResult;
+
+        long poseVersion = pose.version();
+        long contentVersion = ModelVersion.get(ModelAspect.Content);
+        Entry entry = entryFor(geometry);
+        if (entry.isCurrent(geometry, poseVersion, contentVersion)) {
+            int start = MyVector3f.numAxes * vertexIndex;
+            result.set(entry.world[start], entry.world[start + 1],
+                    entry.world[start + 2]);
+        } else {
+            Matrix4f[] skinningMatrices = skin(pose.get());
+            Transform transform = Entry.currentTransform(geometry);
+            Vector3f meshLocation = new Vector3f();
+            entry.skinVertex(vertexIndex, skinningMatrices, transform,
+                    meshLocation, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the world locations of all vertices in the specified geometry,
+     * skinned using the specified pose.
+     *
+     * @param geometry the geometry to use (not null)
+     * @param pose the displayed pose to apply (not null, unaffected)
+     * @return a read-only buffer of world locations, 3 floats per vertex
+     * (valid until the next invocation of this class)
+     */
+    public static FloatBuffer worldLocations(Geometry geometry,
+            DisplayedPose pose) {
+        Validate.nonNull(geometry, "geometry");
+
+        long poseVersion = pose.version();
+        long contentVersion = ModelVersion.get(ModelAspect.Content);
+        Entry entry = entryFor(geometry);
+        if (!entry.isCurrent(geometry, poseVersion, contentVersion)) {
+            Matrix4f[] skinningMatrices = skin(pose.get());
+            entry.update(geometry, skinningMatrices);
+            entry.stampPoseVersion = poseVersion;
+            entry.stampContentVersion = contentVersion;
+        }
+        FloatBuffer result = entry.worldBuffer;
+        result.rewind();
+
+        return result;
+    }
+
+    /**
+     * Access the world locations of all vertices in the specified geometry,
+     * skinned using the specified matrices.
+     *
+     * @param geometry the geometry to use (not null)
+     * @param skinningMatrices the skinning matrices (not null, unaffected)
+     * @return a read-only buffer of world locations, 3 floats per vertex
+     * (valid until the next invocation of this class)
+     */
+    public static FloatBuffer worldLocations(Geometry geometry,
+            Matrix4f[] skinningMatrices) {
+        Validate.nonNull(geometry, "geometry");
+        Validate.nonNull(skinningMatrices, "skinning matrices");
+
+        Entry entry = entryFor(geometry);
+        if (!entry.isCurrent(geometry, skinningMatrices)) {
+            entry.update(geometry, skinningMatrices);
+        }
+        FloatBuffer result = entry.worldBuffer;
+        result.rewind();
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Access the cache entry for the specified geometry, creating or
+     * replacing it if necessary.
+     *
+     * @param geometry the geometry (not null)
+     * @return the pre-existing or new entry (not null)
+     */
+    private static Entry entryFor(Geometry geometry) {
+        Mesh mesh = geometry.getMesh();
+        Entry result = entries.get(geometry);
+        if (result == null || result.mesh != mesh) {
+            result = new Entry(geometry);
+            entries.put(geometry, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the skinning matrices of the specified pose, using reusable
+     * storage.
+     *
+     * @param pose the pose (not null, unaffected)
+     * @return the reusable array of matrices (not null)
+     */
+    private static Matrix4f[] skin(Pose pose) {
+        int numBones = pose.countBones();
+        if (tmpMatrices.length != numBones) {
+            tmpMatrices = new Matrix4f[numBones];
+            for (int boneIndex = 0; boneIndex < numBones; ++boneIndex) {
+                tmpMatrices[boneIndex] = new Matrix4f();
+            }
+        }
+        pose.skin(tmpMatrices);
+
+        return tmpMatrices;
+    }
+    // *************************************************************************
+    // Entry
+
+    /**
+     * Cached data for a single geometry. To avoid pinning the weak key, an
+     * entry doesn't reference its geometry.
+     */
+    private static class Entry {
+        /**
+         * true if the snapshot is of an animated mesh
+         */
+        final boolean isAnimated;
+        /**
+         * true if the geometry ignored its transform when the locations were
+         * computed
+         */
+        boolean stampIgnoreTransform;
+        /**
+         * true if the cached locations are valid for the stamp
+         */
+        boolean isValid = false;
+        /**
+         * cached world locations, 3 per vertex
+         */
+        final float[] world;
+        /**
+         * bind-pose (or static) vertex positions, 3 per vertex
+         */
+        final float[] positions;
+        /**
+         * bone weights, 4 per vertex, or null if not animated
+         */
+        final float[] weights;
+        /**
+         * read-only view of the cached world locations
+         */
+        final FloatBuffer worldBuffer;
+        /**
+         * bone indices, 4 per vertex, or null if not animated
+         */
+        final int[] boneIndices;
+        /**
+         * number of weights used per vertex
+         */
+        final int maxWeightsPerVertex;
+        /**
+         * number of vertices in the snapshot
+         */
+        final int numVertices;
+        /**
+         * Content counter used to compute the cached locations, or -1 if
+         * they were computed from bare matrices
+         */
+        long stampContentVersion = -1L;
+        /**
+         * pose version used to compute the cached locations, or -1 if they
+         * were computed from bare matrices
+         */
+        long stampPoseVersion = -1L;
+        /**
+         * skinning matrices used to compute the cached locations
+         */
+        Matrix4f[] stampMatrices = new Matrix4f[0];
+        /**
+         * the mesh that was snapshotted
+         */
+        final Mesh mesh;
+        /**
+         * world transform used to compute the cached locations
+         */
+        final Transform stampTransform = new Transform();
+
+        /**
+         * Snapshot the mesh of the specified geometry.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         */
+        Entry(Geometry geometry) {
+            mesh = geometry.getMesh();
+            isAnimated = MyMesh.isAnimated(mesh);
+
+            VertexBuffer.Type positionType = isAnimated
+                    ? VertexBuffer.Type.BindPosePosition
+                    : VertexBuffer.Type.Position;
+            VertexBuffer posBuf = mesh.getBuffer(positionType);
+            FloatBuffer posBuffer = (FloatBuffer) posBuf.getDataReadOnly();
+            posBuffer.rewind();
+            numVertices = posBuffer.remaining() / MyVector3f.numAxes;
+            positions = new float[numVertices * MyVector3f.numAxes];
+            posBuffer.get(positions);
+
+            if (isAnimated) {
+                maxWeightsPerVertex = mesh.getMaxNumWeights();
+
+                VertexBuffer wBuf
+                        = mesh.getBuffer(VertexBuffer.Type.BoneWeight);
+                FloatBuffer weightBuffer
+                        = (FloatBuffer) wBuf.getDataReadOnly();
+                weightBuffer.rewind();
+                weights = new float[numVertices * weightStride];
+                weightBuffer.get(weights);
+
+                VertexBuffer biBuf
+                        = mesh.getBuffer(VertexBuffer.Type.BoneIndex);
+                Buffer boneIndexBuffer = biBuf.getData();
+                boneIndexBuffer.rewind();
+                boneIndices = new int[numVertices * weightStride];
+                for (int i = 0; i < boneIndices.length; ++i) {
+                    boneIndices[i] = MyBuffer.readIndex(boneIndexBuffer);
+                }
+            } else {
+                maxWeightsPerVertex = 0;
+                weights = null;
+                boneIndices = null;
+            }
+
+            world = new float[numVertices * MyVector3f.numAxes];
+            worldBuffer = FloatBuffer.wrap(world).asReadOnlyBuffer();
+        }
+
+        /**
+         * Determine the transform that currently maps mesh locations to world
+         * locations.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         * @return a pre-existing instance (not null, don't modify it)
+         */
+        static Transform currentTransform(Geometry geometry) {
+            Transform result;
+            if (geometry.isIgnoreTransform()) {
+                result = Transform.IDENTITY;
+            } else {
+                result = geometry.getWorldTransform();
+            }
+
+            return result;
+        }
+
+        /**
+         * Test whether the cached locations are valid for the specified
+         * skinning matrices and the geometry's current world transform.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         * @param skinningMatrices the skinning matrices (not null, unaffected)
+         * @return true if valid, otherwise false
+         */
+        boolean isCurrent(Geometry geometry, Matrix4f[] skinningMatrices) {
+            if (!isTransformCurrent(geometry)) {
+                return false;
+            }
+            if (isAnimated) {
+                if (skinningMatrices.length != stampMatrices.length) {
+                    return false;
+                }
+                for (int i = 0; i < skinningMatrices.length; ++i) {
+                    if (!skinningMatrices[i].equals(stampMatrices[i])) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Test whether the cached locations are valid for the specified pose
+         * and Content versions and the geometry's current world transform.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         * @param poseVersion the version of the displayed pose
+         * @param contentVersion the Content counter of the MVC model
+         * @return true if valid, otherwise false
+         */
+        boolean isCurrent(Geometry geometry, long poseVersion,
+                long contentVersion) {
+            if (!isTransformCurrent(geometry)) {
+                return false;
+            }
+            if (isAnimated && (poseVersion != stampPoseVersion
+                    || contentVersion != stampContentVersion)) {
+                return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Test whether the cached locations are valid for the geometry's
+         * current world transform.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         * @return true if valid, otherwise false
+         */
+        boolean isTransformCurrent(Geometry geometry) {
+            if (!isValid) {
+                return false;
+            }
+            boolean ignoreTransform = geometry.isIgnoreTransform();
+            if (ignoreTransform != stampIgnoreTransform) {
+                return false;
+            }
+            if (!ignoreTransform
+                    && !geometry.getWorldTransform().equals(stampTransform)) {
+                return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Skin the specified range of vertices into the cache.
+         *
+         * @param fromIndex the index of the first vertex (&ge;0)
+         * @param toIndex one past the index of the last vertex
+         * @param skinningMatrices the skinning matrices (not null, unaffected)
+         * @param transform the world transform (not null, unaffected)
+         */
+        void skinRange(int fromIndex, int toIndex, Matrix4f[] skinningMatrices,
+                Transform transform) {
+            Vector3f meshLocation = new Vector3f();
+            Vector3f worldLocation = new Vector3f();
+            for (int vi = fromIndex; vi < toIndex; ++vi) {
+                skinVertex(vi, skinningMatrices, transform, meshLocation,
+                        worldLocation);
+                int start = MyVector3f.numAxes * vi;
+                world[start] = worldLocation.x;
+                world[start + 1] = worldLocation.y;
+                world[start + 2] = worldLocation.z;
+            }
+        }
+
+        /**
+         * Skin the indexed vertex and transform it to world coordinates.
+         *
+         * @param vertexIndex the index of the vertex (&ge;0)
+         * @param skinningMatrices the skinning matrices (not null, unaffected)
+         * @param transform the world transform (not null, unaffected)
+         * @param storeMesh storage for the mesh location (not null, modified)
+         * @param storeWorld storage for the world location (not null,
+         * modified)
+         */
+        void skinVertex(int vertexIndex, Matrix4f[] skinningMatrices,
+                Transform transform, Vector3f storeMesh,
+                Vector3f storeWorld) {
+            int p = vertexIndex * MyVector3f.numAxes;
+            float bx = positions[p];
+            float by = positions[p + 1];
+            float bz = positions[p + 2];
+
+            if (isAnimated) {
+                storeMesh.zero();
+                int start = vertexIndex * weightStride;
+                for (int wIndex = 0; wIndex < maxWeightsPerVertex; ++wIndex) {
+                    float weight = weights[start + wIndex];
+                    if (weight != 0f) {
+                        int boneIndex = boneIndices[start + wIndex];
+                        Matrix4f s = skinningMatrices[boneIndex];
+                        float xOff
+                                = s.m00 * bx + s.m01 * by + s.m02 * bz + s.m03;
+                        float yOff
+                                = s.m10 * bx + s.m11 * by + s.m12 * bz + s.m13;
+                        float zOff
+                                = s.m20 * bx + s.m21 * by + s.m22 * bz + s.m23;
+                        storeMesh.x += weight * xOff;
+                        storeMesh.y += weight * yOff;
+                        storeMesh.z += weight * zOff;
+                    }
+                }
+            } else {
+                storeMesh.set(bx, by, bz);
+            }
+
+            transform.transformVector(storeMesh, storeWorld);
+        }
+
+        /**
+         * Recompute the cached locations for the specified skinning matrices
+         * and the geometry's current world transform.
+         *
+         * @param geometry the geometry (not null, unaffected)
+         * @param skinningMatrices the skinning matrices (not null, unaffected)
+         */
+        void update(Geometry geometry, Matrix4f[] skinningMatrices) {
+            stampContentVersion = -1L;
+            stampPoseVersion = -1L;
+            stampIgnoreTransform = geometry.isIgnoreTransform();
+            stampTransform.set(currentTransform(geometry));
+            if (isAnimated) {
+                int numBones = skinningMatrices.length;
+                if (stampMatrices.length != numBones) {
+                    stampMatrices = new Matrix4f[numBones];
+                    for (int i = 0; i < numBones; ++i) {
+                        stampMatrices[i] = new Matrix4f();
+                    }
+                }
+                for (int i = 0; i < numBones; ++i) {
+                    stampMatrices[i].set(skinningMatrices[i]);
+                }
+            }
+
+            if (numVertices <= rangeSize) {
+                skinRange(0, numVertices, stampMatrices, stampTransform);
+            } else {
+                RangeTask task = new RangeTask(this, 0, numVertices);
+                ForkJoinPool.commonPool().invoke(task);
+            }
+            isValid = true;
+        }
+    }
+    // *************************************************************************
+    // RangeTask
+
+    /**
+     * A task to skin a range of vertices, splitting it into subtasks if it's
+     * large.
+     */
+    private static class RangeTask extends RecursiveAction {
+        /**
+         * the entry to update
+         */
+        final private Entry entry;
+        /**
+         * index of the first vertex
+         */
+        final private int fromIndex;
+        /**
+         * one past the index of the last vertex
+         */
+        final private int toIndex;
+
+        /**
+         * Instantiate a task for the specified range.
+         *
+         * @param entry the entry to update (not null, alias created)
+         * @param fromIndex the index of the first vertex (&ge;0)
+         * @param toIndex one past the index of the last vertex
+         */
+        RangeTask(Entry entry, int fromIndex, int toIndex) {
+            this.entry = entry;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        /**
+         * Skin the range, or split it in half and skin the halves in
+         * parallel.
+         */
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= rangeSize) {
+                entry.skinRange(fromIndex, toIndex, entry.stampMatrices,
+                        entry.stampTransform);
+            } else {
+                int middle = (fromIndex + toIndex) >>> 1;
+                invokeAll(new RangeTask(entry, fromIndex, middle),
+                        new RangeTask(entry, middle, toIndex));
+            }
+        }
+    }
+}
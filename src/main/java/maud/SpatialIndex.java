@@ -0,0 +1,277 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An index of the spatials in a scene-graph tree, for finding the tree
+ * position of a spatial, or the first spatial with a given name, without
+ * searching the tree.
+ * <p>
+ * The index holds strong references to the spatials, so it's discarded
+ * whenever the root or the caller-supplied edit count changes, and owners
+ * should invalidate it when they unload the tree. Every position it returns
+ * is also verified by a walk from the root, which costs only the depth of the
+ * spatial; a spatial that fails verification is located the slow way.
+ * Intended for use on the update thread only.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class SpatialIndex {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SpatialIndex.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the index has been built, otherwise false
+     */
+    private boolean isBuilt = false;
+    /**
+     * edit count when the index was built
+     */
+    private int builtEdits;
+    /**
+     * tree position of each indexed spatial
+     */
+    final private Map<Spatial, int[]> positions = new IdentityHashMap<>(64);
+    /**
+     * first spatial with each name, in depth-first pre-order
+     */
+    final private Map<String, Spatial> namedSpatials = new HashMap<>(64);
+    /**
+     * root of the indexed tree
+     */
+    private Spatial builtRoot;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the first spatial with the specified name, in depth-first
+     * pre-order, the same spatial that
+     * {@link MaudUtil#findSpatialNamed(java.lang.String,
+     * com.jme3.scene.Spatial, java.util.List)} would find.
+     *
+     * @param name the name to search for (not null)
+     * @param root the root of the tree (may be null, unaffected)
+     * @param edits the number of edits applied to the tree since it was
+     * created or loaded (&ge;0)
+     * @param storePosition storage for the tree position of the spatial
+     * (modified if found and not null)
+     * @return the pre-existing spatial, or null if not found
+     */
+    public Spatial findNamed(String name, Spatial root, int edits,
+            List<Integer> storePosition) {
+        Validate.nonNull(name, "name");
+        Validate.nonNegative(edits, "edits");
+        if (root == null) {
+            return null;
+        }
+
+        prepare(root, edits);
+        Spatial result = namedSpatials.get(name);
+        if (result != null) {
+            int[] position = positions.get(result);
+            if (!name.equals(result.getName())
+                    || walk(root, position) != result) {
+                build(root, edits);
+                result = namedSpatials.get(name);
+            }
+        }
+
+        if (result != null && storePosition != null) {
+            int[] position = positions.get(result);
+            copy(position, storePosition);
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the tree position of the specified spatial.
+     *
+     * @param spatial the spatial to search for (not null, unaffected)
+     * @param root the root of the tree (may be null, unaffected)
+     * @param edits the number of edits applied to the tree since it was
+     * created or loaded (&ge;0)
+     * @return a new tree-position instance, or null if not found
+     */
+    public List<Integer> findPosition(Spatial spatial, Spatial root,
+            int edits) {
+        Validate.nonNull(spatial, "spatial");
+        Validate.nonNegative(edits, "edits");
+        if (root == null) {
+            return null;
+        }
+
+        prepare(root, edits);
+        List<Integer> result = new ArrayList<>(4);
+        int[] position = positions.get(spatial);
+        if (position != null && walk(root, position) == spatial) {
+            copy(position, result);
+            return result;
+        }
+
+        boolean success = MaudUtil.findPosition(spatial, root, result);
+        if (!success) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard the indexed data, releasing the indexed spatials.
+     */
+    public void invalidate() {
+        isBuilt = false;
+        builtRoot = null;
+        positions.clear();
+        namedSpatials.clear();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Index the specified subtree. Note: recursive!
+     *
+     * @param subtree the subtree to index (not null, unaffected)
+     * @param path the tree position of the subtree (not null, unaffected)
+     * @param depth the number of elements in {@code path} that are valid
+     */
+    private void add(Spatial subtree, int[] path, int depth) {
+        int[] position = new int[depth];
+        System.arraycopy(path, 0, position, 0, depth);
+        positions.put(subtree, position);
+
+        String name = subtree.getName();
+        if (name != null && !namedSpatials.containsKey(name)) {
+            namedSpatials.put(name, subtree);
+        }
+
+        if (subtree instanceof Node) {
+            List<Spatial> children = ((Node) subtree).getChildren();
+            int numChildren = children.size();
+            if (numChildren > 0) {
+                int[] childPath = path;
+                if (path.length <= depth) {
+                    childPath = new int[2 * depth + 4];
+                    System.arraycopy(path, 0, childPath, 0, depth);
+                }
+                for (int childIndex = 0; childIndex < numChildren;
+                        ++childIndex) {
+                    childPath[depth] = childIndex;
+                    add(children.get(childIndex), childPath, depth + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuild the index for the specified tree.
+     *
+     * @param root the root of the tree (not null, unaffected)
+     * @param edits the edit count of the tree (&ge;0)
+     */
+    private void build(Spatial root, int edits) {
+        invalidate();
+        add(root, new int[8], 0);
+
+        isBuilt = true;
+        builtEdits = edits;
+        builtRoot = root;
+    }
+
+    /**
+     * Copy a tree position to a list.
+     *
+     * @param position the tree position to copy (not null, unaffected)
+     * @param storeResult storage for the copy (not null, modified)
+     */
+    private static void copy(int[] position, List<Integer> storeResult) {
+        storeResult.clear();
+        for (int childIndex : position) {
+            storeResult.add(childIndex);
+        }
+    }
+
+    /**
+     * Rebuild the index unless it was built for the specified tree and edit
+     * count.
+     *
+     * @param root the root of the tree (not null, unaffected)
+     * @param edits the edit count of the tree (&ge;0)
+     */
+    private void prepare(Spatial root, int edits) {
+        if (!isBuilt || root != builtRoot || edits != builtEdits) {
+            build(root, edits);
+        }
+    }
+
+    /**
+     * Walk from the root of a tree to the specified tree position.
+     *
+     * @param root the root of the tree (not null, unaffected)
+     * @param position the tree position (may be null, unaffected)
+     * @return the pre-existing spatial at that position, or null if the
+     * position doesn't exist in the tree
+     */
+    private static Spatial walk(Spatial root, int[] position) {
+        if (position == null) {
+            return null;
+        }
+
+        Spatial result = root;
+        for (int childIndex : position) {
+            if (!(result instanceof Node)) {
+                return null;
+            }
+            List<Spatial> children = ((Node) result).getChildren();
+            if (childIndex >= children.size()) {
+                return null;
+            }
+            result = children.get(childIndex);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.MyString;
+import jme3utilities.Validate;
+import jme3utilities.ui.ActionApplication;
+
+/**
+ * Measure how long each stage of the frame update takes, and summarize the
+ * most recent frames using percentiles.
+ * <p>
+ * Stages are timed only while enabled. Each stage is timed by bracketing it
+ * with {@link #begin()} and {@link #end(maud.UpdateStage, long)}, and the
+ * durations are accumulated until {@link #endFrame()} is invoked. Physics
+ * steps are timed using tick listeners, since they may run on other threads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class StageTimes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of frames summarized
+     */
+    final public static int windowSize = 300;
+    /**
+     * number of stages
+     */
+    final private static int numStages = UpdateStage.values().length;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(StageTimes.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if stages are being timed, otherwise false
+     */
+    private static volatile boolean isEnabled = false;
+    /**
+     * number of frames recorded in the window (&ge;0, &le;windowSize)
+     */
+    private static int numRecorded = 0;
+    /**
+     * index in the window for the next frame to be recorded
+     */
+    private static int nextIndex = 0;
+    /**
+     * nanoseconds spent in each stage during the current frame
+     */
+    final private static AtomicLongArray frameNanos
+            = new AtomicLongArray(numStages);
+    /**
+     * nanoseconds spent in each stage during the recorded frames, indexed by
+     * stage and then by position in the window
+     */
+    final private static long[][] windowNanos
+            = new long[numStages][windowSize];
+    /**
+     * physics spaces with the tick listener added
+     */
+    final private static Map<PhysicsSpace, Boolean> watchedSpaces
+            = new WeakHashMap<>(4);
+    /**
+     * value of System.nanoTime() at the start of the current physics step, on
+     * each physics thread
+     */
+    final private static ThreadLocal<long[]> stepStartNanos
+            = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+    /**
+     * tick listener that times physics steps
+     */
+    final private static PhysicsTickListener physicsTimer
+            = new PhysicsTickListener() {
+        @Override
+        public void physicsTick(PhysicsSpace space, float timeStep) {
+            long startNanos = stepStartNanos.get()[0];
+            end(UpdateStage.Physics, startNanos);
+        }
+
+        @Override
+        public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+            stepStartNanos.get()[0] = begin();
+        }
+    };
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private StageTimes() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Begin timing a stage.
+     *
+     * @return the value to pass to {@link #end(maud.UpdateStage, long)}
+     */
+    public static long begin() {
+        long result = isEnabled ? System.nanoTime() : 0L;
+        return result;
+    }
+
+    /**
+     * Describe the percentiles of each stage, for display in a HUD.
+     *
+     * @return a new multi-line string (not null)
+     */
+    public static String describe() {
+        StringBuilder builder = new StringBuilder(300);
+        builder.append(String.format(
+                "stage times (msec) over %d frames:%n", numRecorded));
+        builder.append(String.format(
+                "%-8s %7s %7s %7s%n", "stage", "p50", "p95", "max"));
+
+        long[] sorted = new long[numRecorded];
+        for (UpdateStage stage : UpdateStage.values()) {
+            sortWindow(stage, sorted);
+            builder.append(String.format("%-8s %7.2f %7.2f %7.2f%n", stage,
+                    percentile(sorted, 0.5) / 1e6,
+                    percentile(sorted, 0.95) / 1e6,
+                    percentile(sorted, 1.0) / 1e6));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * End the timing of a stage begun with {@link #begin()}.
+     *
+     * @param stage which stage (not null)
+     * @param beginNanos the value returned by {@link #begin()}
+     */
+    public static void end(UpdateStage stage, long beginNanos) {
+        if (isEnabled && beginNanos != 0L) {
+            long elapsedNanos = System.nanoTime() - beginNanos;
+            frameNanos.addAndGet(stage.ordinal(), elapsedNanos);
+        }
+    }
+
+    /**
+     * Record the durations accumulated since the previous invocation as a
+     * single frame. Invoke once per frame, on the update thread.
+     */
+    public static void endFrame() {
+        if (!isEnabled) {
+            return;
+        }
+
+        for (int stageIndex = 0; stageIndex < numStages; ++stageIndex) {
+            long nanos = frameNanos.getAndSet(stageIndex, 0L);
+            windowNanos[stageIndex][nextIndex] = nanos;
+        }
+        nextIndex = (nextIndex + 1) % windowSize;
+        if (numRecorded < windowSize) {
+            ++numRecorded;
+        }
+    }
+
+    /**
+     * Test whether stages are being timed.
+     *
+     * @return true if being timed, otherwise false
+     */
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enable or disable timing. Enabling discards any recorded frames.
+     *
+     * @param newSetting true to enable, false to disable
+     */
+    public static void setEnabled(boolean newSetting) {
+        if (newSetting && !isEnabled) {
+            numRecorded = 0;
+            nextIndex = 0;
+            for (int stageIndex = 0; stageIndex < numStages; ++stageIndex) {
+                frameNanos.set(stageIndex, 0L);
+            }
+        }
+        isEnabled = newSetting;
+    }
+
+    /**
+     * Add the tick listener that times the steps of the specified physics
+     * space, unless it's already been added.
+     *
+     * @param space the space to time (not null)
+     */
+    public static void watchPhysics(PhysicsSpace space) {
+        Validate.nonNull(space, "space");
+
+        if (!watchedSpaces.containsKey(space)) {
+            space.addTickListener(physicsTimer);
+            watchedSpaces.put(space, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Write the percentiles of each stage to a CSV file in the sandbox.
+     *
+     * @param assetPath the asset path of the file (not null, not empty)
+     * @throws IOException if the file can't be written
+     */
+    public static void writeCsv(String assetPath) throws IOException {
+        Validate.nonEmpty(assetPath, "asset path");
+
+        String filePath = ActionApplication.filePath(assetPath);
+        logger.log(Level.INFO, "Writing stage times to {0}.",
+                MyString.quote(filePath));
+
+        FileOutputStream stream = null;
+        try {
+            stream = new FileOutputStream(filePath);
+            Writer writer
+                    = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            writer.write("stage,frames,p50Micros,p95Micros,maxMicros\n");
+
+            long[] sorted = new long[numRecorded];
+            for (UpdateStage stage : UpdateStage.values()) {
+                sortWindow(stage, sorted);
+                String line = String.format("%s,%d,%d,%d,%d\n", stage,
+                        numRecorded, percentile(sorted, 0.5) / 1_000L,
+                        percentile(sorted, 0.95) / 1_000L,
+                        percentile(sorted, 1.0) / 1_000L);
+                writer.write(line);
+            }
+            writer.flush();
+
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Calculate a percentile of the sorted durations using the nearest-rank
+     * method.
+     *
+     * @param sorted the durations, in ascending order (not null, unaffected)
+     * @param fraction the desired percentile divided by 100 (&gt;0, &le;1)
+     * @return the duration (in nanoseconds), or 0 if there are no durations
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int length = sorted.length;
+        if (length == 0) {
+            return 0L;
+        }
+
+        int rank = (int) Math.ceil(fraction * length);
+        rank = Math.max(rank, 1);
+        long result = sorted[rank - 1];
+
+        return result;
+    }
+
+    /**
+     * Copy the recorded durations of the specified stage and sort them.
+     *
+     * @param stage which stage (not null)
+     * @param storeResult storage for the sorted durations (not null,
+     * length=numRecorded, modified)
+     */
+    private static void sortWindow(UpdateStage stage, long[] storeResult) {
+        assert storeResult.length == numRecorded;
+
+        long[] window = windowNanos[stage.ordinal()];
+        System.arraycopy(window, 0, storeResult, 0, numRecorded);
+        Arrays.sort(storeResult);
+    }
+}
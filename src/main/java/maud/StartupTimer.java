@@ -0,0 +1,156 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Measure the phases of Maud's startup, so that regressions in the time to an
+ * interactive editor screen are visible in the log.
+ * <p>
+ * Each phase ends with an invocation of {@link #mark(java.lang.String)} or
+ * {@link #markExcluded(java.lang.String)}. The first phase begins when the JVM
+ * started. Phases that wait on the user (such as the settings dialog) are
+ * logged but excluded from the total.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class StartupTimer {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(StartupTimer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * whether each completed phase is excluded from the total
+     */
+    final private static List<Boolean> phaseExcluded = new ArrayList<>(12);
+    /**
+     * duration of each completed phase (in milliseconds)
+     */
+    final private static List<Long> phaseMillis = new ArrayList<>(12);
+    /**
+     * names of the completed phases, in order of completion
+     */
+    final private static List<String> phaseNames = new ArrayList<>(12);
+    /**
+     * value of System.nanoTime() when the latest phase ended, or null if no
+     * phase has ended yet
+     */
+    private static Long markNanos = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private StartupTimer() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Log the duration of each completed phase, plus the total.
+     */
+    synchronized static void logSummary() {
+        StringBuilder builder = new StringBuilder(300);
+        builder.append("Startup phases (msec):");
+        long totalMillis = 0L;
+        int numPhases = phaseNames.size();
+        for (int phaseIndex = 0; phaseIndex < numPhases; ++phaseIndex) {
+            String name = phaseNames.get(phaseIndex);
+            long millis = phaseMillis.get(phaseIndex);
+            if (phaseExcluded.get(phaseIndex)) {
+                builder.append(String.format(" [%s=%d]", name, millis));
+            } else {
+                builder.append(String.format(" %s=%d", name, millis));
+                totalMillis += millis;
+            }
+        }
+        builder.append(String.format(" total=%d", totalMillis));
+
+        logger.info(builder.toString());
+    }
+
+    /**
+     * Mark the end of the named phase, which began when the previous phase
+     * ended.
+     *
+     * @param phaseName the name of the phase (not null, not empty)
+     */
+    synchronized static void mark(String phaseName) {
+        Validate.nonEmpty(phaseName, "phase name");
+        addPhase(phaseName, false);
+    }
+
+    /**
+     * Mark the end of the named phase, which began when the previous phase
+     * ended, and exclude its duration from the total.
+     *
+     * @param phaseName the name of the phase (not null, not empty)
+     */
+    synchronized static void markExcluded(String phaseName) {
+        Validate.nonEmpty(phaseName, "phase name");
+        addPhase(phaseName, true);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Record a completed phase.
+     *
+     * @param phaseName the name of the phase (not null, not empty)
+     * @param excluded true to exclude the phase from the total, otherwise
+     * false
+     */
+    private static void addPhase(String phaseName, boolean excluded) {
+        long nowNanos = System.nanoTime();
+        long millis;
+        if (markNanos == null) {
+            long jvmStartMillis
+                    = ManagementFactory.getRuntimeMXBean().getStartTime();
+            millis = System.currentTimeMillis() - jvmStartMillis;
+        } else {
+            millis = (nowNanos - markNanos) / 1_000_000L;
+        }
+        markNanos = nowNanos;
+
+        phaseNames.add(phaseName);
+        phaseMillis.add(millis);
+        phaseExcluded.add(excluded);
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud;
+
+import com.jme3.math.Matrix3f;
+import com.jme3.math.Matrix4f;
+import com.jme3.math.Transform;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.MyMesh;
+import jme3utilities.Validate;
+import jme3utilities.math.MyBuffer;
+import jme3utilities.math.MyVector3f;
+
+/**
+ * Find the point of vertical support of an animated subtree in many poses
+ * without skinning every vertex in each pose.
+ * <p>
+ * The vertices of each animated Geometry are grouped into buckets by dominant
+ * bone. For each bucket, the extreme vertices (in 14 directions) and the
+ * bind-pose bounding box are precomputed. A search skins the extreme vertices
+ * first, then skins the remaining vertices of just those buckets whose
+ * skinned bounding boxes might extend below the lowest vertex found so far.
+ * The support point found has the same Y coordinate as the one found by
+ * {@link SupportUtil#findSupport(Spatial, Matrix4f[], Vector3f, Geometry[])}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class SupportFinder {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of weights per vertex in the BoneWeight buffer
+     */
+    final private static int weightStride = 4;
+    /**
+     * directions (in mesh coordinates) in which to select extreme vertices
+     */
+    final private static float[][] directions = {
+        {1f, 0f, 0f}, {-1f, 0f, 0f}, {0f, 1f, 0f}, {0f, -1f, 0f},
+        {0f, 0f, 1f}, {0f, 0f, -1f}, {1f, 1f, 1f}, {1f, 1f, -1f},
+        {1f, -1f, 1f}, {1f, -1f, -1f}, {-1f, 1f, 1f}, {-1f, 1f, -1f},
+        {-1f, -1f, 1f}, {-1f, -1f, -1f}
+    };
+    /**
+     * tolerance for the sum of a vertex's weights
+     */
+    final private static float weightSumTolerance = 0.001f;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SupportFinder.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * precomputed data for each animated geometry, in traversal order
+     */
+    final private List<GeometryData> geometries = new ArrayList<>(4);
+    /**
+     * temporary storage for a vertex location in mesh coordinates
+     */
+    final private Vector3f tmpMeshLocation = new Vector3f();
+    /**
+     * temporary storage for a vertex location in world coordinates
+     */
+    final private Vector3f tmpWorldLocation = new Vector3f();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Precompute candidate vertices for the specified subtree. The meshes
+     * should not be modified while this instance is in use.
+     *
+     * @param subtree the subtree to analyze (may be null, unaffected)
+     */
+    public SupportFinder(Spatial subtree) {
+        addGeometries(subtree);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the point of vertical support (minimum Y coordinate) for the meshes
+     * in the subtree, each transformed by the specified skinning matrices.
+     *
+     * @param skinningMatrices (not null, unaffected)
+     * @param storeLocation point in world coordinates (not null, modified)
+     * @param storeGeometry (not null, modified)
+     * @return index of vertex in storeGeometry's mesh (&ge;0) or -1 if none
+     * found
+     */
+    public int findSupport(Matrix4f[] skinningMatrices, Vector3f storeLocation,
+            Geometry[] storeGeometry) {
+        Validate.nonNull(skinningMatrices, "skinning matrices");
+        Validate.nonNull(storeLocation, "store location");
+        Validate.nonNull(storeGeometry, "store geometry");
+        assert storeGeometry.length == 1 : storeGeometry.length;
+
+        int bestIndex = -1;
+        storeGeometry[0] = null;
+        float bestY = Float.POSITIVE_INFINITY;
+        /*
+         * Skin the extreme vertices of every bucket.
+         */
+        for (GeometryData data : geometries) {
+            for (Bucket bucket : data.buckets) {
+                for (int vertexIndex : bucket.candidates) {
+                    data.skin(vertexIndex, skinningMatrices, tmpMeshLocation,
+                            tmpWorldLocation);
+                    if (tmpWorldLocation.y < bestY) {
+                        bestIndex = vertexIndex;
+                        bestY = tmpWorldLocation.y;
+                        storeGeometry[0] = data.geometry;
+                        storeLocation.set(tmpWorldLocation);
+                    }
+                }
+            }
+        }
+        /*
+         * Skin all vertices of any bucket that might contain a lower vertex.
+         */
+        for (GeometryData data : geometries) {
+            data.updateWorldRow();
+            for (Bucket bucket : data.buckets) {
+                if (bucket.isBounded && data.lowerBound(bucket,
+                        skinningMatrices) >= bestY) {
+                    continue;
+                }
+                for (int vertexIndex : bucket.vertices) {
+                    data.skin(vertexIndex, skinningMatrices, tmpMeshLocation,
+                            tmpWorldLocation);
+                    if (tmpWorldLocation.y < bestY) {
+                        bestIndex = vertexIndex;
+                        bestY = tmpWorldLocation.y;
+                        storeGeometry[0] = data.geometry;
+                        storeLocation.set(tmpWorldLocation);
+                    }
+                }
+            }
+        }
+        return bestIndex;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Precompute data for each animated geometry in the specified subtree, in
+     * depth-first order.
+     *
+     * @param subtree the subtree to analyze (may be null, unaffected)
+     */
+    private void addGeometries(Spatial subtree) {
+        if (subtree instanceof Geometry) {
+            Geometry geometry = (Geometry) subtree;
+            Mesh mesh = geometry.getMesh();
+            if (MyMesh.isAnimated(mesh)) {
+                GeometryData data = new GeometryData(geometry);
+                geometries.add(data);
+            }
+
+        } else if (subtree instanceof Node) {
+            List<Spatial> children = ((Node) subtree).getChildren();
+            for (Spatial child : children) {
+                addGeometries(child);
+            }
+        }
+    }
+    // *************************************************************************
+    // Bucket
+
+    /**
+     * A group of vertices with the same dominant bone.
+     */
+    private static class Bucket {
+        /**
+         * true if the skinned bounds are valid, false if every vertex must be
+         * skinned
+         */
+        boolean isBounded = true;
+        /**
+         * bind-pose bounding box of the vertices: minX, minY, minZ, maxX, maxY,
+         * maxZ
+         */
+        final float[] bounds = {
+            Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY,
+            Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+            Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY
+        };
+        /**
+         * indices of the bones that influence any vertex in the bucket
+         */
+        int[] bones;
+        /**
+         * indices of the extreme vertices
+         */
+        int[] candidates;
+        /**
+         * indices of all vertices in the bucket
+         */
+        int[] vertices;
+    }
+    // *************************************************************************
+    // GeometryData
+
+    /**
+     * Precomputed vertex data for a single animated geometry.
+     */
+    private static class GeometryData {
+        /**
+         * the geometry
+         */
+        final Geometry geometry;
+        /**
+         * number of weights used per vertex (&ge;1, &le;4)
+         */
+        final int maxWeightsPerVertex;
+        /**
+         * bind-pose vertex positions (3 per vertex)
+         */
+        final float[] positions;
+        /**
+         * bone weights (4 per vertex)
+         */
+        final float[] weights;
+        /**
+         * bone indices (4 per vertex)
+         */
+        final int[] boneIndices;
+        /**
+         * vertex buckets
+         */
+        final List<Bucket> buckets = new ArrayList<>(8);
+        /**
+         * Y row of the geometry's world transform (set by
+         * {@link #updateWorldRow()})
+         */
+        final private float[] worldRow = new float[4];
+        /**
+         * temporary storage for a rotation matrix
+         */
+        final private Matrix3f tmpMatrix = new Matrix3f();
+
+        /**
+         * Copy the vertex data of the specified geometry and bucket its
+         * vertices.
+         *
+         * @param geometry the animated geometry (not null, alias created)
+         */
+        GeometryData(Geometry geometry) {
+            this.geometry = geometry;
+            Mesh mesh = geometry.getMesh();
+            maxWeightsPerVertex = mesh.getMaxNumWeights();
+
+            VertexBuffer posBuf
+                    = mesh.getBuffer(VertexBuffer.Type.BindPosePosition);
+            FloatBuffer posBuffer = (FloatBuffer) posBuf.getDataReadOnly();
+            posBuffer.rewind();
+            int numVertices = posBuffer.remaining() / MyVector3f.numAxes;
+            positions = new float[numVertices * MyVector3f.numAxes];
+            posBuffer.get(positions);
+
+            VertexBuffer wBuf = mesh.getBuffer(VertexBuffer.Type.BoneWeight);
+            FloatBuffer weightBuffer = (FloatBuffer) wBuf.getDataReadOnly();
+            weightBuffer.rewind();
+            weights = new float[numVertices * weightStride];
+            weightBuffer.get(weights);
+
+            VertexBuffer biBuf = mesh.getBuffer(VertexBuffer.Type.BoneIndex);
+            Buffer boneIndexBuffer = biBuf.getData();
+            boneIndexBuffer.rewind();
+            boneIndices = new int[numVertices * weightStride];
+            for (int i = 0; i < boneIndices.length; ++i) {
+                boneIndices[i] = MyBuffer.readIndex(boneIndexBuffer);
+            }
+
+            createBuckets(numVertices);
+        }
+
+        /**
+         * Calculate a lower bound on the world Y coordinate of any skinned
+         * vertex in the specified bucket.
+         *
+         * @param bucket the bucket (not null, unaffected)
+         * @param skinningMatrices (not null, unaffected)
+         * @return the lower bound
+         */
+        float lowerBound(Bucket bucket, Matrix4f[] skinningMatrices) {
+            /*
+             * The skinned location is a convex combination of the locations
+             * transformed by each influencing bone, so it's bounded below by
+             * the lowest corner of the bucket's box under any of them.
+             */
+            float[] w = worldRow;
+            float[] bounds = bucket.bounds;
+            float result = Float.POSITIVE_INFINITY;
+            for (int boneIndex : bucket.bones) {
+                Matrix4f s = skinningMatrices[boneIndex];
+                float r0 = w[0] * s.m00 + w[1] * s.m10 + w[2] * s.m20;
+                float r1 = w[0] * s.m01 + w[1] * s.m11 + w[2] * s.m21;
+                float r2 = w[0] * s.m02 + w[1] * s.m12 + w[2] * s.m22;
+                float r3 = w[0] * s.m03 + w[1] * s.m13 + w[2] * s.m23 + w[3];
+                float y = r3
+                        + r0 * (r0 > 0f ? bounds[0] : bounds[3])
+                        + r1 * (r1 > 0f ? bounds[1] : bounds[4])
+                        + r2 * (r2 > 0f ? bounds[2] : bounds[5]);
+                if (y < result) {
+                    result = y;
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Skin the indexed vertex and transform it to world coordinates, in
+         * the same manner as SupportUtil.
+         *
+         * @param vertexIndex the index of the vertex (&ge;0)
+         * @param skinningMatrices (not null, unaffected)
+         * @param storeMesh storage for the mesh location (not null, modified)
+         * @param storeWorld storage for the world location (not null,
+         * modified)
+         */
+        void skin(int vertexIndex, Matrix4f[] skinningMatrices,
+                Vector3f storeMesh, Vector3f storeWorld) {
+            int p = vertexIndex * MyVector3f.numAxes;
+            float bx = positions[p];
+            float by = positions[p + 1];
+            float bz = positions[p + 2];
+
+            storeMesh.zero();
+            int start = vertexIndex * weightStride;
+            for (int wIndex = 0; wIndex < maxWeightsPerVertex; ++wIndex) {
+                float weight = weights[start + wIndex];
+                if (weight != 0f) {
+                    int boneIndex = boneIndices[start + wIndex];
+                    Matrix4f s = skinningMatrices[boneIndex];
+                    float xOff = s.m00 * bx + s.m01 * by + s.m02 * bz + s.m03;
+                    float yOff = s.m10 * bx + s.m11 * by + s.m12 * bz + s.m13;
+                    float zOff = s.m20 * bx + s.m21 * by + s.m22 * bz + s.m23;
+                    storeMesh.x += weight * xOff;
+                    storeMesh.y += weight * yOff;
+                    storeMesh.z += weight * zOff;
+                }
+            }
+
+            if (geometry.isIgnoreTransform()) {
+                storeWorld.set(storeMesh);
+            } else {
+                geometry.localToWorld(storeMesh, storeWorld);
+            }
+        }
+
+        /**
+         * Update the cached Y row of the geometry's world transform.
+         */
+        void updateWorldRow() {
+            if (geometry.isIgnoreTransform()) {
+                worldRow[0] = 0f;
+                worldRow[1] = 1f;
+                worldRow[2] = 0f;
+                worldRow[3] = 0f;
+            } else {
+                Transform transform = geometry.getWorldTransform();
+                Matrix3f rotation
+                        = transform.getRotation().toRotationMatrix(tmpMatrix);
+                Vector3f scale = transform.getScale();
+                worldRow[0] = rotation.get(1, 0) * scale.x;
+                worldRow[1] = rotation.get(1, 1) * scale.y;
+                worldRow[2] = rotation.get(1, 2) * scale.z;
+                worldRow[3] = transform.getTranslation().y;
+            }
+        }
+
+        /**
+         * Precompute the bounds, influencing bones, and extreme vertices of
+         * the specified bucket.
+         *
+         * @param bucket the bucket to analyze (not null, modified)
+         */
+        private void analyze(Bucket bucket) {
+            int numDirections = directions.length;
+            int[] extremes = new int[numDirections];
+            float[] maxDots = new float[numDirections];
+            for (int d = 0; d < numDirections; ++d) {
+                maxDots[d] = Float.NEGATIVE_INFINITY;
+            }
+            BitSet bones = new BitSet();
+            float[] bounds = bucket.bounds;
+
+            for (int vertexIndex : bucket.vertices) {
+                int p = vertexIndex * MyVector3f.numAxes;
+                float x = positions[p];
+                float y = positions[p + 1];
+                float z = positions[p + 2];
+                bounds[0] = Math.min(bounds[0], x);
+                bounds[1] = Math.min(bounds[1], y);
+                bounds[2] = Math.min(bounds[2], z);
+                bounds[3] = Math.max(bounds[3], x);
+                bounds[4] = Math.max(bounds[4], y);
+                bounds[5] = Math.max(bounds[5], z);
+
+                for (int d = 0; d < numDirections; ++d) {
+                    float[] dir = directions[d];
+                    float dot = dir[0] * x + dir[1] * y + dir[2] * z;
+                    if (dot > maxDots[d]) {
+                        maxDots[d] = dot;
+                        extremes[d] = vertexIndex;
+                    }
+                }
+                /*
+                 * The bound is valid only for non-negative weights
+                 * that sum to one.
+                 */
+                int start = vertexIndex * weightStride;
+                float sum = 0f;
+                for (int wIndex = 0; wIndex < maxWeightsPerVertex; ++wIndex) {
+                    float weight = weights[start + wIndex];
+                    if (weight < 0f) {
+                        bucket.isBounded = false;
+                    } else if (weight > 0f) {
+                        bones.set(boneIndices[start + wIndex]);
+                    }
+                    sum += weight;
+                }
+                if (Math.abs(sum - 1f) > weightSumTolerance) {
+                    bucket.isBounded = false;
+                }
+            }
+
+            bucket.bones = new int[bones.cardinality()];
+            int i = 0;
+            for (int boneIndex = bones.nextSetBit(0); boneIndex >= 0;
+                    boneIndex = bones.nextSetBit(boneIndex + 1)) {
+                bucket.bones[i] = boneIndex;
+                ++i;
+            }
+
+            BitSet distinct = new BitSet();
+            for (int vertexIndex : extremes) {
+                distinct.set(vertexIndex);
+            }
+            bucket.candidates = new int[distinct.cardinality()];
+            i = 0;
+            for (int vertexIndex = distinct.nextSetBit(0); vertexIndex >= 0;
+                    vertexIndex = distinct.nextSetBit(vertexIndex + 1)) {
+                bucket.candidates[i] = vertexIndex;
+                ++i;
+            }
+        }
+
+        /**
+         * Group the vertices into buckets by dominant bone and precompute the
+         * bounds and extreme vertices of each bucket.
+         *
+         * @param numVertices the number of vertices in the mesh (&ge;0)
+         */
+        private void createBuckets(int numVertices) {
+            /*
+             * Find the dominant bone of each vertex.
+             */
+            int[] dominant = new int[numVertices];
+            int maxBone = -1;
+            for (int vertexIndex = 0; vertexIndex < numVertices;
+                    ++vertexIndex) {
+                int start = vertexIndex * weightStride;
+                int bestBone = -1;
+                float bestWeight = 0f;
+                for (int wIndex = 0; wIndex < maxWeightsPerVertex; ++wIndex) {
+                    float weight = weights[start + wIndex];
+                    if (weight != 0f && (bestBone == -1
+                            || weight > bestWeight)) {
+                        bestBone = boneIndices[start + wIndex];
+                        bestWeight = weight;
+                    }
+                }
+                dominant[vertexIndex] = bestBone;
+                maxBone = Math.max(maxBone, bestBone);
+            }
+            /*
+             * Count the vertices for each dominant bone; slot 0 is for
+             * vertices with no weights at all.
+             */
+            int numSlots = maxBone + 2;
+            int[] counts = new int[numSlots];
+            for (int vertexIndex = 0; vertexIndex < numVertices;
+                    ++vertexIndex) {
+                ++counts[dominant[vertexIndex] + 1];
+            }
+            Bucket[] slots = new Bucket[numSlots];
+            int[] fill = new int[numSlots];
+            for (int slot = 0; slot < numSlots; ++slot) {
+                if (counts[slot] > 0) {
+                    Bucket bucket = new Bucket();
+                    bucket.vertices = new int[counts[slot]];
+                    slots[slot] = bucket;
+                    buckets.add(bucket);
+                }
+            }
+            for (int vertexIndex = 0; vertexIndex < numVertices;
+                    ++vertexIndex) {
+                int slot = dominant[vertexIndex] + 1;
+                slots[slot].vertices[fill[slot]] = vertexIndex;
+                ++fill[slot];
+            }
+
+            for (Bucket bucket : buckets) {
+                analyze(bucket);
+            }
+        }
+    }
+}
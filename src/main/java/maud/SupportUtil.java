@@ -26,20 +26,23 @@
  */
 package maud;
 
+import com.jme3.anim.Armature;
+import com.jme3.anim.Joint;
+import com.jme3.animation.Bone;
+import com.jme3.animation.Skeleton;
 import com.jme3.math.Matrix3f;
 import com.jme3.math.Matrix4f;
+import com.jme3.math.Transform;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Mesh;
 import com.jme3.scene.Node;
 import com.jme3.scene.Spatial;
 import com.jme3.scene.VertexBuffer;
-import com.jme3.util.clone.Cloner;
 import java.nio.Buffer;
 import java.nio.FloatBuffer;
 import java.util.List;
 import java.util.logging.Logger;
-import jme3utilities.MyMesh;
 import jme3utilities.Validate;
 import jme3utilities.math.MyBuffer;
 import jme3utilities.math.MyVector3f;
@@ -101,62 +104,22 @@ final public class SupportUtil {
         int bestIndex = -1;
         float bestY = Float.POSITIVE_INFINITY;
 
-        Vector3f meshLoc = new Vector3f();
-        Vector3f worldLoc = new Vector3f();
-
-        Mesh mesh = geometry.getMesh();
-        int maxWeightsPerVertex = mesh.getMaxNumWeights();
-
-        VertexBuffer posBuf
-                = mesh.getBuffer(VertexBuffer.Type.BindPosePosition);
-        FloatBuffer posBuffer = (FloatBuffer) posBuf.getDataReadOnly();
-        posBuffer.rewind();
-
-        VertexBuffer wBuf = mesh.getBuffer(VertexBuffer.Type.BoneWeight);
-        FloatBuffer weightBuffer = (FloatBuffer) wBuf.getDataReadOnly();
-        weightBuffer.rewind();
-
-        VertexBuffer biBuf = mesh.getBuffer(VertexBuffer.Type.BoneIndex);
-        Buffer boneIndexBuffer = biBuf.getData();
-        boneIndexBuffer.rewind();
-
-        int numVertices = posBuffer.remaining() / MyVector3f.numAxes;
+        FloatBuffer worldLocations
+                = SkinningCache.worldLocations(geometry, skinningMatrices);
+        int numVertices = worldLocations.limit() / MyVector3f.numAxes;
         for (int vertexIndex = 0; vertexIndex < numVertices; vertexIndex++) {
-            float bx = posBuffer.get(); // bind position
-            float by = posBuffer.get();
-            float bz = posBuffer.get();
-
-            meshLoc.zero();
-            for (int wIndex = 0; wIndex < maxWeightsPerVertex; wIndex++) {
-                float weight = weightBuffer.get();
-                int boneIndex = MyBuffer.readIndex(boneIndexBuffer);
-                if (weight != 0f) {
-                    Matrix4f s = skinningMatrices[boneIndex];
-                    float xOff = s.m00 * bx + s.m01 * by + s.m02 * bz + s.m03;
-                    float yOff = s.m10 * bx + s.m11 * by + s.m12 * bz + s.m13;
-                    float zOff = s.m20 * bx + s.m21 * by + s.m22 * bz + s.m23;
-                    meshLoc.x += weight * xOff;
-                    meshLoc.y += weight * yOff;
-                    meshLoc.z += weight * zOff;
-                }
-            }
-
-            if (geometry.isIgnoreTransform()) {
-                worldLoc.set(meshLoc);
-            } else {
-                geometry.localToWorld(meshLoc, worldLoc);
-            }
-            if (worldLoc.y < bestY) {
+            int start = MyVector3f.numAxes * vertexIndex;
+            float y = worldLocations.get(start + 1);
+            if (y < bestY) {
                 bestIndex = vertexIndex;
-                bestY = worldLoc.y;
-                storeLocation.set(worldLoc);
-            }
-
-            for (int wIndex = maxWeightsPerVertex; wIndex < 4; wIndex++) {
-                weightBuffer.get();
-                MyBuffer.readIndex(boneIndexBuffer);
+                bestY = y;
             }
         }
+        if (bestIndex >= 0) {
+            int start = MyVector3f.numAxes * bestIndex;
+            storeLocation.set(worldLocations.get(start), bestY,
+                    worldLocations.get(start + 2));
+        }
 
         return bestIndex;
     }
@@ -229,46 +192,130 @@ final public class SupportUtil {
         Validate.nonNull(geometry, "geometry");
         Matrix3f result = (storeResult == null) ? new Matrix3f() : storeResult;
 
-        // Create a clone of the Pose for temporary modifications.
-        Cloner cloner = new Cloner();
+        /*
+         * A user translation of the bone shifts the model transforms of the
+         * bone and all its descendants by the same offset, namely the
+         * translation rotated and scaled by the parent's model transform.
+         * Each vertex moves by that offset times its total weight on
+         * the affected bones.
+         */
         Object skeleton = pose.findSkeleton();
-        if (skeleton != null) {  // Don't clone the skeleton!
-            cloner.setClonedValue(skeleton, skeleton);
+        float weight
+                = subtreeWeight(boneIndex, geometry, vertexIndex, skeleton);
+
+        Transform parentTransform;
+        int parentIndex = parentIndex(boneIndex, skeleton);
+        if (parentIndex == -1) {
+            parentTransform = new Transform(); // identity
+        } else {
+            parentTransform = pose.modelTransform(parentIndex, null);
+        }
+        Transform worldTransform;
+        if (geometry.isIgnoreTransform()) {
+            worldTransform = new Transform(); // identity
+        } else {
+            worldTransform = geometry.getWorldTransform();
+        }
+
+        Vector3f column = new Vector3f();
+        setColumn(result, 0, xAxis, parentTransform, worldTransform, weight,
+                column);
+        setColumn(result, 1, yAxis, parentTransform, worldTransform, weight,
+                column);
+        setColumn(result, 2, zAxis, parentTransform, worldTransform, weight,
+                column);
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Find the parent of the indexed Bone or Joint.
+     *
+     * @param boneIndex the index of the child (&ge;0)
+     * @param skeleton the Armature or Skeleton (not null, unaffected)
+     * @return the index of the parent, or -1 if it's a root
+     */
+    private static int parentIndex(int boneIndex, Object skeleton) {
+        int result = -1;
+        if (skeleton instanceof Armature) {
+            Joint joint = ((Armature) skeleton).getJoint(boneIndex);
+            Joint parent = joint.getParent();
+            if (parent != null) {
+                result = parent.getId();
+            }
+        } else {
+            Skeleton sk = (Skeleton) skeleton;
+            Bone parent = sk.getBone(boneIndex).getParent();
+            if (parent != null) {
+                result = sk.getBoneIndex(parent);
+            }
         }
-        Pose testPose = cloner.clone(pose);
 
-        Vector3f testWorld = new Vector3f();
-        Vector3f baseWorld = new Vector3f();
-        int numBones = pose.countBones();
-        Matrix4f[] matrices = new Matrix4f[numBones];
+        return result;
+    }
 
-        pose.userTranslation(boneIndex, testWorld);
-        testPose.skin(matrices);
-        MyMesh.vertexWorldLocation(geometry, vertexIndex, matrices, baseWorld);
+    /**
+     * Calculate one column of a sensitivity matrix.
+     *
+     * @param matrix the matrix to modify (not null)
+     * @param columnIndex which column to set (0, 1, or 2)
+     * @param axis the unit vector of the user translation (not null,
+     * unaffected)
+     * @param parentTransform the parent's model transform (not null,
+     * unaffected)
+     * @param worldTransform the geometry's world transform (not null,
+     * unaffected)
+     * @param weight the vertex's total weight on the affected bones
+     * @param tmpVector temporary storage (not null, modified)
+     */
+    private static void setColumn(Matrix3f matrix, int columnIndex,
+            Vector3f axis, Transform parentTransform, Transform worldTransform,
+            float weight, Vector3f tmpVector) {
+        tmpVector.set(axis);
+        tmpVector.multLocal(parentTransform.getScale());
+        parentTransform.getRotation().multLocal(tmpVector);
+        tmpVector.multLocal(weight);
+        tmpVector.multLocal(worldTransform.getScale());
+        worldTransform.getRotation().multLocal(tmpVector);
+        matrix.setColumn(columnIndex, tmpVector);
+    }
 
-        pose.userTranslation(boneIndex, testWorld);
-        testWorld.addLocal(xAxis);
-        testPose.setTranslation(boneIndex, testWorld);
-        testPose.skin(matrices);
-        MyMesh.vertexWorldLocation(geometry, vertexIndex, matrices, testWorld);
-        testWorld.subtractLocal(baseWorld);
-        result.setColumn(0, testWorld);
+    /**
+     * Sum the weights of the indexed vertex on the indexed Bone or Joint and
+     * its descendants.
+     *
+     * @param boneIndex the index of the subtree's root (&ge;0)
+     * @param geometry the animated geometry (not null, unaffected)
+     * @param vertexIndex index into the geometry's vertices (&ge;0)
+     * @param skeleton the Armature or Skeleton (not null, unaffected)
+     * @return the total weight
+     */
+    private static float subtreeWeight(int boneIndex, Geometry geometry,
+            int vertexIndex, Object skeleton) {
+        Mesh mesh = geometry.getMesh();
+        int maxWeightsPerVertex = mesh.getMaxNumWeights();
 
-        pose.userTranslation(boneIndex, testWorld);
-        testWorld.addLocal(yAxis);
-        testPose.setTranslation(boneIndex, testWorld);
-        testPose.skin(matrices);
-        MyMesh.vertexWorldLocation(geometry, vertexIndex, matrices, testWorld);
-        testWorld.subtractLocal(baseWorld);
-        result.setColumn(1, testWorld);
+        VertexBuffer wBuf = mesh.getBuffer(VertexBuffer.Type.BoneWeight);
+        FloatBuffer weightBuffer = (FloatBuffer) wBuf.getDataReadOnly();
+        VertexBuffer biBuf = mesh.getBuffer(VertexBuffer.Type.BoneIndex);
+        Buffer boneIndexBuffer = biBuf.getDataReadOnly();
 
-        pose.userTranslation(boneIndex, testWorld);
-        testWorld.addLocal(zAxis);
-        testPose.setTranslation(boneIndex, testWorld);
-        testPose.skin(matrices);
-        MyMesh.vertexWorldLocation(geometry, vertexIndex, matrices, testWorld);
-        testWorld.subtractLocal(baseWorld);
-        result.setColumn(2, testWorld);
+        int start = 4 * vertexIndex; // the buffers have 4 slots per vertex
+        weightBuffer.position(start);
+        boneIndexBuffer.position(start);
+        float result = 0f;
+        for (int wIndex = 0; wIndex < maxWeightsPerVertex; ++wIndex) {
+            float weight = weightBuffer.get();
+            int index = MyBuffer.readIndex(boneIndexBuffer);
+            if (weight != 0f) {
+                if (index == boneIndex
+                        || MaudUtil.descendsFrom(index, boneIndex, skeleton)) {
+                    result += weight;
+                }
+            }
+        }
 
         return result;
     }
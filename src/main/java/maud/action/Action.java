@@ -69,12 +69,14 @@ final public class Action {
     final static String deleteTrackTranslations = "delete trackTranslations";
     final static String deleteUserKey = "delete userKey";
 
+    final static String dumpActionCounts = "dump actionCounts";
     final static String dumpAppStates = "dump appStates";
     final static String dumpMouseCgm = "dump mouseCgm";
     final static String dumpPhysicsSpace = "dump physicsSpace";
     final static String dumpRenderer = "dump renderer";
     final static String dumpSourceCgm = "dump sourceCgm";
     final static String dumpSourcePhysics = "dump sourcePhysics";
+    final static String dumpStageTimes = "dump stageTimes";
     final static String dumpTargetCgm = "dump targetCgm";
     final static String dumpTargetPhysics = "dump targetPhysics";
 
@@ -93,6 +95,8 @@ final public class Action {
     final static String newAnimationFromPose = "new animation fromPose";
     final static String newAnimationFromRetarget
             = "new animation fromRetarget";
+    final static String newAnimationsFromRetarget
+            = "new animations fromRetarget";
     final static String newAttachmentLink = "new attachmentLink";
     final static String newBoneLink = "new boneLink";
     final static String newCheckpoint = "new checkpoint";
@@ -366,6 +370,9 @@ final public class Action {
         m.addActionName(deleteTrackTranslations);
         m.addActionName(deleteUserKey);
 
+        m.addActionName(dumpActionCounts);
+        m.addActionName(dumpStageTimes);
+
         m.addActionName(launchProjectile);
 
         m.addActionName(loadAnimation);
@@ -380,6 +387,7 @@ final public class Action {
         m.addActionName(newAnimationFromExtract);
         m.addActionName(newAnimationFromPose);
         m.addActionName(newAnimationFromRetarget);
+        m.addActionName(newAnimationsFromRetarget);
         m.addActionName(newAttachmentLink);
         m.addActionName(newBoneLink);
         m.addActionName(newCheckpoint);
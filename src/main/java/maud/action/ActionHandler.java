@@ -0,0 +1,151 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.action;
+
+/**
+ * Enumerate the handlers that process actions in Maud's editor screen.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+enum ActionHandler {
+    // *************************************************************************
+    // values
+
+    /**
+     * actions that start with the word "apply"
+     */
+    Apply,
+    /**
+     * actions that aren't handled by the editor's input mode and are
+     * forwarded to the application
+     */
+    Application,
+    /**
+     * actions that start with the word "delete"
+     */
+    Delete,
+    /**
+     * actions that start with the word "dump"
+     */
+    Dump,
+    /**
+     * actions that start with the word "launch"
+     */
+    Launch,
+    /**
+     * actions that start with the word "load"
+     */
+    Load,
+    /**
+     * actions that start with the word "merge"
+     */
+    Merge,
+    /**
+     * actions that start with the word "new"
+     */
+    New,
+    /**
+     * actions that start with the word "next"
+     */
+    Next,
+    /**
+     * actions that start with the word "pick"
+     */
+    Pick,
+    /**
+     * actions that start with the word "previous"
+     */
+    Previous,
+    /**
+     * actions that start with the word "reduce"
+     */
+    Reduce,
+    /**
+     * actions that start with the word "rename"
+     */
+    Rename,
+    /**
+     * actions that start with the word "reparent"
+     */
+    Reparent,
+    /**
+     * actions that start with the word "resample"
+     */
+    Resample,
+    /**
+     * actions that start with the word "reset"
+     */
+    Reset,
+    /**
+     * actions that start with the word "save"
+     */
+    Save,
+    /**
+     * actions that start with the word "select" and a letter in the a-e range
+     */
+    SelectAE,
+    /**
+     * actions that start with the word "select" and a letter in the f-n range
+     */
+    SelectFN,
+    /**
+     * actions that start with the word "select" and a letter in the o-s range
+     */
+    SelectOS,
+    /**
+     * actions that start with the word "select" and a letter in the t-z range
+     */
+    SelectTZ,
+    /**
+     * actions that start with the word "set" and a letter in the a-n range
+     */
+    SetAN,
+    /**
+     * actions that start with the word "setFlag"
+     */
+    SetFlag,
+    /**
+     * actions that start with the word "set" and a letter in the o-z range
+     */
+    SetOZ,
+    /**
+     * actions that start with the word "toggle"
+     */
+    Toggle,
+    /**
+     * actions that start with the word "view"
+     */
+    View,
+    /**
+     * actions that start with the word "warp"
+     */
+    Warp,
+    /**
+     * actions that start with the word "wrap"
+     */
+    Wrap
+}
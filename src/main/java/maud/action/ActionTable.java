@@ -0,0 +1,304 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.action;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatch table that maps action strings to their handlers in Maud's editor
+ * screen, and counts how often each kind of action is invoked.
+ * <p>
+ * An action string is handled according to its first word, and, for "select"
+ * and "set" actions, the initial letter of its 2nd word. The handlers for all
+ * the action strings defined in {@link Action} are looked up once and hashed,
+ * so the usual hotkey and menu actions are resolved without parsing. Other
+ * actions (those built from an {@link ActionPrefix} plus arguments) are
+ * resolved from their first word alone, without splitting the whole string.
+ * <p>
+ * The handlers still match prefixed actions with chains of startsWith() tests.
+ * Hashing those prefixes as well would save at most about 0.4 microseconds per
+ * action (see DispatchBenchmark), so the table hashes them only to identify
+ * the kind of each action for counting.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ActionTable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ActionTable.class.getName());
+    /**
+     * number of invocations of each kind of action since the application
+     * started
+     */
+    final private static Map<String, Integer> invocationCounts
+            = new HashMap<>(100);
+    /**
+     * handler for each action string defined in the Action class
+     */
+    final private static Map<String, ActionHandler> actionHandlers
+            = new HashMap<>(400);
+    /**
+     * all the prefixes defined in the ActionPrefix class
+     */
+    final private static Set<String> prefixes = new HashSet<>(400);
+    /**
+     * handler for each first word that isn't "select" or "set"
+     */
+    final private static Map<String, ActionHandler> verbHandlers
+            = new HashMap<>(40);
+
+    static {
+        verbHandlers.put("apply", ActionHandler.Apply);
+        verbHandlers.put("delete", ActionHandler.Delete);
+        verbHandlers.put("dump", ActionHandler.Dump);
+        verbHandlers.put("launch", ActionHandler.Launch);
+        verbHandlers.put("load", ActionHandler.Load);
+        verbHandlers.put("merge", ActionHandler.Merge);
+        verbHandlers.put("new", ActionHandler.New);
+        verbHandlers.put("next", ActionHandler.Next);
+        verbHandlers.put("pick", ActionHandler.Pick);
+        verbHandlers.put("previous", ActionHandler.Previous);
+        verbHandlers.put("reduce", ActionHandler.Reduce);
+        verbHandlers.put("rename", ActionHandler.Rename);
+        verbHandlers.put("reparent", ActionHandler.Reparent);
+        verbHandlers.put("resample", ActionHandler.Resample);
+        verbHandlers.put("reset", ActionHandler.Reset);
+        verbHandlers.put("save", ActionHandler.Save);
+        verbHandlers.put("setFlag", ActionHandler.SetFlag);
+        verbHandlers.put("toggle", ActionHandler.Toggle);
+        verbHandlers.put("view", ActionHandler.View);
+        verbHandlers.put("warp", ActionHandler.Warp);
+        verbHandlers.put("wrap", ActionHandler.Wrap);
+    }
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ActionTable() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Hash the handler of every action string defined in the Action class, and
+     * every prefix defined in the ActionPrefix class. Invoke once, during
+     * initialization.
+     */
+    static void build() {
+        actionHandlers.clear();
+        for (String actionString : listConstants(Action.class)) {
+            ActionHandler handler = classify(actionString);
+            actionHandlers.put(actionString, handler);
+        }
+
+        prefixes.clear();
+        prefixes.addAll(listConstants(ActionPrefix.class));
+
+        logger.log(Level.INFO,
+                "Hashed the handlers of {0} actions and {1} prefixes.",
+                new Object[]{actionHandlers.size(), prefixes.size()});
+    }
+
+    /**
+     * Count an invocation of the specified action.
+     *
+     * @param actionString textual description of the action (not null)
+     * @param handled true if the editor handled the action, false if it was
+     * forwarded to the application
+     */
+    static void count(String actionString, boolean handled) {
+        String kind = kindOf(actionString);
+        if (!handled) {
+            kind += " (forwarded)";
+        }
+
+        Integer count = invocationCounts.get(kind);
+        if (count == null) {
+            invocationCounts.put(kind, 1);
+        } else {
+            invocationCounts.put(kind, count + 1);
+        }
+    }
+
+    /**
+     * Log the number of invocations of each kind of action since the
+     * application started, in lexicographic order.
+     */
+    static void logCounts() {
+        Map<String, Integer> sorted = new TreeMap<>(invocationCounts);
+
+        StringBuilder builder = new StringBuilder(400);
+        builder.append("Action invocations:");
+        for (Map.Entry<String, Integer> entry : sorted.entrySet()) {
+            builder.append(System.lineSeparator());
+            builder.append("  ");
+            builder.append(entry.getValue());
+            builder.append('\t');
+            builder.append(entry.getKey());
+        }
+        logger.info(builder.toString());
+    }
+
+    /**
+     * Determine which handler processes the specified action.
+     *
+     * @param actionString textual description of the action (not null)
+     * @return the enum value (not null)
+     */
+    static ActionHandler resolve(String actionString) {
+        ActionHandler result = actionHandlers.get(actionString);
+        if (result == null) {
+            result = classify(actionString);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine which handler processes the specified action, based on its
+     * first word, and, for "select" and "set" actions, the initial letter of
+     * its 2nd word.
+     *
+     * @param actionString textual description of the action (not null)
+     * @return the enum value (not null)
+     */
+    private static ActionHandler classify(String actionString) {
+        int spaceIndex = actionString.indexOf(' ');
+        String firstWord = (spaceIndex == -1)
+                ? actionString : actionString.substring(0, spaceIndex);
+
+        ActionHandler result = verbHandlers.get(firstWord);
+        if (result == null) {
+            result = ActionHandler.Application;
+            int w1c0Index = spaceIndex + 1;
+            if (spaceIndex != -1 && w1c0Index < actionString.length()) {
+                char w1c0 = actionString.charAt(w1c0Index);
+                if (w1c0 == ' ') {
+                    // An empty 2nd word: leave the action unhandled.
+
+                } else if (firstWord.equals("select")) {
+                    if (w1c0 < 'f') {
+                        result = ActionHandler.SelectAE;
+                    } else if (w1c0 < 'o') {
+                        result = ActionHandler.SelectFN;
+                    } else if (w1c0 < 't') {
+                        result = ActionHandler.SelectOS;
+                    } else {
+                        result = ActionHandler.SelectTZ;
+                    }
+
+                } else if (firstWord.equals("set")) {
+                    if (w1c0 < 'o') {
+                        result = ActionHandler.SetAN;
+                    } else {
+                        result = ActionHandler.SetOZ;
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Determine the kind of the specified action: the action string itself if
+     * it's defined in the Action class, otherwise the ActionPrefix it starts
+     * with, otherwise its first word followed by "...".
+     *
+     * @param actionString textual description of the action (not null)
+     * @return the kind (not null, not empty)
+     */
+    private static String kindOf(String actionString) {
+        if (actionHandlers.containsKey(actionString)) {
+            return actionString;
+        }
+        /*
+         * Every prefix ends with a space and none is a prefix of another,
+         * so try each leading substring that ends with a space.
+         */
+        int spaceIndex = actionString.indexOf(' ');
+        while (spaceIndex != -1) {
+            String candidate = actionString.substring(0, spaceIndex + 1);
+            if (prefixes.contains(candidate)) {
+                return candidate;
+            }
+            spaceIndex = actionString.indexOf(' ', spaceIndex + 1);
+        }
+
+        spaceIndex = actionString.indexOf(' ');
+        String firstWord = (spaceIndex == -1)
+                ? actionString : actionString.substring(0, spaceIndex);
+        String result = firstWord + " ...";
+
+        return result;
+    }
+
+    /**
+     * Enumerate the values of the static String fields of the specified
+     * class.
+     *
+     * @param constantsClass the class to examine (not null)
+     * @return a new list of values
+     */
+    private static List<String> listConstants(Class<?> constantsClass) {
+        Field[] fields = constantsClass.getDeclaredFields();
+        List<String> result = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers)
+                    && field.getType() == String.class) {
+                try {
+                    String value = (String) field.get(null);
+                    result.add(value);
+                } catch (IllegalAccessException exception) {
+                    throw new RuntimeException(exception);
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -32,12 +32,15 @@ import com.jme3.asset.AssetManager;
 import com.jme3.bullet.PhysicsSpace;
 import com.jme3.cursors.plugins.JmeCursor;
 import com.jme3.renderer.RenderManager;
+import java.io.IOException;
+import java.util.Date;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.minie.PhysicsDumper;
 import jme3utilities.ui.InputMode;
 import maud.Maud;
+import maud.StageTimes;
 import maud.dialog.EditorDialogs;
 import maud.dialog.LicenseType;
 import maud.dialog.ResampleType;
@@ -130,6 +133,7 @@ final public class EditorInputMode extends InputMode {
 
         super.initialize(stateManager, application);
         Action.addUnbound(this);
+        ActionTable.build();
     }
 
     /**
@@ -145,131 +149,128 @@ final public class EditorInputMode extends InputMode {
             MyString.quote(actionString), ongoing
         });
 
-        // Parse the action string and attempt to handle the action.
+        // Look up the handler and attempt to handle the action.
         boolean handled = false;
-        String[] words = actionString.split(" ");
-        String firstWord = words[0];
+        ActionHandler handler = ActionTable.resolve(actionString);
         if (ongoing) {
-            switch (firstWord) {
-                case "apply":
+            switch (handler) {
+                case Apply:
                     handled = applyAction(actionString);
                     break;
 
-                case "delete":
+                case Delete:
                     handled = DeleteAction.process(actionString);
                     break;
 
-                case "dump":
+                case Dump:
                     handled = dumpAction(actionString);
                     break;
 
-                case "launch":
+                case Launch:
                     handled = launchAction(actionString);
                     break;
 
-                case "load":
+                case Load:
                     handled = LoadAction.process(actionString);
                     break;
 
-                case "merge":
+                case Merge:
                     handled = mergeAction(actionString);
                     break;
 
-                case "new":
+                case New:
                     handled = NewAction.process(actionString);
                     break;
 
-                case "next":
+                case Next:
                     handled = NextAction.process(actionString);
                     break;
 
-                case "pick":
+                case Pick:
                     handled = PickAction.process(actionString);
                     break;
 
-                case "previous":
+                case Previous:
                     handled = PreviousAction.process(actionString);
                     break;
 
-                case "reduce":
+                case Reduce:
                     handled = reduceAction(actionString);
                     break;
 
-                case "rename":
+                case Rename:
                     handled = RenameAction.process(actionString);
                     break;
 
-                case "reparent":
+                case Reparent:
                     handled = reparentAction(actionString);
                     break;
 
-                case "resample":
+                case Resample:
                     handled = resampleAction(actionString);
                     break;
 
-                case "reset":
+                case Reset:
                     handled = ResetAction.process(actionString);
                     break;
 
-                case "save":
+                case Save:
                     handled = saveAction(actionString);
                     break;
 
-                case "select":
-                    if (words.length > 1) {
-                        char w1c0 = words[1].charAt(0);
-                        if (w1c0 < 'f') {
-                            handled = SelectAEAction.process(actionString);
-                        } else if (w1c0 < 'o') {
-                            handled = SelectFNAction.process(actionString);
-                        } else if (w1c0 < 't') {
-                            handled = SelectOSAction.process(actionString);
-                        } else {
-                            handled = SelectTZAction.process(actionString);
-                        }
-                    }
+                case SelectAE:
+                    handled = SelectAEAction.process(actionString);
                     break;
 
-                case "set":
-                    if (words.length > 1) {
-                        char w1c0 = words[1].charAt(0);
-                        if (w1c0 < 'o') {
-                            handled = SetANAction.process(actionString);
-                        } else {
-                            handled = SetOZAction.process(actionString);
-                        }
-                    }
+                case SelectFN:
+                    handled = SelectFNAction.process(actionString);
                     break;
 
-                case "setFlag":
+                case SelectOS:
+                    handled = SelectOSAction.process(actionString);
+                    break;
+
+                case SelectTZ:
+                    handled = SelectTZAction.process(actionString);
+                    break;
+
+                case SetAN:
+                    handled = SetANAction.process(actionString);
+                    break;
+
+                case SetFlag:
                     handled = SetFlagAction.process(actionString);
                     break;
 
-                case "toggle":
+                case SetOZ:
+                    handled = SetOZAction.process(actionString);
+                    break;
+
+                case Toggle:
                     handled = ToggleAction.toggleAction(actionString);
                     break;
 
-                case "view":
+                case View:
                     handled = viewAction(actionString);
                     break;
 
-                case "warp":
+                case Warp:
                     handled = warpAction(actionString);
                     break;
 
-                case "wrap":
+                case Wrap:
                     handled = wrapAction(actionString);
                     break;
 
                 default:
             }
 
-        } else { // action not ongoing
-            if ("pick".equals(firstWord)) {
-                handled = PickAction.processNotOngoing(actionString);
-            }
+        } else if (handler == ActionHandler.Pick) { // action not ongoing
+            handled = PickAction.processNotOngoing(actionString);
         }
 
+        ActionTable.count(actionString, handled);
+
         if (!handled) {
             // Forward the unhandled action to the application.
             getActionApplication().onAction(actionString, ongoing, tpf);
@@ -314,6 +315,9 @@ final public class EditorInputMode extends InputMode {
 
         boolean handled = true;
         switch (actionString) {
+            case Action.dumpActionCounts:
+                ActionTable.logCounts();
+                break;
             case Action.dumpAppStates:
                 dumper.dump(stateManager);
                 break;
@@ -335,6 +339,9 @@ final public class EditorInputMode extends InputMode {
                 space = source.getSceneView().getPhysicsSpace();
                 dumper.dump(space);
                 break;
+            case Action.dumpStageTimes:
+                dumpStageTimes();
+                break;
             case Action.dumpTargetCgm:
                 target.dump(dumper);
                 break;
@@ -349,6 +356,25 @@ final public class EditorInputMode extends InputMode {
         return handled;
     }
 
+    /**
+     * Write the stage-time percentiles to a CSV file in the sandbox, named for
+     * the current date and time.
+     */
+    private static void dumpStageTimes() {
+        String assetPath = String.format(
+                "stageTimes-%1$tY%1$tm%1$td-%1$tH%1$tM%1$tS.csv", new Date());
+        String message;
+        try {
+            StageTimes.writeCsv(assetPath);
+            message = "Wrote stage times to " + MyString.quote(assetPath);
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Output exception while writing "
+                    + "stage times to {0}.", MyString.quote(assetPath));
+            message = "Unable to write stage times: " + exception;
+        }
+        Maud.getModel().getMisc().setStatusMessage(message);
+    }
+
     /**
      * Process an ongoing action that starts with the word "launch".
      *
@@ -45,7 +45,6 @@ import maud.model.cgm.Cgm;
 import maud.model.cgm.EditableCgm;
 import maud.model.cgm.SelectedAnimControl;
 import maud.model.cgm.UserDataType;
-import maud.tool.HistoryTool;
 import maud.view.scene.SceneView;
 
 /**
@@ -107,6 +106,10 @@ final class NewAction {
                         sourceName);
                 break;
 
+            case Action.newAnimationsFromRetarget:
+                target.getAnimControl().addRetargetAll();
+                break;
+
             case Action.newAttachmentLink:
                 target.getLink().createAttachmentLink();
                 break;
@@ -117,9 +120,7 @@ final class NewAction {
 
             case Action.newCheckpoint:
                 History.addCheckpoint();
-                HistoryTool historyTool
-                        = (HistoryTool) Maud.gui.findTool("history");
-                historyTool.setAutoScroll();
+                History.setAutoScroll();
                 break;
 
             case Action.newLight:
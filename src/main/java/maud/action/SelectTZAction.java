@@ -27,13 +27,8 @@
 package maud.action;
 
 import com.jme3.texture.Texture;
-import de.lessvoid.nifty.elements.Element;
-import de.lessvoid.nifty.screen.Screen;
-import de.lessvoid.nifty.tools.SizeValue;
-import de.lessvoid.nifty.tools.SizeValueType;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
-import jme3utilities.nifty.WindowController;
 import jme3utilities.wes.TweenRotations;
 import jme3utilities.wes.TweenVectors;
 import maud.DescribeUtil;
@@ -43,6 +38,8 @@ import maud.menu.EnumMenus;
 import maud.menu.MeshMenus;
 import maud.menu.ShowMenus;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.TweenPreset;
 import maud.model.cgm.Cgm;
 import maud.model.cgm.SelectedTexture;
@@ -224,12 +221,14 @@ final class SelectTZAction {
                     ActionPrefix.selectTweenRotations);
             TweenRotations value = TweenRotations.valueOf(arg);
             model.getTweenTransforms().setTweenRotations(value);
+            ModelVersion.bump(ModelAspect.Options);
 
         } else if (actionString.startsWith(ActionPrefix.selectTweenScales)) {
             arg = MyString.remainder(actionString,
                     ActionPrefix.selectTweenScales);
             TweenVectors value = TweenVectors.valueOf(arg);
             model.getTweenTransforms().setTweenScales(value);
+            ModelVersion.bump(ModelAspect.Options);
 
         } else if (actionString.startsWith(
                 ActionPrefix.selectTweenTranslations)) {
@@ -237,6 +236,7 @@ final class SelectTZAction {
                     ActionPrefix.selectTweenTranslations);
             TweenVectors value = TweenVectors.valueOf(arg);
             model.getTweenTransforms().setTweenTranslations(value);
+            ModelVersion.bump(ModelAspect.Options);
 
         } else if (actionString.startsWith(ActionPrefix.selectUserKey)) {
             arg = MyString.remainder(actionString, ActionPrefix.selectUserKey);
@@ -269,11 +269,7 @@ final class SelectTZAction {
         if (!handled && actionString.startsWith(ActionPrefix.selectTool)) {
             String toolName = MyString.remainder(actionString,
                     ActionPrefix.selectTool);
-            WindowController tool = Maud.gui.findTool(toolName);
-            if (tool != null) {
-                tool.select();
-                handled = true;
-            }
+            handled = Maud.gui.tools.selectTool(toolName);
         }
         if (!handled && actionString.startsWith(ActionPrefix.selectToolAt)) {
             String argList = MyString.remainder(actionString,
@@ -283,19 +279,7 @@ final class SelectTZAction {
                 String toolName = args[0];
                 int x = Integer.parseInt(args[1]);
                 int y = Integer.parseInt(args[2]);
-
-                WindowController tool = Maud.gui.findTool(toolName);
-                if (tool != null) {
-                    tool.select();
-                    Element element = tool.getElement();
-                    SizeValue newX = new SizeValue(x, SizeValueType.Pixel);
-                    element.setConstraintX(newX);
-                    SizeValue newY = new SizeValue(y, SizeValueType.Pixel);
-                    element.setConstraintY(newY);
-                    Screen screen = Maud.gui.getScreen();
-                    screen.layoutLayers();
-                    handled = true;
-                }
+                handled = Maud.gui.tools.selectTool(toolName, x, y);
             }
         }
 
@@ -40,6 +40,8 @@ import maud.Maud;
 import maud.dialog.EditorDialogs;
 import maud.menu.MeshMenus;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.cgm.EditableCgm;
 import maud.model.cgm.SelectedMatParam;
 import maud.model.option.Background;
@@ -278,12 +280,14 @@ final class SetANAction {
             int numSpaces = Integer.parseInt(arg);
             String indent = MyString.repeat(" ", numSpaces);
             model.getDumper().setIndentIncrement(indent);
+            ModelVersion.bump(ModelAspect.Options);
 
         } else if (actionString.startsWith(ActionPrefix.setDumpMaxChildren)) {
             arg = MyString.remainder(actionString,
                     ActionPrefix.setDumpMaxChildren);
             int maxCount = Integer.parseInt(arg);
             model.getDumper().setMaxChildren(maxCount);
+            ModelVersion.bump(ModelAspect.Options);
 
         } else if (actionString.startsWith(
                 ActionPrefix.setDurationProportional)) {
@@ -31,6 +31,8 @@ import jme3utilities.minie.DumpFlags;
 import jme3utilities.minie.PhysicsDumper;
 import maud.Maud;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.scene.SceneOptions;
 
 /**
@@ -75,6 +77,12 @@ final class SetFlagAction {
         String valueString = words[2];
         boolean newValue = Boolean.parseBoolean(valueString);
 
+        /*
+         * PhysicsDumper is a library class whose setters don't bump the
+         * model version, so bump it here.
+         */
+        ModelVersion.bump(ModelAspect.Options);
+
         boolean handled = true;
         String prefix = String.format("%s %s ", words[0], words[1]);
         switch (prefix) {
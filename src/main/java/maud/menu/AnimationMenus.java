@@ -90,6 +90,11 @@ final public class AnimationMenus {
         builder.addDialog("Mix tracks");
         builder.addDialog("Pose");
         builder.addTool("Retarget source animation");
+        int numSourceAnims
+                = model.getSource().getAnimControl().countRealAnimations();
+        if (numSourceAnims > 0 && !model.getMap().isEmpty()) {
+            builder.add("Retarget all source animations");
+        }
 
         builder.show("select menuItem Animation -> Add new -> ");
     }
@@ -485,6 +490,10 @@ final public class AnimationMenus {
                         WhichCgm.Target);
                 break;
 
+            case "Retarget all source animations":
+                Maud.getModel().getTarget().getAnimControl().addRetargetAll();
+                break;
+
             case "Retarget source animation":
                 EditorTools.select("retarget");
                 break;
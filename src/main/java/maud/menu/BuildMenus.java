@@ -702,7 +702,12 @@ final public class BuildMenus {
     private static void buildMapMenu() {
         builder.addTool("Tool");
         builder.addSubmenu("Load");
-        LoadedMap map = Maud.getModel().getMap();
+        EditorModel model = Maud.getModel();
+        if (model.getSource().getSkeleton().isSelected()
+                && model.getTarget().getSkeleton().isSelected()) {
+            builder.addEdit("Auto-map");
+        }
+        LoadedMap map = model.getMap();
         if (!map.isEmpty()) {
             if (map.hasInvalidMappings()) {
                 builder.addEdit("Delete invalid mappings");
@@ -346,6 +346,9 @@ final public class EditorMenus {
         EditableMap map = Maud.getModel().getMap();
         String actionPrefix;
         switch (remainder) {
+            case "Auto-map":
+                map.autoMap();
+                break;
             case "Delete invalid mappings":
                 map.deleteInvalidMappings();
                 break;
@@ -0,0 +1,275 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.mesh;
+
+import com.jme3.math.ColorRGBA;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.scene.VertexBuffer.Format;
+import com.jme3.scene.VertexBuffer.Type;
+import com.jme3.scene.VertexBuffer.Usage;
+import com.jme3.scene.mesh.IndexBuffer;
+import com.jme3.util.BufferUtils;
+import java.nio.FloatBuffer;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A dynamic mesh that merges the primitives of many small line-mode or
+ * point-mode meshes into a single draw call, using a color for each vertex.
+ * The vertex buffers are rewritten in place and grow only when they overflow.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class LineBatch extends Mesh {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of axes in a vector
+     */
+    final private static int numAxes = 3;
+    /**
+     * number of components in a color
+     */
+    final private static int numColorComponents = 4;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(LineBatch.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * buffer to hold the color of each vertex
+     */
+    private FloatBuffer fColors;
+    /**
+     * buffer to hold the mesh location of each vertex
+     */
+    private FloatBuffer fPositions;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty batch with the specified mode and initial capacity.
+     *
+     * @param mode the mode of the batch (Mode.Lines or Mode.Points)
+     * @param initialVertices initial capacity (in vertices, &gt;0)
+     */
+    public LineBatch(Mode mode, int initialVertices) {
+        Validate.positive(initialVertices, "initial vertices");
+        if (mode != Mode.Lines && mode != Mode.Points) {
+            throw new IllegalArgumentException("mode = " + mode);
+        }
+
+        fPositions = BufferUtils.createFloatBuffer(numAxes * initialVertices);
+        VertexBuffer vPositions = new VertexBuffer(Type.Position);
+        vPositions.setupData(Usage.Dynamic, numAxes, Format.Float, fPositions);
+        setBuffer(vPositions);
+
+        fColors = BufferUtils.createFloatBuffer(
+                numColorComponents * initialVertices);
+        VertexBuffer vColors = new VertexBuffer(Type.Color);
+        vColors.setupData(Usage.Dynamic, numColorComponents, Format.Float,
+                fColors);
+        setBuffer(vColors);
+
+        setMode(mode);
+        clear();
+        flip();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Append the primitives of the specified mesh, scaled in X and Y and then
+     * translated.
+     *
+     * @param source the mesh to copy (not null, unaffected): for a Lines
+     * batch, its mode must be Lines, LineStrip, or LineLoop; for a Points
+     * batch, its mode must be Points
+     * @param x the X offset
+     * @param y the Y offset
+     * @param z the Z offset
+     * @param xScale the X scale factor
+     * @param yScale the Y scale factor
+     * @param color the color for the copied vertices (not null, unaffected)
+     */
+    public void add(Mesh source, float x, float y, float z, float xScale,
+            float yScale, ColorRGBA color) {
+        Validate.nonNull(source, "source");
+        Validate.nonNull(color, "color");
+
+        FloatBuffer positions = source.getFloatBuffer(Type.Position);
+        IndexBuffer indices = source.getIndexBuffer();
+        int numVertices = source.getVertexCount();
+        int numIndices = (indices == null) ? numVertices : indices.size();
+
+        Mode sourceMode = source.getMode();
+        if (getMode() == Mode.Points) {
+            if (sourceMode != Mode.Points) {
+                throw new IllegalArgumentException("mode = " + sourceMode);
+            }
+            ensureCapacity(numIndices);
+            for (int i = 0; i < numIndices; ++i) {
+                int vi = (indices == null) ? i : indices.get(i);
+                put(positions, vi, x, y, z, xScale, yScale, color);
+            }
+            return;
+        }
+
+        switch (sourceMode) {
+            case Lines:
+                ensureCapacity(numIndices);
+                for (int i = 0; i < numIndices; ++i) {
+                    int vi = (indices == null) ? i : indices.get(i);
+                    put(positions, vi, x, y, z, xScale, yScale, color);
+                }
+                break;
+
+            case LineLoop:
+            case LineStrip:
+                if (numIndices < 2) {
+                    break;
+                }
+                int numSegments = numIndices - 1;
+                if (sourceMode == Mode.LineLoop) {
+                    ++numSegments;
+                }
+                ensureCapacity(2 * numSegments);
+                for (int i = 0; i < numSegments; ++i) {
+                    int i2 = (i + 1) % numIndices;
+                    int vi1 = (indices == null) ? i : indices.get(i);
+                    int vi2 = (indices == null) ? i2 : indices.get(i2);
+                    put(positions, vi1, x, y, z, xScale, yScale, color);
+                    put(positions, vi2, x, y, z, xScale, yScale, color);
+                }
+                break;
+
+            default:
+                throw new IllegalArgumentException("mode = " + sourceMode);
+        }
+    }
+
+    /**
+     * Remove all primitives from the batch and prepare to write new ones.
+     */
+    public void clear() {
+        fPositions.clear();
+        fColors.clear();
+    }
+
+    /**
+     * Prepare the batch for rendering.
+     */
+    public void flip() {
+        fPositions.flip(); // prepare for reading
+        VertexBuffer vPositions = getBuffer(Type.Position);
+        vPositions.updateData(fPositions);
+
+        fColors.flip(); // prepare for reading
+        VertexBuffer vColors = getBuffer(Type.Color);
+        vColors.updateData(fColors);
+
+        updateCounts();
+        updateBound();
+    }
+
+    /**
+     * Test whether the batch contains any vertices.
+     *
+     * @return true if it contains no vertices, else false
+     */
+    public boolean isEmpty() {
+        int limit = fColors.limit();
+        if (limit == 0) {
+            return true;
+        } else {
+            return false;
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Grow the buffers, if necessary, so that the specified number of vertices
+     * can be written without overflow.
+     *
+     * @param numVertices the number of vertices to be written (&ge;0)
+     */
+    private void ensureCapacity(int numVertices) {
+        assert numVertices >= 0 : numVertices;
+
+        int needed = numAxes * numVertices;
+        if (fPositions.remaining() >= needed) {
+            return;
+        }
+
+        int oldVertices = fPositions.position() / numAxes;
+        int newVertices = Math.max(2 * fPositions.capacity() / numAxes,
+                oldVertices + numVertices);
+
+        FloatBuffer newPositions
+                = BufferUtils.createFloatBuffer(numAxes * newVertices);
+        fPositions.flip();
+        newPositions.put(fPositions);
+        fPositions = newPositions;
+
+        int numColorFloats = numColorComponents * newVertices;
+        FloatBuffer newColors = BufferUtils.createFloatBuffer(numColorFloats);
+        fColors.flip();
+        newColors.put(fColors);
+        fColors = newColors;
+    }
+
+    /**
+     * Write a single transformed vertex.
+     *
+     * @param positions the source positions (not null, unaffected)
+     * @param vertexIndex the index of the source vertex (&ge;0)
+     * @param x the X offset
+     * @param y the Y offset
+     * @param z the Z offset
+     * @param xScale the X scale factor
+     * @param yScale the Y scale factor
+     * @param color the color to write (not null, unaffected)
+     */
+    private void put(FloatBuffer positions, int vertexIndex, float x, float y,
+            float z, float xScale, float yScale, ColorRGBA color) {
+        int start = numAxes * vertexIndex;
+        fPositions.put(x + xScale * positions.get(start));
+        fPositions.put(y + yScale * positions.get(start + 1));
+        fPositions.put(z + positions.get(start + 2));
+
+        fColors.put(color.r);
+        fColors.put(color.g);
+        fColors.put(color.b);
+        fColors.put(color.a);
+    }
+}
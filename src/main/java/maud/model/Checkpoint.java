@@ -109,5 +109,6 @@ public class Checkpoint {
     void restore() {
         EditorModel newLiveState = new EditorModel(model);
         Maud.setModel(newLiveState);
+        ModelVersion.bumpAll();
     }
 }
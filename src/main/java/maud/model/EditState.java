@@ -30,6 +30,8 @@ import com.jme3.bullet.collision.shapes.CollisionShape;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
+import maud.FlightEventType;
+import maud.FlightEvents;
 import maud.Maud;
 import maud.model.option.Background;
 import maud.model.option.scene.SkeletonColors;
@@ -56,6 +58,11 @@ public class EditState implements Cloneable {
      * count of unsaved edits (&ge;0)
      */
     private int editCount = 0;
+    /**
+     * count of edits that were saved or discarded by
+     * {@link #setPristine(java.lang.String)} (&ge;0)
+     */
+    private int pristineEditCount = 0;
     /**
      * indicates which model state is being edited continuously, either:
      * <ul>
@@ -92,6 +99,18 @@ public class EditState implements Cloneable {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Count all edits since instantiation, including saved ones. Unlike
+     * {@link #countUnsavedEdits()}, the count never decreases, so it's
+     * suitable for detecting changes.
+     *
+     * @return count (&ge;0)
+     */
+    public int countAllEdits() {
+        int result = pristineEditCount + editCount;
+        return result;
+    }
+
     /**
      * Count unsaved edits.
      *
@@ -107,6 +126,7 @@ public class EditState implements Cloneable {
      * @param eventDescription description of causative event (not null)
      */
     public static void optionSetEdited(String eventDescription) {
+        ModelVersion.bump(ModelAspect.Content);
         EditState editState = Maud.getModel().getOptionsEditState();
         editState.setEdited(eventDescription);
     }
@@ -132,6 +152,7 @@ public class EditState implements Cloneable {
             CollisionShape newShape) {
         Validate.nonNull(newShape, "new shape");
 
+        ModelVersion.bump(ModelAspect.Content);
         String oldState = "ss" + oldShape.toString();
         if (oldState.equals(continuousEditState)) {
             String newState = "ss" + newShape.toString();
@@ -147,9 +168,15 @@ public class EditState implements Cloneable {
     public void setEdited(String eventDescription) {
         Validate.nonNull(eventDescription, "event description");
 
+        ModelVersion.bump(ModelAspect.Content);
+        Object event = FlightEvents.begin(FlightEventType.Edit);
         ++editCount;
         continuousEditState = "";
         History.addEvent(eventDescription);
+        if (event != null) {
+            FlightEvents.end(event);
+            FlightEvents.commit(event, eventDescription, editCount);
+        }
     }
 
     /**
@@ -157,6 +184,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedAmbientLevel() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "al";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -170,6 +198,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedAxesLineWidth() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "alw";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -185,6 +214,7 @@ public class EditState implements Cloneable {
      * @param background which background recolored (not null)
      */
     public void setEditedBackgroundColor(Background background) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "bgc" + background;
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -200,6 +230,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedBoundsColor() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "bc";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -213,6 +244,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedBoundsLineWidth() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "blw";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -230,6 +262,7 @@ public class EditState implements Cloneable {
     public void setEditedCursorColor(int phase) {
         Validate.inRange(phase, "phase", 0, 1);
 
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "cc" + phase;
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -243,6 +276,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedCursorCycleTime() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "cct";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -256,6 +290,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedCursorSize() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "cs";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -271,6 +306,7 @@ public class EditState implements Cloneable {
      * @param lightName name of the light being recolored (not null)
      */
     public void setEditedLightColor(String lightName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "lc" + lightName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -289,6 +325,7 @@ public class EditState implements Cloneable {
      * @param lightName name of the light being moved (not null)
      */
     public void setEditedLightPosDir(String lightName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "lpd" + lightName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -306,6 +343,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedMainDirection() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "md";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -319,6 +357,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedMainLevel() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "ml";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -335,6 +374,7 @@ public class EditState implements Cloneable {
      * transformed (not null)
      */
     public void setEditedSmartNodeTransform(String subtreePositionString) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "snt" + subtreePositionString;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -351,6 +391,7 @@ public class EditState implements Cloneable {
      * @param linkName name of the link being edited (not null)
      */
     public void setEditedRangeOfMotion(String linkName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "rom" + linkName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -367,6 +408,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedPhysicsIterations() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "pi";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -382,6 +424,7 @@ public class EditState implements Cloneable {
      * @param objectName name of the physics object being resized (not null)
      */
     public void setEditedPhysicsPosition(String objectName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "pp" + objectName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -398,6 +441,7 @@ public class EditState implements Cloneable {
      * @param whichCgm (not null)
      */
     public void setEditedPlatformDiameter(WhichCgm whichCgm) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "pd" + whichCgm;
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -413,6 +457,7 @@ public class EditState implements Cloneable {
      * @param shapeName name of the shape being resized (not null)
      */
     public void setEditedShapeSize(String shapeName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "ss" + shapeName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -429,6 +474,7 @@ public class EditState implements Cloneable {
      * @param use which skeleton color is about to be edited (not null)
      */
     public void setEditedSkeletonColor(SkeletonColors use) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "sc" + use;
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -442,6 +488,7 @@ public class EditState implements Cloneable {
      * the edit count.
      */
     public void setEditedSkeletonLineWidth() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "slw";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -455,6 +502,7 @@ public class EditState implements Cloneable {
      * the edit count.
      */
     public void setEditedSkeletonPointSize() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "sps";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -468,6 +516,7 @@ public class EditState implements Cloneable {
      * edit count.
      */
     public void setEditedSkyCloudiness() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "skyc";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -481,6 +530,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedSkyHour() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "skyh";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -497,6 +547,7 @@ public class EditState implements Cloneable {
      * (not null)
      */
     public void setEditedSpatialTransform(String spatialPosition) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "st" + spatialPosition;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -511,6 +562,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedSubmenuWarp() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "smw";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -526,6 +578,7 @@ public class EditState implements Cloneable {
      * @param targetBoneName name of the target bone (not null)
      */
     public void setEditedTwist(String targetBoneName) {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "tw" + targetBoneName;
         if (!newState.equals(continuousEditState)) {
             History.autoAdd();
@@ -541,6 +594,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedVertexSize() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "vs";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -554,6 +608,7 @@ public class EditState implements Cloneable {
      * count.
      */
     public void setEditedXBoundary() {
+        ModelVersion.bump(ModelAspect.Content);
         String newState = "xb";
         if (!newState.equals(continuousEditState)) {
             ++editCount;
@@ -568,6 +623,8 @@ public class EditState implements Cloneable {
      * @param eventDescription description of causative event (not null)
      */
     public void setPristine(String eventDescription) {
+        ModelVersion.bump(ModelAspect.Content);
+        pristineEditCount += editCount;
         editCount = 0;
         continuousEditState = "";
         History.addEvent(eventDescription);
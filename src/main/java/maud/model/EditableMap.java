@@ -40,6 +40,7 @@ import jme3utilities.Validate;
 import jme3utilities.math.MyQuaternion;
 import jme3utilities.math.MyVector3f;
 import jme3utilities.ui.ActionApplication;
+import jme3utilities.wes.Pose;
 import maud.Maud;
 import maud.model.cgm.Cgm;
 import maud.model.cgm.CgmOutputFormat;
@@ -69,6 +70,68 @@ public class EditableMap extends LoadedMap {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Add mappings for all bones that can be matched between the source and
+     * target skeletons by name or by position in the hierarchy. Existing
+     * mappings are retained. Twists are estimated from the displayed poses.
+     *
+     * @return the number of mappings added (&ge;0)
+     */
+    public int autoMap() {
+        EditorModel model = Maud.getModel();
+        SelectedSkeleton sourceSkeleton = model.getSource().getSkeleton();
+        SelectedSkeleton targetSkeleton = model.getTarget().getSkeleton();
+        if (!sourceSkeleton.isSelected() || !targetSkeleton.isSelected()) {
+            return 0;
+        }
+        /*
+         * Seed the matcher with the existing effective mappings.
+         */
+        int numTargetBones = targetSkeleton.countBones();
+        int[] sourceIndices = new int[numTargetBones];
+        for (int targetIndex = 0; targetIndex < numTargetBones;
+                ++targetIndex) {
+            int sourceIndex = -1;
+            String targetName = targetSkeleton.getBoneName(targetIndex);
+            String sourceName = sourceBoneName(targetName);
+            if (sourceName != null) {
+                sourceIndex = sourceSkeleton.boneIndex(sourceName);
+            }
+            sourceIndices[targetIndex] = sourceIndex;
+        }
+        int[] oldIndices = sourceIndices.clone();
+
+        int numMatched = SkeletonMatcher.match(
+                sourceSkeleton, targetSkeleton, sourceIndices);
+        if (numMatched == 0) {
+            return 0;
+        }
+
+        History.autoAdd();
+        for (int targetIndex = 0; targetIndex < numTargetBones;
+                ++targetIndex) {
+            int sourceIndex = sourceIndices[targetIndex];
+            if (sourceIndex != oldIndices[targetIndex]) {
+                String targetName = targetSkeleton.getBoneName(targetIndex);
+                String sourceName = sourceSkeleton.getBoneName(sourceIndex);
+                Quaternion twist = estimateTwist(sourceIndex, targetIndex);
+                if (isInvertingMap()) {
+                    twist.inverseLocal();
+                    map.map(sourceName, targetName, twist);
+                } else {
+                    map.map(targetName, sourceName, twist);
+                }
+            }
+        }
+        postChange();
+
+        String event = String.format("auto-map %d bone%s", numMatched,
+                numMatched == 1 ? "" : "s");
+        editState.setEdited(event);
+
+        return numMatched;
+    }
+
     /**
      * Determine the default base path for writing the map to the filesystem.
      *
@@ -94,6 +157,7 @@ public class EditableMap extends LoadedMap {
         Quaternion twist = boneMapping.getTwist();
         MyQuaternion.cardinalizeLocal(twist);
 
+        postChange();
         String targetBoneName = boneMapping.getTargetName();
         editState.setEditedTwist(targetBoneName);
     }
@@ -106,6 +170,7 @@ public class EditableMap extends LoadedMap {
         if (boneMapping != null) {
             History.autoAdd();
             map.removeMapping(boneMapping);
+            postChange();
             editState.setEdited("delete bone mapping");
         }
     }
@@ -150,6 +215,7 @@ public class EditableMap extends LoadedMap {
                 }
             }
 
+            postChange();
             String description = String.format(
                     "delete %d invalid bone mapping%s", numDeleted,
                     numDeleted == 1 ? "" : "s");
@@ -174,6 +240,7 @@ public class EditableMap extends LoadedMap {
         if (map.countMappings() > 0) {
             History.autoAdd();
             map = map.inverse();
+            postChange();
             baseAssetPath = "";
             editState.setEdited("invert the skeleton map");
         }
@@ -193,6 +260,7 @@ public class EditableMap extends LoadedMap {
         for (String name : boneNames) {
             map.map(name, name);
         }
+        postChange();
 
         assetRootPath = "";
         baseAssetPath = "";
@@ -230,6 +298,7 @@ public class EditableMap extends LoadedMap {
              */
             Quaternion twist = estimateTwist();
             map.map(targetBoneName, sourceBoneName, twist);
+            postChange();
 
             String event = "map bone " + targetBoneName;
             editState.setEdited(event);
@@ -251,6 +320,7 @@ public class EditableMap extends LoadedMap {
         } else {
             map.renameTargetBone(oldName, newName);
         }
+        postChange();
     }
 
     /**
@@ -268,6 +338,7 @@ public class EditableMap extends LoadedMap {
             twist.set(newTwist);
         }
 
+        postChange();
         String targetBoneName = boneMapping.getTargetName();
         editState.setEditedTwist(targetBoneName);
     }
@@ -285,6 +356,7 @@ public class EditableMap extends LoadedMap {
         Quaternion twist = boneMapping.getTwist();
         MyQuaternion.snapLocal(twist, axisIndex);
 
+        postChange();
         String targetBoneName = boneMapping.getTargetName();
         editState.setEditedTwist(targetBoneName);
     }
@@ -295,6 +367,7 @@ public class EditableMap extends LoadedMap {
     public void unload() {
         History.autoAdd();
         map.clear();
+        postChange();
         assetRootPath = "";
         baseAssetPath = "";
         editState.setEdited("unload map");
@@ -462,10 +535,27 @@ public class EditableMap extends LoadedMap {
      */
     private static Quaternion estimateTwist() {
         EditorModel model = Maud.getModel();
-        Quaternion sourceMo
-                = model.getSource().getBone().modelOrientation(null);
-        Quaternion targetMo
-                = model.getTarget().getBone().modelOrientation(null);
+        int sourceIndex = model.getSource().getBone().index();
+        int targetIndex = model.getTarget().getBone().index();
+        Quaternion result = estimateTwist(sourceIndex, targetIndex);
+
+        return result;
+    }
+
+    /**
+     * Predict what the twist should be for a mapping between the indexed
+     * bones.
+     *
+     * @param sourceIndex the index of the source bone (&ge;0)
+     * @param targetIndex the index of the target bone (&ge;0)
+     * @return a new quaternion
+     */
+    private static Quaternion estimateTwist(int sourceIndex, int targetIndex) {
+        EditorModel model = Maud.getModel();
+        Pose sourcePose = model.getSource().getPose().get();
+        Quaternion sourceMo = sourcePose.modelOrientation(sourceIndex, null);
+        Pose targetPose = model.getTarget().getPose().get();
+        Quaternion targetMo = targetPose.modelOrientation(targetIndex, null);
         Quaternion invSourceMo = sourceMo.inverse();
         Quaternion twist = invSourceMo.mult(targetMo, null);
         MyQuaternion.cardinalizeLocal(twist);
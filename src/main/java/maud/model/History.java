@@ -26,12 +26,16 @@
  */
 package maud.model;
 
+import com.jme3.scene.Spatial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.Validate;
 import maud.DescribeUtil;
+import maud.FlightEventType;
+import maud.FlightEvents;
 import maud.Maud;
+import maud.model.cgm.Cgm;
 import maud.tool.HistoryTool;
 
 /**
@@ -56,6 +60,10 @@ final public class History {
      * checkpoint only when the user manually requests one
      */
     private static boolean autoAddFlag = true;
+    /**
+     * count of modifications to the history, for detecting changes
+     */
+    private static int modCount = 0;
     /**
      * index of the next checkpoint slot to use
      */
@@ -87,6 +95,8 @@ final public class History {
      * @return index of the new checkpoint (&ge;0)
      */
     public static int addCheckpoint() {
+        ModelVersion.bump(ModelAspect.History);
+        Object event = FlightEvents.begin(FlightEventType.Checkpoint);
         String message;
         while (hasVulnerable()) {
             int lastIndex = checkpoints.size() - 1;
@@ -108,6 +118,8 @@ final public class History {
         int result = nextIndex;
         ++nextIndex;
         assert checkpoints.size() == nextIndex;
+        ++modCount;
+        commitEvent(event, "add", result);
 
         return result;
     }
@@ -120,8 +132,10 @@ final public class History {
     public static void addEvent(String description) {
         Validate.nonEmpty(description, "description");
 
+        ModelVersion.bump(ModelAspect.History);
         logger.info(description);
         eventDescriptions.add(description);
+        ++modCount;
     }
 
     /**
@@ -137,9 +151,11 @@ final public class History {
      * Clear the history.
      */
     public static void clear() {
+        ModelVersion.bump(ModelAspect.History);
         nextIndex = 0;
         checkpoints.clear();
         eventDescriptions.clear();
+        ++modCount;
     }
 
     /**
@@ -152,11 +168,23 @@ final public class History {
         return count;
     }
 
+    /**
+     * Count the modifications to the history since startup. The count changes
+     * whenever a checkpoint or event is added or removed, or the index
+     * changes.
+     *
+     * @return count (&ge;0)
+     */
+    public static int countModifications() {
+        return modCount;
+    }
+
     /**
      * Enforce the configured limit on the number of checkpoints. This is
      * invoked each time a checkpoint is added or the limit is reconfigured.
      */
     public static void enforceLimit() {
+        ModelVersion.bump(ModelAspect.History);
         int maxCheckpoints = Maud.getModel().getMisc().maxCheckpoints();
         while (countCheckpoints() > maxCheckpoints) {
             checkpoints.remove(0);
@@ -165,6 +193,7 @@ final public class History {
             logger.info(message);
 
             --nextIndex;
+            ++modCount;
         }
     }
 
@@ -228,6 +257,8 @@ final public class History {
      * the index.
      */
     public static void redo() {
+        ModelVersion.bump(ModelAspect.History);
+        Object event = FlightEvents.begin(FlightEventType.Checkpoint);
         String message;
         if (checkpoints.size() > nextIndex) {
             Checkpoint next = checkpoints.get(nextIndex);
@@ -235,7 +266,9 @@ final public class History {
             eventDescriptions.clear();
             message = "redo to checkpoint" + DescribeUtil.index(nextIndex);
             logger.info(message);
+            commitEvent(event, "redo", nextIndex);
             ++nextIndex;
+            ++modCount;
         } else {
             message = "There is nothing to redo!";
             warn(message);
@@ -248,6 +281,8 @@ final public class History {
      * Restore the final checkpoint and update the index.
      */
     public static void redoAll() {
+        ModelVersion.bump(ModelAspect.History);
+        Object event = FlightEvents.begin(FlightEventType.Checkpoint);
         String message;
         if (checkpoints.size() > nextIndex) {
             int lastIndex = checkpoints.size() - 1;
@@ -255,9 +290,11 @@ final public class History {
             last.restore();
             eventDescriptions.clear();
             nextIndex = checkpoints.size();
+            ++modCount;
 
             message = "redo to checkpoint" + DescribeUtil.index(lastIndex);
             logger.info(message);
+            commitEvent(event, "redoAll", lastIndex);
 
         } else {
             message = "There is nothing to redo!";
@@ -274,6 +311,7 @@ final public class History {
      * manually only
      */
     public static void setAutoAdd(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.History);
         autoAddFlag = newSetting;
     }
 
@@ -282,8 +320,10 @@ final public class History {
      * update.
      */
     public static void setAutoScroll() {
-        HistoryTool tool = (HistoryTool) Maud.gui.findTool("history");
-        tool.setAutoScroll();
+        HistoryTool tool = (HistoryTool) Maud.gui.tools.find("history");
+        if (tool != null) {
+            tool.setAutoScroll();
+        }
     }
 
     /**
@@ -291,6 +331,8 @@ final public class History {
      * index. If there are no vulnerable checkpoints, add one.
      */
     public static void undo() {
+        ModelVersion.bump(ModelAspect.History);
+        Object event = FlightEvents.begin(FlightEventType.Checkpoint);
         String message;
         boolean noneVulnerable = !hasVulnerable();
         if (nextIndex > 1 || noneVulnerable && nextIndex > 0) {
@@ -311,9 +353,11 @@ final public class History {
             Checkpoint previous = checkpoints.get(getIndex);
             previous.restore();
             eventDescriptions.clear();
+            ++modCount;
 
             message = "undo to checkpoint" + DescribeUtil.index(getIndex);
             logger.info(message);
+            commitEvent(event, "undo", getIndex);
 
         } else {
             message = "There is nothing to undo!";
@@ -325,6 +369,35 @@ final public class History {
     // *************************************************************************
     // private methods
 
+    /**
+     * End and commit a Checkpoint flight event, estimating the mesh memory of
+     * the live C-G models.
+     *
+     * @param event the event returned by FlightEvents.begin(), or null
+     * @param operation the name of the operation (not null, not empty)
+     * @param checkpointIndex the index of the checkpoint added or restored
+     * (&ge;0)
+     */
+    private static void commitEvent(
+            Object event, String operation, int checkpointIndex) {
+        if (event == null) {
+            return;
+        }
+        FlightEvents.end(event);
+
+        EditorModel model = Maud.getModel();
+        long liveMeshBytes = 0L;
+        Cgm[] cgms = {model.getSource(), model.getTarget()};
+        for (Cgm cgm : cgms) {
+            if (cgm.isLoaded()) {
+                Spatial root = cgm.getRootSpatial();
+                liveMeshBytes += FlightEvents.countMeshBytes(root);
+            }
+        }
+        FlightEvents.commit(event, operation, checkpointIndex,
+                checkpoints.size(), liveMeshBytes);
+    }
+
     /**
      * Issue a warning to the user.
      *
@@ -70,6 +70,44 @@ public class LoadedMap implements Cloneable {
      * true &rarr; invert the loaded map, false &rarr; don't invert it
      */
     private boolean invertMapFlag = false;
+    /**
+     * value of invertMapFlag when the map was last compiled
+     */
+    private boolean compiledInvertFlag = false;
+    /**
+     * count of changes to the map, used to detect a stale compiled map
+     */
+    private int changeCount = 0;
+    /**
+     * value of changeCount when the map was last compiled
+     */
+    private int compiledChangeCount = 0;
+    /**
+     * compiled map: for each target bone, the index of the mapped source bone,
+     * or -1 if none (null if not compiled)
+     */
+    private int[] compiledSourceIndices = null;
+    /**
+     * source pose for which the map was last compiled
+     */
+    private Pose compiledSourcePose = null;
+    /**
+     * target pose for which the map was last compiled
+     */
+    private Pose compiledTargetPose = null;
+    /**
+     * compiled map: for each target bone, the effective twist, or null if
+     * unmapped (parallel with compiledSourceIndices)
+     */
+    private Quaternion[] compiledTwists = null;
+    /**
+     * temporary storage for a model orientation
+     */
+    private Quaternion tmpModelOrientation = new Quaternion();
+    /**
+     * temporary storage for a user rotation
+     */
+    private Quaternion tmpUserRotation = new Quaternion();
     /**
      * the map itself
      */
@@ -101,24 +139,21 @@ public class LoadedMap implements Cloneable {
         result.loadIdentity();
 
         Cgm source = Maud.getModel().getSource();
-        Cgm target = Maud.getModel().getTarget();
-        String targetName = target.getSkeleton().getBoneName(boneIndex);
-        BoneMapping boneMapping = effectiveMapping(targetName);
-        SelectedSkeleton sourceSkeleton = source.getSkeleton();
-        if (boneMapping != null && sourceSkeleton.isSelected()) {
-            String sourceName = boneMapping.getSourceName();
-            int sourceIndex = sourceSkeleton.boneIndex(sourceName);
+        if (source.getSkeleton().isSelected()) {
+            Pose sourcePose = source.getPose().get();
+            Pose targetPose = Maud.getModel().getTarget().getPose().get();
+            updateCompiledMap(sourcePose, targetPose);
+
+            int sourceIndex = compiledSourceIndices[boneIndex];
             if (sourceIndex != -1) {
                 /*
                  * Calculate the model orientation of the source bone.
                  */
-                Pose sourcePose = source.getPose().get();
-                Quaternion mo = sourcePose.modelOrientation(sourceIndex, null);
-
-                Pose targetPose = target.getPose().get();
-                Quaternion userRotation
-                        = targetPose.userForModel(boneIndex, mo, null);
-                Quaternion twist = boneMapping.getTwist();
+                Quaternion mo = sourcePose.modelOrientation(
+                        sourceIndex, tmpModelOrientation);
+                Quaternion userRotation = targetPose.userForModel(
+                        boneIndex, mo, tmpUserRotation);
+                Quaternion twist = compiledTwists[boneIndex];
                 userRotation.mult(twist, result.getRotation());
             }
         }
@@ -367,6 +402,7 @@ public class LoadedMap implements Cloneable {
         } else {
             success = true;
             map = loaded;
+            postChange();
             if (spec == null || !spec.startsWith("file:///")) {
                 assetRootPath = "";
             } else {
@@ -409,6 +445,7 @@ public class LoadedMap implements Cloneable {
         } else {
             success = true;
             map = loaded;
+            postChange();
             assetRootPath = "";
             baseAssetPath = MyString.removeSuffix(assetPath, ".j3o");
         }
@@ -474,6 +511,7 @@ public class LoadedMap implements Cloneable {
      * Select the bone mapping of the selected source bone.
      */
     public void selectFromSource() {
+        ModelVersion.bump(ModelAspect.Selection);
         EditorModel model = Maud.getModel();
         String sourceBoneName = model.getSource().getBone().name();
         String targetBoneName = targetBoneName(sourceBoneName);
@@ -484,6 +522,7 @@ public class LoadedMap implements Cloneable {
      * Select the bone mapping of the selected target bone.
      */
     public void selectFromTarget() {
+        ModelVersion.bump(ModelAspect.Selection);
         String targetBoneName = Maud.getModel().getTarget().getBone().name();
         selectFromTarget(targetBoneName);
     }
@@ -492,6 +531,7 @@ public class LoadedMap implements Cloneable {
      * Select the next bone mapping in name-sorted order.
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isBoneMappingSelected()) {
             List<String> nameList = listSorted();
             Cgm target = Maud.getModel().getTarget();
@@ -508,6 +548,7 @@ public class LoadedMap implements Cloneable {
      * Select the previous bone mapping in name-sorted order.
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isBoneMappingSelected()) {
             List<String> nameList = listSorted();
             Cgm target = Maud.getModel().getTarget();
@@ -526,6 +567,7 @@ public class LoadedMap implements Cloneable {
      * @param newSetting true &rarr; invert it, false &rarr; don't invert it
      */
     public void setInvertMap(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Selection);
         invertMapFlag = newSetting;
     }
 
@@ -580,6 +622,15 @@ public class LoadedMap implements Cloneable {
     // *************************************************************************
     // new protected methods
 
+    /**
+     * Note a change to the map, so that the compiled map will be rebuilt
+     * before its next use.
+     */
+    protected void postChange() {
+        ++changeCount;
+        ModelVersion.bump(ModelAspect.Content);
+    }
+
     /**
      * Access the selected bone mapping.
      *
@@ -620,6 +671,12 @@ public class LoadedMap implements Cloneable {
     public LoadedMap clone() throws CloneNotSupportedException {
         LoadedMap clone = (LoadedMap) super.clone();
         clone.map = map.clone();
+        clone.compiledSourceIndices = null;
+        clone.compiledSourcePose = null;
+        clone.compiledTargetPose = null;
+        clone.compiledTwists = null;
+        clone.tmpModelOrientation = new Quaternion();
+        clone.tmpUserRotation = new Quaternion();
 
         return clone;
     }
@@ -716,4 +773,49 @@ public class LoadedMap implements Cloneable {
             Maud.getModel().getTarget().getBone().select(targetBoneName);
         }
     }
+
+    /**
+     * Compile the effective map into arrays indexed by target bone, unless the
+     * arrays are already current for the specified poses.
+     *
+     * @param sourcePose the displayed pose of the source C-G model (not null,
+     * unaffected)
+     * @param targetPose the displayed pose of the target C-G model (not null,
+     * unaffected)
+     */
+    private void updateCompiledMap(Pose sourcePose, Pose targetPose) {
+        if (compiledSourceIndices != null
+                && compiledChangeCount == changeCount
+                && compiledInvertFlag == invertMapFlag
+                && compiledSourcePose == sourcePose
+                && compiledTargetPose == targetPose) {
+            return;
+        }
+
+        EditorModel model = Maud.getModel();
+        SelectedSkeleton sourceSkeleton = model.getSource().getSkeleton();
+        SelectedSkeleton targetSkeleton = model.getTarget().getSkeleton();
+        int numTargetBones = targetPose.countBones();
+        compiledSourceIndices = new int[numTargetBones];
+        compiledTwists = new Quaternion[numTargetBones];
+        for (int targetIndex = 0; targetIndex < numTargetBones; ++targetIndex) {
+            int sourceIndex = -1;
+            String targetName = targetSkeleton.getBoneName(targetIndex);
+            BoneMapping boneMapping = effectiveMapping(targetName);
+            if (boneMapping != null) {
+                String sourceName = boneMapping.getSourceName();
+                sourceIndex = sourceSkeleton.boneIndex(sourceName);
+            }
+            compiledSourceIndices[targetIndex] = sourceIndex;
+            if (sourceIndex != -1) {
+                Quaternion twist = boneMapping.getTwist();
+                compiledTwists[targetIndex] = twist.clone();
+            }
+        }
+
+        compiledChangeCount = changeCount;
+        compiledInvertFlag = invertMapFlag;
+        compiledSourcePose = sourcePose;
+        compiledTargetPose = targetPose;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Change counters for the MVC model, used to refresh tools only when the parts
+ * of the model they display have changed. Each counter is bumped by the
+ * mutators of the corresponding model aspect.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ModelVersion {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of model aspects
+     */
+    final private static int numAspects = ModelAspect.values().length;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ModelVersion.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * change count for each aspect, indexed by ordinal
+     */
+    final private static long[] counts = new long[numAspects];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ModelVersion() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Note a change to the specified aspect of the model.
+     *
+     * @param aspect which aspect changed (not null)
+     */
+    public static void bump(ModelAspect aspect) {
+        ++counts[aspect.ordinal()];
+    }
+
+    /**
+     * Note a change that may affect every aspect of the model.
+     */
+    public static void bumpAll() {
+        for (int ordinal = 0; ordinal < numAspects; ++ordinal) {
+            ++counts[ordinal];
+        }
+    }
+
+    /**
+     * Read the combined version of the specified aspects. Since the counters
+     * never decrease, the result changes whenever any of the aspects changes.
+     *
+     * @param aspects which aspects to combine (not null, unaffected)
+     * @return the sum of their change counts
+     */
+    public static long get(ModelAspect... aspects) {
+        Validate.nonNull(aspects, "aspects");
+
+        long result = 0L;
+        for (ModelAspect aspect : aspects) {
+            result += counts[aspect.ordinal()];
+        }
+
+        return result;
+    }
+}
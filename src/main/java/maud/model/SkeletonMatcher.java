@@ -0,0 +1,497 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import maud.model.cgm.SelectedSkeleton;
+
+/**
+ * Utility methods to propose bone mappings between 2 skeletons by matching
+ * normalized bone names and hierarchies. All methods should be static.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class SkeletonMatcher {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SkeletonMatcher.class.getName());
+    /**
+     * canonical spellings of bone-name cores that are spelled differently by
+     * different naming conventions
+     */
+    final private static Map<String, String> synonyms = new HashMap<>(40);
+    /**
+     * name tokens that denote the left side of the body
+     */
+    final private static Set<String> leftTokens
+            = new HashSet<>(Arrays.asList("l", "left", "lft", "lt"));
+    /**
+     * name tokens that carry no information about a bone's role
+     */
+    final private static Set<String> noiseTokens = new HashSet<>(Arrays.asList(
+            "b", "bip", "bip001", "bip01", "bn", "bone", "def", "drv", "j",
+            "jnt", "joint", "mch", "mixamorig", "org"));
+    /**
+     * name tokens that denote the right side of the body
+     */
+    final private static Set<String> rightTokens
+            = new HashSet<>(Arrays.asList("r", "right", "rgt", "rt"));
+
+    static {
+        synonyms.put("ankle", "foot");
+        synonyms.put("arm", "upperarm");
+        synonyms.put("ball", "toe");
+        synonyms.put("calf", "shin");
+        synonyms.put("collar", "clavicle");
+        synonyms.put("collarbone", "clavicle");
+        synonyms.put("elbow", "forearm");
+        synonyms.put("hip", "hips");
+        synonyms.put("knee", "shin");
+        synonyms.put("leg", "shin");
+        synonyms.put("lowerarm", "forearm");
+        synonyms.put("lowerleg", "shin");
+        synonyms.put("pelvis", "hips");
+        synonyms.put("shoulder", "clavicle");
+        synonyms.put("toebase", "toe");
+        synonyms.put("toes", "toe");
+        synonyms.put("upleg", "thigh");
+        synonyms.put("upperleg", "thigh");
+        synonyms.put("wrist", "hand");
+    }
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private SkeletonMatcher() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Propose a source bone for each target bone that isn't already mapped.
+     * Bones are first matched by normalized name and then by position in the
+     * hierarchy relative to bones that are already matched.
+     *
+     * @param source the source skeleton (not null, selected, unaffected)
+     * @param target the target skeleton (not null, selected, unaffected)
+     * @param sourceIndices for each target bone, the index of the mapped source
+     * bone or -1 if unmapped (not null, length=number of target bones,
+     * modified)
+     * @return the number of bones matched by this method (&ge;0)
+     */
+    static int match(SelectedSkeleton source, SelectedSkeleton target,
+            int[] sourceIndices) {
+        assert source != null;
+        assert target != null;
+        assert sourceIndices.length == target.countBones();
+
+        BoneIndex sourceIndex = new BoneIndex(source);
+        BoneIndex targetIndex = new BoneIndex(target);
+        int numSourceBones = sourceIndex.names.length;
+        int numTargetBones = targetIndex.names.length;
+        /*
+         * Note which source bones are already mapped.
+         */
+        boolean[] sourceUsed = new boolean[numSourceBones];
+        for (int tIndex = 0; tIndex < numTargetBones; ++tIndex) {
+            int sIndex = sourceIndices[tIndex];
+            if (sIndex != -1) {
+                sourceUsed[sIndex] = true;
+            }
+        }
+
+        int numMatched = 0;
+        /*
+         * Pass 1: match identical names, then normalized names,
+         * visiting target bones from the roots down.
+         */
+        for (int tIndex : targetIndex.preOrder) {
+            if (sourceIndices[tIndex] != -1) {
+                continue;
+            }
+            String name = targetIndex.names[tIndex];
+            List<Integer> candidates = sourceIndex.byName.get(name);
+            int sIndex = bestCandidate(candidates, sourceUsed, tIndex,
+                    sourceIndex, targetIndex, sourceIndices);
+            if (sIndex == -1) {
+                String key = targetIndex.keys[tIndex];
+                candidates = sourceIndex.byKey.get(key);
+                sIndex = bestCandidate(candidates, sourceUsed, tIndex,
+                        sourceIndex, targetIndex, sourceIndices);
+            }
+            if (sIndex != -1) {
+                sourceIndices[tIndex] = sIndex;
+                sourceUsed[sIndex] = true;
+                ++numMatched;
+            }
+        }
+        /*
+         * Pass 2: match lone unmatched roots, then lone unmatched children
+         * of matched bones, until nothing changes.
+         */
+        List<Integer> tRoots = unmatchedTargets(
+                targetIndex.roots, sourceIndices);
+        List<Integer> sRoots = unmatchedSources(sourceIndex.roots, sourceUsed);
+        if (tRoots.size() == 1 && sRoots.size() == 1) {
+            int tIndex = tRoots.get(0);
+            int sIndex = sRoots.get(0);
+            sourceIndices[tIndex] = sIndex;
+            sourceUsed[sIndex] = true;
+            ++numMatched;
+        }
+
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int tParent : targetIndex.preOrder) {
+                int sParent = sourceIndices[tParent];
+                if (sParent == -1) {
+                    continue;
+                }
+                List<Integer> tChildren = unmatchedTargets(
+                        targetIndex.children.get(tParent), sourceIndices);
+                List<Integer> sChildren = unmatchedSources(
+                        sourceIndex.children.get(sParent), sourceUsed);
+                if (tChildren.size() == 1 && sChildren.size() == 1) {
+                    int tIndex = tChildren.get(0);
+                    int sIndex = sChildren.get(0);
+                    char tSide = targetIndex.sides[tIndex];
+                    char sSide = sourceIndex.sides[sIndex];
+                    if (tSide == sSide || tSide == ' ' || sSide == ' ') {
+                        sourceIndices[tIndex] = sIndex;
+                        sourceUsed[sIndex] = true;
+                        ++numMatched;
+                        progress = true;
+                    }
+                }
+            }
+        }
+
+        logger.fine(String.format("matched %d of %d target bones",
+                numMatched, numTargetBones));
+        return numMatched;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Append a non-empty token, in lowercase, to a list and reset the builder.
+     *
+     * @param token the token being built (not null, reset)
+     * @param tokens the list to append to (not null, modified)
+     */
+    private static void addToken(StringBuilder token, List<String> tokens) {
+        if (token.length() > 0) {
+            String lower = token.toString().toLowerCase(Locale.ROOT);
+            tokens.add(lower);
+            token.setLength(0);
+        }
+    }
+
+    /**
+     * Choose the best unused source bone from a list of candidates, based on
+     * how well they fit the target bone's position in the hierarchy.
+     *
+     * @param candidates the indices of candidate source bones (may be null)
+     * @param sourceUsed which source bones are already mapped (not null,
+     * unaffected)
+     * @param tIndex the index of the target bone (&ge;0)
+     * @param source the index of the source skeleton (not null)
+     * @param target the index of the target skeleton (not null)
+     * @param sourceIndices the mappings so far (not null, unaffected)
+     * @return the index of the chosen source bone, or -1 if none
+     */
+    private static int bestCandidate(List<Integer> candidates,
+            boolean[] sourceUsed, int tIndex, BoneIndex source,
+            BoneIndex target, int[] sourceIndices) {
+        int result = -1;
+        if (candidates == null) {
+            return result;
+        }
+
+        int tParent = target.parents[tIndex];
+        int mappedParent = (tParent == -1) ? -1 : sourceIndices[tParent];
+        int bestScore = Integer.MAX_VALUE;
+        for (int sIndex : candidates) {
+            if (sourceUsed[sIndex]) {
+                continue;
+            }
+            int score = Math.abs(source.depths[sIndex] - target.depths[tIndex])
+                    + Math.abs(source.children.get(sIndex).size()
+                            - target.children.get(tIndex).size());
+            if (mappedParent == -1 || source.parents[sIndex] != mappedParent) {
+                score += 2;
+            }
+            if (score < bestScore) {
+                bestScore = score;
+                result = sIndex;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalize a bone name into a lookup key that ignores case, namespaces,
+     * separators, noise tokens, and common synonyms while preserving the side
+     * of the body.
+     *
+     * @param boneName the name to normalize (not null)
+     * @param storeSide storage for the side: 'L', 'R', or ' ' (not null,
+     * length&ge;1, modified)
+     * @return the key (not null, not empty)
+     */
+    private static String normalize(String boneName, char[] storeSide) {
+        String name = boneName;
+        int colon = Math.max(name.lastIndexOf(':'), name.lastIndexOf('|'));
+        if (colon >= 0 && colon < name.length() - 1) {
+            name = name.substring(colon + 1);
+        }
+        /*
+         * Split the name into tokens at separators and at
+         * lowercase-to-uppercase transitions.
+         */
+        List<String> tokens = new ArrayList<>(6);
+        StringBuilder token = new StringBuilder(16);
+        char previous = ' ';
+        for (int charIndex = 0; charIndex < name.length(); ++charIndex) {
+            char ch = name.charAt(charIndex);
+            if (!Character.isLetterOrDigit(ch)) {
+                addToken(token, tokens);
+            } else {
+                if (Character.isUpperCase(ch)
+                        && Character.isLowerCase(previous)) {
+                    addToken(token, tokens);
+                }
+                token.append(ch);
+            }
+            previous = ch;
+        }
+        addToken(token, tokens);
+
+        char side = ' ';
+        StringBuilder core = new StringBuilder(name.length());
+        for (String t : tokens) {
+            if (leftTokens.contains(t)) {
+                side = 'L';
+            } else if (rightTokens.contains(t)) {
+                side = 'R';
+            } else if (!noiseTokens.contains(t)) {
+                core.append(t);
+            }
+        }
+        storeSide[0] = side;
+
+        String coreString = core.toString();
+        if (coreString.isEmpty()) {
+            coreString = name.toLowerCase(Locale.ROOT);
+        }
+        String synonym = synonyms.get(coreString);
+        if (synonym != null) {
+            coreString = synonym;
+        }
+        String result = side + coreString;
+
+        return result;
+    }
+
+    /**
+     * Enumerate the source bones in a list that aren't yet mapped.
+     *
+     * @param indices the bone indices to filter (not null, unaffected)
+     * @param sourceUsed which source bones are already mapped (not null,
+     * unaffected)
+     * @return a new list of bone indices
+     */
+    private static List<Integer> unmatchedSources(List<Integer> indices,
+            boolean[] sourceUsed) {
+        List<Integer> result = new ArrayList<>(indices.size());
+        for (int sIndex : indices) {
+            if (!sourceUsed[sIndex]) {
+                result.add(sIndex);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Enumerate the target bones in a list that aren't yet mapped.
+     *
+     * @param indices the bone indices to filter (not null, unaffected)
+     * @param sourceIndices the mappings so far (not null, unaffected)
+     * @return a new list of bone indices
+     */
+    private static List<Integer> unmatchedTargets(List<Integer> indices,
+            int[] sourceIndices) {
+        List<Integer> result = new ArrayList<>(indices.size());
+        for (int tIndex : indices) {
+            if (sourceIndices[tIndex] == -1) {
+                result.add(tIndex);
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // BoneIndex
+
+    /**
+     * Names, normalized keys, and hierarchy of a skeleton, indexed for
+     * matching.
+     */
+    private static class BoneIndex {
+        /**
+         * side of the body of each bone: 'L', 'R', or ' '
+         */
+        final char[] sides;
+        /**
+         * depth of each bone below its root (root=0)
+         */
+        final int[] depths;
+        /**
+         * index of each bone's parent, or -1 for a root
+         */
+        final int[] parents;
+        /**
+         * indices of each bone's children
+         */
+        final List<List<Integer>> children;
+        /**
+         * indices of all bones, parents before children
+         */
+        final List<Integer> preOrder;
+        /**
+         * indices of the root bones
+         */
+        final List<Integer> roots;
+        /**
+         * map from exact names to bone indices
+         */
+        final Map<String, List<Integer>> byName;
+        /**
+         * map from normalized keys to bone indices
+         */
+        final Map<String, List<Integer>> byKey;
+        /**
+         * normalized key of each bone
+         */
+        final String[] keys;
+        /**
+         * name of each bone
+         */
+        final String[] names;
+
+        /**
+         * Index the specified skeleton.
+         *
+         * @param skeleton the skeleton to index (not null, selected,
+         * unaffected)
+         */
+        BoneIndex(SelectedSkeleton skeleton) {
+            int numBones = skeleton.countBones();
+            sides = new char[numBones];
+            depths = new int[numBones];
+            parents = new int[numBones];
+            children = new ArrayList<>(numBones);
+            keys = new String[numBones];
+            names = new String[numBones];
+            byName = new HashMap<>(numBones);
+            byKey = new HashMap<>(numBones);
+            roots = new ArrayList<>(4);
+
+            char[] side = new char[1];
+            for (int boneIndex = 0; boneIndex < numBones; ++boneIndex) {
+                children.add(new ArrayList<Integer>(4));
+                String name = skeleton.getBoneName(boneIndex);
+                if (name == null) {
+                    name = "";
+                }
+                names[boneIndex] = name;
+                keys[boneIndex] = normalize(name, side);
+                sides[boneIndex] = side[0];
+                addToIndex(byName, name, boneIndex);
+                addToIndex(byKey, keys[boneIndex], boneIndex);
+            }
+            for (int boneIndex = 0; boneIndex < numBones; ++boneIndex) {
+                int parentIndex = skeleton.getParentIndex(boneIndex);
+                parents[boneIndex] = parentIndex;
+                if (parentIndex < 0) {
+                    parents[boneIndex] = -1;
+                    roots.add(boneIndex);
+                } else {
+                    children.get(parentIndex).add(boneIndex);
+                }
+            }
+            /*
+             * Traverse the hierarchy breadth-first to establish depths
+             * and an order in which parents precede children.
+             */
+            preOrder = new ArrayList<>(numBones);
+            preOrder.addAll(roots);
+            for (int i = 0; i < preOrder.size(); ++i) {
+                int boneIndex = preOrder.get(i);
+                for (int childIndex : children.get(boneIndex)) {
+                    depths[childIndex] = depths[boneIndex] + 1;
+                    preOrder.add(childIndex);
+                }
+            }
+        }
+
+        /**
+         * Add a bone to a lookup map.
+         *
+         * @param map the map to add to (not null, modified)
+         * @param key the lookup key (not null)
+         * @param boneIndex the index of the bone (&ge;0)
+         */
+        private static void addToIndex(Map<String, List<Integer>> map,
+                String key, int boneIndex) {
+            List<Integer> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<>(2);
+                map.put(key, list);
+            }
+            list.add(boneIndex);
+        }
+    }
+}
@@ -49,6 +49,7 @@ import com.jme3.scene.control.Control;
 import com.jme3.util.clone.Cloner;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -64,7 +65,10 @@ import jme3utilities.wes.TweenTransforms;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.MeshUtil;
+import maud.SpatialIndex;
 import maud.menu.WhichSpatials;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.scene.RenderOptions;
 import maud.model.option.scene.TriangleMode;
 import maud.view.ScoreView;
@@ -95,6 +99,19 @@ public class Cgm implements Cloneable {
      * physics information
      */
     private CgmPhysics physics = new CgmPhysics();
+    /**
+     * cached summary statistics
+     */
+    private CgmStatistics statistics = new CgmStatistics();
+    /**
+     * cached indices of spatial names, keyed by subset
+     */
+    private EnumMap<WhichSpatials, NameIndex> spatialNameIndices
+            = new EnumMap<>(WhichSpatials.class);
+    /**
+     * index of the spatials in the C-G model
+     */
+    private SpatialIndex spatialIndex = new SpatialIndex();
     /**
      * displayed pose
      */
@@ -216,6 +233,7 @@ public class Cgm implements Cloneable {
         Cgm cgm = this;
 
         physics.setCgm(cgm);
+        statistics.setCgm(cgm);
         displayedPose.setCgm(cgm);
         loadedAnimation.setCgm(cgm);
         playOptions.setCgm(cgm);
@@ -246,6 +264,17 @@ public class Cgm implements Cloneable {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Count all edits to the C-G model, including saved ones, for detecting
+     * changes. Together with the identity of the root spatial, the count
+     * identifies the model's state.
+     *
+     * @return count (&ge;0), or 0 if the C-G model isn't editable
+     */
+    int countAllEdits() {
+        return 0;
+    }
+
     /**
      * Count all animation controls.
      *
@@ -475,13 +504,9 @@ public class Cgm implements Cloneable {
     List<Integer> findSpatial(Spatial input) {
         assert input != null;
 
-        List<Integer> treePosition = new ArrayList<>(4);
-        boolean success
-                = MaudUtil.findPosition(input, rootSpatial, treePosition);
-        if (!success) {
-            treePosition = null;
-        }
-
+        int edits = countAllEdits();
+        List<Integer> treePosition
+                = spatialIndex.findPosition(input, rootSpatial, edits);
         return treePosition;
     }
 
@@ -496,7 +521,8 @@ public class Cgm implements Cloneable {
         assert !name.isEmpty();
 
         List<Integer> treePosition = new ArrayList<>(4);
-        Spatial sp = MaudUtil.findSpatialNamed(name, rootSpatial, treePosition);
+        Spatial sp = spatialIndex.findNamed(
+                name, rootSpatial, countAllEdits(), treePosition);
         if (sp == null) {
             treePosition = null;
         }
@@ -776,6 +802,16 @@ public class Cgm implements Cloneable {
         return selectedSpatial;
     }
 
+    /**
+     * Access the cached summary statistics.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public CgmStatistics getStatistics() {
+        assert statistics != null;
+        return statistics;
+    }
+
     /**
      * Access the selected texture.
      *
@@ -877,7 +913,8 @@ public class Cgm implements Cloneable {
      * @return true if found, otherwise false
      */
     public boolean hasGeometry(String name) {
-        Spatial sp = MySpatial.findNamed(rootSpatial, name);
+        Spatial sp = spatialIndex.findNamed(
+                name, rootSpatial, countAllEdits(), null);
         boolean result = sp instanceof Geometry;
 
         return result;
@@ -920,7 +957,8 @@ public class Cgm implements Cloneable {
      * @return true if found, otherwise false
      */
     public boolean hasNode(String name) {
-        Spatial sp = MySpatial.findNamed(rootSpatial, name);
+        Spatial sp = spatialIndex.findNamed(
+                name, rootSpatial, countAllEdits(), null);
         boolean result = sp instanceof Node;
 
         return result;
@@ -933,7 +971,8 @@ public class Cgm implements Cloneable {
      * @return true if found, otherwise false
      */
     public boolean hasSpatial(String name) {
-        Spatial sp = MySpatial.findNamed(rootSpatial, name);
+        Spatial sp = spatialIndex.findNamed(
+                name, rootSpatial, countAllEdits(), null);
         if (sp == null) {
             return false;
         } else {
@@ -941,6 +980,14 @@ public class Cgm implements Cloneable {
         }
     }
 
+    /**
+     * Discard the spatial index, releasing the spatials it references. (Invoked
+     * whenever the root spatial is replaced.)
+     */
+    void invalidateSpatialIndex() {
+        spatialIndex.invalidate();
+    }
+
     /**
      * Test whether a C-G model is loaded in this slot.
      *
@@ -1132,7 +1179,18 @@ public class Cgm implements Cloneable {
      * @return a new list of names
      */
     public List<String> listSpatialNames(String prefix, WhichSpatials subset) {
-        List<String> list = listSpatialNames(rootSpatial, prefix, subset);
+        Validate.nonNull(prefix, "prefix");
+        Validate.nonNull(subset, "subset");
+
+        int edits = countAllEdits();
+        NameIndex index = spatialNameIndices.get(subset);
+        if (index == null || !index.isCurrent(rootSpatial, edits)) {
+            List<String> names = listSpatialNames(rootSpatial, "", subset);
+            index = new NameIndex(names, rootSpatial, edits);
+            spatialNameIndices.put(subset, index);
+        }
+        List<String> list = index.list(prefix);
+
         return list;
     }
 
@@ -1216,7 +1274,9 @@ public class Cgm implements Cloneable {
         assert this != target; // not allowed to unload target
 
         rootSpatial = null;
+        invalidateSpatialIndex();
         sceneView.unloadCgm();
+        ModelVersion.bump(ModelAspect.Content);
         /*
          * Reset the selected bone/physics/vertex.
          */
@@ -1253,6 +1313,9 @@ public class Cgm implements Cloneable {
         Cloner cloner = new Cloner();
 
         clone.physics = cloner.clone(physics);
+        clone.statistics = statistics.clone();
+        clone.spatialNameIndices = new EnumMap<>(WhichSpatials.class);
+        clone.spatialIndex = new SpatialIndex();
         clone.displayedPose = cloner.clone(displayedPose);
         clone.loadedAnimation = loadedAnimation.clone();
         clone.playOptions = playOptions.clone();
@@ -1306,6 +1369,7 @@ public class Cgm implements Cloneable {
         clone.getShape().setCgm(clone);
         clone.getSkeleton().setCgm(clone);
         clone.getSpatial().setCgm(clone);
+        clone.getStatistics().setCgm(clone);
         clone.getTexture().setCgm(clone);
         clone.getTrack().setCgm(clone);
         clone.getUserData().setCgm(clone);
@@ -0,0 +1,341 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model.cgm;
+
+import com.jme3.material.Material;
+import com.jme3.math.Transform;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.MyMesh;
+import jme3utilities.math.MyMath;
+
+/**
+ * Summary statistics of a loaded C-G model, gathered in a single scene-graph
+ * traversal and cached until the model is edited or reloaded.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CgmStatistics implements Cloneable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(CgmStatistics.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the cached statistics are valid for the stamp
+     */
+    private boolean isValid = false;
+    /**
+     * C-G model being summarized (set by {@link #setCgm(Cgm)})
+     */
+    private Cgm cgm = null;
+    /**
+     * number of spatials with CullHint.Always
+     */
+    private int numHiddens;
+    /**
+     * number of distinct materials
+     */
+    private int numMaterials;
+    /**
+     * number of distinct meshes
+     */
+    private int numMeshes;
+    /**
+     * number of nodes
+     */
+    private int numNodes;
+    /**
+     * number of scene-graph controls
+     */
+    private int numSgcs;
+    /**
+     * number of skeletons and armatures
+     */
+    private int numSkeletons;
+    /**
+     * number of distinct non-null textures
+     */
+    private int numTextures;
+    /**
+     * number of spatials with non-identity local transforms
+     */
+    private int numTransforms;
+    /**
+     * number of vertices, summed over geometries
+     */
+    private int numVertices;
+    /**
+     * total edit count when the statistics were gathered
+     */
+    private int stampEdits;
+    /**
+     * distinct meshes found when the statistics were gathered (not null,
+     * never modified after creation)
+     */
+    private List<Mesh> distinctMeshes = new ArrayList<>(0);
+    /**
+     * root spatial when the statistics were gathered
+     */
+    private Spatial stampRoot;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the meshes that have collision data. Collision data are created
+     * and cleared without editing the model, so they're counted afresh each
+     * time.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countCollisionTrees() {
+        refresh();
+
+        int result = 0;
+        for (Mesh mesh : distinctMeshes) {
+            if (MyMesh.getCollisionTree(mesh) != null) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the spatials whose local cull hint is Always.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countHiddens() {
+        refresh();
+        return numHiddens;
+    }
+
+    /**
+     * Count the distinct materials.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countMaterials() {
+        refresh();
+        return numMaterials;
+    }
+
+    /**
+     * Count the distinct meshes.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countMeshes() {
+        refresh();
+        return numMeshes;
+    }
+
+    /**
+     * Count the nodes.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countNodes() {
+        refresh();
+        return numNodes;
+    }
+
+    /**
+     * Count the scene-graph controls.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countSgcs() {
+        refresh();
+        return numSgcs;
+    }
+
+    /**
+     * Count the Armature/Skeleton instances.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countSkeletons() {
+        refresh();
+        return numSkeletons;
+    }
+
+    /**
+     * Count the distinct non-null textures.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countTextures() {
+        refresh();
+        return numTextures;
+    }
+
+    /**
+     * Count the spatials with non-identity local transforms.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countTransformSpatials() {
+        refresh();
+        return numTransforms;
+    }
+
+    /**
+     * Count the vertices.
+     *
+     * @return the number found (&ge;0)
+     */
+    public int countVertices() {
+        refresh();
+        return numVertices;
+    }
+
+    /**
+     * Discard the cached statistics. Invoke after any change that the edit
+     * count doesn't reflect, such as a continuous transform edit.
+     */
+    void invalidate() {
+        isValid = false;
+    }
+
+    /**
+     * Alter which C-G model is summarized. (Invoked only during
+     * initialization and cloning.)
+     *
+     * @param newCgm (not null, alias created)
+     */
+    void setCgm(Cgm newCgm) {
+        assert newCgm != null;
+        assert newCgm.getStatistics() == this;
+
+        cgm = newCgm;
+        isValid = false;
+    }
+    // *************************************************************************
+    // Object methods
+
+    /**
+     * Create a copy of this object.
+     *
+     * @return a new object, equivalent to this one
+     * @throws CloneNotSupportedException if the superclass isn't cloneable
+     */
+    @Override
+    public CgmStatistics clone() throws CloneNotSupportedException {
+        CgmStatistics clone = (CgmStatistics) super.clone();
+        return clone;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Gather statistics for the specified subtree. Note: recursive!
+     *
+     * @param subtree the subtree to analyze (not null, unaffected)
+     * @param materials the distinct materials found so far (not null, added
+     * to)
+     * @param meshes the distinct meshes found so far (not null, added to)
+     */
+    private void gather(Spatial subtree, List<Material> materials,
+            Map<Mesh, Mesh> meshes) {
+        numSgcs += subtree.getNumControls();
+        if (subtree.getLocalCullHint() == Spatial.CullHint.Always) {
+            ++numHiddens;
+        }
+        Transform transform = subtree.getLocalTransform(); // alias
+        if (!MyMath.isIdentity(transform)) {
+            ++numTransforms;
+        }
+
+        if (subtree instanceof Geometry) {
+            Geometry geometry = (Geometry) subtree;
+            Material material = geometry.getMaterial();
+            if (material != null && !materials.contains(material)) {
+                materials.add(material);
+            }
+            Mesh mesh = geometry.getMesh();
+            numVertices += mesh.getVertexCount();
+            if (!meshes.containsKey(mesh)) {
+                meshes.put(mesh, mesh);
+            }
+
+        } else if (subtree instanceof Node) {
+            ++numNodes;
+            Node node = (Node) subtree;
+            List<Spatial> children = node.getChildren();
+            for (Spatial child : children) {
+                gather(child, materials, meshes);
+            }
+        }
+    }
+
+    /**
+     * Regather the statistics if the C-G model has been edited or reloaded
+     * since they were last gathered.
+     */
+    private void refresh() {
+        Spatial root = cgm.isLoaded() ? cgm.getRootSpatial() : null;
+        int edits = cgm.countAllEdits();
+        if (isValid && root == stampRoot && edits == stampEdits) {
+            return;
+        }
+
+        numHiddens = 0;
+        numNodes = 0;
+        numSgcs = 0;
+        numTransforms = 0;
+        numVertices = 0;
+        List<Material> materials = new ArrayList<>(8);
+        Map<Mesh, Mesh> meshes = new IdentityHashMap<>(8);
+        if (root != null) {
+            gather(root, materials, meshes);
+        }
+        numMaterials = materials.size();
+        numMeshes = meshes.size();
+        distinctMeshes = new ArrayList<>(meshes.keySet());
+        numSkeletons = cgm.countSkeletons();
+        numTextures = cgm.getTexture().countNonNulls();
+
+        stampEdits = edits;
+        stampRoot = root;
+        isValid = true;
+    }
+}
@@ -36,9 +36,14 @@ import com.jme3.util.clone.JmeCloneable;
 import java.util.logging.Logger;
 import jme3utilities.Validate;
 import jme3utilities.wes.Pose;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * MVC model of a displayed pose in the Editor screen.
+ * <p>
+ * All alterations go through this class, so that each one assigns a new
+ * {@link #version()}. Don't alter the Pose returned by {@link #get()}.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -54,11 +59,20 @@ public class DisplayedPose implements JmeCloneable {
     // *************************************************************************
     // fields
 
+    /**
+     * most recent version assigned to any displayed pose
+     */
+    private static long lastVersion = 0L;
     /**
      * false &rarr; update displayed pose when animation time changes, true
      * &rarr; don't update
      */
     private boolean frozenFlag = false;
+    /**
+     * version of the current pose, unique to its bone transforms and
+     * skeleton among all displayed poses
+     */
+    private long version = 0L;
     /**
      * C-G model holding the pose (set by {@link #setCgm(Cgm)})
      */
@@ -90,12 +104,37 @@ public class DisplayedPose implements JmeCloneable {
         return frozenFlag;
     }
 
+    /**
+     * Reset the user/animation rotation of the indexed bone to identity.
+     *
+     * @param boneIndex which bone to rotate (&ge;0)
+     */
+    void resetRotation(int boneIndex) {
+        assert boneIndex >= 0 : boneIndex;
+
+        noteChange();
+        pose.resetRotation(boneIndex);
+    }
+
+    /**
+     * Reset the user/animation scale of the indexed bone to identity.
+     *
+     * @param boneIndex which bone to scale (&ge;0)
+     */
+    void resetScale(int boneIndex) {
+        assert boneIndex >= 0 : boneIndex;
+
+        noteChange();
+        pose.resetScale(boneIndex);
+    }
+
     /**
      * Change skeletons and reset the pose to bind pose.
      *
      * @param skeleton the Armature or Skeleton (alias created) or null
      */
     void resetToBind(Object skeleton) {
+        noteChange();
         if (skeleton instanceof Armature) {
             this.pose = new Pose((Armature) skeleton);
             pose.setToBind();
@@ -104,6 +143,18 @@ public class DisplayedPose implements JmeCloneable {
         }
     }
 
+    /**
+     * Reset the user/animation translation of the indexed bone to zero.
+     *
+     * @param boneIndex which bone to translate (&ge;0)
+     */
+    void resetTranslation(int boneIndex) {
+        assert boneIndex >= 0 : boneIndex;
+
+        noteChange();
+        pose.resetTranslation(boneIndex);
+    }
+
     /**
      * Alter which C-G model displays the pose. (Invoked only during
      * initialization and cloning.)
@@ -125,6 +176,7 @@ public class DisplayedPose implements JmeCloneable {
      * animation time changes, true &rarr; don't update
      */
     public void setFrozen(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Playback);
         if (frozenFlag && !newSetting) {
             setToAnimation();
         }
@@ -137,11 +189,28 @@ public class DisplayedPose implements JmeCloneable {
      * @param boneIndex which bone to rotate (&ge;0)
      * @param userRotation the desired rotation (not null, unaffected)
      */
-    void setRotation(int boneIndex, Quaternion userRotation) {
-        assert boneIndex >= 0 : boneIndex;
+    public void setRotation(int boneIndex, Quaternion userRotation) {
+        Validate.nonNegative(boneIndex, "bone index");
+        Validate.nonNull(userRotation, "user rotation");
+
+        noteChange();
         pose.setRotation(boneIndex, userRotation);
     }
 
+    /**
+     * Alter the user/animation scale of the indexed bone.
+     *
+     * @param boneIndex which bone to scale (&ge;0)
+     * @param userScale the desired scale factors (not null, unaffected)
+     */
+    public void setScale(int boneIndex, Vector3f userScale) {
+        Validate.nonNegative(boneIndex, "bone index");
+        Validate.nonNull(userScale, "user scale");
+
+        noteChange();
+        pose.setScale(boneIndex, userScale);
+    }
+
     /**
      * Alter the scale of the indexed bone to match the loaded animation.
      *
@@ -150,6 +219,8 @@ public class DisplayedPose implements JmeCloneable {
     void setScaleToAnimation(int boneIndex) {
         assert boneIndex >= 0 : boneIndex;
 
+        noteChange();
+
         Transform animT = cgm.getAnimation().boneTransform(boneIndex, null);
         Vector3f animV = animT.getScale(); // alias
         pose.setScale(boneIndex, animV);
@@ -159,6 +230,7 @@ public class DisplayedPose implements JmeCloneable {
      * Alter the pose to match the loaded animation.
      */
     public void setToAnimation() {
+        noteChange();
         Transform transform = new Transform();
         for (int boneIndex : pose.preOrderIndices()) {
             cgm.getAnimation().boneTransform(boneIndex, transform);
@@ -173,6 +245,20 @@ public class DisplayedPose implements JmeCloneable {
         }
     }
 
+    /**
+     * Alter the user/animation translation of the indexed bone.
+     *
+     * @param boneIndex which bone to translate (&ge;0)
+     * @param userTranslation the desired offset (not null, unaffected)
+     */
+    public void setTranslation(int boneIndex, Vector3f userTranslation) {
+        Validate.nonNegative(boneIndex, "bone index");
+        Validate.nonNull(userTranslation, "user translation");
+
+        noteChange();
+        pose.setTranslation(boneIndex, userTranslation);
+    }
+
     /**
      * Alter the translation of the indexed bone to match the loaded animation.
      *
@@ -181,6 +267,8 @@ public class DisplayedPose implements JmeCloneable {
     void setTranslationToAnimation(int boneIndex) {
         assert boneIndex >= 0 : boneIndex;
 
+        noteChange();
+
         Transform animT = cgm.getAnimation().boneTransform(boneIndex, null);
         Vector3f animV = animT.getTranslation(); // alias
         pose.setTranslation(boneIndex, animV);
@@ -190,9 +278,22 @@ public class DisplayedPose implements JmeCloneable {
      * Toggle whether the pose is frozen.
      */
     public void toggleFrozen() {
+        ModelVersion.bump(ModelAspect.Playback);
         setFrozen(!frozenFlag);
     }
 
+    /**
+     * Read the version of the pose. Each alteration of any displayed pose
+     * assigns a new version, so equal versions imply identical bone
+     * transforms. A clone shares its original's version until either is
+     * altered.
+     *
+     * @return the version number (&ge;0)
+     */
+    public long version() {
+        return version;
+    }
+
     /**
      * Calculate the world location of the indexed bone in the scene view.
      *
@@ -253,4 +354,16 @@ public class DisplayedPose implements JmeCloneable {
             throw new RuntimeException(exception);
         }
     }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Assign a new version to the pose and note the change in the Playback
+     * aspect. Invoke before each alteration.
+     */
+    private void noteChange() {
+        ++lastVersion;
+        version = lastVersion;
+        ModelVersion.bump(ModelAspect.Playback);
+    }
 }
@@ -88,13 +88,18 @@ import jme3utilities.NameGenerator;
 import jme3utilities.Validate;
 import jme3utilities.minie.MyControlP;
 import jme3utilities.wes.AnimationEdit;
+import maud.FlightEventType;
+import maud.FlightEvents;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.MeshUtil;
 import maud.ParseUtil;
 import maud.PhysicsUtil;
+import maud.SkinningCache;
 import maud.model.EditState;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.view.scene.SceneView;
 
 /**
@@ -134,42 +139,38 @@ public class EditableCgm extends LoadedCgm {
      */
     void addAnimation(Object newAnim) {
         assert newAnim instanceof AnimClip || newAnim instanceof Animation;
-        SelectedAnimControl sac = getAnimControl();
-        String newAnimName;
-        if (newAnim instanceof AnimClip) {
-            newAnimName = ((AnimClip) newAnim).getName();
-        } else {
-            newAnimName = ((Animation) newAnim).getName();
-        }
-        assert !sac.hasRealAnimation(newAnimName);
 
         History.autoAdd();
-        AbstractControl control = sac.find();
-        if (control == null) {
-            SelectedSkeleton ss = getSkeleton();
-            Object skeleton = ss.find();
-            assert skeleton != null;
-            if (skeleton instanceof Skeleton) {
-                control = new AnimControl((Skeleton) skeleton);
-            } else {
-                control = new AnimComposer();
-            }
-
-            Spatial skeletonSpatial = ss.findSpatial();
-            skeletonSpatial.addControl(control);
-        }
-        if (newAnim instanceof AnimClip) {
-            AnimClip clip = (AnimClip) newAnim;
-            ((AnimComposer) control).addAnimClip(clip);
-        } else {
-            Animation animation = (Animation) newAnim;
-            ((AnimControl) control).addAnim(animation);
-        }
+        String newAnimName = attachAnimation(newAnim);
         String description
                 = "add animation " + MyString.quote(newAnimName);
         editState.setEdited(description);
     }
 
+    /**
+     * Add new animations to the selected animation control as a single edit.
+     *
+     * @param newAnims the AnimClips and/or Animations to add (not null, names
+     * distinct and not in use)
+     * @param eventDescription a textual description of the event for the edit
+     * history (not null, not empty)
+     */
+    void addAnimations(List<Object> newAnims, String eventDescription) {
+        assert newAnims != null;
+        assert eventDescription != null;
+        assert !eventDescription.isEmpty();
+
+        if (newAnims.isEmpty()) {
+            return;
+        }
+
+        History.autoAdd();
+        for (Object newAnim : newAnims) {
+            attachAnimation(newAnim);
+        }
+        editState.setEdited(eventDescription);
+    }
+
     /**
      * Add an attachments node for the selected bone.
      */
@@ -272,6 +273,7 @@ public class EditableCgm extends LoadedCgm {
 
         String description = String.format("merge %s geometries to %s",
                 geometries.length, MyString.quote(name));
+        invalidateMeshCaches();
         editState.setEdited(description);
     }
 
@@ -424,6 +426,7 @@ public class EditableCgm extends LoadedCgm {
         History.autoAdd();
         sceneView.attachSpatial(parentPosition, subtree);
         targetNode.attachChild(subtree);
+        invalidateMeshCaches();
         editState.setEdited(eventDescription);
     }
 
@@ -431,10 +434,12 @@ public class EditableCgm extends LoadedCgm {
      * Clear the collision data of every Mesh in the C-G model.
      */
     public void clearCollisionTrees() {
+        ModelVersion.bump(ModelAspect.Content);
         List<Mesh> meshes = MyMesh.listMeshes(rootSpatial, null);
         for (Mesh mesh : meshes) {
             mesh.clearCollisionData();
         }
+        getStatistics().invalidate();
     }
 
     /**
@@ -458,6 +463,7 @@ public class EditableCgm extends LoadedCgm {
             String description = String.format(
                     "split %s into %d using tolerance=%f",
                     MyString.quote(oldName), numSubmeshes, tolerance);
+            invalidateMeshCaches();
             editState.setEdited(description);
         }
     }
@@ -479,6 +485,7 @@ public class EditableCgm extends LoadedCgm {
             }
             String eventDescription
                     = String.format("delete %d children", numChildren);
+            invalidateMeshCaches();
             editState.setEdited(eventDescription);
         }
     }
@@ -564,6 +571,7 @@ public class EditableCgm extends LoadedCgm {
             int numDeleted = oldNumSpatials - newNumSpatials;
             String description = String.format("delete %d extra spatial%s",
                     numDeleted, numDeleted == 1 ? "" : "s");
+            invalidateMeshCaches();
             editState.setEdited(description);
         }
     }
@@ -649,6 +657,7 @@ public class EditableCgm extends LoadedCgm {
         History.autoAdd();
         Spatial subtree = ss.find();
         deleteSubtree(subtree);
+        invalidateMeshCaches();
         editState.setEdited("delete subtree");
     }
 
@@ -685,6 +694,7 @@ public class EditableCgm extends LoadedCgm {
             oldParent.attachChild(newNode);
         } else {
             rootSpatial = newNode;
+            invalidateSpatialIndex();
         }
         newNode.attachChild(selectedSpatial);
         /*
@@ -704,9 +714,20 @@ public class EditableCgm extends LoadedCgm {
 
         String eventDescription = String.format("insert parent %s",
                 MyString.quote(newNodeName));
+        invalidateMeshCaches();
         editState.setEdited(eventDescription);
     }
 
+    /**
+     * Discard cached data derived from meshes and vertex buffers. Invoke
+     * after any edit that alters the scene graph's meshes.
+     */
+    void invalidateMeshCaches() {
+        getSkeleton().invalidateInfluencers();
+        SkinningCache.invalidateAll();
+        VertexTree.invalidateAll();
+    }
+
     /**
      * Add a BoneLink for the named bone to the selected ragdoll.
      *
@@ -766,6 +787,7 @@ public class EditableCgm extends LoadedCgm {
         String description = String.format(
                 "merge %s geometries to %s and delete them",
                 geometries.length, MyString.quote(name));
+        invalidateMeshCaches();
         editState.setEdited(description);
     }
 
@@ -797,6 +819,7 @@ public class EditableCgm extends LoadedCgm {
             sceneView.moveSpatial(targetPosition, spatialPosition);
             targetNode.attachChild(spatial);
         }
+        invalidateMeshCaches();
         editState.setEdited(eventDescription);
     }
 
@@ -1263,6 +1286,7 @@ public class EditableCgm extends LoadedCgm {
             TransformTrack transformTrack = (TransformTrack) track;
             transformTrack.setKeyframes(times, translations, rotations, scales);
         }
+        StaffTrack.invalidate(track);
         editState.setEdited("replace keyframes");
     }
 
@@ -1393,6 +1417,7 @@ public class EditableCgm extends LoadedCgm {
         History.autoAdd();
         geometry.setMesh(newMesh);
         getSceneView().setMesh(newMesh);
+        invalidateMeshCaches();
         editState.setEdited(eventDescription);
     }
 
@@ -1434,6 +1459,7 @@ public class EditableCgm extends LoadedCgm {
             getSceneView().setMeshWeights(newLimit);
             String description = String.format(
                     "set max weights of mesh to %d", newLimit);
+            invalidateMeshCaches();
             editState.setEdited(description);
         }
     }
@@ -1541,6 +1567,7 @@ public class EditableCgm extends LoadedCgm {
         Spatial selectedSpatial = getSpatial().find();
         selectedSpatial.setLocalRotation(rotation);
         String spatialPosition = selectedSpatial.toString();
+        getStatistics().invalidate();
         editState.setEditedSpatialTransform(spatialPosition);
     }
 
@@ -1558,6 +1585,7 @@ public class EditableCgm extends LoadedCgm {
         Spatial selectedSpatial = getSpatial().find();
         selectedSpatial.setLocalScale(scale);
         String position = selectedSpatial.toString();
+        getStatistics().invalidate();
         editState.setEditedSpatialTransform(position);
     }
 
@@ -1572,6 +1600,7 @@ public class EditableCgm extends LoadedCgm {
         Spatial selectedSpatial = getSpatial().find();
         selectedSpatial.setLocalTranslation(translation);
         String position = selectedSpatial.toString();
+        getStatistics().invalidate();
         editState.setEditedSpatialTransform(position);
     }
 
@@ -1666,6 +1695,7 @@ public class EditableCgm extends LoadedCgm {
         Validate.nonNull(format, "format");
         Validate.nonEmpty(baseFilePath, "base file path");
 
+        Object event = FlightEvents.begin(FlightEventType.Save);
         String filePath = format.extend(baseFilePath);
         File file = new File(filePath);
         /*
@@ -1697,10 +1727,17 @@ public class EditableCgm extends LoadedCgm {
             System.err.println(exception);
             success = false;
         }
+        FlightEvents.end(event);
 
         String quotedPath = MyString.quote(filePath);
         if (success) {
             logger.log(Level.INFO, "Wrote model to file {0}", quotedPath);
+            if (event != null) {
+                FlightEvents.commit(event, getName(), filePath,
+                        MySpatial.countVertices(subtree),
+                        FlightEvents.countBones(subtree),
+                        FlightEvents.countTracks(subtree), file.length());
+            }
         } else {
             logger.log(Level.SEVERE,
                     "I/O exception while writing model to file {0}",
@@ -1769,6 +1806,18 @@ public class EditableCgm extends LoadedCgm {
         return clone;
     }
 
+    /**
+     * Count all edits to the C-G model, including saved ones, for detecting
+     * changes.
+     *
+     * @return count (&ge;0)
+     */
+    @Override
+    int countAllEdits() {
+        int result = editState.countAllEdits();
+        return result;
+    }
+
     /**
      * Invoked after successfully loading a C-G model.
      *
@@ -1791,6 +1840,48 @@ public class EditableCgm extends LoadedCgm {
     // *************************************************************************
     // private methods
 
+    /**
+     * Add an animation to the selected animation control, creating the control
+     * if necessary. Doesn't update the edit history.
+     *
+     * @param newAnim an AnimClip or Animation (not null, name not in use)
+     * @return the name of the added animation
+     */
+    private String attachAnimation(Object newAnim) {
+        SelectedAnimControl sac = getAnimControl();
+        String newAnimName;
+        if (newAnim instanceof AnimClip) {
+            newAnimName = ((AnimClip) newAnim).getName();
+        } else {
+            newAnimName = ((Animation) newAnim).getName();
+        }
+        assert !sac.hasRealAnimation(newAnimName);
+
+        AbstractControl control = sac.find();
+        if (control == null) {
+            SelectedSkeleton ss = getSkeleton();
+            Object skeleton = ss.find();
+            assert skeleton != null;
+            if (skeleton instanceof Skeleton) {
+                control = new AnimControl((Skeleton) skeleton);
+            } else {
+                control = new AnimComposer();
+            }
+
+            Spatial skeletonSpatial = ss.findSpatial();
+            skeletonSpatial.addControl(control);
+        }
+        if (newAnim instanceof AnimClip) {
+            AnimClip clip = (AnimClip) newAnim;
+            ((AnimComposer) control).addAnimClip(clip);
+        } else {
+            Animation animation = (Animation) newAnim;
+            ((AnimControl) control).addAnim(animation);
+        }
+
+        return newAnimName;
+    }
+
     /**
      * Delete all "extra" spatials among a node's descendents. Note: recursive!
      *
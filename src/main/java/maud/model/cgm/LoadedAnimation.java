@@ -29,7 +29,6 @@ package maud.model.cgm;
 import com.jme3.anim.AnimClip;
 import com.jme3.anim.AnimComposer;
 import com.jme3.anim.AnimTrack;
-import com.jme3.anim.Armature;
 import com.jme3.anim.Joint;
 import com.jme3.anim.MorphTrack;
 import com.jme3.anim.TransformTrack;
@@ -37,7 +36,6 @@ import com.jme3.anim.util.HasLocalTransform;
 import com.jme3.animation.AnimControl;
 import com.jme3.animation.Animation;
 import com.jme3.animation.BoneTrack;
-import com.jme3.animation.Skeleton;
 import com.jme3.animation.SpatialTrack;
 import com.jme3.animation.Track;
 import com.jme3.math.Quaternion;
@@ -51,7 +49,6 @@ import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import jme3utilities.InfluenceUtil;
 import jme3utilities.MyAnimation;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
@@ -59,10 +56,14 @@ import jme3utilities.math.MyMath;
 import jme3utilities.wes.Pose;
 import jme3utilities.wes.TrackEdit;
 import jme3utilities.wes.TweenTransforms;
+import maud.FlightEventType;
+import maud.FlightEvents;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditableMap;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the loaded animation in a C-G model. For loading purposes,
@@ -135,6 +136,7 @@ public class LoadedAnimation implements Cloneable {
         float neckTime = cgm.getPlay().getTime();
         assert neckTime > 0f : neckTime;
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         Object newAnim;
         Object newSelectedTrack = null;
 
@@ -199,6 +201,7 @@ public class LoadedAnimation implements Cloneable {
                 neckTime);
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "behead");
         load(loadedName);
     }
 
@@ -380,6 +383,7 @@ public class LoadedAnimation implements Cloneable {
         float atTime = cgm.getPlay().getTime();
         assert atTime > 0f : atTime;
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         int numDeletions = 0;
         Object oldSelectedTrack = cgm.getTrack().get();
         Object newSelectedTrack = null;
@@ -423,6 +427,7 @@ public class LoadedAnimation implements Cloneable {
             Object oldAnim = getReal();
             editableCgm.replace(
                     oldAnim, newAnim, eventDescription, newSelectedTrack);
+            commitEvent(event, "deleteKeyframes");
         }
     }
 
@@ -735,6 +740,7 @@ public class LoadedAnimation implements Cloneable {
      * at the current animation time, to match the displayed pose.
      */
     public void insertKeyframes() {
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float atTime = cgm.getPlay().getTime();
         Pose pose = cgm.getPose().get();
 
@@ -791,6 +797,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "insertKeyframes");
     }
 
     /**
@@ -925,6 +932,7 @@ public class LoadedAnimation implements Cloneable {
     public void load(String name) {
         Validate.nonNull(name, "animation name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (name.equals(bindPoseName)) {
             loadBindPose(true);
         } else if (name.equals(retargetedPoseName)) {
@@ -948,6 +956,7 @@ public class LoadedAnimation implements Cloneable {
      * @param resetDisplayedPose true to reset, false to leave unchanged
      */
     public void loadBindPose(boolean resetDisplayedPose) {
+        ModelVersion.bump(ModelAspect.Selection);
         loadedName = bindPoseName;
         cgm.getPlay().resetLimits();
         cgm.getPlay().setSpeed(0f);
@@ -964,6 +973,7 @@ public class LoadedAnimation implements Cloneable {
      * Load the next animation in name-sorted order.
      */
     public void loadNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (cgm.isLoaded() && isReal()) {
             List<String> nameList
                     = cgm.getAnimControl().listRealAnimationsSorted();
@@ -979,6 +989,7 @@ public class LoadedAnimation implements Cloneable {
      * Load the next animation in name-sorted order.
      */
     public void loadPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (cgm.isLoaded() && isReal()) {
             List<String> nameList
                     = cgm.getAnimControl().listRealAnimationsSorted();
@@ -994,6 +1005,7 @@ public class LoadedAnimation implements Cloneable {
      * Load retargeted pose.
      */
     public void loadRetargetedPose() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (Maud.getModel().getSource().isLoaded()
                 && cgm.getSkeleton().isSelected()) {
             loadedName = retargetedPoseName;
@@ -1047,6 +1059,7 @@ public class LoadedAnimation implements Cloneable {
         Validate.inRange(factor, "reduction factor", 2, Integer.MAX_VALUE);
         assert isReal();
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         Object newSelectedTrack = null;
         Object oldSelectedTrack = cgm.getTrack().get();
         TmpTracks.clear();
@@ -1077,6 +1090,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "reduce");
     }
 
     /**
@@ -1126,6 +1140,7 @@ public class LoadedAnimation implements Cloneable {
      * Reverse all bone/spatial tracks.
      */
     public void reverse() {
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         Object newSelectedTrack = null;
         Object oldSelectedTrack = cgm.getTrack().get();
         TmpTracks.clear();
@@ -1155,6 +1170,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "reverse");
         load(loadedName);
     }
 
@@ -1168,6 +1184,7 @@ public class LoadedAnimation implements Cloneable {
         Validate.positive(sampleRate, "sample rate");
         assert isReal();
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float duration = duration();
         Object newSelectedTrack = null;
         TweenTransforms techniques = Maud.getModel().getTweenTransforms();
@@ -1202,6 +1219,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "resampleAtRate");
     }
 
     /**
@@ -1214,6 +1232,7 @@ public class LoadedAnimation implements Cloneable {
         Validate.inRange(numSamples, "number of samples", 2, Integer.MAX_VALUE);
         assert isReal();
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float duration = duration();
         assert duration > 0f : duration;
         Object newSelectedTrack = null;
@@ -1250,6 +1269,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "resampleToNumber");
     }
 
     /**
@@ -1279,6 +1299,7 @@ public class LoadedAnimation implements Cloneable {
     public void setDurationProportional(float newDuration) {
         Validate.nonNegative(newDuration, "new duration");
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float oldDuration = duration();
         if (oldDuration == newDuration) {
             return;
@@ -1314,6 +1335,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "setDurationProportional");
         load(loadedName);
     }
 
@@ -1326,6 +1348,7 @@ public class LoadedAnimation implements Cloneable {
     public void setDurationSame(float newDuration) {
         Validate.nonNegative(newDuration, "new duration");
 
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float oldDuration = duration();
         if (oldDuration == newDuration) {
             return;
@@ -1373,6 +1396,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "setDurationSame");
         load(loadedName);
     }
 
@@ -1381,18 +1405,11 @@ public class LoadedAnimation implements Cloneable {
      * as well as any tracks for bones with no influence.
      */
     public void simplify() {
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         BitSet influencers = null;
         SelectedSkeleton ss = cgm.getSkeleton();
         if (ss.isSelected()) {
-            Object skeleton = ss.find();
-            Spatial subtree = ss.findSpatial();
-            if (skeleton instanceof Armature) {
-                influencers = InfluenceUtil.addAllInfluencers(
-                        subtree, (Armature) skeleton);
-            } else {
-                influencers = InfluenceUtil.addAllInfluencers(
-                        subtree, (Skeleton) skeleton);
-            }
+            influencers = ss.listInfluencers(null);
         }
 
         Object newSelectedTrack = null;
@@ -1430,6 +1447,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "simplify");
     }
 
     /**
@@ -1437,6 +1455,7 @@ public class LoadedAnimation implements Cloneable {
      * of the animation.
      */
     public void truncate() {
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float endTime = cgm.getPlay().getTime();
         Object newSelectedTrack = null;
         Object oldSelectedTrack = cgm.getTrack().get();
@@ -1479,6 +1498,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "truncate");
         load(loadedName);
     }
 
@@ -1490,6 +1510,7 @@ public class LoadedAnimation implements Cloneable {
      * keyframes, if any exist (&ge;0, &le;1)
      */
     public void wrapAllTracks(float endWeight) {
+        Object event = FlightEvents.begin(FlightEventType.AnimationEdit);
         float duration = duration();
         Object newSelectedTrack = null;
         Object oldSelectedTrack = cgm.getTrack().get();
@@ -1523,6 +1544,7 @@ public class LoadedAnimation implements Cloneable {
         Object oldAnim = getReal();
         editableCgm.replace(
                 oldAnim, newAnim, eventDescription, newSelectedTrack);
+        commitEvent(event, "wrapAllTracks");
     }
     // *************************************************************************
     // Object methods
@@ -1541,6 +1563,21 @@ public class LoadedAnimation implements Cloneable {
     // *************************************************************************
     // private methods
 
+    /**
+     * End and commit an AnimationEdit flight event for a bulk operation that
+     * has just replaced the loaded animation.
+     *
+     * @param event the event returned by FlightEvents.begin(), or null
+     * @param operation the name of the operation (not null, not empty)
+     */
+    private void commitEvent(Object event, String operation) {
+        if (event != null) {
+            FlightEvents.end(event);
+            FlightEvents.commit(event, editableCgm.getName(), loadedName,
+                    operation, countTracks());
+        }
+    }
+
     /**
      * Load the named real animation (not bind/retargeted pose) at t=0 with the
      * specified playback speed.
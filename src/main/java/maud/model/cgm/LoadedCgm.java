@@ -42,11 +42,15 @@ import jme3utilities.Validate;
 import jme3utilities.ui.ActionApplication;
 import jme3utilities.ui.Locators;
 import maud.CheckLoaded;
+import maud.FlightEventType;
+import maud.FlightEvents;
 import maud.LoadUtil;
 import maud.Maud;
 import maud.dialog.EditorDialogs;
 import maud.menu.BuildMenus;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.ShowBones;
 
 /**
@@ -290,6 +294,8 @@ public class LoadedCgm extends Cgm {
 
         CheckLoaded.cgm(cgmRoot);
         rootSpatial = Heart.deepCopy(cgmRoot);
+        invalidateSpatialIndex();
+        ModelVersion.bump(ModelAspect.Content);
         getVertex().deselect();
         getSceneView().loadCgm(cgmRoot);
         updateSceneWireframe();
@@ -395,6 +401,7 @@ public class LoadedCgm extends Cgm {
      */
     private Spatial loadFromAsset(String assetPath, boolean useCache,
             boolean diagnose) {
+        Object event = FlightEvents.begin(FlightEventType.Load);
         AssetManager assetManager = Locators.getAssetManager();
         Locators.save();
         /*
@@ -431,6 +438,7 @@ public class LoadedCgm extends Cgm {
 
             loaded = LoadUtil.loadCgmAsset(assetManager, key, diagnose);
         }
+        FlightEvents.end(event);
 
         if (loaded == null) {
             logger.log(Level.SEVERE, "Failed to load model from asset {0}",
@@ -452,6 +460,14 @@ public class LoadedCgm extends Cgm {
             }
             assetRootPath = Locators.getRootPath();
             name = loaded.getName();
+
+            if (event != null) {
+                FlightEvents.commit(event, name, assetPath,
+                        MySpatial.countVertices(loaded),
+                        FlightEvents.countBones(loaded),
+                        FlightEvents.countTracks(loaded),
+                        FlightEvents.countMeshBytes(loaded));
+            }
         }
 
         Locators.restore();
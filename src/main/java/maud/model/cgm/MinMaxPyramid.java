@@ -0,0 +1,149 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model.cgm;
+
+import java.util.logging.Logger;
+
+/**
+ * A multi-resolution pyramid of minima and maxima over a sequence of values,
+ * for finding the extremes of any index range in logarithmic time.
+ * <p>
+ * Level 0 holds the values themselves. Each element of a higher level holds
+ * the extremes of 2 adjacent elements of the level below.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class MinMaxPyramid {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MinMaxPyramid.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * maxima, indexed by level and then by position
+     */
+    final private float[][] maxima;
+    /**
+     * minima, indexed by level and then by position
+     */
+    final private float[][] minima;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Build a pyramid for the specified values.
+     *
+     * @param values the values (not null, not empty, alias created)
+     */
+    MinMaxPyramid(float[] values) {
+        assert values.length > 0;
+
+        int numLevels = 1;
+        int levelLength = values.length;
+        while (levelLength > 1) {
+            levelLength = (levelLength + 1) / 2;
+            ++numLevels;
+        }
+        maxima = new float[numLevels][];
+        minima = new float[numLevels][];
+        maxima[0] = values;
+        minima[0] = values;
+
+        for (int level = 1; level < numLevels; ++level) {
+            float[] lowerMax = maxima[level - 1];
+            float[] lowerMin = minima[level - 1];
+            int lowerLength = lowerMax.length;
+            int length = (lowerLength + 1) / 2;
+            float[] max = new float[length];
+            float[] min = new float[length];
+            for (int i = 0; i < length; ++i) {
+                int left = 2 * i;
+                int right = Math.min(left + 1, lowerLength - 1);
+                max[i] = Math.max(lowerMax[left], lowerMax[right]);
+                min[i] = Math.min(lowerMin[left], lowerMin[right]);
+            }
+            maxima[level] = max;
+            minima[level] = min;
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the minimum and maximum of the values in the specified index range.
+     *
+     * @param fromIndex the index of the first value (&ge;0, &le;toIndex)
+     * @param toIndex the index of the last value (&lt;size)
+     * @param storeResult storage for the minimum (element 0) and maximum
+     * (element 1) (not null, length&ge;2, modified)
+     */
+    void minMax(int fromIndex, int toIndex, float[] storeResult) {
+        assert fromIndex >= 0 : fromIndex;
+        assert fromIndex <= toIndex : fromIndex;
+        assert toIndex < size() : toIndex;
+
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
+        int low = fromIndex;
+        int high = toIndex;
+        for (int level = 0; low <= high; ++level) {
+            float[] levelMax = maxima[level];
+            float[] levelMin = minima[level];
+            if ((low & 0x1) == 1) {
+                max = Math.max(max, levelMax[low]);
+                min = Math.min(min, levelMin[low]);
+                ++low;
+            }
+            if ((high & 0x1) == 0) {
+                max = Math.max(max, levelMax[high]);
+                min = Math.min(min, levelMin[high]);
+                --high;
+            }
+            low /= 2;
+            high = (high < 0) ? -1 : high / 2;
+        }
+
+        storeResult[0] = min;
+        storeResult[1] = max;
+    }
+
+    /**
+     * Count the values.
+     *
+     * @return the count (&gt;0)
+     */
+    int size() {
+        int result = maxima[0].length;
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model.cgm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * An immutable index of names, for enumerating the names that begin with a
+ * specified prefix in logarithmic time plus the size of the result.
+ * <p>
+ * Each index records the inputs it was built from (its "stamp") so the owner
+ * can tell when it's stale.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class NameIndex {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(NameIndex.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * position of each sorted name in the original sequence
+     */
+    final private int[] positions;
+    /**
+     * inputs from which the index was built
+     */
+    final private Object[] stamp;
+    /**
+     * names in their original sequence
+     */
+    final private String[] names;
+    /**
+     * names in lexicographic order
+     */
+    final private String[] sortedNames;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Build an index for the specified names.
+     *
+     * @param names the names, in the order they should be enumerated (not
+     * null, unaffected)
+     * @param stamp the inputs from which the names were derived (not null,
+     * alias created)
+     */
+    NameIndex(List<String> names, Object... stamp) {
+        int numNames = names.size();
+        this.names = names.toArray(new String[numNames]);
+        this.stamp = stamp;
+
+        Integer[] order = new Integer[numNames];
+        for (int position = 0; position < numNames; ++position) {
+            order[position] = position;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return NameIndex.this.names[a].compareTo(
+                        NameIndex.this.names[b]);
+            }
+        });
+
+        positions = new int[numNames];
+        sortedNames = new String[numNames];
+        for (int i = 0; i < numNames; ++i) {
+            positions[i] = order[i];
+            sortedNames[i] = this.names[order[i]];
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test whether the index was built from the specified inputs.
+     *
+     * @param stamp the current inputs (not null, unaffected)
+     * @return true if the inputs match, otherwise false
+     */
+    boolean isCurrent(Object... stamp) {
+        boolean result = Arrays.equals(this.stamp, stamp);
+        return result;
+    }
+
+    /**
+     * Enumerate the names that begin with the specified prefix, in their
+     * original sequence.
+     *
+     * @param prefix the name prefix (not null, may be empty)
+     * @return a new list of names
+     */
+    List<String> list(String prefix) {
+        assert prefix != null;
+
+        List<String> result;
+        if (prefix.isEmpty()) {
+            result = new ArrayList<>(Arrays.asList(names));
+            return result;
+        }
+        /*
+         * Binary search for the first name not less than the prefix.
+         * All matching names follow it contiguously.
+         */
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedNames[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = low;
+        while (end < sortedNames.length
+                && sortedNames[end].startsWith(prefix)) {
+            ++end;
+        }
+
+        int numMatches = end - low;
+        int[] matches = Arrays.copyOfRange(positions, low, end);
+        Arrays.sort(matches);
+        result = new ArrayList<>(numMatches);
+        for (int position : matches) {
+            result.add(names[position]);
+        }
+
+        return result;
+    }
+}
@@ -28,6 +28,8 @@ package maud.model.cgm;
 
 import java.util.logging.Logger;
 import jme3utilities.Validate;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of animation playback options for a particular C-G model. For
@@ -152,6 +154,7 @@ public class PlayOptions implements Cloneable {
      * Reset the time limits.
      */
     public void resetLimits() {
+        ModelVersion.bump(ModelAspect.Playback);
         lowerLimit = 0f;
         upperLimit = Float.MAX_VALUE;
     }
@@ -176,6 +179,7 @@ public class PlayOptions implements Cloneable {
      * once-through and then pause
      */
     public void setContinue(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Playback);
         continueFlag = newSetting;
     }
 
@@ -186,6 +190,8 @@ public class PlayOptions implements Cloneable {
      */
     public void setLowerLimit(float newLimit) {
         Validate.inRange(newLimit, "new limit", 0f, upperLimit);
+
+        ModelVersion.bump(ModelAspect.Playback);
         lowerLimit = newLimit;
     }
 
@@ -195,6 +201,7 @@ public class PlayOptions implements Cloneable {
      * @param newSetting true &rarr; paused, false &rarr; running
      */
     public void setPaused(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Playback);
         pausedFlag = newSetting;
     }
 
@@ -204,6 +211,7 @@ public class PlayOptions implements Cloneable {
      * @param newSetting true &rarr; pinned, false &rarr; free to translate
      */
     public void setPinned(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Playback);
         pinnedFlag = newSetting;
     }
 
@@ -213,6 +221,7 @@ public class PlayOptions implements Cloneable {
      * @param newSetting true &rarr; reverse, false &rarr; wrap
      */
     public void setReverse(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Playback);
         reverseFlag = newSetting;
     }
 
@@ -222,6 +231,7 @@ public class PlayOptions implements Cloneable {
      * @param newSpeed (1 &rarr; forward at normal speed)
      */
     public void setSpeed(float newSpeed) {
+        ModelVersion.bump(ModelAspect.Playback);
         speed = newSpeed;
     }
 
@@ -233,6 +243,7 @@ public class PlayOptions implements Cloneable {
      * @param newTime seconds since start (&ge;0, &le;duration)
      */
     public void setTime(float newTime) {
+        ModelVersion.bump(ModelAspect.Playback);
         float duration = cgm.getAnimation().duration();
         Validate.inRange(newTime, "new time", 0f, duration);
 
@@ -254,6 +265,7 @@ public class PlayOptions implements Cloneable {
     public void setTime(PlayTimes whichTime, float newValue) {
         Validate.nonNegative(newValue, "new value");
 
+        ModelVersion.bump(ModelAspect.Playback);
         switch (whichTime) {
             case Current:
                 setTime(newValue);
@@ -279,6 +291,8 @@ public class PlayOptions implements Cloneable {
      */
     public void setUpperLimit(float newLimit) {
         Validate.inRange(newLimit, "new limit", lowerLimit, Float.MAX_VALUE);
+
+        ModelVersion.bump(ModelAspect.Playback);
         upperLimit = newLimit;
     }
 
@@ -286,6 +300,7 @@ public class PlayOptions implements Cloneable {
      * Toggle between explicitly paused and playing.
      */
     public void togglePaused() {
+        ModelVersion.bump(ModelAspect.Playback);
         setPaused(!pausedFlag);
     }
 
@@ -46,6 +46,11 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
@@ -58,6 +63,8 @@ import jme3utilities.wes.TweenTransforms;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.WhichCgm;
 
 /**
@@ -110,6 +117,7 @@ public class SelectedAnimControl implements JmeCloneable {
         assert !MaudUtil.isReservedAnimationName(animationName) : animationName;
         assert !hasRealAnimation(animationName) : animationName;
 
+        ModelVersion.bump(ModelAspect.Selection);
         EditorModel model = Maud.getModel();
 
         Cgm cgm1 = model.getCgm(which1);
@@ -175,6 +183,7 @@ public class SelectedAnimControl implements JmeCloneable {
         assert !MaudUtil.isReservedAnimationName(newAnimName) : newAnimName;
         assert !hasRealAnimation(newAnimName) : newAnimName;
 
+        ModelVersion.bump(ModelAspect.Selection);
         LoadedAnimation loaded = cgm.getAnimation();
         Object oldAnim = loaded.getReal();
         Object copy;
@@ -216,6 +225,7 @@ public class SelectedAnimControl implements JmeCloneable {
     public void addExtract(String newAnimName) {
         Validate.nonNull(newAnimName, "new animation name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object real = cgm.getAnimation().getReal();
         float startTime = cgm.getPlay().getLowerLimit();
         float endTime = cgm.getPlay().getUpperLimit();
@@ -249,6 +259,7 @@ public class SelectedAnimControl implements JmeCloneable {
         assert !MaudUtil.isReservedAnimationName(animationName) : animationName;
         assert !hasRealAnimation(animationName) : animationName;
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<TrackItem> allTracks = cgm.listTrackItems();
         String[] argArray = indices.split(",");
         int numTracks = argArray.length;
@@ -321,6 +332,7 @@ public class SelectedAnimControl implements JmeCloneable {
         assert !MaudUtil.isReservedAnimationName(newAnimName) : newAnimName;
         assert !hasRealAnimation(newAnimName) : newAnimName;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Pose pose = cgm.getPose().get();
         AbstractControl control = find();
         if (control instanceof AnimControl) {
@@ -342,6 +354,7 @@ public class SelectedAnimControl implements JmeCloneable {
     public void addRetarget(String newAnimName) {
         Validate.nonNull(newAnimName, "new animation name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Cgm source = Maud.getModel().getSource();
         Object sourceAnimation = source.getAnimation().getReal();
         Object sourceSkeleton = source.getSkeleton().find();
@@ -349,47 +362,106 @@ public class SelectedAnimControl implements JmeCloneable {
         SkeletonMapping effectiveMap = Maud.getModel().getMap().effectiveMap();
         TweenTransforms techniques = Maud.getModel().getTweenTransforms();
 
-        Object newAnim = null;
-        if (sourceAnimation instanceof Animation
-                && sourceSkeleton instanceof Skeleton
-                && targetSkeleton instanceof Skeleton) {
-            Animation newAnimation = AnimationEdit.retargetAnimation(
-                    (Animation) sourceAnimation, (Skeleton) sourceSkeleton,
-                    (Skeleton) targetSkeleton, effectiveMap, techniques,
-                    newAnimName);
+        Object newAnim = retarget(sourceAnimation, sourceSkeleton,
+                targetSkeleton, effectiveMap, techniques, newAnimName);
+        editableCgm.addAnimation(newAnim);
+    }
 
-            float duration = newAnimation.getLength();
-            assert duration >= 0f : duration;
+    /**
+     * Retarget all real animations in the source model's selected anim control
+     * and add the results to the animation control.
+     *
+     * @return the number of animations added (&ge;0)
+     */
+    public int addRetargetAll() {
+        Cgm source = Maud.getModel().getSource();
+        List<String> sourceNames
+                = source.getAnimControl().listRealAnimationsSorted();
+        int result = addRetargets(sourceNames);
 
-            newAnim = newAnimation;
+        return result;
+    }
 
-        } else if (sourceAnimation instanceof AnimClip
-                && sourceSkeleton instanceof Armature
-                && targetSkeleton instanceof Skeleton) {
+    /**
+     * Retarget the named animations in the source model's selected anim
+     * control, using a pool of worker threads, and add the results to the
+     * animation control in a single checkpoint. Each new animation gets the
+     * same name as its source. Source animations whose names are reserved or
+     * already in use are skipped.
+     *
+     * @param sourceNames the names of the source animations (not null)
+     * @return the number of animations added (&ge;0)
+     */
+    public int addRetargets(Collection<String> sourceNames) {
+        Validate.nonNull(sourceNames, "source names");
 
-            Animation newAnimation = AnimationEdit.retargetAnimation(
-                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
-                    (Skeleton) targetSkeleton, effectiveMap, newAnimName);
+        Cgm source = Maud.getModel().getSource();
+        SelectedAnimControl sourceControl = source.getAnimControl();
+        int numNames = sourceNames.size();
+        List<Object> sourceAnims = new ArrayList<>(numNames);
+        List<String> newNames = new ArrayList<>(numNames);
+        for (String name : sourceNames) {
+            Object sourceAnim = sourceControl.getAnimation(name);
+            if (sourceAnim == null) {
+                logger.log(Level.WARNING, "no source animation named {0}",
+                        MyString.quote(name));
+            } else if (MaudUtil.isReservedAnimationName(name)
+                    || hasRealAnimation(name)) {
+                logger.log(Level.WARNING, "skip {0}: name already in use",
+                        MyString.quote(name));
+            } else {
+                sourceAnims.add(sourceAnim);
+                newNames.add(name);
+            }
+        }
+        int numAnims = sourceAnims.size();
+        if (numAnims == 0) {
+            return 0;
+        }
 
-            float duration = newAnimation.getLength();
-            assert duration >= 0f : duration;
+        Object sourceSkeleton = source.getSkeleton().find();
+        Object targetSkeleton = editableCgm.getSkeleton().find();
+        SkeletonMapping effectiveMap = Maud.getModel().getMap().effectiveMap();
+        TweenTransforms techniques = Maud.getModel().getTweenTransforms();
+        /*
+         * Retarget each animation on a worker thread.  The skeletons and map
+         * are only read, but each task gets its own copy of the techniques.
+         */
+        int numProcessors = Runtime.getRuntime().availableProcessors();
+        int numThreads = Math.min(numAnims, numProcessors);
+        ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+        List<Future<Object>> futures = new ArrayList<>(numAnims);
+        try {
+            for (int animIndex = 0; animIndex < numAnims; ++animIndex) {
+                Object sourceAnim = sourceAnims.get(animIndex);
+                String name = newNames.get(animIndex);
+                RetargetTask task = new RetargetTask(sourceAnim,
+                        sourceSkeleton, targetSkeleton, effectiveMap,
+                        techniques.clone(), name);
+                Future<Object> future = pool.submit(task);
+                futures.add(future);
+            }
 
-            newAnim = newAnimation;
+            List<Object> newAnims = new ArrayList<>(numAnims);
+            for (Future<Object> future : futures) {
+                Object newAnim = future.get();
+                if (newAnim != null) {
+                    newAnims.add(newAnim);
+                }
+            }
+            String description = String.format(
+                    "add %d retargeted animations", newAnims.size());
+            editableCgm.addAnimations(newAnims, description);
 
-        } else if (sourceAnimation instanceof AnimClip
-                && sourceSkeleton instanceof Armature
-                && targetSkeleton instanceof Armature) {
-            AnimClip newAnimation = AnimationEdit.retargetAnimation(
-                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
-                    (Armature) targetSkeleton, effectiveMap, newAnimName);
+            return newAnims.size();
 
-            double duration = newAnimation.getLength();
-            assert duration >= 0.0 : duration;
+        } catch (CloneNotSupportedException | ExecutionException
+                | InterruptedException exception) {
+            throw new RuntimeException(exception);
 
-            newAnim = newAnimation;
+        } finally {
+            pool.shutdownNow();
         }
-
-        editableCgm.addAnimation(newAnim);
     }
 
     /**
@@ -667,6 +739,7 @@ public class SelectedAnimControl implements JmeCloneable {
     public void select(String name) {
         Validate.nonEmpty(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> names = cgm.listAnimControlNames();
         int index = names.indexOf(name);
         assert index != -1;
@@ -679,6 +752,7 @@ public class SelectedAnimControl implements JmeCloneable {
      * Handle a "next (source)animControl" action.
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<AbstractControl> list = cgm.listAnimationControls();
             AbstractControl animControl = find();
@@ -695,6 +769,7 @@ public class SelectedAnimControl implements JmeCloneable {
      * Handle a "previous (source)animControl" action.
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<AbstractControl> list = cgm.listAnimationControls();
             AbstractControl animControl = find();
@@ -725,6 +800,133 @@ public class SelectedAnimControl implements JmeCloneable {
         }
     }
     // *************************************************************************
+    // private methods
+
+    /**
+     * Retarget the specified source animation into a new animation.
+     *
+     * @param sourceAnimation the AnimClip or Animation to retarget (not null,
+     * unaffected)
+     * @param sourceSkeleton the source Armature or Skeleton (not null,
+     * unaffected)
+     * @param targetSkeleton the target Armature or Skeleton (not null,
+     * unaffected)
+     * @param map the effective skeleton map (not null, unaffected)
+     * @param techniques the tweening techniques to use (not null, unaffected)
+     * @param newAnimName a name for the new animation (not null)
+     * @return a new AnimClip or Animation, or null if the combination of types
+     * isn't supported
+     */
+    private static Object retarget(Object sourceAnimation,
+            Object sourceSkeleton, Object targetSkeleton, SkeletonMapping map,
+            TweenTransforms techniques, String newAnimName) {
+        Object result = null;
+        if (sourceAnimation instanceof Animation
+                && sourceSkeleton instanceof Skeleton
+                && targetSkeleton instanceof Skeleton) {
+            Animation newAnimation = AnimationEdit.retargetAnimation(
+                    (Animation) sourceAnimation, (Skeleton) sourceSkeleton,
+                    (Skeleton) targetSkeleton, map, techniques, newAnimName);
+
+            float duration = newAnimation.getLength();
+            assert duration >= 0f : duration;
+
+            result = newAnimation;
+
+        } else if (sourceAnimation instanceof AnimClip
+                && sourceSkeleton instanceof Armature
+                && targetSkeleton instanceof Skeleton) {
+
+            Animation newAnimation = AnimationEdit.retargetAnimation(
+                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
+                    (Skeleton) targetSkeleton, map, newAnimName);
+
+            float duration = newAnimation.getLength();
+            assert duration >= 0f : duration;
+
+            result = newAnimation;
+
+        } else if (sourceAnimation instanceof AnimClip
+                && sourceSkeleton instanceof Armature
+                && targetSkeleton instanceof Armature) {
+            AnimClip newAnimation = AnimationEdit.retargetAnimation(
+                    (AnimClip) sourceAnimation, (Armature) sourceSkeleton,
+                    (Armature) targetSkeleton, map, newAnimName);
+
+            double duration = newAnimation.getLength();
+            assert duration >= 0.0 : duration;
+
+            result = newAnimation;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // RetargetTask
+
+    /**
+     * A task to retarget one source animation on a worker thread.
+     */
+    private static class RetargetTask implements Callable<Object> {
+        /**
+         * source animation (AnimClip or Animation)
+         */
+        final private Object sourceAnimation;
+        /**
+         * source skeleton (Armature or Skeleton)
+         */
+        final private Object sourceSkeleton;
+        /**
+         * target skeleton (Armature or Skeleton)
+         */
+        final private Object targetSkeleton;
+        /**
+         * name for the new animation
+         */
+        final private String newAnimName;
+        /**
+         * effective skeleton map
+         */
+        final private SkeletonMapping map;
+        /**
+         * tweening techniques, not shared with any other task
+         */
+        final private TweenTransforms techniques;
+
+        /**
+         * Instantiate a task.
+         *
+         * @param sourceAnimation (not null, alias created)
+         * @param sourceSkeleton (not null, alias created)
+         * @param targetSkeleton (not null, alias created)
+         * @param map (not null, alias created)
+         * @param techniques (not null, alias created)
+         * @param newAnimName (not null)
+         */
+        RetargetTask(Object sourceAnimation, Object sourceSkeleton,
+                Object targetSkeleton, SkeletonMapping map,
+                TweenTransforms techniques, String newAnimName) {
+            this.sourceAnimation = sourceAnimation;
+            this.sourceSkeleton = sourceSkeleton;
+            this.targetSkeleton = targetSkeleton;
+            this.map = map;
+            this.techniques = techniques;
+            this.newAnimName = newAnimName;
+        }
+
+        /**
+         * Retarget the source animation.
+         *
+         * @return a new AnimClip or Animation, or null if unsupported
+         */
+        @Override
+        public Object call() {
+            Object result = retarget(sourceAnimation, sourceSkeleton,
+                    targetSkeleton, map, techniques, newAnimName);
+            return result;
+        }
+    }
+    // *************************************************************************
     // JmeCloneable methods
 
     /**
@@ -37,14 +37,12 @@ import com.jme3.math.Quaternion;
 import com.jme3.math.Transform;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Node;
-import com.jme3.scene.Spatial;
 import com.jme3.scene.control.AbstractControl;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import jme3utilities.InfluenceUtil;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
 import jme3utilities.math.MyQuaternion;
@@ -52,6 +50,8 @@ import jme3utilities.math.MyVector3f;
 import jme3utilities.wes.Pose;
 import maud.Maud;
 import maud.MaudUtil;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.tool.EditorTools;
 
 /**
@@ -158,6 +158,7 @@ public class SelectedBone implements Cloneable {
      * Deselect the selected bone, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedIndex = SelectedSkeleton.noBoneIndex;
     }
 
@@ -263,17 +264,7 @@ public class SelectedBone implements Cloneable {
     public boolean influencesVertices() {
         boolean result = false;
         if (isSelected()) {
-            SelectedSkeleton selectedSkeleton = cgm.getSkeleton();
-            Spatial subtree = selectedSkeleton.findSpatial();
-            Object skeleton = selectedSkeleton.find();
-            BitSet bones;
-            if (skeleton instanceof Armature) {
-                bones = InfluenceUtil.addAllInfluencers(subtree,
-                        (Armature) skeleton);
-            } else {
-                bones = InfluenceUtil.addAllInfluencers(subtree,
-                        (Skeleton) skeleton);
-            }
+            BitSet bones = cgm.getSkeleton().listInfluencers(null);
             result = bones.get(selectedIndex);
         }
 
@@ -456,9 +447,10 @@ public class SelectedBone implements Cloneable {
      * If bone controls are enabled, reset the bone rotation to identity.
      */
     public void resetRotation() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
-            editableCgm.getPose().get().resetRotation(boneIndex);
+            editableCgm.getPose().resetRotation(boneIndex);
         }
     }
 
@@ -466,9 +458,10 @@ public class SelectedBone implements Cloneable {
      * If bone controls are enabled, reset the bone scale to identity.
      */
     public void resetScale() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
-            editableCgm.getPose().get().resetScale(boneIndex);
+            editableCgm.getPose().resetScale(boneIndex);
         }
     }
 
@@ -476,9 +469,10 @@ public class SelectedBone implements Cloneable {
      * If bone controls are enabled, reset the bone translation to identity.
      */
     public void resetTranslation() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
-            editableCgm.getPose().get().resetTranslation(boneIndex);
+            editableCgm.getPose().resetTranslation(boneIndex);
         }
     }
 
@@ -505,6 +499,8 @@ public class SelectedBone implements Cloneable {
     public void select(int newIndex) {
         Validate.inRange(newIndex, "bone index", SelectedSkeleton.noBoneIndex,
                 Short.MAX_VALUE);
+
+        ModelVersion.bump(ModelAspect.Selection);
         selectedIndex = newIndex;
     }
 
@@ -514,6 +510,7 @@ public class SelectedBone implements Cloneable {
      * @param name bone name or noBone (not null)
      */
     public void select(String name) {
+        ModelVersion.bump(ModelAspect.Selection);
         if (name.equals(SelectedSkeleton.noBone)) {
             deselect();
 
@@ -533,6 +530,7 @@ public class SelectedBone implements Cloneable {
      * Select the first child of the selected bone.
      */
     public void selectFirstChild() {
+        ModelVersion.bump(ModelAspect.Selection);
         Object bone = get();
         if (bone instanceof Bone) {
             List<Bone> children = ((Bone) bone).getChildren();
@@ -554,6 +552,7 @@ public class SelectedBone implements Cloneable {
      * Select the first root bone of the loaded C-G model.
      */
     public void selectFirstRoot() {
+        ModelVersion.bump(ModelAspect.Selection);
         Object[] roots = cgm.getSkeleton().listRoots();
         if (roots.length > 0) {
             Object firstRoot = roots[0];
@@ -565,6 +564,7 @@ public class SelectedBone implements Cloneable {
      * Select the next bone (by index).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedIndex >= 0) {
             ++selectedIndex;
             int numBones = cgm.getSkeleton().countBones();
@@ -578,6 +578,7 @@ public class SelectedBone implements Cloneable {
      * Select the parent of the selected bone, if any.
      */
     public void selectParent() {
+        ModelVersion.bump(ModelAspect.Selection);
         Object bone = get();
         Object parent = getBoneParent(bone);
         if (parent != null) {
@@ -589,6 +590,7 @@ public class SelectedBone implements Cloneable {
      * Select the previous bone (by index).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedIndex >= 0) {
             --selectedIndex;
             if (selectedIndex < 0) {
@@ -602,6 +604,7 @@ public class SelectedBone implements Cloneable {
      * Select a track that has the selected Bone or Joint as its target.
      */
     public void selectTrack() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedIndex >= 0) {
             Object track = cgm.getAnimation().findTrackForBone(selectedIndex);
             if (track != null) {
@@ -634,6 +637,7 @@ public class SelectedBone implements Cloneable {
      * animation.
      */
     public void setRotationToAnimation() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
             Transform animT = cgm.getAnimation().boneTransform(boneIndex, null);
@@ -646,6 +650,7 @@ public class SelectedBone implements Cloneable {
      * Mirror the user rotation of the source bone along the link-tool axis.
      */
     public void setRotationToMirror() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             Cgm source = Maud.getModel().getSource();
             int sbIndex = source.getBone().index();
@@ -670,6 +675,7 @@ public class SelectedBone implements Cloneable {
      * animation.
      */
     public void setScaleToAnimation() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
             editableCgm.getPose().setScaleToAnimation(boneIndex);
@@ -681,6 +687,7 @@ public class SelectedBone implements Cloneable {
      * loaded animation.
      */
     public void setTranslationToAnimation() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             int boneIndex = index();
             editableCgm.getPose().setTranslationToAnimation(boneIndex);
@@ -713,6 +720,7 @@ public class SelectedBone implements Cloneable {
         Validate.inRange(axisIndex, "axis index", MyVector3f.firstAxis,
                 MyVector3f.lastAxis);
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (shouldEnableControls()) {
             Quaternion userRotation = userRotation(null);
             MyQuaternion.snapLocal(userRotation, axisIndex);
@@ -39,6 +39,8 @@ import java.util.logging.Logger;
 import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected vertex buffer in a loaded C-G model.
@@ -139,6 +141,7 @@ public class SelectedBuffer implements Cloneable {
      * it.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (!isMapped()) {
             logger.log(Level.WARNING, "cannot delete unmapped buffer");
             return;
@@ -156,6 +159,7 @@ public class SelectedBuffer implements Cloneable {
         if (type == VertexBuffer.Type.BoneIndex) {
             mesh.clearBuffer(VertexBuffer.Type.HWBoneIndex);
         }
+        editableCgm.invalidateMeshCaches();
         editableCgm.getEditState().setEdited(description);
 
         deselect();
@@ -182,6 +186,7 @@ public class SelectedBuffer implements Cloneable {
      * Deselect the selected buffer, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         select(SelectedSpatial.noBufferIndex);
     }
 
@@ -312,6 +317,7 @@ public class SelectedBuffer implements Cloneable {
     public void putFloat(int floatIndex, float newValue) {
         Validate.nonNegative(floatIndex, "float index");
 
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer vertexBuffer = find();
         FloatBuffer floatBuffer = (FloatBuffer) vertexBuffer.getData();
         float oldValue = floatBuffer.get(floatIndex);
@@ -323,6 +329,7 @@ public class SelectedBuffer implements Cloneable {
             String desc = describe();
             String description = String.format("set element %d of %s to %f",
                     floatIndex, desc, newValue);
+            editableCgm.invalidateMeshCaches();
             editableCgm.getEditState().setEdited(description);
         }
     }
@@ -335,6 +342,7 @@ public class SelectedBuffer implements Cloneable {
     public void select(String description) {
         Validate.nonEmpty(description, "description");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> list = cgm.getSpatial().listBufferDescs("");
         int newIndex = list.indexOf(description);
         select(newIndex);
@@ -348,6 +356,8 @@ public class SelectedBuffer implements Cloneable {
      */
     public void select(int newIndex) {
         Validate.inRange(newIndex, "new index", -1, Integer.MAX_VALUE);
+
+        ModelVersion.bump(ModelAspect.Selection);
         selectedIndex = newIndex;
     }
 
@@ -357,6 +367,7 @@ public class SelectedBuffer implements Cloneable {
     public void selectNext() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> buffers = cgm.getSpatial().listBufferDescs("");
         int numBuffers = buffers.size();
         if (numBuffers > 1) {
@@ -371,6 +382,7 @@ public class SelectedBuffer implements Cloneable {
     public void selectPrevious() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> buffers = cgm.getSpatial().listBufferDescs("");
         int numBuffers = buffers.size();
         if (numBuffers > 1) {
@@ -406,6 +418,7 @@ public class SelectedBuffer implements Cloneable {
     public void setInstanceSpan(int newSpan) {
         Validate.nonNegative(newSpan, "new span");
 
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer buffer = find();
         int oldSpan = buffer.getInstanceSpan();
         if (oldSpan != newSpan) {
@@ -426,6 +439,7 @@ public class SelectedBuffer implements Cloneable {
     public void setLimit(int newLimit) {
         Validate.positive(newLimit, "new limit");
 
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer buffer = find();
         Buffer data = buffer.getData();
         int oldLimit = data.limit();
@@ -435,6 +449,7 @@ public class SelectedBuffer implements Cloneable {
             cgm.getSceneView().setBufferLimit(newLimit);
             String description
                     = String.format("set limit of buffer to %d", newLimit);
+            editableCgm.invalidateMeshCaches();
             editableCgm.getEditState().setEdited(description);
         }
     }
@@ -445,6 +460,7 @@ public class SelectedBuffer implements Cloneable {
      * @param newSetting true&rarr;normalized, false&rarr;not normalized
      */
     public void setNormalized(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer buffer = find();
         boolean oldSetting = buffer.isNormalized();
         if (oldSetting != newSetting) {
@@ -466,6 +482,7 @@ public class SelectedBuffer implements Cloneable {
     public void setStride(int newStride) {
         Validate.nonNegative(newStride, "new stride");
 
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer buffer = find();
         int oldStride = buffer.getStride();
         if (oldStride != newStride) {
@@ -486,6 +503,7 @@ public class SelectedBuffer implements Cloneable {
     public void setUsage(VertexBuffer.Usage newUsage) {
         Validate.nonNull(newUsage, "new usage");
 
+        ModelVersion.bump(ModelAspect.Selection);
         VertexBuffer buffer = find();
         VertexBuffer.Usage oldUsage = buffer.getUsage();
         if (oldUsage != newUsage) {
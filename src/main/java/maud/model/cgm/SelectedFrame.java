@@ -36,6 +36,8 @@ import jme3utilities.wes.Pose;
 import jme3utilities.wes.TrackEdit;
 import maud.DescribeUtil;
 import maud.MaudUtil;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected keyframe in a selected track.
@@ -102,6 +104,7 @@ public class SelectedFrame implements Cloneable {
      * Alter the keyframe, setting its Transform from the displayed Pose.
      */
     public void replace() {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedTrack sTrack = cgm.getTrack();
         assert sTrack.isBoneTrack();
         int frameIndex = findIndex();
@@ -152,6 +155,7 @@ public class SelectedFrame implements Cloneable {
     public void select(int keyFrameIndex) {
         assert cgm.getTrack().isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         float time = cgm.getTrack().keyframeTime(keyFrameIndex);
         cgm.getPlay().setTime(time);
     }
@@ -160,6 +164,7 @@ public class SelectedFrame implements Cloneable {
      * Select the first keyframe in the selected track.
      */
     public void selectFirst() {
+        ModelVersion.bump(ModelAspect.Selection);
         cgm.getPlay().setTime(0f);
     }
 
@@ -169,6 +174,7 @@ public class SelectedFrame implements Cloneable {
     public void selectLast() {
         assert cgm.getTrack().isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         float time = cgm.getTrack().lastKeyframeTime();
         cgm.getPlay().setTime(time);
     }
@@ -179,6 +185,7 @@ public class SelectedFrame implements Cloneable {
     public void selectNearest() {
         assert cgm.getTrack().isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (!isSelected()) {
             PlayOptions play = cgm.getPlay();
             float current = play.getTime();
@@ -202,6 +209,7 @@ public class SelectedFrame implements Cloneable {
     public void selectNext() {
         assert cgm.getTrack().isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         float time = nextKeyframeTime();
         if (time < Float.POSITIVE_INFINITY) {
             cgm.getPlay().setTime(time);
@@ -214,6 +222,7 @@ public class SelectedFrame implements Cloneable {
     public void selectPrevious() {
         assert cgm.getTrack().isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         float time = previousKeyframeTime();
         if (time >= 0f) {
             cgm.getPlay().setTime(time);
@@ -246,6 +255,8 @@ public class SelectedFrame implements Cloneable {
      */
     public void setTime(float newTime) {
         Validate.positive(newTime, "new time");
+
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedTrack sTrack = cgm.getTrack();
         assert sTrack.isSelected();
 
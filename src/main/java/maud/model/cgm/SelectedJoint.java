@@ -37,6 +37,8 @@ import jme3utilities.MyString;
 import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
 import jme3utilities.minie.MyPco;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The selected physics joint in the Maud application.
@@ -158,6 +160,7 @@ public class SelectedJoint implements JmeCloneable {
     public void select(String name) {
         Validate.nonEmpty(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         long jointId = Long.parseLong(name, 16);
         PhysicsJoint joint = cgm.getPhysics().findJoint(jointId);
         select(joint);
@@ -167,6 +170,7 @@ public class SelectedJoint implements JmeCloneable {
      * Select the next joint in the C-G model (in cyclical ID order).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             PhysicsJoint[] joints = cgm.getPhysics().listJoints();
             int index = Arrays.binarySearch(joints, selectedJoint);
@@ -182,6 +186,7 @@ public class SelectedJoint implements JmeCloneable {
      * Deselect the selected joint, if any.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedJoint = null;
     }
 
@@ -189,6 +194,7 @@ public class SelectedJoint implements JmeCloneable {
      * Select the previous joint in the C-G model (in cyclical ID order).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             PhysicsJoint[] joints = cgm.getPhysics().listJoints();
             int index = Arrays.binarySearch(joints, selectedJoint);
@@ -44,6 +44,8 @@ import jme3utilities.MyLight;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
 import jme3utilities.math.MyVector3f;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected light in a C-G model.
@@ -130,6 +132,7 @@ public class SelectedLight implements JmeCloneable {
      * Cardinalize the light's direction.
      */
     public void cardinalizeDirection() {
+        ModelVersion.bump(ModelAspect.Selection);
         Vector3f dir = direction();
         MyVector3f.cardinalizeLocal(dir);
         setDirection(dir);
@@ -158,6 +161,7 @@ public class SelectedLight implements JmeCloneable {
         Validate.nonEmpty(name, "name");
         assert !cgm.hasLight(name);
 
+        ModelVersion.bump(ModelAspect.Selection);
         Light newLight = selected.clone();
         newLight.setName(name);
 
@@ -173,6 +177,7 @@ public class SelectedLight implements JmeCloneable {
      * Delete the light.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             String type = getType();
             String name = selected.getName();
@@ -341,6 +346,7 @@ public class SelectedLight implements JmeCloneable {
     public void rename(String newName) {
         Validate.nonNull(newName, "new name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             String oldName = selected.getName();
             Light newLight = selected.clone();
@@ -357,6 +363,7 @@ public class SelectedLight implements JmeCloneable {
      * Reverse the light's direction.
      */
     public void reverseDirection() {
+        ModelVersion.bump(ModelAspect.Selection);
         Vector3f dir = direction();
         dir.negateLocal();
         setDirection(dir);
@@ -399,6 +406,7 @@ public class SelectedLight implements JmeCloneable {
     public void select(String name) {
         Validate.nonNull(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (name.equals(noLight)) {
             selectNone();
         } else {
@@ -415,6 +423,7 @@ public class SelectedLight implements JmeCloneable {
      * Select the next light (in cyclical index order).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<Light> lights = cgm.listLights(Light.class);
             int newIndex = findIndex() + 1;
@@ -431,6 +440,7 @@ public class SelectedLight implements JmeCloneable {
      * Deselect the selected light, if any.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         owner = null;
         selected = null;
     }
@@ -439,6 +449,7 @@ public class SelectedLight implements JmeCloneable {
      * Select the previous light (in cyclical index order).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<Light> lights = cgm.listLights(Light.class);
             int newIndex = findIndex() - 1;
@@ -477,6 +488,7 @@ public class SelectedLight implements JmeCloneable {
     public void setColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             Light newLight = selected.clone();
             newLight.setColor(newColor);
@@ -493,6 +505,7 @@ public class SelectedLight implements JmeCloneable {
     public void setDirection(Vector3f newDirection) {
         Validate.nonZero(newDirection, "new direction");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             Light newLight = selected.clone();
             Vector3f direction = newDirection.normalize();
@@ -515,6 +528,7 @@ public class SelectedLight implements JmeCloneable {
      * @param newSetting true&rarr;enable, false&rarr;disable
      */
     public void setEnabled(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null && isEnabled() != newSetting) {
             Light newLight = selected.clone();
             newLight.setEnabled(newSetting);
@@ -537,6 +551,7 @@ public class SelectedLight implements JmeCloneable {
     public void setPosition(Vector3f newPosition) {
         Validate.nonNull(newPosition, "new position");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             Light newLight = selected.clone();
             if (newLight instanceof LightProbe) {
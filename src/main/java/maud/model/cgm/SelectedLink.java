@@ -53,6 +53,8 @@ import jme3utilities.math.MyMath;
 import jme3utilities.minie.MyPco;
 import maud.Maud;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected PhysicsLink in a selected DynamicAnimControl.
@@ -176,6 +178,7 @@ public class SelectedLink implements JmeCloneable {
      * Add a AttachmentLink for the selected bone and select that link.
      */
     public void createAttachmentLink() {
+        ModelVersion.bump(ModelAspect.Selection);
         String boneName = editableCgm.getBone().name();
         Spatial cgmRoot = Maud.getModel().getSource().getRootSpatial();
         Spatial cloneCgm = Heart.deepCopy(cgmRoot);
@@ -188,6 +191,7 @@ public class SelectedLink implements JmeCloneable {
      * link.
      */
     public void createBoneLink() {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedBone selectedBone = editableCgm.getBone();
         if (!selectedBone.isRootBone()) {
             String boneName = selectedBone.name();
@@ -338,6 +342,7 @@ public class SelectedLink implements JmeCloneable {
     public void select(String linkName) {
         Validate.nonEmpty(linkName, "link name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         DynamicAnimControl dac = cgm.getRagdoll().find();
         if (linkName.startsWith("Bone:")) {
             String boneName = MyString.remainder(linkName, "Bone:");
@@ -354,6 +359,7 @@ public class SelectedLink implements JmeCloneable {
      * Select physics joint of the selected link.
      */
     public void selectJoint() {
+        ModelVersion.bump(ModelAspect.Selection);
         PhysicsJoint joint = link.getJoint();
         cgm.getJoint().select(joint);
     }
@@ -362,6 +368,7 @@ public class SelectedLink implements JmeCloneable {
      * Select the next link in description-sorted order.
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (cgm.isLoaded()) {
             List<String> descList = cgm.getRagdoll().listLinksSorted();
             String desc = name();
@@ -377,6 +384,7 @@ public class SelectedLink implements JmeCloneable {
      * Deselect the selected link.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         link = null;
     }
 
@@ -384,6 +392,7 @@ public class SelectedLink implements JmeCloneable {
      * Select the parent link in the hierarchy.
      */
     public void selectParent() {
+        ModelVersion.bump(ModelAspect.Selection);
         PhysicsLink parent = link.getParent();
         String parentName = parent.name();
         select(parentName);
@@ -393,6 +402,7 @@ public class SelectedLink implements JmeCloneable {
      * Select the collision object of the selected link.
      */
     public void selectPco() {
+        ModelVersion.bump(ModelAspect.Selection);
         String name = bodyName();
         cgm.getPco().select(name);
     }
@@ -401,6 +411,7 @@ public class SelectedLink implements JmeCloneable {
      * Select the previous link in description-sorted order.
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (cgm.isLoaded()) {
             List<String> descList = cgm.getRagdoll().listLinksSorted();
             String desc = name();
@@ -436,6 +447,7 @@ public class SelectedLink implements JmeCloneable {
      * @param shapeHeuristic (not null)
      */
     public void setShapeHeuristic(ShapeHeuristic shapeHeuristic) {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedRagdoll ragdoll = cgm.getRagdoll();
         DynamicAnimControl dac = ragdoll.find();
 
@@ -487,6 +499,7 @@ public class SelectedLink implements JmeCloneable {
      * If a link is selected, delete it and deselect it.
      */
     public void unlink() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (link != null) {
             editableCgm.unlink(link);
             selectNone();
@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected material parameter in a loaded C-G model.
@@ -74,6 +76,7 @@ public class SelectedMatParam implements Cloneable {
      * any.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             MatParamRef ref = makeRef();
             editableCgm.deleteMatParam();
@@ -86,6 +89,7 @@ public class SelectedMatParam implements Cloneable {
      * Deselect the selected parameter, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedName = null;
     }
 
@@ -253,6 +257,8 @@ public class SelectedMatParam implements Cloneable {
      */
     public void select(String parameterName) {
         Validate.nonEmpty(parameterName, "parameter name");
+
+        ModelVersion.bump(ModelAspect.Selection);
         selectedName = parameterName;
     }
 
@@ -260,6 +266,7 @@ public class SelectedMatParam implements Cloneable {
      * Select the next defined parameter (in name-lexical order).
      */
     public void selectNextName() {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedSpatial spatial = cgm.getSpatial();
         List<String> nameList
                 = spatial.listMatParamNames("", WhichParams.Defined);
@@ -276,6 +283,7 @@ public class SelectedMatParam implements Cloneable {
      * Select the previous defined parameter (in name-lexical order).
      */
     public void selectPreviousName() {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedSpatial spatial = cgm.getSpatial();
         List<String> nameList
                 = spatial.listMatParamNames("", WhichParams.Defined);
@@ -37,6 +37,8 @@ import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
 import maud.ParseUtil;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected material-parameter override in a loaded C-G
@@ -82,6 +84,7 @@ public class SelectedOverride implements Cloneable {
      * any.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             MatParamRef ref = makeRef();
             Spatial spatial = cgm.getSpatial().find();
@@ -105,6 +108,7 @@ public class SelectedOverride implements Cloneable {
      * Deselect the selected override, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedName = null;
     }
 
@@ -235,6 +239,7 @@ public class SelectedOverride implements Cloneable {
     public void rename(String newName) {
         Validate.nonEmpty(newName, "new name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial spatial = cgm.getSpatial().find();
         MatParamOverride oldMpo = find();
         MatParamRef oldRef = new MatParamRef(oldMpo, spatial);
@@ -270,6 +275,7 @@ public class SelectedOverride implements Cloneable {
     public void select(String parameterName) {
         Validate.nonEmpty(parameterName, "parameter name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (parameterName.equals(noParam)) {
             deselect();
         } else {
@@ -281,6 +287,7 @@ public class SelectedOverride implements Cloneable {
      * Select the next override (in name lexical order).
      */
     public void selectNextName() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> nameList = cgm.getSpatial().listOverrideNames();
         if (isSelected() && !nameList.isEmpty()) {
             int numNames = nameList.size();
@@ -295,6 +302,7 @@ public class SelectedOverride implements Cloneable {
      * Select the previous override (in name lexical order).
      */
     public void selectPreviousName() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> nameList = cgm.getSpatial().listOverrideNames();
         if (isSelected() && !nameList.isEmpty()) {
             int numNames = nameList.size();
@@ -329,6 +337,7 @@ public class SelectedOverride implements Cloneable {
      * @param newSetting true&rarr;enable, false&rarr;disable
      */
     public void setEnabled(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Selection);
         MatParamOverride mpo = find();
         if (mpo != null) {
             boolean oldSetting = mpo.isEnabled();
@@ -354,6 +363,7 @@ public class SelectedOverride implements Cloneable {
     public void setValue(String valueString) {
         Validate.nonNull(valueString, "value string");
 
+        ModelVersion.bump(ModelAspect.Selection);
         MatParamOverride oldMpo = find();
         VarType varType = oldMpo.getVarType();
         String parameterName = oldMpo.getName();
@@ -44,6 +44,8 @@ import jme3utilities.math.MyMath;
 import jme3utilities.minie.MyPco;
 import maud.PhysicsUtil;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.RigidBodyParameter;
 
 /**
@@ -236,6 +238,7 @@ public class SelectedPco implements JmeCloneable {
      * @param id the object's Bullet ID
      */
     public void select(long id) {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedPco = cgm.getPhysics().findPco(id);
     }
 
@@ -247,6 +250,7 @@ public class SelectedPco implements JmeCloneable {
     public void select(String name) {
         Validate.nonEmpty(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         long id = MyPco.parseId(name);
         select(id);
     }
@@ -255,6 +259,7 @@ public class SelectedPco implements JmeCloneable {
      * Select the next collision object (in cyclical index order).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<String> names = cgm.getPhysics().listPcoNames("");
             String selectedName = name();
@@ -271,6 +276,7 @@ public class SelectedPco implements JmeCloneable {
      * Deselect the selected collision object, if any.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedPco = null;
     }
 
@@ -278,6 +284,7 @@ public class SelectedPco implements JmeCloneable {
      * Select the previous collision object (in cyclical index order).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<String> names = cgm.getPhysics().listPcoNames("");
             String selectedName = name();
@@ -316,6 +323,7 @@ public class SelectedPco implements JmeCloneable {
     public void setLocation(Vector3f newLocation) {
         Validate.nonNull(newLocation, "new location");
 
+        ModelVersion.bump(ModelAspect.Selection);
         PhysicsUtil.setLocation(selectedPco, newLocation);
         String name = name();
         editableCgm.getEditState().setEditedPhysicsPosition(name);
@@ -329,6 +337,7 @@ public class SelectedPco implements JmeCloneable {
     public void setOrientation(Quaternion newOrientation) {
         Validate.nonNull(newOrientation, "new orientation");
 
+        ModelVersion.bump(ModelAspect.Selection);
         PhysicsUtil.setOrientation(selectedPco, newOrientation);
         String name = name();
         editableCgm.getEditState().setEditedPhysicsPosition(name);
@@ -343,6 +352,7 @@ public class SelectedPco implements JmeCloneable {
     public void setParameter(RigidBodyParameter parameter, float newValue) {
         Validate.nonNull(parameter, "parameter");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedPco instanceof PhysicsRigidBody) {
             PhysicsRigidBody modelBody = (PhysicsRigidBody) selectedPco;
             float oldValue = parameter.read(modelBody);
@@ -45,6 +45,8 @@ import jme3utilities.MyControl;
 import jme3utilities.Validate;
 import jme3utilities.minie.MyControlP;
 import jme3utilities.minie.MyPco;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected scene-graph (S-G) control in a C-G model.
@@ -125,6 +127,7 @@ public class SelectedSgc implements JmeCloneable {
      * Delete the S-G control.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected() && editableCgm != null) {
             editableCgm.deleteSgc();
             selectNone();
@@ -343,6 +346,7 @@ public class SelectedSgc implements JmeCloneable {
     public void select(String name) {
         Validate.nonNull(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (name.equals(noControl)) {
             selectNone();
         } else {
@@ -359,6 +363,7 @@ public class SelectedSgc implements JmeCloneable {
      * Select the next S-G control (in cyclical index order).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<Control> sgcs = cgm.listSgcs(Control.class);
             int newIndex = findIndex() + 1;
@@ -375,6 +380,7 @@ public class SelectedSgc implements JmeCloneable {
      * Deselect the selected S-G control, if any.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         controlled = null;
         selected = null;
         cgm.getSkeleton().postSelect();
@@ -386,6 +392,7 @@ public class SelectedSgc implements JmeCloneable {
      * Select the previous S-G control (in cyclical index order).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             List<Control> sgcs = cgm.listSgcs(Control.class);
             int newIndex = findIndex() - 1;
@@ -57,6 +57,8 @@ import jme3utilities.math.MyVector3f;
 import jme3utilities.minie.MyShape;
 import maud.PhysicsUtil;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.ShapeParameter;
 
 /**
@@ -100,6 +102,7 @@ public class SelectedShape implements JmeCloneable {
      * The child shape cannot itself be a compound shape.
      */
     public void addParent() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedShape != null
                 && !(selectedShape instanceof CompoundCollisionShape)) {
             CompoundCollisionShape parent = new CompoundCollisionShape();
@@ -315,6 +318,7 @@ public class SelectedShape implements JmeCloneable {
     public void resize(Vector3f factors) {
         Validate.nonNull(factors, "factors");
 
+        ModelVersion.bump(ModelAspect.Selection);
         if (!MyVector3f.isScaleIdentity(factors) && !isCompound()) {
             Vector3f he = halfExtents(null);
             he.multLocal(factors);
@@ -331,6 +335,8 @@ public class SelectedShape implements JmeCloneable {
      */
     public void select(CollisionShape shape) {
         Validate.nonNull(shape, "shape");
+
+        ModelVersion.bump(ModelAspect.Selection);
         selectedShape = shape;
     }
 
@@ -340,6 +346,7 @@ public class SelectedShape implements JmeCloneable {
      * @param shapeId the ID of the desired shape
      */
     public void select(long shapeId) {
+        ModelVersion.bump(ModelAspect.Selection);
         CollisionShape shape = cgm.getPhysics().findShape(shapeId);
         select(shape);
     }
@@ -351,6 +358,8 @@ public class SelectedShape implements JmeCloneable {
      */
     public void select(String name) {
         Validate.nonEmpty(name, "name");
+
+        ModelVersion.bump(ModelAspect.Selection);
         long id = MyShape.parseNativeId(name);
         select(id);
     }
@@ -359,6 +368,7 @@ public class SelectedShape implements JmeCloneable {
      * Select the first child shape of the selected compound shape.
      */
     public void selectFirstChild() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedShape instanceof CompoundCollisionShape) {
             CompoundCollisionShape ccs = (CompoundCollisionShape) selectedShape;
             ChildCollisionShape[] children = ccs.listChildren();
@@ -374,6 +384,7 @@ public class SelectedShape implements JmeCloneable {
      * Select the next shape in the C-G model (in cyclical ID order).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             CollisionShape[] shapes = cgm.getPhysics().listShapes();
             int index = Arrays.binarySearch(shapes, selectedShape);
@@ -389,6 +400,7 @@ public class SelectedShape implements JmeCloneable {
      * Deselect the selected shape, if any.
      */
     public void selectNone() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedShape = null;
     }
 
@@ -396,6 +408,7 @@ public class SelectedShape implements JmeCloneable {
      * Select the shape of the selected collision object.
      */
     public void selectPcoShape() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedShape = cgm.getPco().getShape();
     }
 
@@ -403,6 +416,7 @@ public class SelectedShape implements JmeCloneable {
      * Select the previous shape in the C-G model (in cyclical ID order).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             CollisionShape[] shapes = cgm.getPhysics().listShapes();
             int index = Arrays.binarySearch(shapes, selectedShape);
@@ -441,6 +455,7 @@ public class SelectedShape implements JmeCloneable {
     public void setParameter(ShapeParameter parameter, float newValue) {
         Validate.nonNull(parameter, "parameter");
 
+        ModelVersion.bump(ModelAspect.Selection);
         assert canSet(parameter);
         float oldValue = value(parameter);
         if (newValue != oldValue) {
@@ -48,12 +48,13 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.InfluenceUtil;
 import jme3utilities.MySpatial;
-import jme3utilities.MyString;
 import jme3utilities.Validate;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditorModel;
 import maud.model.LoadedMap;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.ShowBones;
 import maud.view.scene.SceneView;
 
@@ -92,10 +93,27 @@ public class SelectedSkeleton implements JmeCloneable {
      * C-G model containing the skeleton (set by {@link #setCgm(Cgm)})
      */
     private Cgm cgm = null;
+    /**
+     * cached set of bones that influence mesh vertices, or null if not cached
+     * (never modified after being cached)
+     */
+    private BitSet influencers = null;
     /**
      * most recent selection
      */
     private Object last = null;
+    /**
+     * cached index of bone names, or null if not cached
+     */
+    private NameIndex boneNameIndex = null;
+    /**
+     * skeleton for which the influencers were cached
+     */
+    private Object influencersSkeleton = null;
+    /**
+     * subtree for which the influencers were cached
+     */
+    private Spatial influencersSubtree = null;
     // *************************************************************************
     // new methods exposed
 
@@ -468,6 +486,17 @@ public class SelectedSkeleton implements JmeCloneable {
         }
     }
 
+    /**
+     * Discard the cached set of influencers. Invoke after any edit that might
+     * alter the meshes, vertex weights, or geometries in the skeleton's
+     * subtree.
+     */
+    void invalidateInfluencers() {
+        influencers = null;
+        influencersSkeleton = null;
+        influencersSubtree = null;
+    }
+
     /**
      * Test whether the named Bone or Joint is a leaf, with no children.
      *
@@ -548,14 +577,17 @@ public class SelectedSkeleton implements JmeCloneable {
     public List<String> listBoneNames(String namePrefix) {
         Validate.nonNull(namePrefix, "name prefix");
 
-        List<String> boneNames = listBoneNames();
-        for (String name : MyString.toArray(boneNames)) {
-            if (!name.startsWith(namePrefix)) {
-                boneNames.remove(name);
-            }
+        Object skeleton = find();
+        Spatial root = cgm.isLoaded() ? cgm.getRootSpatial() : null;
+        int edits = cgm.countAllEdits();
+        if (boneNameIndex == null
+                || !boneNameIndex.isCurrent(skeleton, root, edits)) {
+            List<String> boneNames = listBoneNames();
+            boneNameIndex = new NameIndex(boneNames, skeleton, root, edits);
         }
+        List<String> result = boneNameIndex.list(namePrefix);
 
-        return boneNames;
+        return result;
     }
 
     /**
@@ -613,6 +645,43 @@ public class SelectedSkeleton implements JmeCloneable {
         return result;
     }
 
+    /**
+     * Enumerate the bones that directly or indirectly influence mesh vertices
+     * in the skeleton's subtree. The vertex weights are scanned only when
+     * nothing suitable is cached.
+     *
+     * @param storeResult storage for the result (modified if not null)
+     * @return a set of bone indices (either storeResult or a new instance, not
+     * null)
+     */
+    BitSet listInfluencers(BitSet storeResult) {
+        Object skeleton = find();
+        Spatial subtree = findSpatial();
+        if (influencers == null || skeleton != influencersSkeleton
+                || subtree != influencersSubtree) {
+            if (skeleton instanceof Armature) {
+                influencers = InfluenceUtil.addAllInfluencers(subtree,
+                        (Armature) skeleton);
+            } else {
+                influencers = InfluenceUtil.addAllInfluencers(subtree,
+                        (Skeleton) skeleton);
+            }
+            influencersSkeleton = skeleton;
+            influencersSubtree = subtree;
+        }
+
+        BitSet result;
+        if (storeResult == null) {
+            result = (BitSet) influencers.clone();
+        } else {
+            result = storeResult;
+            result.clear();
+            result.or(influencers);
+        }
+
+        return result;
+    }
+
     /**
      * Enumerate which bones are referenced by the specified selection option.
      *
@@ -677,17 +746,7 @@ public class SelectedSkeleton implements JmeCloneable {
                     break;
 
                 case Influencers:
-                    Spatial subtree = findSpatial();
-                    BitSet bitset;
-                    if (skeleton instanceof Armature) {
-                        bitset = InfluenceUtil.addAllInfluencers(subtree,
-                                (Armature) skeleton);
-                    } else {
-                        bitset = InfluenceUtil.addAllInfluencers(subtree,
-                                (Skeleton) skeleton);
-                    }
-                    result.clear();
-                    result.or(bitset);
+                    listInfluencers(result);
                     break;
 
                 case Leaves:
@@ -864,6 +923,7 @@ public class SelectedSkeleton implements JmeCloneable {
     public void select(String name) {
         Validate.nonEmpty(name, "name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> names = cgm.listSkeletonNames();
         int index = names.indexOf(name);
         assert index != -1;
@@ -912,6 +972,8 @@ public class SelectedSkeleton implements JmeCloneable {
     @Override
     public void cloneFields(Cloner cloner, Object original) {
         last = cloner.clone(last);
+        boneNameIndex = null;
+        invalidateInfluencers();
     }
 
     /**
@@ -94,6 +94,8 @@ import maud.PhysicsUtil;
 import maud.ShapeType;
 import maud.model.EditState;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.tool.EditorTools;
 import maud.view.scene.SceneView;
 
@@ -155,6 +157,7 @@ public class SelectedSpatial implements JmeCloneable {
      * control.
      */
     public void addAnimControl() {
+        ModelVersion.bump(ModelAspect.Selection);
         AbstractControl newSgc;
         Object skeleton = cgm.getSkeleton().find();
         if (skeleton instanceof Armature) {
@@ -172,6 +175,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Add a BetterCharacterControl to the Spatial and select the new Control.
      */
     public void addBetterCharacterControl() {
+        ModelVersion.bump(ModelAspect.Selection);
         float radius = 1f; // TODO base dimensions on the model
         float height = 3f;
         float mass = 1f;
@@ -190,6 +194,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void addCharacterControl(ShapeType shapeType) {
         Validate.nonNull(shapeType, "shape type");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial subtree = find();
         ConvexShape shape
                 = (ConvexShape) PhysicsUtil.makeShape(shapeType, subtree);
@@ -208,6 +213,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void addGhostControl(ShapeType shapeType) {
         Validate.nonNull(shapeType, "shape type");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial subtree = find();
         CollisionShape shape = PhysicsUtil.makeShape(shapeType, subtree);
         GhostControl ghostControl = new GhostControl(shape);
@@ -228,6 +234,7 @@ public class SelectedSpatial implements JmeCloneable {
         Validate.nonEmpty(name, "name");
         assert !cgm.hasLight(name);
 
+        ModelVersion.bump(ModelAspect.Selection);
         Light newLight;
         switch (type) {
             case Ambient:
@@ -265,6 +272,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Add a DynamicAnimControl to the Spatial and select the new Control.
      */
     public void addRagdollControl() {
+        ModelVersion.bump(ModelAspect.Selection);
         /*
          * Make sure the correct skeleton is selected, so that
          * SelectedSkeleton.postSelect() won't cause SceneView
@@ -287,6 +295,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void addRigidBodyControl(ShapeType shapeType) {
         Validate.nonNull(shapeType, "shape type");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial subtree = find();
         CollisionShape shape = PhysicsUtil.makeShape(shapeType, subtree);
         float mass = 1f;
@@ -304,6 +313,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Add a SkeletonControl to the selected spatial and select the new control.
      */
     public void addSkeletonControl() {
+        ModelVersion.bump(ModelAspect.Selection);
         Object skeleton = cgm.getSkeleton().find();
         if (skeleton == null) {
             Spatial spatial = find();
@@ -334,6 +344,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Apply normal-debugging material to the selected Geometry.
      */
     public void applyDebugMaterial() {
+        ModelVersion.bump(ModelAspect.Selection);
         AssetManager am = Locators.getAssetManager();
         Material newMaterial
                 = new Material(am, "Common/MatDefs/Misc/ShowNormals.j3md");
@@ -344,6 +355,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Apply a lit material to the selected geometry.
      */
     public void applyLitMaterial() {
+        ModelVersion.bump(ModelAspect.Selection);
         AssetManager am = Locators.getAssetManager();
         Material newMaterial = MyAsset.createShinyMaterial(am, white);
         editableCgm.setMaterial(newMaterial, "apply lit material");
@@ -353,6 +365,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Apply the local Transform of the selected Node to each of its children.
      */
     public void applyTransformToChildren() {
+        ModelVersion.bump(ModelAspect.Selection);
         Node node = (Node) find();
         Transform nodeTransform = node.getLocalTransform(); // alias
         assert !MyMath.isIdentity(nodeTransform);
@@ -378,6 +391,7 @@ public class SelectedSpatial implements JmeCloneable {
      * descendents) to all of their meshes.
      */
     public void applyTransformToMeshes() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial subtree = find();
         Node parent = subtree.getParent();
         Transform wip;
@@ -424,6 +438,7 @@ public class SelectedSpatial implements JmeCloneable {
         }
         sceneView.applyTransform();
 
+        editableCgm.invalidateMeshCaches();
         editableCgm.getEditState().setEdited(
                 "apply spatial transforms to meshes");
     }
@@ -432,6 +447,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Apply an unshaded material to the selected geometry.
      */
     public void applyUnshadedMaterial() {
+        ModelVersion.bump(ModelAspect.Selection);
         AssetManager am = Locators.getAssetManager();
         Material newMaterial = MyAsset.createUnshadedMaterial(am);
         editableCgm.setMaterial(newMaterial, "apply unshaded material");
@@ -443,6 +459,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void attachClone() {
         assert cgm == Maud.getModel().getTarget();
 
+        ModelVersion.bump(ModelAspect.Selection);
         LoadedCgm sourceCgm = Maud.getModel().getSource();
         Node parentNode = (Node) find();
         assert sourceCgm.isLoaded();
@@ -464,6 +481,7 @@ public class SelectedSpatial implements JmeCloneable {
         Validate.nonEmpty(leafNodeName, "leaf-node name");
         assert cgm == Maud.getModel().getTarget();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Node parentNode = (Node) find();
         Node leafNode = new Node(leafNodeName);
         String description = String.format("attach leaf node %s",
@@ -476,6 +494,7 @@ public class SelectedSpatial implements JmeCloneable {
      * the scene graph.
      */
     public void boost() {
+        ModelVersion.bump(ModelAspect.Selection);
         int treeLevel = treePosition.size();
         assert treeLevel > 1 : treeLevel;
         Spatial spatial = find();
@@ -497,6 +516,7 @@ public class SelectedSpatial implements JmeCloneable {
      * the root) in the scene graph.
      */
     public void boostAllChildren() {
+        ModelVersion.bump(ModelAspect.Selection);
         int treeLevel = treePosition.size();
         assert treeLevel > 0 : treeLevel;
 
@@ -516,6 +536,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Cardinalize the local rotation.
      */
     public void cardinalizeRotation() {
+        ModelVersion.bump(ModelAspect.Selection);
         Quaternion localRotation = localRotation(null);
         MyQuaternion.cardinalizeLocal(localRotation);
         editableCgm.setSpatialRotation(localRotation);
@@ -526,6 +547,7 @@ public class SelectedSpatial implements JmeCloneable {
      * eliminate any sharing of the material.
      */
     public void cloneMaterial() {
+        ModelVersion.bump(ModelAspect.Selection);
         Material oldMaterial = getMaterial();
         Material clone = oldMaterial.clone();
         clone.setKey(null);
@@ -790,6 +812,7 @@ public class SelectedSpatial implements JmeCloneable {
      * If the spatial has a parent, delete the spatial and select its parent.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial selectedSpatial = find();
         Node parent = selectedSpatial.getParent();
         if (parent != null) {
@@ -882,6 +905,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void generateNormals(MeshNormals algorithm) {
         Validate.nonNull(algorithm, "algorithm");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Mesh oldMesh = getMesh();
         Mesh newMesh = MeshUtil.generateNormals(oldMesh, algorithm);
         String message = "generate mesh normals for " + algorithm;
@@ -1661,6 +1685,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void select(List<Integer> pos) {
         Validate.nonNull(pos, "pos");
 
+        ModelVersion.bump(ModelAspect.Selection);
         treePosition.clear();
         treePosition.addAll(pos);
         postSelect();
@@ -1689,6 +1714,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void select(String name) {
         Validate.nonEmpty(name, "spatial name");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<Integer> position = cgm.findSpatialNamed(name);
         assert position != null;
         treePosition = position;
@@ -1700,6 +1726,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the attachments node of the selected bone.
      */
     public void selectAttachmentsNode() {
+        ModelVersion.bump(ModelAspect.Selection);
         Object bone = cgm.getBone().get();
         if (bone != null) {
             Node attachmentsNode = MaudUtil.getBoneAttachments(bone);
@@ -1717,6 +1744,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void selectChild(int childIndex) {
         Validate.nonNegative(childIndex, "child index");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial child = modelChild(childIndex);
         if (child != null) {
             treePosition.add(childIndex);
@@ -1729,6 +1757,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the C-G model's root spatial.
      */
     public void selectCgmRoot() {
+        ModelVersion.bump(ModelAspect.Selection);
         treePosition.clear();
         assert find() == cgm.getRootSpatial();
         postSelect();
@@ -1738,6 +1767,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the controlled spatial of the selected S-G control.
      */
     public void selectControlled() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial controlled = cgm.getSgc().getControlled();
         if (controlled != null) {
             select(controlled);
@@ -1748,6 +1778,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the spatial that owns the selected light.
      */
     public void selectLightOwner() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial owner = cgm.getLight().getOwner();
         if (owner != null) {
             select(owner);
@@ -1778,6 +1809,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the next Geometry (in cyclical index order).
      */
     public void selectNextGeometry() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial spatial = find();
         assert spatial instanceof Geometry;
 
@@ -1799,6 +1831,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the parent of the selected Spatial.
      */
     public void selectParent() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial selectedSpatial = find();
         Node parent = selectedSpatial.getParent();
         if (parent != null) {
@@ -1813,6 +1846,7 @@ public class SelectedSpatial implements JmeCloneable {
      * Select the previous Geometry (in cyclical index order).
      */
     public void selectPreviousGeometry() {
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial spatial = find();
         assert spatial instanceof Geometry;
 
@@ -1838,6 +1872,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void selectSibling(int siblingIndex) {
         Validate.nonNegative(siblingIndex, "sibling index");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial spatial = find();
         Node parent = spatial.getParent();
         if (parent != null) { // not the C-G model root
@@ -1893,6 +1928,7 @@ public class SelectedSpatial implements JmeCloneable {
         Validate.inRange(axisIndex, "axis index", MyVector3f.firstAxis,
                 MyVector3f.lastAxis);
 
+        ModelVersion.bump(ModelAspect.Selection);
         Quaternion localRotation = localRotation(null);
         MyQuaternion.snapLocal(localRotation, axisIndex);
         editableCgm.setSpatialRotation(localRotation);
@@ -1933,6 +1969,7 @@ public class SelectedSpatial implements JmeCloneable {
     public void translateSmartNode(Vector3f localOffset) {
         Validate.nonNull(localOffset, "offset");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Node node = (Node) find();
         List<Spatial> children = node.getChildren();
         int numChildren = children.size();
@@ -1948,6 +1985,7 @@ public class SelectedSpatial implements JmeCloneable {
         }
 
         String positionString = node.toString();
+        editableCgm.getStatistics().invalidate();
         editableCgm.getEditState().setEditedSmartNodeTransform(positionString);
     }
 
@@ -1982,6 +2020,7 @@ public class SelectedSpatial implements JmeCloneable {
      * the Mesh by introducing an index buffer.
      */
     public void toggleIndexedMesh() {
+        ModelVersion.bump(ModelAspect.Selection);
         Mesh mesh = getMesh();
         if (mesh != null) {
             boolean isIndexed = MyMesh.hasIndices(mesh);
@@ -52,12 +52,14 @@ import jme3utilities.Heart;
 import jme3utilities.MySpatial;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
-import jme3utilities.nifty.WindowController;
 import jme3utilities.ui.Locators;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
+import maud.tool.EditorTools;
 
 /**
  * The MVC model of the selected texture in a loaded C-G model.
@@ -131,6 +133,7 @@ public class SelectedTexture implements JmeCloneable {
         assert isSelected();
         assert selectedTexture != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         MatParamRef firstRef = selectedRefs.get(0);
         Texture clone = Cloner.deepClone(selectedTexture);
         editableCgm.selectAndReplaceTexture(firstRef, clone, "clone texture");
@@ -178,6 +181,7 @@ public class SelectedTexture implements JmeCloneable {
     public void create() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Texture.Type typeHint = Texture.Type.TwoDimensional;
         MatParamRef firstRef = selectedRefs.get(0); // just a heuristic
         if (firstRef != null) {
@@ -268,6 +272,7 @@ public class SelectedTexture implements JmeCloneable {
      * Deselect the selected texture and all references to it.
      */
     public void deselectAll() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedRefs.clear();
         selectedTexture = null;
     }
@@ -499,6 +504,7 @@ public class SelectedTexture implements JmeCloneable {
     public void nullifyFirst() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         MatParamRef firstRef = selectedRefs.get(0);
         editableCgm.selectAndReplaceTexture(firstRef, null, "nullify texture");
     }
@@ -535,6 +541,7 @@ public class SelectedTexture implements JmeCloneable {
      */
     public void replaceMatchingTextures(CharSequence match,
             CharSequence replacement) {
+        ModelVersion.bump(ModelAspect.Selection);
         int replacementCount = 0;
         List<Texture> nonNullTextures = listNonNullTextures();
 
@@ -616,6 +623,7 @@ public class SelectedTexture implements JmeCloneable {
     public void select(MatParamRef reference) {
         Validate.nonNull(reference, "reference");
 
+        ModelVersion.bump(ModelAspect.Selection);
         selectedRefs.clear();
         selectedRefs.add(reference);
 
@@ -638,6 +646,7 @@ public class SelectedTexture implements JmeCloneable {
     public void select(String desc) {
         Validate.nonEmpty(desc, "description");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<Texture> textures = listNonNullTextures();
         for (Texture texture : textures) {
             if (DescribeUtil.texture(texture).equals(desc)) {
@@ -675,22 +684,23 @@ public class SelectedTexture implements JmeCloneable {
     public void selectFirstUser() {
         assert isSelected();
 
-        WindowController tool;
+        ModelVersion.bump(ModelAspect.Selection);
+        String toolName;
         MatParamRef firstRef = selectedRefs.get(0);
         String parameterName = firstRef.parameterName();
         if (firstRef.isOverride()) {
             Spatial spatial = firstRef.getOverrideSpatial();
             cgm.getSpatial().select(spatial);
             cgm.getOverride().select(parameterName);
-            tool = Maud.gui.findTool("overrides");
+            toolName = "overrides";
         } else {
             assert firstRef.isInMaterial();
             Material material = firstRef.getMaterial();
             cgm.getSpatial().selectMaterial(material);
             cgm.getMatParam().select(parameterName);
-            tool = Maud.gui.findTool("material");
+            toolName = "material";
         }
-        tool.select();
+        EditorTools.select(toolName);
     }
 
     /**
@@ -699,6 +709,7 @@ public class SelectedTexture implements JmeCloneable {
     public void selectNext() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         int oldIndex = findIndex();
         assert oldIndex != -1;
         int newIndex = oldIndex + 1;
@@ -716,6 +727,7 @@ public class SelectedTexture implements JmeCloneable {
     public void selectPrevious() {
         assert isSelected();
 
+        ModelVersion.bump(ModelAspect.Selection);
         int oldIndex = findIndex();
         assert oldIndex != -1;
         int newIndex = oldIndex - 1;
@@ -736,6 +748,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonNegative(newValue, "new value");
         assert hasKey();
 
+        ModelVersion.bump(ModelAspect.Selection);
         int oldValue = anisotropy();
         if (oldValue != newValue) {
             String assetPath = assetPath();
@@ -759,6 +772,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonEmpty(newPath, "new path");
         assert hasKey();
 
+        ModelVersion.bump(ModelAspect.Selection);
         String oldPath = assetPath();
         if (!newPath.equals(oldPath)) {
             int anisotropy = anisotropy();
@@ -797,6 +811,7 @@ public class SelectedTexture implements JmeCloneable {
     public void setFlipY(boolean newSetting) {
         assert hasKey();
 
+        ModelVersion.bump(ModelAspect.Selection);
         boolean oldSetting = isFlipY();
         if (oldSetting != newSetting) {
             int anisotropy = anisotropy();
@@ -819,6 +834,7 @@ public class SelectedTexture implements JmeCloneable {
     public void setGenerateMips(boolean newSetting) {
         assert hasKey();
 
+        ModelVersion.bump(ModelAspect.Selection);
         boolean oldSetting = isGenerateMips();
         if (oldSetting != newSetting) {
             int anisotropy = anisotropy();
@@ -841,6 +857,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonNull(newFilter, "new filter");
         assert !isNull();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Texture.MagFilter oldFilter = magFilter();
         if (oldFilter != newFilter) {
             Texture clone = Cloner.deepClone(selectedTexture);
@@ -861,6 +878,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonNull(newFilter, "new filter");
         assert !isNull();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Texture.MinFilter oldFilter = minFilter();
         if (oldFilter != newFilter) {
             Texture clone = Cloner.deepClone(selectedTexture);
@@ -881,6 +899,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonNull(newHint, "new hint");
         assert hasKey();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Texture.Type oldHint = typeHint();
         if (newHint != oldHint) {
             String assetPath = assetPath();
@@ -906,6 +925,7 @@ public class SelectedTexture implements JmeCloneable {
         Validate.nonNull(newMode, "mode");
         assert !isNull();
 
+        ModelVersion.bump(ModelAspect.Selection);
         Texture.WrapMode oldMode = wrapMode(axis);
         if (oldMode != newMode) {
             Texture clone = Cloner.deepClone(selectedTexture);
@@ -68,7 +68,10 @@ import jme3utilities.wes.TrackEdit;
 import jme3utilities.wes.TweenTransforms;
 import maud.Maud;
 import maud.MaudUtil;
+import maud.SupportFinder;
 import maud.SupportUtil;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.tool.EditorTools;
 
 /**
@@ -179,6 +182,8 @@ public class SelectedTrack implements JmeCloneable {
     public void deleteNextKeyframes(int number) {
         Validate.positive(number, "number");
         assert selected != null;
+
+        ModelVersion.bump(ModelAspect.Selection);
         int frameIndex = cgm.getFrame().findIndex();
         assert frameIndex != -1;
 
@@ -193,6 +198,8 @@ public class SelectedTrack implements JmeCloneable {
     public void deletePreviousKeyframes(int number) {
         Validate.positive(number, "number");
         assert selected != null;
+
+        ModelVersion.bump(ModelAspect.Selection);
         int frameIndex = cgm.getFrame().findIndex();
         assert frameIndex != -1;
 
@@ -207,6 +214,7 @@ public class SelectedTrack implements JmeCloneable {
         assert selected instanceof SpatialTrack
                 || selected instanceof TransformTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -243,6 +251,7 @@ public class SelectedTrack implements JmeCloneable {
     public void deleteScales() {
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -279,6 +288,8 @@ public class SelectedTrack implements JmeCloneable {
      */
     public void deleteSelectedKeyframe() {
         assert selected != null;
+
+        ModelVersion.bump(ModelAspect.Selection);
         int frameIndex = cgm.getFrame().findIndex();
         assert frameIndex > 0 : frameIndex;
 
@@ -293,6 +304,7 @@ public class SelectedTrack implements JmeCloneable {
         assert selected instanceof SpatialTrack
                 || selected instanceof TransformTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -487,6 +499,7 @@ public class SelectedTrack implements JmeCloneable {
      * animation time.
      */
     public void insertKeyframe() {
+        ModelVersion.bump(ModelAspect.Selection);
         float time = cgm.getPlay().getTime();
         assert time > 0f : time;
         float duration = cgm.getAnimation().duration();
@@ -608,6 +621,7 @@ public class SelectedTrack implements JmeCloneable {
         Validate.inRange(factor, "reduction factor", 2, Integer.MAX_VALUE);
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -648,6 +662,7 @@ public class SelectedTrack implements JmeCloneable {
         Validate.positive(sampleRate, "sample rate");
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -692,6 +707,7 @@ public class SelectedTrack implements JmeCloneable {
         Validate.inRange(numSamples, "number of samples", 2, Integer.MAX_VALUE);
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
 
         TmpTracks.clear();
@@ -744,6 +760,7 @@ public class SelectedTrack implements JmeCloneable {
      * Select the next track in the animation.
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> descriptions = listDescriptions();
         int numTracks = descriptions.size();
         String desc = describe();
@@ -757,6 +774,7 @@ public class SelectedTrack implements JmeCloneable {
      * Select the previous track in the animation.
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> descriptions = listDescriptions();
         String desc = describe();
         int index = descriptions.indexOf(desc) - 1;
@@ -772,6 +790,7 @@ public class SelectedTrack implements JmeCloneable {
      * Select the bone or spatial that is the track's target.
      */
     public void selectTarget() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selected instanceof BoneTrack) {
             BoneTrack boneTrack = (BoneTrack) selected;
             int boneIndex = boneTrack.getTargetBoneIndex();
@@ -793,6 +812,7 @@ public class SelectedTrack implements JmeCloneable {
     public void selectWithDescription(String description) {
         Validate.nonEmpty(description, "description");
 
+        ModelVersion.bump(ModelAspect.Selection);
         List<TrackItem> items = cgm.getAnimation().listTracks();
         for (TrackItem item : items) {
             if (item.describe().equals(description)) {
@@ -830,6 +850,7 @@ public class SelectedTrack implements JmeCloneable {
         assert selected instanceof BoneTrack
                 || selected instanceof TransformTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Pose pose = cgm.getPose().get();
         int boneIndex = targetBoneIndex();
         Quaternion poseRotation = pose.userRotation(boneIndex, null);
@@ -854,6 +875,7 @@ public class SelectedTrack implements JmeCloneable {
         assert selected instanceof BoneTrack
                 || selected instanceof TransformTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Pose pose = cgm.getPose().get();
         int boneIndex = targetBoneIndex();
         Vector3f poseScale = pose.userScale(boneIndex, null);
@@ -878,6 +900,7 @@ public class SelectedTrack implements JmeCloneable {
         assert selected instanceof BoneTrack
                 || selected instanceof TransformTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Pose pose = cgm.getPose().get();
         int boneIndex = targetBoneIndex();
         Vector3f poseTranslation = pose.userTranslation(boneIndex, null);
@@ -900,6 +923,7 @@ public class SelectedTrack implements JmeCloneable {
     public void smooth() {
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
         float duration = cgm.getAnimation().duration();
 
@@ -962,6 +986,7 @@ public class SelectedTrack implements JmeCloneable {
     public void translateForSupport() {
         assert selected instanceof BoneTrack;
 
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedSkeleton selectedSkeleton = cgm.getSkeleton();
         Object skeleton = selectedSkeleton.find();
         assert skeleton != null;
@@ -1016,6 +1041,7 @@ public class SelectedTrack implements JmeCloneable {
         Vector3f world = new Vector3f();
         Vector3f w = new Vector3f();
         Matrix3f sensMat = new Matrix3f();
+        SupportFinder finder = new SupportFinder(subtree);
         /*
          * Calculate a new bone translation for each keyframe.
          */
@@ -1060,7 +1086,7 @@ public class SelectedTrack implements JmeCloneable {
              * Using the original skinning matrices, pick a vertex to serve as
              * a reference for the next frame.
              */
-            previousVertexIndex = SupportUtil.findSupport(subtree,
+            previousVertexIndex = finder.findSupport(
                     skinningMatrices, previousWorld, previousGeometryRef);
             assert previousVertexIndex != -1;
             assert previousGeometryRef[0] != null;
@@ -1108,6 +1134,7 @@ public class SelectedTrack implements JmeCloneable {
         Validate.fraction(endWeight, "end weight");
         assert selected != null;
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object newSelected = null;
         TmpTracks.clear();
         Object[] oldTracks = cgm.getAnimation().getTracks();
@@ -1281,6 +1308,7 @@ public class SelectedTrack implements JmeCloneable {
         Geometry[] geometryRef = new Geometry[1];
         Vector3f world = new Vector3f();
         Matrix3f sensMat = new Matrix3f();
+        SupportFinder finder = new SupportFinder(subtree);
         /*
          * Calculate a new bone translation for each keyframe.
          */
@@ -1297,8 +1325,8 @@ public class SelectedTrack implements JmeCloneable {
                 tempPose.setToClip((AnimClip) oldAnim, trackTime);
             }
             tempPose.skin(skinningMatrices);
-            int vertexIndex = SupportUtil.findSupport(
-                    subtree, skinningMatrices, world, geometryRef);
+            int vertexIndex = finder.findSupport(
+                    skinningMatrices, world, geometryRef);
             assert vertexIndex != -1;
             world.x = 0f;
             world.y = cgmY - world.y;
@@ -37,6 +37,8 @@ import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
 import jme3utilities.nifty.dialog.VectorDialog;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of the selected user datum in a loaded C-G model.
@@ -76,6 +78,7 @@ public class SelectedUserData implements Cloneable {
      * Delete (and deselect) the selected datum.
      */
     public void delete() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (isSelected()) {
             Spatial selectedSpatial = cgm.getSpatial().find();
 
@@ -109,6 +112,7 @@ public class SelectedUserData implements Cloneable {
      * Deselect the selected datum, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedKey = null;
     }
 
@@ -174,6 +178,7 @@ public class SelectedUserData implements Cloneable {
     public void renameKey(String newKey) {
         Validate.nonNull(newKey, "new key");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Spatial spatial = cgm.getSpatial().find();
         String oldKey = selectedKey;
         Object value = getValue();
@@ -195,6 +200,7 @@ public class SelectedUserData implements Cloneable {
      * @param key a key, or null to deselect
      */
     public void selectKey(String key) {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedKey = key;
     }
 
@@ -202,6 +208,7 @@ public class SelectedUserData implements Cloneable {
      * Select the next datum (in key lexical order).
      */
     public void selectNextKey() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> keyList = cgm.getSpatial().listUserKeys();
         int numKeys = keyList.size();
         int index = keyList.indexOf(selectedKey);
@@ -214,6 +221,7 @@ public class SelectedUserData implements Cloneable {
      * Select the previous datum (in key lexical order).
      */
     public void selectPreviousKey() {
+        ModelVersion.bump(ModelAspect.Selection);
         List<String> keyList = cgm.getSpatial().listUserKeys();
         int numKeys = keyList.size();
         int index = keyList.indexOf(selectedKey);
@@ -248,6 +256,7 @@ public class SelectedUserData implements Cloneable {
     public void setValue(String valueString) {
         Validate.nonNull(valueString, "value string");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Object value = getValue();
         Spatial spatial = cgm.getSpatial().find();
         String key = key();
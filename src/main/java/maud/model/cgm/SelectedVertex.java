@@ -44,8 +44,10 @@ import java.util.logging.Logger;
 import jme3utilities.MyMesh;
 import jme3utilities.Validate;
 import jme3utilities.math.MyVector3f;
-import jme3utilities.math.Population;
 import jme3utilities.wes.Pose;
+import maud.SkinningCache;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.view.scene.SceneUpdater;
 
 /**
@@ -209,6 +211,7 @@ public class SelectedVertex implements Cloneable {
      * Deselect the selected vertex, if any.
      */
     public void deselect() {
+        ModelVersion.bump(ModelAspect.Selection);
         selectedIndex = -1;
     }
 
@@ -260,32 +263,18 @@ public class SelectedVertex implements Cloneable {
 
     /**
      * Enumerate the closest vertices (in terms of bind position) in the
-     * selected Mesh.
+     * selected Mesh, using a cached k-d tree.
      *
      * @param maxNumber the maximum number of vertices to return (&gt;0)
-     * @return a new list of vertex indices
+     * @return a new list of vertex indices, nearest first
      */
     public List<Integer> listNeighbors(int maxNumber) {
         Validate.positive(maxNumber, "max number");
 
-        Population<Float, Integer> population = new Population<>(maxNumber);
         Mesh mesh = cgm.getSpatial().getMesh();
-        Vector3f position = MyMesh.vertexVector3f(mesh, Type.BindPosePosition,
-                selectedIndex, null);
-
-        Vector3f tmpPosition = new Vector3f();
-        int numVertices = mesh.getVertexCount();
-
-        for (int vertexIndex = 0; vertexIndex < numVertices; ++vertexIndex) {
-            if (vertexIndex != selectedIndex) {
-                MyMesh.vertexVector3f(mesh, Type.BindPosePosition, vertexIndex,
-                        tmpPosition);
-                float squaredDistance = position.distanceSquared(tmpPosition);
-                population.add(vertexIndex, -squaredDistance);
-            }
-        }
+        VertexTree tree = VertexTree.forMesh(mesh);
+        List<Integer> result = tree.listNeighbors(selectedIndex, maxNumber);
 
-        List<Integer> result = population.listElements();
         return result;
     }
 
@@ -296,6 +285,8 @@ public class SelectedVertex implements Cloneable {
      */
     public void select(int newIndex) {
         Validate.inRange(newIndex, "new index", -1, Integer.MAX_VALUE);
+
+        ModelVersion.bump(ModelAspect.Selection);
         selectedIndex = newIndex;
     }
 
@@ -308,6 +299,7 @@ public class SelectedVertex implements Cloneable {
     public void selectExtreme(Vector3f axesDirection) {
         Validate.nonZero(axesDirection, "direction");
 
+        ModelVersion.bump(ModelAspect.Selection);
         Transform transform = SceneUpdater.axesTransform(cgm);
         Quaternion rotation = transform.getRotation(); // alias
         Vector3f worldDirection = rotation.mult(axesDirection, null);
@@ -319,6 +311,7 @@ public class SelectedVertex implements Cloneable {
      * Select the next vertex (by index).
      */
     public void selectNext() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedIndex != -1) {
             ++selectedIndex;
             int numVertices = cgm.getSpatial().countVertices();
@@ -332,6 +325,7 @@ public class SelectedVertex implements Cloneable {
      * Select the previous vertex (by index).
      */
     public void selectPrevious() {
+        ModelVersion.bump(ModelAspect.Selection);
         if (selectedIndex != -1) {
             --selectedIndex;
             if (selectedIndex < 0) {
@@ -362,6 +356,7 @@ public class SelectedVertex implements Cloneable {
      * @param newValue the desired value
      */
     public void setComponent(int componentIndex, float newValue) {
+        ModelVersion.bump(ModelAspect.Selection);
         SelectedBuffer selectedBuffer = cgm.getBuffer();
         int numComponentsPerElement = selectedBuffer.countComponents();
         int lastComponent = numComponentsPerElement - 1;
@@ -400,9 +395,8 @@ public class SelectedVertex implements Cloneable {
 
         Spatial selectedSpatial = cgm.getSceneView().selectedSpatial();
         Geometry selectedGeometry = (Geometry) selectedSpatial;
-        Pose pose = cgm.getPose().get();
-        Matrix4f[] matrices = pose.skin(null);
-        MyMesh.vertexWorldLocation(selectedGeometry, selectedIndex, matrices,
+        DisplayedPose pose = cgm.getPose();
+        SkinningCache.worldLocation(selectedGeometry, selectedIndex, pose,
                 result);
 
         return result;
@@ -436,16 +430,19 @@ public class SelectedVertex implements Cloneable {
 
         Spatial selectedSpatial = cgm.getSceneView().selectedSpatial();
         Geometry selectedGeometry = (Geometry) selectedSpatial;
-        Pose pose = cgm.getPose().get();
-        Matrix4f[] skinningMatrices = pose.skin(null);
+        DisplayedPose pose = cgm.getPose();
+        FloatBuffer worldLocations
+                = SkinningCache.worldLocations(selectedGeometry, pose);
 
         double bestDot = Double.NEGATIVE_INFINITY;
         Vector3f tmpWorldLocation = new Vector3f();
 
         int numVertices = cgm.getSpatial().countVertices();
         for (int iVertex = 0; iVertex < numVertices; iVertex++) {
-            MyMesh.vertexWorldLocation(selectedGeometry, iVertex,
-                    skinningMatrices, tmpWorldLocation);
+            int start = MyVector3f.numAxes * iVertex;
+            tmpWorldLocation.set(worldLocations.get(start),
+                    worldLocations.get(start + 1),
+                    worldLocations.get(start + 2));
             double dot = MyVector3f.dot(tmpWorldLocation, worldDirection);
             if (dot >= bestDot) {
                 bestDot = dot;
@@ -30,9 +30,13 @@ import com.jme3.anim.AnimTrack;
 import com.jme3.animation.AnimControl;
 import com.jme3.animation.BoneTrack;
 import com.jme3.animation.Track;
+import com.jme3.material.Material;
 import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.control.AbstractControl;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 import jme3utilities.MyAnimation;
 import jme3utilities.Validate;
@@ -57,6 +61,22 @@ final public class StaffTrack {
     // *************************************************************************
     // constants and loggers
 
+    /**
+     * number of transform channels
+     */
+    final private static int numChannels = 3;
+    /**
+     * channel index for rotations
+     */
+    final private static int rotationChannel = 1;
+    /**
+     * channel index for scales
+     */
+    final private static int scaleChannel = 2;
+    /**
+     * channel index for translations
+     */
+    final private static int translationChannel = 0;
     /**
      * message logger for this class
      */
@@ -65,13 +85,24 @@ final public class StaffTrack {
     // *************************************************************************
     // fields
 
+    /**
+     * true if the arrays have been prepared for the loaded track, otherwise
+     * false
+     */
+    private static boolean isPrepared = false;
     /**
      * the C-G model currently being visualized, set by
      * {@link #setCgm(maud.model.cgm.Cgm)}
      */
     private static Cgm cgm;
     /**
-     * reusable parallel arrays for interpolated samples
+     * normalized X-coordinates of envelope vertices (2 per sample), parallel
+     * with iws/ixs/iys/izs when plotting an envelope
+     */
+    private static float[] enits;
+    /**
+     * reusable parallel arrays for interpolated samples, with room for 2
+     * envelope vertices per sample in iws/ixs/iys/izs
      */
     private static float[] its = null;
     private static float[] iws;
@@ -102,6 +133,12 @@ final public class StaffTrack {
      * text for the track label
      */
     private static String labelText = null;
+    /**
+     * cached keyframe values and interpolated samples for each channel, keyed
+     * weakly by track so that discarded tracks can be collected
+     */
+    final private static Map<Object, ChannelSamples[]> sampleCache
+            = new WeakHashMap<>(120);
     // *************************************************************************
     // constructors
 
@@ -120,6 +157,7 @@ final public class StaffTrack {
      * @return normalized track time (&ge;0, &le;1)
      */
     public static float getFrameT(int frameIndex) {
+        prepare();
         float result = nts[frameIndex];
 
         assert result >= 0f : result;
@@ -178,6 +216,16 @@ final public class StaffTrack {
         }
     }
 
+    /**
+     * Discard any cached samples for the specified track. Invoke this after
+     * modifying a track in place.
+     *
+     * @param modifiedTrack the modified track (unaffected)
+     */
+    static void invalidate(Object modifiedTrack) {
+        sampleCache.remove(modifiedTrack);
+    }
+
     /**
      * Read the text for the track label.
      *
@@ -190,7 +238,8 @@ final public class StaffTrack {
 
     /**
      * Load the track (from the loaded animation) that targets the indexed Bone
-     * or Joint.
+     * or Joint. The arrays for plotting are prepared lazily, so loading a track
+     * merely to size an off-screen staff is cheap.
      *
      * @param boneIndex which bone (&ge;0)
      */
@@ -199,11 +248,12 @@ final public class StaffTrack {
 
         track = cgm.getAnimation().findTrackForBone(boneIndex);
         labelText = cgm.getSkeleton().getBoneName(boneIndex);
-        loadTrack();
+        isPrepared = false;
     }
 
     /**
-     * Load the indexed spatial track from the loaded Animation.
+     * Load the indexed spatial track from the loaded Animation. The arrays for
+     * plotting are prepared lazily.
      *
      * @param spatialTrackIndex which spatial track (&ge;0)
      */
@@ -219,7 +269,7 @@ final public class StaffTrack {
             labelText = MyAnimation.describe((AnimTrack<?>) track);
         }
 
-        loadTrack();
+        isPrepared = false;
     }
 
     /**
@@ -233,39 +283,13 @@ final public class StaffTrack {
         Validate.nonNegative(numPlots, "number of plots");
         Validate.nonNull(resources, "resources");
 
-        Quaternion[] rotations = MaudUtil.getTrackRotations(track);
+        prepare();
         /*
-         * copy frame values
+         * Copy frame values and samples from the cache.
          */
-        int numFrames = rotations.length;
-        for (int i = 0; i < numFrames; i++) {
-            ws[i] = rotations[i].getW();
-            xs[i] = rotations[i].getX();
-            ys[i] = rotations[i].getY();
-            zs[i] = rotations[i].getZ();
-        }
-
-        if (numSamples > 0) {
-            /*
-             * interpolate to obtain sample values
-             */
-            TweenTransforms tt = Maud.getModel().getTweenTransforms();
-            TweenRotations technique = tt.getTweenRotations();
-            float[] times = MaudUtil.getTrackTimes(track);
-            float duration = cgm.getAnimation().duration();
-            RotationCurve parms;
-            parms = technique.precompute(times, duration, rotations);
-            Quaternion tempQ = new Quaternion();
-
-            for (int iSample = 0; iSample < numSamples; iSample++) {
-                float time = its[iSample];
-                technique.interpolate(time, parms, tempQ);
-                iws[iSample] = tempQ.getW();
-                ixs[iSample] = tempQ.getX();
-                iys[iSample] = tempQ.getY();
-                izs[iSample] = tempQ.getZ();
-            }
-        }
+        ChannelSamples cached = cachedSamples(rotationChannel);
+        int numFrames = cached.copyTo(ws, xs, ys, zs, iws, ixs, iys, izs);
+        int numI = cached.countSamples();
 
         int numToNormalize; // number of ws/xs/ys/zs to normalize
         if (track instanceof BoneTrack) {
@@ -280,36 +304,25 @@ final public class StaffTrack {
             zs[poseFrame] = user.getZ();
             numToNormalize = numFrames + 1;
         } else {
-            numToNormalize = nts.length;
+            numToNormalize = numFrames;
         }
         /*
          * Normalize frames, samples, and (if applicable) displayed pose.
          */
-        normalize(numToNormalize, ws, numSamples, iws);
-        normalize(numToNormalize, xs, numSamples, ixs);
-        normalize(numToNormalize, ys, numSamples, iys);
-        normalize(numToNormalize, zs, numSamples, izs);
+        normalize(numToNormalize, ws, numI, iws);
+        normalize(numToNormalize, xs, numI, ixs);
+        normalize(numToNormalize, ys, numI, iys);
+        normalize(numToNormalize, zs, numI, izs);
 
         ScoreView view = cgm.getScoreView();
-        if (numSamples > 0) {
-            view.attachPlot(numFrames, nts, ws, numSamples, nits, iws, "rw",
-                    numPlots, resources.wMaterial);
-            view.attachPlot(numFrames, nts, xs, numSamples, nits, ixs, "rx",
-                    numPlots + 1, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numSamples, nits, iys, "ry",
-                    numPlots + 2, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numSamples, nits, izs, "rz",
-                    numPlots + 3, resources.zMaterial);
-        } else {
-            view.attachPlot(numFrames, nts, ws, numFrames, nts, ws, "rw",
-                    numPlots, resources.wMaterial);
-            view.attachPlot(numFrames, nts, xs, numFrames, nts, xs, "rx",
-                    numPlots + 1, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numFrames, nts, ys, "ry",
-                    numPlots + 2, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numFrames, nts, zs, "rz",
-                    numPlots + 3, resources.zMaterial);
-        }
+        attachPlot(cached, numFrames, ws, iws, "rw", numPlots,
+                resources.wMaterial);
+        attachPlot(cached, numFrames, xs, ixs, "rx", numPlots + 1,
+                resources.xMaterial);
+        attachPlot(cached, numFrames, ys, iys, "ry", numPlots + 2,
+                resources.yMaterial);
+        attachPlot(cached, numFrames, zs, izs, "rz", numPlots + 3,
+                resources.zMaterial);
 
         if (track instanceof BoneTrack) {
             int poseFrame = numFrames;
@@ -329,36 +342,13 @@ final public class StaffTrack {
         Validate.nonNegative(numPlots, "number of plots");
         Validate.nonNull(resources, "resources");
 
-        Vector3f[] scales = MaudUtil.getTrackScales(track);
+        prepare();
         /*
-         * copy frame values
+         * Copy frame values and samples from the cache.
          */
-        int numFrames = scales.length;
-        for (int i = 0; i < numFrames; i++) {
-            xs[i] = scales[i].x;
-            ys[i] = scales[i].y;
-            zs[i] = scales[i].z;
-        }
-
-        if (numSamples > 0) {
-            /*
-             * interpolate to obtain sample values
-             */
-            TweenTransforms tt = Maud.getModel().getTweenTransforms();
-            TweenVectors technique = tt.getTweenScales();
-            float[] times = MaudUtil.getTrackTimes(track);
-            float duration = cgm.getAnimation().duration();
-            VectorCurve parms = technique.precompute(times, duration, scales);
-            Vector3f tempV = new Vector3f();
-
-            for (int iSample = 0; iSample < numSamples; iSample++) {
-                float time = its[iSample];
-                technique.interpolate(time, parms, tempV);
-                ixs[iSample] = tempV.x;
-                iys[iSample] = tempV.y;
-                izs[iSample] = tempV.z;
-            }
-        }
+        ChannelSamples cached = cachedSamples(scaleChannel);
+        int numFrames = cached.copyTo(xs, ys, zs, null, ixs, iys, izs, null);
+        int numI = cached.countSamples();
 
         int numToNormalize; // number of xs/ys/zs to normalize
         if (track instanceof BoneTrack) {
@@ -372,32 +362,22 @@ final public class StaffTrack {
             zs[poseFrame] = user.z;
             numToNormalize = numFrames + 1;
         } else {
-            numToNormalize = nts.length;
+            numToNormalize = numFrames;
         }
         /*
          * Normalize frames, samples, and (if applicable) displayed pose.
          */
-        normalize(numToNormalize, xs, numSamples, ixs);
-        normalize(numToNormalize, ys, numSamples, iys);
-        normalize(numToNormalize, zs, numSamples, izs);
+        normalize(numToNormalize, xs, numI, ixs);
+        normalize(numToNormalize, ys, numI, iys);
+        normalize(numToNormalize, zs, numI, izs);
 
         ScoreView view = cgm.getScoreView();
-        if (numSamples > 0) {
-            view.attachPlot(numFrames, nts, xs, numSamples, nits, ixs, "sx",
-                    numPlots, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numSamples, nits, iys, "sy",
-                    numPlots + 1, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numSamples, nits, izs, "sz",
-                    numPlots + 2, resources.zMaterial);
-
-        } else {
-            view.attachPlot(numFrames, nts, xs, numFrames, nts, xs, "sx",
-                    numPlots, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numFrames, nts, ys, "sy",
-                    numPlots + 1, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numFrames, nts, zs, "sz",
-                    numPlots + 2, resources.zMaterial);
-        }
+        attachPlot(cached, numFrames, xs, ixs, "sx", numPlots,
+                resources.xMaterial);
+        attachPlot(cached, numFrames, ys, iys, "sy", numPlots + 1,
+                resources.yMaterial);
+        attachPlot(cached, numFrames, zs, izs, "sz", numPlots + 2,
+                resources.zMaterial);
 
         if (track instanceof BoneTrack) {
             int poseFrame = numFrames;
@@ -417,37 +397,13 @@ final public class StaffTrack {
         Validate.nonNegative(numPlots, "number of plots");
         Validate.nonNull(resources, "resources");
 
-        Vector3f[] translations = MaudUtil.getTrackTranslations(track);
+        prepare();
         /*
-         * copy frame values
+         * Copy frame values and samples from the cache.
          */
-        int numFrames = translations.length;
-        for (int i = 0; i < numFrames; i++) {
-            xs[i] = translations[i].x;
-            ys[i] = translations[i].y;
-            zs[i] = translations[i].z;
-        }
-
-        if (numSamples > 0) {
-            /*
-             * interpolate to obtain sample values
-             */
-            TweenTransforms tt = Maud.getModel().getTweenTransforms();
-            TweenVectors technique = tt.getTweenTranslations();
-            float[] times = MaudUtil.getTrackTimes(track);
-            float duration = cgm.getAnimation().duration();
-            VectorCurve parms
-                    = technique.precompute(times, duration, translations);
-            Vector3f tempV = new Vector3f();
-
-            for (int iSample = 0; iSample < numSamples; iSample++) {
-                float time = its[iSample];
-                technique.interpolate(time, parms, tempV);
-                ixs[iSample] = tempV.x;
-                iys[iSample] = tempV.y;
-                izs[iSample] = tempV.z;
-            }
-        }
+        ChannelSamples cached = cachedSamples(translationChannel);
+        int numFrames = cached.copyTo(xs, ys, zs, null, ixs, iys, izs, null);
+        int numI = cached.countSamples();
 
         int numToNormalize; // number of xs/ys/zs to normalize
         if (track instanceof BoneTrack) {
@@ -461,31 +417,22 @@ final public class StaffTrack {
             zs[poseFrame] = user.z;
             numToNormalize = numFrames + 1;
         } else {
-            numToNormalize = nts.length;
+            numToNormalize = numFrames;
         }
         /*
          * Normalize frames, samples, and (if applicable) displayed pose.
          */
-        normalize(numToNormalize, xs, numSamples, ixs);
-        normalize(numToNormalize, ys, numSamples, iys);
-        normalize(numToNormalize, zs, numSamples, izs);
+        normalize(numToNormalize, xs, numI, ixs);
+        normalize(numToNormalize, ys, numI, iys);
+        normalize(numToNormalize, zs, numI, izs);
 
         ScoreView view = cgm.getScoreView();
-        if (numSamples > 0) {
-            view.attachPlot(numFrames, nts, xs, numSamples, nits, ixs, "tx",
-                    numPlots, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numSamples, nits, iys, "ty",
-                    numPlots + 1, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numSamples, nits, izs, "tz",
-                    numPlots + 2, resources.zMaterial);
-        } else {
-            view.attachPlot(numFrames, nts, xs, numFrames, nts, xs, "tx",
-                    numPlots, resources.xMaterial);
-            view.attachPlot(numFrames, nts, ys, numFrames, nts, ys, "ty",
-                    numPlots + 1, resources.yMaterial);
-            view.attachPlot(numFrames, nts, zs, numFrames, nts, zs, "tz",
-                    numPlots + 2, resources.zMaterial);
-        }
+        attachPlot(cached, numFrames, xs, ixs, "tx", numPlots,
+                resources.xMaterial);
+        attachPlot(cached, numFrames, ys, iys, "ty", numPlots + 1,
+                resources.yMaterial);
+        attachPlot(cached, numFrames, zs, izs, "tz", numPlots + 2,
+                resources.zMaterial);
 
         if (track instanceof BoneTrack) {
             int poseFrame = numFrames;
@@ -501,6 +448,7 @@ final public class StaffTrack {
     public static void setCgm(Cgm newCgm) {
         Validate.nonNull(newCgm, "new model");
         cgm = newCgm;
+        isPrepared = false;
     }
 
     /**
@@ -518,6 +466,7 @@ final public class StaffTrack {
     public static void setNumSamples(int newNumSamples) {
         Validate.nonNegative(newNumSamples, "new number of samples");
         numSamples = newNumSamples;
+        isPrepared = false;
     }
 
     /**
@@ -535,9 +484,200 @@ final public class StaffTrack {
     // private methods
 
     /**
-     * Prepare a bone/spatial track for visualization.
+     * Attach a plot of one component of the loaded track to the score view.
+     *
+     * @param cached the cached values of the channel (not null)
+     * @param numFrames the number of keyframe values (&ge;0)
+     * @param frameData normalized keyframe values (not null, unaffected)
+     * @param sampleData normalized samples or envelope vertices (not null,
+     * unaffected)
+     * @param suffix suffix for the geometry name (not null)
+     * @param plotIndex position in the staff (&ge;0, &lt;10)
+     * @param material material for the plot (not null)
+     */
+    private static void attachPlot(ChannelSamples cached, int numFrames,
+            float[] frameData, float[] sampleData, String suffix,
+            int plotIndex, Material material) {
+        ScoreView view = cgm.getScoreView();
+        int numI = cached.countSamples();
+        if (cached.isEnvelope()) {
+            view.attachPlot(numI, enits, sampleData, numI, enits, sampleData,
+                    suffix, plotIndex, material);
+        } else if (numI > 0) {
+            view.attachPlot(numFrames, nts, frameData, numI, nits, sampleData,
+                    suffix, plotIndex, material);
+        } else {
+            view.attachPlot(numFrames, nts, frameData, numFrames, nts,
+                    frameData, suffix, plotIndex, material);
+        }
+    }
+
+    /**
+     * Build min/max pyramids for the components of the specified channel of
+     * the loaded track.
+     *
+     * @param channel which channel (translationChannel, rotationChannel, or
+     * scaleChannel)
+     * @return a new array of new pyramids, one per component
+     */
+    private static MinMaxPyramid[] buildPyramids(int channel) {
+        float[][] components;
+        if (channel == rotationChannel) {
+            Quaternion[] rotations = MaudUtil.getTrackRotations(track);
+            int numFrames = rotations.length;
+            components = new float[4][numFrames];
+            for (int i = 0; i < numFrames; i++) {
+                components[0][i] = rotations[i].getW();
+                components[1][i] = rotations[i].getX();
+                components[2][i] = rotations[i].getY();
+                components[3][i] = rotations[i].getZ();
+            }
+        } else {
+            Vector3f[] vectors = (channel == translationChannel)
+                    ? MaudUtil.getTrackTranslations(track)
+                    : MaudUtil.getTrackScales(track);
+            int numFrames = vectors.length;
+            components = new float[3][numFrames];
+            for (int i = 0; i < numFrames; i++) {
+                components[0][i] = vectors[i].x;
+                components[1][i] = vectors[i].y;
+                components[2][i] = vectors[i].z;
+            }
+        }
+
+        int numComponents = components.length;
+        MinMaxPyramid[] result = new MinMaxPyramid[numComponents];
+        for (int i = 0; i < numComponents; ++i) {
+            result[i] = new MinMaxPyramid(components[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the keyframe values and interpolated samples for the specified
+     * channel of the loaded track, recalculating them only if the track's
+     * times, the tweening technique, the duration, or the number of samples
+     * have changed since they were cached. If the track has more keyframes
+     * than there are samples, the samples form a min/max envelope instead.
+     *
+     * @param channel which channel (translationChannel, rotationChannel, or
+     * scaleChannel)
+     * @return the cached values (not null)
+     */
+    private static ChannelSamples cachedSamples(int channel) {
+        ChannelSamples[] entry = sampleCache.get(track);
+        if (entry == null) {
+            entry = new ChannelSamples[numChannels];
+            sampleCache.put(track, entry);
+        }
+
+        TweenTransforms tt = Maud.getModel().getTweenTransforms();
+        Object technique;
+        switch (channel) {
+            case translationChannel:
+                technique = tt.getTweenTranslations();
+                break;
+            case rotationChannel:
+                technique = tt.getTweenRotations();
+                break;
+            case scaleChannel:
+                technique = tt.getTweenScales();
+                break;
+            default:
+                throw new IllegalArgumentException("channel = " + channel);
+        }
+        float[] times = MaudUtil.getTrackTimes(track);
+        float duration = cgm.getAnimation().duration();
+
+        ChannelSamples result = entry[channel];
+        if (result == null
+                || !result.matches(technique, times, duration, numSamples)) {
+            /*
+             * The pyramids depend only on the keyframes, so they survive
+             * changes to the technique, duration, or number of samples.
+             */
+            MinMaxPyramid[] pyramids = null;
+            if (result != null && result.times == times) {
+                pyramids = result.pyramids;
+            }
+
+            if (numSamples > 0 && times.length > numSamples) {
+                /*
+                 * More keyframes than samples: plot an envelope.
+                 */
+                if (pyramids == null) {
+                    pyramids = buildPyramids(channel);
+                }
+                result = sampleEnvelope(technique, times, duration, pyramids);
+            } else if (channel == rotationChannel) {
+                Quaternion[] rotations = MaudUtil.getTrackRotations(track);
+                result = sampleRotations((TweenRotations) technique, times,
+                        duration, rotations);
+            } else {
+                Vector3f[] vectors = (channel == translationChannel)
+                        ? MaudUtil.getTrackTranslations(track)
+                        : MaudUtil.getTrackScales(track);
+                result = sampleVectors((TweenVectors) technique, times,
+                        duration, vectors);
+            }
+            entry[channel] = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalize keyframe data and interpolated data together, to range from 0
+     * to 1.
+     *
+     * @param numK number of keyframe data points (&ge;0)
+     * @param keyframeData keyframe data (not null, length >= numK)
+     * @param numI number of interpolated data points (&ge;0)
+     * @param interpolatedData interpolated data (not null, length >= numI)
+     */
+    private static void normalize(int numK, float[] keyframeData, int numI,
+            float[] interpolatedData) {
+        assert numK >= 0 : numK;
+        assert numI >= 0 : numI;
+
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < numK; i++) {
+            float value = keyframeData[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+
+        for (int i = 0; i < numI; i++) {
+            float value = interpolatedData[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+
+        MyArray.normalize(keyframeData, max, min);
+        MyArray.normalize(interpolatedData, max, min);
+    }
+
+    /**
+     * Prepare the loaded bone/spatial track for visualization, unless that's
+     * already been done.
      */
-    private static void loadTrack() {
+    private static void prepare() {
+        assert track != null;
+        if (isPrepared) {
+            return;
+        }
+        isPrepared = true;
         /*
          * Copy keyframe times to nts[].
          */
@@ -575,11 +715,12 @@ final public class StaffTrack {
              * Allocate larger buffers for interpolated samples.
              */
             its = new float[numSamples];
-            iws = new float[numSamples];
-            ixs = new float[numSamples];
-            iys = new float[numSamples];
-            izs = new float[numSamples];
+            iws = new float[2 * numSamples];
+            ixs = new float[2 * numSamples];
+            iys = new float[2 * numSamples];
+            izs = new float[2 * numSamples];
             nits = new float[numSamples];
+            enits = new float[2 * numSamples];
         }
         /*
          * Calculate sample times.
@@ -588,48 +729,273 @@ final public class StaffTrack {
             for (int i = 0; i < numSamples; i++) {
                 nits[i] = i / (float) (numSamples - 1); // normalized times
                 its[i] = duration * nits[i]; // non-normalized times
+                enits[2 * i] = nits[i];
+                enits[2 * i + 1] = nits[i];
             }
         }
     }
 
     /**
-     * Normalize keyframe data and interpolated data together, to range from 0
-     * to 1.
+     * Calculate a min/max envelope with 2 vertices per sample. Each sample
+     * spans the keyframes from the last one at or before the start of its
+     * interval to the first one at or after the end of its interval, so no
+     * spike is lost.
      *
-     * @param numK number of keyframe data points (&ge;0)
-     * @param keyframeData keyframe data (not null, length >= numK)
-     * @param numI number of interpolated data points (&ge;0)
-     * @param interpolatedData interpolated data (not null, length >= numI)
+     * @param technique the tweening technique (not null)
+     * @param times the keyframe times (not null, unaffected)
+     * @param duration the animation duration (in seconds, &ge;0)
+     * @param pyramids a pyramid for each component (not null, alias created)
+     * @return a new instance
      */
-    private static void normalize(int numK, float[] keyframeData, int numI,
-            float[] interpolatedData) {
-        assert numK >= 0 : numK;
-        assert numI >= 0 : numI;
+    private static ChannelSamples sampleEnvelope(Object technique,
+            float[] times, float duration, MinMaxPyramid[] pyramids) {
+        int numComponents = pyramids.length;
+        float[][] sampleValues = new float[numComponents][2 * numSamples];
+        int lastFrame = times.length - 1;
+        float halfWidth = duration;
+        if (numSamples > 1) {
+            halfWidth = 0.5f * duration / (numSamples - 1);
+        }
 
-        float min = Float.POSITIVE_INFINITY;
-        float max = Float.NEGATIVE_INFINITY;
+        float[] minMax = new float[2];
+        for (int iSample = 0; iSample < numSamples; iSample++) {
+            float time = its[iSample];
+            int fromIndex = Arrays.binarySearch(times, time - halfWidth);
+            if (fromIndex < 0) {
+                fromIndex = Math.max(0, -fromIndex - 2);
+            }
+            int toIndex = Arrays.binarySearch(times, time + halfWidth);
+            if (toIndex < 0) {
+                toIndex = Math.min(lastFrame, -toIndex - 1);
+            }
 
-        for (int i = 0; i < numK; i++) {
-            float value = keyframeData[i];
-            if (value < min) {
-                min = value;
+            for (int i = 0; i < numComponents; ++i) {
+                pyramids[i].minMax(fromIndex, toIndex, minMax);
+                sampleValues[i][2 * iSample] = minMax[0];
+                sampleValues[i][2 * iSample + 1] = minMax[1];
             }
-            if (value > max) {
-                max = value;
+        }
+
+        ChannelSamples result = new ChannelSamples(technique, times, duration,
+                numSamples, null, sampleValues, pyramids);
+        return result;
+    }
+
+    /**
+     * Copy the keyframe rotations of a track and interpolate samples.
+     *
+     * @param technique the tweening technique (not null)
+     * @param times the keyframe times (not null, unaffected)
+     * @param duration the animation duration (in seconds, &ge;0)
+     * @param rotations the keyframe rotations (not null, unaffected)
+     * @return a new instance
+     */
+    private static ChannelSamples sampleRotations(TweenRotations technique,
+            float[] times, float duration, Quaternion[] rotations) {
+        int numFrames = rotations.length;
+        float[][] frameValues = new float[4][numFrames];
+        for (int i = 0; i < numFrames; i++) {
+            frameValues[0][i] = rotations[i].getW();
+            frameValues[1][i] = rotations[i].getX();
+            frameValues[2][i] = rotations[i].getY();
+            frameValues[3][i] = rotations[i].getZ();
+        }
+
+        float[][] sampleValues = new float[4][numSamples];
+        if (numSamples > 0) {
+            RotationCurve parms
+                    = technique.precompute(times, duration, rotations);
+            Quaternion tempQ = new Quaternion();
+            for (int iSample = 0; iSample < numSamples; iSample++) {
+                float time = its[iSample];
+                technique.interpolate(time, parms, tempQ);
+                sampleValues[0][iSample] = tempQ.getW();
+                sampleValues[1][iSample] = tempQ.getX();
+                sampleValues[2][iSample] = tempQ.getY();
+                sampleValues[3][iSample] = tempQ.getZ();
             }
         }
 
-        for (int i = 0; i < numI; i++) {
-            float value = interpolatedData[i];
-            if (value < min) {
-                min = value;
+        ChannelSamples result = new ChannelSamples(technique, times, duration,
+                numSamples, frameValues, sampleValues, null);
+        return result;
+    }
+
+    /**
+     * Copy the keyframe vectors of a track and interpolate samples.
+     *
+     * @param technique the tweening technique (not null)
+     * @param times the keyframe times (not null, unaffected)
+     * @param duration the animation duration (in seconds, &ge;0)
+     * @param vectors the keyframe translations or scales (not null,
+     * unaffected)
+     * @return a new instance
+     */
+    private static ChannelSamples sampleVectors(TweenVectors technique,
+            float[] times, float duration, Vector3f[] vectors) {
+        int numFrames = vectors.length;
+        float[][] frameValues = new float[3][numFrames];
+        for (int i = 0; i < numFrames; i++) {
+            frameValues[0][i] = vectors[i].x;
+            frameValues[1][i] = vectors[i].y;
+            frameValues[2][i] = vectors[i].z;
+        }
+
+        float[][] sampleValues = new float[3][numSamples];
+        if (numSamples > 0) {
+            VectorCurve parms = technique.precompute(times, duration, vectors);
+            Vector3f tempV = new Vector3f();
+            for (int iSample = 0; iSample < numSamples; iSample++) {
+                float time = its[iSample];
+                technique.interpolate(time, parms, tempV);
+                sampleValues[0][iSample] = tempV.x;
+                sampleValues[1][iSample] = tempV.y;
+                sampleValues[2][iSample] = tempV.z;
             }
-            if (value > max) {
-                max = value;
+        }
+
+        ChannelSamples result = new ChannelSamples(technique, times, duration,
+                numSamples, frameValues, sampleValues, null);
+        return result;
+    }
+    // *************************************************************************
+    // ChannelSamples
+
+    /**
+     * Keyframe values and interpolated samples for one channel of a track,
+     * together with the inputs used to calculate them.
+     */
+    private static class ChannelSamples {
+        /**
+         * animation duration used to calculate the sample times
+         */
+        final float duration;
+        /**
+         * keyframe values, indexed by component and then by keyframe, or null
+         * for an envelope
+         */
+        final float[][] frameValues;
+        /**
+         * interpolated samples (or envelope vertices), indexed by component
+         * and then by sample
+         */
+        final float[][] sampleValues;
+        /**
+         * the track's keyframe times when the values were copied (compared by
+         * identity)
+         */
+        final float[] times;
+        /**
+         * number of interpolated samples (&ge;0)
+         */
+        final int numSamples;
+        /**
+         * min/max pyramids of the keyframe values, one per component, or null
+         * if not built
+         */
+        final MinMaxPyramid[] pyramids;
+        /**
+         * tweening technique used for interpolation
+         */
+        final Object technique;
+
+        /**
+         * Instantiate a set of cached values.
+         *
+         * @param technique the tweening technique (not null)
+         * @param times the keyframe times (not null, alias created)
+         * @param duration the animation duration (in seconds, &ge;0)
+         * @param numSamples the number of samples (&ge;0)
+         * @param frameValues the keyframe values (alias created) or null for
+         * an envelope
+         * @param sampleValues the interpolated samples or envelope vertices
+         * (not null, alias created)
+         * @param pyramids the min/max pyramids (alias created) or null if not
+         * built
+         */
+        ChannelSamples(Object technique, float[] times, float duration,
+                int numSamples, float[][] frameValues, float[][] sampleValues,
+                MinMaxPyramid[] pyramids) {
+            this.technique = technique;
+            this.times = times;
+            this.duration = duration;
+            this.numSamples = numSamples;
+            this.frameValues = frameValues;
+            this.sampleValues = sampleValues;
+            this.pyramids = pyramids;
+        }
+
+        /**
+         * Copy the cached values to the specified arrays.
+         *
+         * @param k0 storage for the 1st component of the keyframe values (not
+         * null, modified)
+         * @param k1 storage for the 2nd component (not null, modified)
+         * @param k2 storage for the 3rd component (not null, modified)
+         * @param k3 storage for the 4th component (modified) or null for a
+         * vector channel
+         * @param s0 storage for the 1st component of the samples (not null,
+         * modified)
+         * @param s1 storage for the 2nd component (not null, modified)
+         * @param s2 storage for the 3rd component (not null, modified)
+         * @param s3 storage for the 4th component (modified) or null for a
+         * vector channel
+         * @return the number of keyframe values copied (&ge;0, 0 for an
+         * envelope)
+         */
+        int copyTo(float[] k0, float[] k1, float[] k2, float[] k3,
+                float[] s0, float[] s1, float[] s2, float[] s3) {
+            float[][] kk = {k0, k1, k2, k3};
+            float[][] ss = {s0, s1, s2, s3};
+            int numFrames = 0;
+            int numI = countSamples();
+            int numComponents = sampleValues.length;
+            for (int i = 0; i < numComponents; ++i) {
+                if (frameValues != null) {
+                    numFrames = frameValues[i].length;
+                    System.arraycopy(frameValues[i], 0, kk[i], 0, numFrames);
+                }
+                System.arraycopy(sampleValues[i], 0, ss[i], 0, numI);
             }
+
+            return numFrames;
         }
 
-        MyArray.normalize(keyframeData, max, min);
-        MyArray.normalize(interpolatedData, max, min);
+        /**
+         * Count the samples (or envelope vertices) in each component.
+         *
+         * @return the count (&ge;0)
+         */
+        int countSamples() {
+            int result = sampleValues[0].length;
+            return result;
+        }
+
+        /**
+         * Test whether the samples form a min/max envelope.
+         *
+         * @return true for an envelope, false for interpolated samples
+         */
+        boolean isEnvelope() {
+            boolean result = (frameValues == null);
+            return result;
+        }
+
+        /**
+         * Test whether the cached values were calculated from the specified
+         * inputs.
+         *
+         * @param tech the tweening technique
+         * @param keyTimes the track's keyframe times
+         * @param dur the animation duration
+         * @param samples the number of samples
+         * @return true if they were, otherwise false
+         */
+        boolean matches(Object tech, float[] keyTimes, float dur,
+                int samples) {
+            boolean result = tech == technique && keyTimes == times
+                    && dur == duration && samples == numSamples;
+            return result;
+        }
     }
 }
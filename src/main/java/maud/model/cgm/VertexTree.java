@@ -0,0 +1,399 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.model.cgm;
+
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+import jme3utilities.math.MyVector3f;
+
+/**
+ * A k-d tree over the bind-pose locations of a mesh's vertices, for
+ * nearest-neighbor queries in logarithmic time.
+ * <p>
+ * Trees are built lazily, one per mesh, and cached until
+ * {@link #invalidateAll()} is invoked.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class VertexTree {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of axes in a vector
+     */
+    final private static int numAxes = MyVector3f.numAxes;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(VertexTree.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * bind-pose location of each vertex, 3 floats per vertex
+     */
+    final private float[] locations;
+    /**
+     * vertex indices, arranged so that the median of each index range is the
+     * splitting vertex of the corresponding subtree
+     */
+    final private int[] order;
+    /**
+     * cached trees, keyed by mesh
+     */
+    final private static Map<Mesh, VertexTree> trees = new WeakHashMap<>(4);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Build a tree for the specified mesh.
+     *
+     * @param mesh the mesh (not null, unaffected)
+     */
+    private VertexTree(Mesh mesh) {
+        VertexBuffer.Type type = VertexBuffer.Type.BindPosePosition;
+        FloatBuffer buffer = mesh.getFloatBuffer(type);
+        if (buffer == null) {
+            type = VertexBuffer.Type.Position;
+            buffer = mesh.getFloatBuffer(type);
+        }
+        int numVertices = mesh.getVertexCount();
+
+        locations = new float[numAxes * numVertices];
+        for (int i = 0; i < locations.length; ++i) {
+            locations[i] = buffer.get(i);
+        }
+
+        order = new int[numVertices];
+        for (int vertexIndex = 0; vertexIndex < numVertices; ++vertexIndex) {
+            order[vertexIndex] = vertexIndex;
+        }
+        build(0, numVertices, 0);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the tree for the specified mesh, building it if necessary.
+     *
+     * @param mesh the mesh (not null, unaffected)
+     * @return the pre-existing or new tree (not null)
+     */
+    static VertexTree forMesh(Mesh mesh) {
+        VertexTree result = trees.get(mesh);
+        if (result == null || result.order.length != mesh.getVertexCount()) {
+            result = new VertexTree(mesh);
+            trees.put(mesh, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard all cached trees. Invoke after any edit that alters vertex
+     * buffers in place.
+     */
+    static void invalidateAll() {
+        trees.clear();
+    }
+
+    /**
+     * Find the vertices nearest to the indexed vertex, excluding the vertex
+     * itself.
+     *
+     * @param vertexIndex the index of the vertex to query (&ge;0)
+     * @param maxNumber the maximum number of vertices to return (&gt;0)
+     * @return a new list of vertex indices, nearest first
+     */
+    List<Integer> listNeighbors(int vertexIndex, int maxNumber) {
+        assert vertexIndex >= 0 : vertexIndex;
+        assert maxNumber > 0 : maxNumber;
+
+        Candidates candidates = new Candidates(maxNumber);
+        int start = numAxes * vertexIndex;
+        float[] query = {
+            locations[start], locations[start + 1], locations[start + 2]
+        };
+        search(0, order.length, 0, query, vertexIndex, candidates);
+
+        List<Integer> result = candidates.listNearestFirst();
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Arrange the specified range of the order array into a subtree.
+     *
+     * @param fromIndex the index of the first element (&ge;0)
+     * @param toIndex one past the index of the last element
+     * @param depth the depth of the subtree's root (&ge;0)
+     */
+    private void build(int fromIndex, int toIndex, int depth) {
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+        int axis = depth % numAxes;
+        int median = (fromIndex + toIndex) >>> 1;
+        select(fromIndex, toIndex - 1, median, axis);
+        build(fromIndex, median, depth + 1);
+        build(median + 1, toIndex, depth + 1);
+    }
+
+    /**
+     * Read the specified coordinate of the vertex at the specified position
+     * in the order array.
+     *
+     * @param orderIndex the position in the order array (&ge;0)
+     * @param axis which coordinate (0, 1, or 2)
+     * @return the coordinate value
+     */
+    private float coordinate(int orderIndex, int axis) {
+        float result = locations[numAxes * order[orderIndex] + axis];
+        return result;
+    }
+
+    /**
+     * Search a subtree for vertices near the query location.
+     *
+     * @param fromIndex the index of the subtree's first element (&ge;0)
+     * @param toIndex one past the index of the subtree's last element
+     * @param depth the depth of the subtree's root (&ge;0)
+     * @param query the query location (not null, length=3, unaffected)
+     * @param excludeIndex the index of a vertex to exclude
+     * @param candidates the nearest vertices found so far (not null,
+     * modified)
+     */
+    private void search(int fromIndex, int toIndex, int depth, float[] query,
+            int excludeIndex, Candidates candidates) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        int median = (fromIndex + toIndex) >>> 1;
+        int vertexIndex = order[median];
+        if (vertexIndex != excludeIndex) {
+            int start = numAxes * vertexIndex;
+            float dx = locations[start] - query[0];
+            float dy = locations[start + 1] - query[1];
+            float dz = locations[start + 2] - query[2];
+            float squaredDistance = dx * dx + dy * dy + dz * dz;
+            candidates.offer(vertexIndex, squaredDistance);
+        }
+
+        int axis = depth % numAxes;
+        float offset = query[axis] - coordinate(median, axis);
+        if (offset < 0f) {
+            search(fromIndex, median, depth + 1, query, excludeIndex,
+                    candidates);
+            if (candidates.mayAccept(offset * offset)) {
+                search(median + 1, toIndex, depth + 1, query, excludeIndex,
+                        candidates);
+            }
+        } else {
+            search(median + 1, toIndex, depth + 1, query, excludeIndex,
+                    candidates);
+            if (candidates.mayAccept(offset * offset)) {
+                search(fromIndex, median, depth + 1, query, excludeIndex,
+                        candidates);
+            }
+        }
+    }
+
+    /**
+     * Partially sort the specified range of the order array so that the
+     * element at targetIndex has the value it would have if the range were
+     * fully sorted along the specified axis (quickselect).
+     *
+     * @param low the index of the first element (&ge;0)
+     * @param high the index of the last element (&ge;low)
+     * @param targetIndex the index to select (&ge;low, &le;high)
+     * @param axis which coordinate to sort by (0, 1, or 2)
+     */
+    private void select(int low, int high, int targetIndex, int axis) {
+        while (high > low) {
+            float pivot = coordinate((low + high) >>> 1, axis);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) {
+                    ++i;
+                }
+                while (coordinate(j, axis) > pivot) {
+                    --j;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    ++i;
+                    --j;
+                }
+            }
+            if (targetIndex <= j) {
+                high = j;
+            } else if (targetIndex >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+    // *************************************************************************
+    // Candidates
+
+    /**
+     * A bounded max-heap of the nearest vertices found so far, keyed by
+     * squared distance.
+     */
+    private static class Candidates {
+        /**
+         * squared distance of each candidate
+         */
+        final private float[] squaredDistances;
+        /**
+         * vertex index of each candidate
+         */
+        final private int[] vertexIndices;
+        /**
+         * number of candidates in the heap
+         */
+        private int size = 0;
+
+        /**
+         * Instantiate an empty heap with the specified capacity.
+         *
+         * @param capacity the maximum number of candidates (&gt;0)
+         */
+        Candidates(int capacity) {
+            squaredDistances = new float[capacity];
+            vertexIndices = new int[capacity];
+        }
+
+        /**
+         * List the candidates in ascending order of distance, emptying the
+         * heap.
+         *
+         * @return a new list of vertex indices
+         */
+        List<Integer> listNearestFirst() {
+            Integer[] sorted = new Integer[size];
+            for (int i = size - 1; i >= 0; --i) {
+                sorted[i] = vertexIndices[0];
+                removeFarthest();
+            }
+
+            List<Integer> result = new ArrayList<>(sorted.length);
+            for (Integer vertexIndex : sorted) {
+                result.add(vertexIndex);
+            }
+            return result;
+        }
+
+        /**
+         * Test whether a vertex at the specified squared distance could enter
+         * the heap.
+         *
+         * @param squaredDistance the squared distance (&ge;0)
+         * @return true if it could, otherwise false
+         */
+        boolean mayAccept(float squaredDistance) {
+            if (size < squaredDistances.length) {
+                return true;
+            } else {
+                return squaredDistance < squaredDistances[0];
+            }
+        }
+
+        /**
+         * Add a vertex if it's nearer than the farthest candidate or if the
+         * heap isn't full.
+         *
+         * @param vertexIndex the index of the vertex (&ge;0)
+         * @param squaredDistance its squared distance from the query (&ge;0)
+         */
+        void offer(int vertexIndex, float squaredDistance) {
+            if (size == squaredDistances.length) {
+                if (squaredDistance >= squaredDistances[0]) {
+                    return;
+                }
+                removeFarthest();
+            }
+
+            int child = size;
+            ++size;
+            while (child > 0) {
+                int parent = (child - 1) / 2;
+                if (squaredDistances[parent] >= squaredDistance) {
+                    break;
+                }
+                squaredDistances[child] = squaredDistances[parent];
+                vertexIndices[child] = vertexIndices[parent];
+                child = parent;
+            }
+            squaredDistances[child] = squaredDistance;
+            vertexIndices[child] = vertexIndex;
+        }
+
+        /**
+         * Remove the farthest candidate from the heap.
+         */
+        private void removeFarthest() {
+            --size;
+            float lastDistance = squaredDistances[size];
+            int lastIndex = vertexIndices[size];
+
+            int parent = 0;
+            while (true) {
+                int child = 2 * parent + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size
+                        && squaredDistances[child + 1]
+                        > squaredDistances[child]) {
+                    ++child;
+                }
+                if (squaredDistances[child] <= lastDistance) {
+                    break;
+                }
+                squaredDistances[parent] = squaredDistances[child];
+                vertexIndices[parent] = vertexIndices[child];
+                parent = child;
+            }
+            squaredDistances[parent] = lastDistance;
+            vertexIndices[parent] = lastIndex;
+        }
+    }
+}
@@ -37,6 +37,8 @@ import jme3utilities.Validate;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of asset locations known to Maud.
@@ -72,6 +74,7 @@ public class AssetLocations implements Cloneable {
     public void addFilesystem(String path) {
         Validate.nonEmpty(path, "path");
 
+        ModelVersion.bump(ModelAspect.Options);
         File file = new File(path);
         String absolutePath = Heart.fixedPath(file);
 
@@ -90,6 +93,7 @@ public class AssetLocations implements Cloneable {
     public void addSpec(String spec) {
         Validate.nonEmpty(spec, "spec");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!knownSpecs.contains(spec)) {
             knownSpecs.add(spec);
             EditState.optionSetEdited("add asset location " + spec);
@@ -168,6 +172,7 @@ public class AssetLocations implements Cloneable {
     public void remove(String spec) {
         Validate.nonEmpty(spec, "spec");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (knownSpecs.contains(spec)) {
             knownSpecs.remove(spec);
             EditState.optionSetEdited("remove asset location " + spec);
@@ -39,6 +39,8 @@ import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
 import maud.model.History;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The MVC model of miscellaneous global options pertaining to Maud's editor
@@ -290,6 +292,7 @@ public class MiscOptions implements Cloneable {
     public void selectBackground(Background newBackground) {
         Validate.nonNull(newBackground, "new background");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (background != newBackground) {
             background = newBackground;
             EditState.optionSetEdited(
@@ -307,6 +310,7 @@ public class MiscOptions implements Cloneable {
         Validate.inRange(axisIndex, "axis index", PhysicsSpace.AXIS_X,
                 PhysicsSpace.AXIS_Z);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (linkToolAxis != axisIndex) {
             linkToolAxis = axisIndex;
             EditState.optionSetEdited(
@@ -322,6 +326,7 @@ public class MiscOptions implements Cloneable {
     public void selectLoadBvhAxisOrder(LoadBvhAxisOrder newOrder) {
         Validate.nonNull(newOrder, "new order");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (axisOrder != newOrder) {
             axisOrder = newOrder;
             EditState.optionSetEdited("BVH axis order=" + newOrder);
@@ -332,6 +337,7 @@ public class MiscOptions implements Cloneable {
      * Cycle through the performance-monitoring modes.
      */
     public void selectNextPerformanceMode() {
+        ModelVersion.bump(ModelAspect.Options);
         switch (performanceMode) {
             case Off:
                 selectPerformanceMode(PerformanceMode.JmeStats);
@@ -340,6 +346,9 @@ public class MiscOptions implements Cloneable {
                 selectPerformanceMode(PerformanceMode.DebugPas);
                 break;
             case DebugPas:
+                selectPerformanceMode(PerformanceMode.StageTimes);
+                break;
+            case StageTimes:
                 selectPerformanceMode(PerformanceMode.Off);
                 break;
             default:
@@ -352,6 +361,7 @@ public class MiscOptions implements Cloneable {
      * Cycle through display modes for rotations.
      */
     public void selectNextRotationDisplay() {
+        ModelVersion.bump(ModelAspect.Options);
         switch (rotationDisplayMode) {
             case Degrees:
                 selectRotationDisplay(RotationDisplayMode.QuatCoeff);
@@ -373,6 +383,7 @@ public class MiscOptions implements Cloneable {
      * Cycle through view modes.
      */
     public void selectNextViewMode() {
+        ModelVersion.bump(ModelAspect.Options);
         switch (viewMode) {
             case Hybrid:
                 selectViewMode(ViewMode.Scene);
@@ -397,6 +408,7 @@ public class MiscOptions implements Cloneable {
     public void selectPerformanceMode(PerformanceMode newMode) {
         Validate.nonNull(newMode, "new mode");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (performanceMode != newMode) {
             performanceMode = newMode;
             EditState.optionSetEdited("perf mode=" + newMode);
@@ -411,6 +423,7 @@ public class MiscOptions implements Cloneable {
     public void selectRbp(RigidBodyParameter newParameter) {
         Validate.nonNull(newParameter, "new parameter");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (rbp != newParameter) {
             rbp = newParameter;
             EditState.optionSetEdited("ObjectTool rbp=" + newParameter);
@@ -425,6 +438,7 @@ public class MiscOptions implements Cloneable {
     public void selectRotationDisplay(RotationDisplayMode newMode) {
         Validate.nonNull(newMode, "new mode");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (rotationDisplayMode != newMode) {
             rotationDisplayMode = newMode;
             EditState.optionSetEdited("rotation display=" + newMode);
@@ -439,6 +453,7 @@ public class MiscOptions implements Cloneable {
     public void selectShapeParameter(ShapeParameter newParameter) {
         Validate.nonNull(newParameter, "new parameter");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (shapeParameter != newParameter) {
             shapeParameter = newParameter;
             EditState.optionSetEdited("ShapeTool parameter=" + newParameter);
@@ -453,6 +468,7 @@ public class MiscOptions implements Cloneable {
     public void selectViewMode(ViewMode newMode) {
         Validate.nonNull(newMode, "new mode");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (viewMode != newMode) {
             viewMode = newMode;
             EditState.optionSetEdited("view mode=" + newMode);
@@ -467,6 +483,7 @@ public class MiscOptions implements Cloneable {
     public void setColorIndex(int newIndex) {
         Validate.inRange(newIndex, "new index", 0, 1);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (colorIndex != newIndex) {
             colorIndex = newIndex;
             EditState.optionSetEdited("CursorTool index=" + newIndex);
@@ -479,6 +496,7 @@ public class MiscOptions implements Cloneable {
      * @param newSetting (true &rarr; print, false &rarr; suppress)
      */
     public void setDiagnoseLoads(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         if (diagnoseLoads != newSetting) {
             diagnoseLoads = newSetting;
             EditState.optionSetEdited("diagnose loads=" + newSetting);
@@ -493,6 +511,7 @@ public class MiscOptions implements Cloneable {
     public void setIndexBase(int newSetting) {
         Validate.inRange(newSetting, "new setting", 0, 1);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (indexBase != newSetting) {
             indexBase = newSetting;
             EditState.optionSetEdited("index base=" + newSetting);
@@ -505,6 +524,7 @@ public class MiscOptions implements Cloneable {
      * @param newSetting (true &rarr; +Z upward, false &rarr; +Y upward)
      */
     public void setLoadZup(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         if (loadZup != newSetting) {
             loadZup = newSetting;
             EditState.optionSetEdited("load Zup=" + newSetting);
@@ -519,6 +539,7 @@ public class MiscOptions implements Cloneable {
     public void setMaxCheckpoints(int max) {
         Validate.inRange(max, "max", 2, Integer.MAX_VALUE);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (maxCheckpoints != max) {
             maxCheckpoints = max;
             History.enforceLimit();
@@ -532,6 +553,7 @@ public class MiscOptions implements Cloneable {
      * @param newSetting (true &rarr; visible, false &rarr; hidden)
      */
     public void setMenuBarVisible(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         if (menuBarVisibility != newSetting) {
             menuBarVisibility = newSetting;
             EditState.optionSetEdited("show menubar=" + newSetting);
@@ -544,6 +566,7 @@ public class MiscOptions implements Cloneable {
      * @param newSetting (true &rarr; visible, false &rarr; hidden)
      */
     public void setTexturePreviewVisible(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         if (texturePreviewVisibility != newSetting) {
             texturePreviewVisibility = newSetting;
             EditState.optionSetEdited("preview texture=" + newSetting);
@@ -558,6 +581,7 @@ public class MiscOptions implements Cloneable {
     public void setStatusMessage(String newMessage) {
         Validate.nonNull(newMessage, "new message");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!statusMessage.equals(newMessage)) {
             statusMessage = newMessage;
             EditState.optionSetEdited("status message=" + newMessage);
@@ -574,6 +598,7 @@ public class MiscOptions implements Cloneable {
         Validate.fraction(newWarpX, "new warp X");
         Validate.fraction(newWarpY, "new warp Y");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (warpX != newWarpX || warpY != newWarpY) {
             warpX = newWarpX;
             warpY = newWarpY;
@@ -591,6 +616,7 @@ public class MiscOptions implements Cloneable {
     public void setVertexPositionTolerance(float tolerance) {
         Validate.nonNegative(tolerance, "tolerance");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (vertexPositionTolerance != tolerance) {
             vertexPositionTolerance = tolerance;
             EditState.optionSetEdited("vertex tolerance=" + tolerance);
@@ -603,6 +629,7 @@ public class MiscOptions implements Cloneable {
      * @param newX the desired display X-coordinate
      */
     public void setXBoundary(float newX) {
+        ModelVersion.bump(ModelAspect.Options);
         float newBoundary = FastMath.clamp(newX, minXBoundary, maxXBoundary);
         if (xBoundary != newBoundary) {
             xBoundary = newBoundary;
@@ -690,6 +717,7 @@ public class MiscOptions implements Cloneable {
      * Toggle which color to view/edit in CursorTool.
      */
     public void toggleColorIndex() {
+        ModelVersion.bump(ModelAspect.Options);
         setColorIndex(1 - colorIndex);
     }
 
@@ -697,6 +725,7 @@ public class MiscOptions implements Cloneable {
      * Toggle the starting point for displayed indices.
      */
     public void toggleIndexBase() {
+        ModelVersion.bump(ModelAspect.Options);
         setIndexBase(1 - indexBase);
     }
 
@@ -704,6 +733,7 @@ public class MiscOptions implements Cloneable {
      * Toggle the orientation for loading C-G models.
      */
     public void toggleLoadOrientation() {
+        ModelVersion.bump(ModelAspect.Options);
         setLoadZup(!loadZup);
     }
 
@@ -711,6 +741,7 @@ public class MiscOptions implements Cloneable {
      * Toggle the visibility of the menu bar.
      */
     public void toggleMenuBarVisibility() {
+        ModelVersion.bump(ModelAspect.Options);
         setMenuBarVisible(!menuBarVisibility);
     }
 
@@ -48,5 +48,9 @@ public enum PerformanceMode {
      * display maximum latency using the PerformanceAppState from the
      * Jme3-utilities project
      */
-    DebugPas
+    DebugPas,
+    /**
+     * display percentiles of the time spent in each stage of the frame update
+     */
+    StageTimes
 }
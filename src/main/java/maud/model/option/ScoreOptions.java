@@ -35,6 +35,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.cgm.Cgm;
 
 /**
@@ -133,6 +135,7 @@ public class ScoreOptions implements Cloneable {
     public void setShowNoneSelected(ShowBones newSetting) {
         Validate.nonNull(newSetting, "new setting");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (showNoneSelected != newSetting) {
             showNoneSelected = newSetting;
             EditState.optionSetEdited("score show none=" + newSetting);
@@ -146,6 +149,7 @@ public class ScoreOptions implements Cloneable {
      * @param desiredSetting true &rarr; show rotations, false &rarr; hide them
      */
     public void setShowRotations(boolean desiredSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         boolean newSetting = true;
         if (showScalesFlag || showTranslationsFlag) {
             newSetting = desiredSetting;
@@ -164,6 +168,7 @@ public class ScoreOptions implements Cloneable {
      * @param desiredSetting true &rarr; show scales, false &rarr; hide them
      */
     public void setShowScales(boolean desiredSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         boolean newSetting = true;
         if (showRotationsFlag || showTranslationsFlag) {
             newSetting = desiredSetting;
@@ -183,6 +188,7 @@ public class ScoreOptions implements Cloneable {
      * them
      */
     public void setShowTranslations(boolean desiredSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         boolean newSetting = true;
         if (showRotationsFlag || showScalesFlag) {
             newSetting = desiredSetting;
@@ -201,6 +207,8 @@ public class ScoreOptions implements Cloneable {
      */
     public void setShowWhenSelected(ShowBones newSetting) {
         Validate.nonNull(newSetting, "new setting");
+
+        ModelVersion.bump(ModelAspect.Options);
         showWhenSelected = newSetting;
 
         if (showWhenSelected != newSetting) {
@@ -217,6 +225,7 @@ public class ScoreOptions implements Cloneable {
     public void setSourceBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!sourceBackground.equals(newColor)) {
             sourceBackground.set(newColor);
 
@@ -234,6 +243,7 @@ public class ScoreOptions implements Cloneable {
     public void setTargetBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!targetBackground.equals(newColor)) {
             targetBackground.set(newColor);
 
@@ -34,6 +34,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for visible coordinate axes in scene views.
@@ -135,6 +137,7 @@ public class AxesOptions implements Cloneable {
      * @param newState true &rarr; enable depth test, false &rarr; no depth test
      */
     public void setDepthTestFlag(boolean newState) {
+        ModelVersion.bump(ModelAspect.Options);
         if (depthTestFlag != newState) {
             depthTestFlag = newState;
             EditState.optionSetEdited("axes depth test=" + newState);
@@ -149,6 +152,7 @@ public class AxesOptions implements Cloneable {
     public void setDragEffect(AxesDragEffect newEffect) {
         Validate.nonNull(newEffect, "new effect");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (dragEffect != newEffect) {
             dragEffect = newEffect;
             EditState.optionSetEdited("axes drag effect=" + newEffect);
@@ -163,6 +167,7 @@ public class AxesOptions implements Cloneable {
     public void setLineWidth(float width) {
         Validate.nonNegative(width, "width");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (lineWidth != width) {
             lineWidth = width;
             EditState editState = Maud.getModel().getOptionsEditState();
@@ -178,6 +183,7 @@ public class AxesOptions implements Cloneable {
     public void setSubject(AxesSubject newSubject) {
         Validate.nonNull(newSubject, "new subject");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (subject != newSubject) {
             subject = newSubject;
             EditState.optionSetEdited("axes subject=" + newSubject);
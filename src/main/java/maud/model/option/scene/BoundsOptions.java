@@ -35,6 +35,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for bounds visualizations in scene views.
@@ -109,6 +111,7 @@ public class BoundsOptions implements Cloneable {
     public void setColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!color.equals(newColor)) {
             color.set(newColor);
 
@@ -123,6 +126,7 @@ public class BoundsOptions implements Cloneable {
      * @param newState true &rarr; enable depth test, false &rarr; no depth test
      */
     public void setDepthTestFlag(boolean newState) {
+        ModelVersion.bump(ModelAspect.Options);
         if (depthTestFlag != newState) {
             depthTestFlag = newState;
             EditState.optionSetEdited("bounds depth test=" + newState);
@@ -137,6 +141,7 @@ public class BoundsOptions implements Cloneable {
     public void setLineWidth(float newWidth) {
         Validate.inRange(newWidth, "new width", 0f, Float.MAX_VALUE);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (lineWidth != newWidth) {
             lineWidth = newWidth;
 
@@ -36,6 +36,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for cameras and POVs in scene views.
@@ -196,6 +198,7 @@ public class CameraOptions implements Cloneable {
     public void setMode(MovementMode newMode) {
         Validate.nonNull(newMode, "new mode");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (movementMode != newMode) {
             movementMode = newMode;
             if (newMode == MovementMode.Orbit) {
@@ -215,6 +218,7 @@ public class CameraOptions implements Cloneable {
     public void setMode(OrbitCenter newCenter) {
         Validate.nonNull(newCenter, "new center");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (orbitCenter != newCenter) {
             orbitCenter = newCenter;
             EditState.optionSetEdited("camera center=" + newCenter);
@@ -228,6 +232,8 @@ public class CameraOptions implements Cloneable {
      */
     public void setMode(ProjectionMode newMode) {
         Validate.nonNull(newMode, "new mode");
+
+        ModelVersion.bump(ModelAspect.Options);
         if (projectionMode != newMode) {
             projectionMode = newMode;
             EditState.optionSetEdited("camera projection=" + newMode);
@@ -238,6 +244,7 @@ public class CameraOptions implements Cloneable {
      * Toggle the movement mode for scene POVs.
      */
     public void toggleMovement() {
+        ModelVersion.bump(ModelAspect.Options);
         if (movementMode == MovementMode.Orbit) {
             setMode(MovementMode.Fly);
         } else {
@@ -249,6 +256,7 @@ public class CameraOptions implements Cloneable {
      * Toggle the projection mode for scene POVs.
      */
     public void toggleProjection() {
+        ModelVersion.bump(ModelAspect.Options);
         if (projectionMode == ProjectionMode.Parallel) {
             setMode(ProjectionMode.Perspective);
         } else {
@@ -35,6 +35,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for 3-D cursors in scene views.
@@ -131,6 +133,7 @@ public class DddCursorOptions implements Cloneable {
         Validate.inRange(phase, "phase", 0, 1);
         Validate.nonNull(newColor, "color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!colors[phase].equals(newColor)) {
             colors[phase].set(newColor);
 
@@ -147,6 +150,7 @@ public class DddCursorOptions implements Cloneable {
     public void setCycleTime(float newCycleTime) {
         Validate.positive(newCycleTime, "new cycle time");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (cycleTime != newCycleTime) {
             cycleTime = newCycleTime;
 
@@ -163,6 +167,7 @@ public class DddCursorOptions implements Cloneable {
     public void setSize(float newSize) {
         Validate.positive(newSize, "new size");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (size != newSize) {
             size = newSize;
 
@@ -177,6 +182,7 @@ public class DddCursorOptions implements Cloneable {
      * @param newState true &rarr; visible, false &rarr; hidden
      */
     public void setVisible(boolean newState) {
+        ModelVersion.bump(ModelAspect.Options);
         if (visible != newState) {
             visible = newState;
             EditState.optionSetEdited("3-D cursor visible=" + newState);
@@ -35,6 +35,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for lighting scene views with no sky simulation.
@@ -113,6 +115,7 @@ public class LightsOptions implements Cloneable {
     public void setAmbientLevel(float newLevel) {
         Validate.nonNegative(newLevel, "new level");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (ambientLevel != newLevel) {
             ambientLevel = newLevel;
 
@@ -129,6 +132,7 @@ public class LightsOptions implements Cloneable {
     public void setDirection(Vector3f newDirection) {
         Validate.nonZero(newDirection, "new direction");
 
+        ModelVersion.bump(ModelAspect.Options);
         Vector3f normalized = newDirection.normalize();
         if (!direction.equals(normalized)) {
             direction.set(normalized);
@@ -146,6 +150,7 @@ public class LightsOptions implements Cloneable {
     public void setMainLevel(float newLevel) {
         Validate.nonNegative(newLevel, "new level");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (mainLevel != newLevel) {
             mainLevel = newLevel;
 
@@ -36,6 +36,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.cgm.Cgm;
 import maud.model.option.Background;
 
@@ -185,6 +187,7 @@ public class RenderOptions implements Cloneable {
     public void setCloudiness(float newOpacity) {
         Validate.fraction(newOpacity, "new opacity");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (cloudiness != newOpacity) {
             cloudiness = newOpacity;
 
@@ -201,6 +204,7 @@ public class RenderOptions implements Cloneable {
     public void setEdgeFilter(EdgeFilteringMode newSetting) {
         Validate.nonNull(newSetting, "new setting");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (edgeFilter != newSetting) {
             edgeFilter = newSetting;
             EditState.optionSetEdited("edge filter=" + newSetting);
@@ -215,6 +219,7 @@ public class RenderOptions implements Cloneable {
     public void setHour(float newHour) {
         Validate.inRange(newHour, "new hour", 0f, 24f);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (hour != newHour) {
             hour = newHour;
 
@@ -231,6 +236,7 @@ public class RenderOptions implements Cloneable {
     public void setNumSplits(int newNumSplits) {
         Validate.inRange(newNumSplits, "new number of splits", 1, 4);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (numSplits != newNumSplits) {
             numSplits = newNumSplits;
             EditState.optionSetEdited("shadow splits=" + newNumSplits);
@@ -243,6 +249,7 @@ public class RenderOptions implements Cloneable {
      * @param newSetting true to visualize, false to hide
      */
     public void setPhysicsRendered(boolean newSetting) {
+        ModelVersion.bump(ModelAspect.Options);
         if (physicsRendered != newSetting) {
             physicsRendered = newSetting;
             EditState.optionSetEdited("physics debug=" + newSetting);
@@ -257,6 +264,7 @@ public class RenderOptions implements Cloneable {
     public void setShadowMapSize(int newSize) {
         Validate.inRange(newSize, "new size", 1, Integer.MAX_VALUE);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (shadowMapSize != newSize) {
             shadowMapSize = newSize;
             EditState.optionSetEdited("shadow map size=" + newSize);
@@ -269,6 +277,7 @@ public class RenderOptions implements Cloneable {
      * @param newState true &rarr; rendered, false &rarr; not rendered
      */
     public void setShadowsRendered(boolean newState) {
+        ModelVersion.bump(ModelAspect.Options);
         if (shadowsRendered != newState) {
             shadowsRendered = newState;
             EditState.optionSetEdited("shadows=" + newState);
@@ -281,6 +290,7 @@ public class RenderOptions implements Cloneable {
      * @param newState true &rarr; simulated, false &rarr; not simulated
      */
     public void setSkySimulated(boolean newState) {
+        ModelVersion.bump(ModelAspect.Options);
         if (skySimulated != newState) {
             skySimulated = newState;
             EditState.optionSetEdited("sky=" + newState);
@@ -295,6 +305,7 @@ public class RenderOptions implements Cloneable {
     public void setSourceBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!sourceBackground.equals(newColor)) {
             sourceBackground.set(newColor);
 
@@ -312,6 +323,7 @@ public class RenderOptions implements Cloneable {
     public void setTargetBackgroundColor(ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (!targetBackground.equals(newColor)) {
             targetBackground.set(newColor);
 
@@ -329,6 +341,7 @@ public class RenderOptions implements Cloneable {
     public void setTriangleMode(TriangleMode newSetting) {
         Validate.nonNull(newSetting, "new setting");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (triangleMode != newSetting) {
             triangleMode = newSetting;
 
@@ -388,6 +401,7 @@ public class RenderOptions implements Cloneable {
      * Toggle whether physics objects are visualized.
      */
     public void togglePhysicsRendered() {
+        ModelVersion.bump(ModelAspect.Options);
         setPhysicsRendered(!physicsRendered);
     }
 
@@ -34,6 +34,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.WhichCgm;
 
 /**
@@ -237,6 +239,7 @@ public class SceneOptions implements Cloneable {
     public void setNumPhysicsIterations(int newNumber) {
         Validate.positive(newNumber, "new number");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (numPhysicsIterations != newNumber) {
             numPhysicsIterations = newNumber;
 
@@ -254,6 +257,7 @@ public class SceneOptions implements Cloneable {
     public void setPlatformDiameter(WhichCgm whichCgm, float newDiameter) {
         Validate.positive(newDiameter, "new diameter");
 
+        ModelVersion.bump(ModelAspect.Options);
         EditState editState = Maud.getModel().getOptionsEditState();
         switch (whichCgm) {
             case Source:
@@ -283,6 +287,7 @@ public class SceneOptions implements Cloneable {
     public void setPlatformType(PlatformType newType) {
         Validate.nonNull(newType, "new type");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (platformType != newType) {
             platformType = newType;
             EditState.optionSetEdited("platform=" + newType);
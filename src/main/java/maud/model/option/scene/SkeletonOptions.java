@@ -35,6 +35,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.option.ShowBones;
 
 /**
@@ -174,6 +176,7 @@ public class SkeletonOptions implements Cloneable {
     public void selectEditColor(SkeletonColors choice) {
         Validate.nonNull(choice, "new edit color");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (editColor != choice) {
             editColor = choice;
             EditState.optionSetEdited("SkeletonTool choice=" + choice);
@@ -189,6 +192,7 @@ public class SkeletonOptions implements Cloneable {
     public void setColor(SkeletonColors use, ColorRGBA newColor) {
         Validate.nonNull(newColor, "new color");
 
+        ModelVersion.bump(ModelAspect.Options);
         EditState editState = Maud.getModel().getOptionsEditState();
         switch (use) {
             case IdleBones:
@@ -232,6 +236,7 @@ public class SkeletonOptions implements Cloneable {
     public void setLineWidth(float width) {
         Validate.inRange(width, "line width", 0f, Float.MAX_VALUE);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (lineWidth != width) {
             lineWidth = width;
 
@@ -248,6 +253,7 @@ public class SkeletonOptions implements Cloneable {
     public void setPointSize(float size) {
         Validate.inRange(size, "point size", 0f, Float.MAX_VALUE);
 
+        ModelVersion.bump(ModelAspect.Options);
         if (pointSize != size) {
             pointSize = size;
 
@@ -264,6 +270,7 @@ public class SkeletonOptions implements Cloneable {
     public void setShowBones(ShowBones newSetting) {
         Validate.nonNull(newSetting, "new setting");
 
+        ModelVersion.bump(ModelAspect.Options);
         if (showBones != newSetting) {
             showBones = newSetting;
             EditState.optionSetEdited("skeleton show=" + newSetting);
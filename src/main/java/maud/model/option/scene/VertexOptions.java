@@ -34,6 +34,8 @@ import maud.Maud;
 import maud.MaudUtil;
 import maud.action.ActionPrefix;
 import maud.model.EditState;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * Options for vertex visualizations in scene views.
@@ -76,6 +78,8 @@ public class VertexOptions implements Cloneable {
      */
     public void setPointSize(float size) {
         Validate.nonNegative(size, "size");
+
+        ModelVersion.bump(ModelAspect.Options);
         if (pointSize != size) {
             pointSize = size;
 
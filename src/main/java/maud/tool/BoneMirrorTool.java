@@ -29,7 +29,6 @@ package maud.tool;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
 import maud.model.cgm.Cgm;
@@ -39,7 +38,7 @@ import maud.model.cgm.Cgm;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class BoneMirrorTool extends Tool {
+class BoneMirrorTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -61,14 +60,14 @@ class BoneMirrorTool extends Tool {
         super(screenController, "boneMirror");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         EditorModel model = Maud.getModel();
         Cgm target = model.getTarget();
         String targetBoneName = target.getBone().name();
@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditorModel;
@@ -44,7 +43,7 @@ import maud.model.option.RotationDisplayMode;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class BoneRotationTool extends Tool {
+class BoneRotationTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -78,6 +77,23 @@ class BoneRotationTool extends Tool {
         super(screenController, "boneRotation");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateSelected();
+        updateSnapButtons();
+
+        RotationDisplayMode mode
+                = Maud.getModel().getMisc().rotationDisplayMode();
+        String dButton = mode.toString();
+        setButtonText("rotationMode", dButton);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -121,24 +137,9 @@ class BoneRotationTool extends Tool {
                 rotation.fromAngles(sliderPositions);
             }
             int boneIndex = target.getBone().index();
-            target.getPose().get().setRotation(boneIndex, rotation);
+            target.getPose().setRotation(boneIndex, rotation);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateSelected();
-        updateSnapButtons();
-
-        RotationDisplayMode mode
-                = Maud.getModel().getMisc().rotationDisplayMode();
-        String dButton = mode.toString();
-        setButtonText("rotationMode", dButton);
-    }
     // *************************************************************************
     // private methods
 
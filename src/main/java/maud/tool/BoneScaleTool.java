@@ -32,7 +32,6 @@ import java.util.logging.Logger;
 import jme3utilities.math.MyMath;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.EditableCgm;
 import maud.model.cgm.SelectedBone;
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedBone;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class BoneScaleTool extends Tool {
+class BoneScaleTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -80,6 +79,34 @@ class BoneScaleTool extends Tool {
         super(screenController, "boneScale");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        boolean enableSliders = false;
+        SelectedBone bone = Maud.getModel().getTarget().getBone();
+        if (bone.isSelected()) {
+            setSlidersToPose();
+            if (bone.shouldEnableControls()) {
+                setButtonText("resetScaAnim", "Animation");
+                setButtonText("resetScaBind", "Bind pose");
+                enableSliders = true;
+            } else {
+                setButtonText("resetScaAnim", "");
+                setButtonText("resetScaBind", "");
+            }
+        } else {
+            clear();
+            setButtonText("resetScaAnim", "");
+            setButtonText("resetScaBind", "");
+        }
+        setSlidersEnabled(enableSliders);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -120,35 +147,9 @@ class BoneScaleTool extends Tool {
             scales.multLocal(masterScale);
 
             int boneIndex = target.getBone().index();
-            target.getPose().get().setScale(boneIndex, scales);
+            target.getPose().setScale(boneIndex, scales);
         }
     }
-
-    /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        boolean enableSliders = false;
-        SelectedBone bone = Maud.getModel().getTarget().getBone();
-        if (bone.isSelected()) {
-            setSlidersToPose();
-            if (bone.shouldEnableControls()) {
-                setButtonText("resetScaAnim", "Animation");
-                setButtonText("resetScaBind", "Bind pose");
-                enableSliders = true;
-            } else {
-                setButtonText("resetScaAnim", "");
-                setButtonText("resetScaBind", "");
-            }
-        } else {
-            clear();
-            setButtonText("resetScaAnim", "");
-            setButtonText("resetScaBind", "");
-        }
-        setSlidersEnabled(enableSliders);
-    }
     // *************************************************************************
     // private methods
 
@@ -29,7 +29,6 @@ package maud.tool;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedSkeleton;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class BoneTool extends Tool {
+class BoneTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,14 +64,14 @@ class BoneTool extends Tool {
         super(screenController, "bone");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateChildren();
         updateControlIndex();
         updateHasTrack();
@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.EditableCgm;
 import maud.model.cgm.SelectedBone;
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedBone;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class BoneTranslationTool extends Tool {
+class BoneTranslationTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -88,6 +87,34 @@ class BoneTranslationTool extends Tool {
         super(screenController, "boneTranslation");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        boolean enableSliders = false;
+        SelectedBone bone = Maud.getModel().getTarget().getBone();
+        if (bone.isSelected()) {
+            setSlidersToPose();
+            if (bone.shouldEnableControls()) {
+                setButtonText("resetOffAnim", "Animation");
+                setButtonText("resetOffBind", "Bind pose");
+                enableSliders = true;
+            } else {
+                setButtonText("resetOffAnim", "");
+                setButtonText("resetOffBind", "");
+            }
+        } else {
+            clear();
+            setButtonText("resetOffAnim", "");
+            setButtonText("resetOffBind", "");
+        }
+        setSlidersEnabled(enableSliders);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -121,35 +148,9 @@ class BoneTranslationTool extends Tool {
             offsets.multLocal(masterScale);
 
             int boneIndex = target.getBone().index();
-            target.getPose().get().setTranslation(boneIndex, offsets);
+            target.getPose().setTranslation(boneIndex, offsets);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        boolean enableSliders = false;
-        SelectedBone bone = Maud.getModel().getTarget().getBone();
-        if (bone.isSelected()) {
-            setSlidersToPose();
-            if (bone.shouldEnableControls()) {
-                setButtonText("resetOffAnim", "Animation");
-                setButtonText("resetOffBind", "Bind pose");
-                enableSliders = true;
-            } else {
-                setButtonText("resetOffAnim", "");
-                setButtonText("resetOffBind", "");
-            }
-        } else {
-            clear();
-            setButtonText("resetOffAnim", "");
-            setButtonText("resetOffBind", "");
-        }
-        setSlidersEnabled(enableSliders);
-    }
     // *************************************************************************
     // private methods
 
@@ -26,23 +26,19 @@
  */
 package maud.tool;
 
-import com.jme3.scene.Node;
-import com.jme3.scene.Spatial;
-import com.jme3.scene.control.Control;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
+import maud.model.cgm.CgmStatistics;
 import maud.model.cgm.EditableCgm;
-import maud.model.cgm.SelectedTexture;
 
 /**
  * The controller for the "Model" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class CgmTool extends Tool {
+class CgmTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,14 +60,14 @@ class CgmTool extends Tool {
         super(screenController, "cgm");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         /*
          * name
          */
@@ -114,64 +110,62 @@ class CgmTool extends Tool {
         /*
          * S-G controls
          */
-        int numSgcs = target.countSgcs(Control.class);
+        CgmStatistics statistics = target.getStatistics();
+        int numSgcs = statistics.countSgcs();
         String sgcsText = Integer.toString(numSgcs);
         setButtonText("cgmSgcs", sgcsText);
         /*
          * materials
          */
-        int numMaterials = target.countMaterials();
+        int numMaterials = statistics.countMaterials();
         String materialsText = Integer.toString(numMaterials);
         setButtonText("cgmMaterials", materialsText);
         /*
          * meshes
          */
-        int numMeshes = target.countMeshes();
+        int numMeshes = statistics.countMeshes();
         String meshesText = Integer.toString(numMeshes);
         setButtonText("cgmMeshes", meshesText);
         /*
          * skeletons
          */
-        int numSkeletons = target.countSkeletons();
+        int numSkeletons = statistics.countSkeletons();
         String skeletonsText = Integer.toString(numSkeletons);
         setStatusText("cgmSkeletons", skeletonsText);
         /*
          * hidden spatials
          */
-        int numHiddens
-                = target.countSpatials(Spatial.class, Spatial.CullHint.Always);
+        int numHiddens = statistics.countHiddens();
         String hiddensText = Integer.toString(numHiddens);
         setStatusText("cgmHiddens", hiddensText);
         /*
          * nodes
          */
-        int numNodes = target.countSpatials(Node.class);
+        int numNodes = statistics.countNodes();
         String text = Integer.toString(numNodes);
         setStatusText("cgmNodes", text);
         /*
          * meshes with collision data
          */
-        int numTrees = target.countCollisionTrees();
+        int numTrees = statistics.countCollisionTrees();
         String treesText = Integer.toString(numTrees);
         setStatusText("cgmCollisionTrees", treesText);
         /*
          * textures
          */
-        SelectedTexture texture = target.getTexture();
-        int numSelectableTextures = texture.countNonNulls();
+        int numSelectableTextures = statistics.countTextures();
         text = Integer.toString(numSelectableTextures);
         setButtonText("cgmTextures", text);
         /*
          * transforming spatials
          */
-        int numTransforms
-                = target.countTransformSpatials(Spatial.class);
+        int numTransforms = statistics.countTransformSpatials();
         String transformsText = Integer.toString(numTransforms);
         setStatusText("cgmTransforms", transformsText);
         /*
          * vertices
          */
-        int numVertices = target.countVertices();
+        int numVertices = statistics.countVertices();
         text = Integer.toString(numVertices);
         setButtonText("cgmVertices", text);
     }
@@ -0,0 +1,138 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.tool;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+import jme3utilities.nifty.GuiScreenController;
+import jme3utilities.nifty.Tool;
+import maud.StageTimes;
+import maud.UpdateStage;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
+
+/**
+ * A tool in Maud's editor screen that refreshes its controls only when the
+ * aspects of the MVC model it depends on have changed, instead of every frame.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class EditorTool extends Tool {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EditorTool.class.getName());
+    /**
+     * aspects that most tools depend on
+     */
+    final private static ModelAspect[] defaultAspects = {
+        ModelAspect.Content, ModelAspect.Options, ModelAspect.Playback,
+        ModelAspect.Selection
+    };
+    // *************************************************************************
+    // fields
+
+    /**
+     * model version at the most recent refresh, or -1 if never refreshed
+     */
+    private long refreshedVersion = -1L;
+    /**
+     * aspects of the model that this tool displays
+     */
+    final private ModelAspect[] aspects;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an uninitialized tool.
+     *
+     * @param screenController the controller of the screen that will contain
+     * the tool (not null)
+     * @param name the name (unique id prefix) of the tool (not null)
+     */
+    protected EditorTool(GuiScreenController screenController, String name) {
+        this(screenController, name, defaultAspects);
+    }
+
+    /**
+     * Instantiate an uninitialized tool that depends on the specified aspects
+     * of the MVC model.
+     *
+     * @param screenController the controller of the screen that will contain
+     * the tool (not null)
+     * @param name the name (unique id prefix) of the tool (not null)
+     * @param aspects the aspects that the tool displays (not null, not empty)
+     */
+    protected EditorTool(GuiScreenController screenController, String name,
+            ModelAspect... aspects) {
+        super(screenController, name);
+        Validate.nonNull(aspects, "aspects");
+        Validate.require(aspects.length > 0, "at least one aspect");
+
+        this.aspects = aspects.clone();
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    abstract protected void toolRefresh();
+
+    /**
+     * Update this tool's controls from GUI state that isn't part of the MVC
+     * model, such as scroll positions. (Invoked once per frame while this tool
+     * is displayed, after any refresh.) Meant to be overridden.
+     */
+    protected void toolUpdateGui() {
+        // do nothing
+    }
+    // *************************************************************************
+    // Tool methods
+
+    /**
+     * Callback to update this tool prior to rendering. (Invoked once per frame
+     * while this tool is displayed.)
+     */
+    @Override
+    final protected void toolUpdate() {
+        long version = ModelVersion.get(aspects);
+        if (version != refreshedVersion) {
+            refreshedVersion = version;
+
+            long startNanos = StageTimes.begin();
+            toolRefresh();
+            StageTimes.end(UpdateStage.Tools, startNanos);
+        }
+        toolUpdateGui();
+    }
+}
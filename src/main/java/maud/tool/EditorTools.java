@@ -27,10 +27,17 @@
 package maud.tool;
 
 import com.jme3.app.state.AppStateManager;
+import de.lessvoid.nifty.elements.Element;
+import de.lessvoid.nifty.screen.Screen;
+import de.lessvoid.nifty.tools.SizeValue;
+import de.lessvoid.nifty.tools.SizeValueType;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.Validate;
-import jme3utilities.nifty.Tool;
 import maud.EditorScreen;
 import maud.Maud;
 import maud.tool.option.AxesTool;
@@ -51,6 +58,12 @@ import maud.tool.option.TweeningTool;
 
 /**
  * Tools in Maud's editor screen.
+ * <p>
+ * Each tool is instantiated and attached the first time it's selected, so
+ * that startup needn't load the classes of tools the user never opens. Nifty
+ * registers an attached tool with its screen controller only after the
+ * AppStateManager initializes it (typically during the next update), so
+ * selections are deferred until then.
  *
  * @author Stephen Gold sgold@sonic.net
  */
@@ -66,168 +79,344 @@ public class EditorTools {
     // *************************************************************************
     // fields
 
-    final private AnimationTool animation;
-    final private AxesTool axes;
-    final private BackgroundTool background;
-    final private BoneMirrorTool boneMirror;
-    final private BoneRotationTool boneRotation;
-    final private BoneScaleTool boneScale;
-    final private BoneTool bone;
-    final private BoneTranslationTool boneTranslation;
-    final private BoundsTool bounds;
-    final private CameraTool camera;
-
-    final private CgmTool cgm;
-    final private CursorTool cursor;
-    final private DumpTool dump;
-    final private ExtractTool extract;
-    final private ExtremeVertexTool extremeVertex;
-    final private HistoryTool history;
-    final private JointTool joint;
-    final private KeyframeTool keyframe;
-    final private LightColorTool lightColor;
-    final private LightDirectionTool lightDirection;
-
-    final private LightPositionTool lightPosition;
-    final private LightsTool lights;
-    final private LinkTool link;
-    final private MappingTool mapping;
-    final private MaterialTool material;
-    final private MeshTool mesh;
-    final private OverridesTool overrides;
-    final private PcoTool pco;
-    final private PhysicsTool physics;
-    final private PlatformTool platform;
-
-    final private RenderTool render;
-    final private RetargetTool retarget;
-    final private SceneLightingTool sceneLighting;
-    final private ScoreTool score;
-    final private SettingsTool settings;
-    final private SgcTool sgc;
-    final private ShapeTool shape;
-    final private SkeletonTool skeleton;
-    final private SkyTool sky;
-    final private SourceAnimationTool sourceAnimation;
-
-    final private SpatialBoundsTool spatialBounds;
-    final private SpatialDetailsTool spatialDetails;
-    final private SpatialRotationTool spatialRotation;
-    final private SpatialScaleTool spatialScale;
-    final private SpatialTool spatial;
-    final private SpatialTranslationTool spatialTranslation;
-    final private TextureTool texture;
-    final private TrackTool track;
-    final private TweeningTool tweening;
-    final private TwistTool twist;
-
-    final private UserDataTool userData;
-    final private VertexTool vertex;
+    /**
+     * controller of the screen that contains the tools
+     */
+    final private EditorScreen screenController;
+    /**
+     * tools instantiated so far, keyed by name
+     */
+    final private Map<String, EditorTool> instantiated = new TreeMap<>();
+    /**
+     * selections awaiting tool initialization, in order of request: each
+     * value is the requested screen position (x, y in pixels) or null for
+     * the tool's current position
+     */
+    final private Map<String, int[]> pendingSelects = new LinkedHashMap<>(8);
     // *************************************************************************
     // constructors
 
     /**
-     * Instantiate the tools in the specified screen.
+     * Instantiate a container for the tools in the specified screen. The tools
+     * themselves are instantiated on demand, by {@link
+     * #selectTool(java.lang.String)} and {@link
+     * #selectTool(java.lang.String, int, int)}.
      *
      * @param screenController the screen's controller (not null)
      */
     public EditorTools(EditorScreen screenController) {
         Validate.nonNull(screenController, "screen controller");
 
-        animation = new AnimationTool(screenController);
-        axes = new AxesTool(screenController);
-        background = new BackgroundTool(screenController);
-        boneMirror = new BoneMirrorTool(screenController);
-        boneRotation = new BoneRotationTool(screenController);
-        boneScale = new BoneScaleTool(screenController);
-        bone = new BoneTool(screenController);
-        boneTranslation = new BoneTranslationTool(screenController);
-        bounds = new BoundsTool(screenController);
-        camera = new CameraTool(screenController);
-
-        cgm = new CgmTool(screenController);
-        cursor = new CursorTool(screenController);
-        dump = new DumpTool(screenController);
-        extract = new ExtractTool(screenController);
-        extremeVertex = new ExtremeVertexTool(screenController);
-        history = new HistoryTool(screenController);
-        joint = new JointTool(screenController);
-        keyframe = new KeyframeTool(screenController);
-        lightColor = new LightColorTool(screenController);
-        lightDirection = new LightDirectionTool(screenController);
-
-        lightPosition = new LightPositionTool(screenController);
-        lights = new LightsTool(screenController);
-        link = new LinkTool(screenController);
-        mapping = new MappingTool(screenController);
-        material = new MaterialTool(screenController);
-        mesh = new MeshTool(screenController);
-        overrides = new OverridesTool(screenController);
-        pco = new PcoTool(screenController);
-        physics = new PhysicsTool(screenController);
-        platform = new PlatformTool(screenController);
-
-        render = new RenderTool(screenController);
-        retarget = new RetargetTool(screenController);
-        sceneLighting = new SceneLightingTool(screenController);
-        score = new ScoreTool(screenController);
-        settings = new SettingsTool(screenController);
-        sgc = new SgcTool(screenController);
-        shape = new ShapeTool(screenController);
-        skeleton = new SkeletonTool(screenController);
-        sky = new SkyTool(screenController);
-        sourceAnimation = new SourceAnimationTool(screenController);
-
-        spatialBounds = new SpatialBoundsTool(screenController);
-        spatialDetails = new SpatialDetailsTool(screenController);
-        spatialRotation = new SpatialRotationTool(screenController);
-        spatialScale = new SpatialScaleTool(screenController);
-        spatial = new SpatialTool(screenController);
-        spatialTranslation = new SpatialTranslationTool(screenController);
-        texture = new TextureTool(screenController);
-        track = new TrackTool(screenController);
-        tweening = new TweeningTool(screenController);
-        twist = new TwistTool(screenController);
-
-        userData = new UserDataTool(screenController);
-        vertex = new VertexTool(screenController);
+        this.screenController = screenController;
     }
     // *************************************************************************
     // new methods exposed
 
     /**
-     * Attach all tool controllers to the specified state manager.
+     * Access the named tool, if it has been instantiated. The tool might not
+     * be initialized yet.
      *
-     * @param stateManager (not null)
+     * @param toolName which tool to access (not null, not empty)
+     * @return the pre-existing instance, or null if not instantiated
      */
-    public void attachAll(AppStateManager stateManager) {
-        stateManager.attachAll(animation, axes, background, bone, boneMirror,
-                boneRotation, boneScale, boneTranslation, bounds, camera, cgm,
-                cursor, dump, extract, extremeVertex, history, keyframe,
-                joint, lightColor, lightDirection, lightPosition, lights, link,
-                mapping, material, mesh, overrides, pco, physics, platform,
-                render, retarget, sceneLighting, score, settings,
-                sgc, shape, skeleton, sky, sourceAnimation, spatial,
-                spatialBounds, spatialDetails, spatialRotation, spatialScale,
-                spatialTranslation, texture, track, tweening, twist, userData,
-                vertex);
+    public EditorTool find(String toolName) {
+        Validate.nonEmpty(toolName, "tool name");
+
+        EditorTool result = instantiated.get(toolName);
+        return result;
     }
 
     /**
-     * Select the named tool.
+     * Select the named tool, or set a status message if there's no such tool.
      *
      * @param toolName which tool to select (not null, not empty)
      */
     public static void select(String toolName) {
         Validate.nonEmpty(toolName, "tool name");
 
-        Tool tool = Maud.gui.findTool(toolName);
-        if (tool == null) {
+        boolean success = Maud.gui.tools.selectTool(toolName);
+        if (!success) {
             String message = String.format("unimplemented feature (tool = %s)",
                     MyString.quote(toolName));
             Maud.getModel().getMisc().setStatusMessage(message);
+        }
+    }
+
+    /**
+     * Select the named tool, instantiating and attaching it if necessary. If
+     * the tool isn't initialized yet, the selection is completed by a
+     * subsequent {@link #update()}.
+     *
+     * @param toolName which tool to select (not null, not empty)
+     * @return true if the tool exists, otherwise false
+     */
+    public boolean selectTool(String toolName) {
+        Validate.nonEmpty(toolName, "tool name");
+
+        boolean result = request(toolName, null);
+        return result;
+    }
+
+    /**
+     * Select the named tool and move it to the specified screen position,
+     * instantiating and attaching it if necessary. If the tool isn't
+     * initialized yet, the selection is completed by a subsequent
+     * {@link #update()}.
+     *
+     * @param toolName which tool to select (not null, not empty)
+     * @param x the X coordinate for the tool's left edge (in pixels)
+     * @param y the Y coordinate for the tool's top edge (in pixels)
+     * @return true if the tool exists, otherwise false
+     */
+    public boolean selectTool(String toolName, int x, int y) {
+        Validate.nonEmpty(toolName, "tool name");
+
+        int[] position = {x, y};
+        boolean result = request(toolName, position);
+        return result;
+    }
+
+    /**
+     * Complete any deferred selections whose tools have initialized. Invoked
+     * once per frame by the screen controller.
+     */
+    public void update() {
+        Iterator<Map.Entry<String, int[]>> iterator
+                = pendingSelects.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, int[]> entry = iterator.next();
+            EditorTool tool = instantiated.get(entry.getKey());
+            if (tool.isInitialized()) {
+                iterator.remove();
+                applySelect(tool, entry.getValue());
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Select the specified initialized tool and optionally move it.
+     *
+     * @param tool the tool to select (not null, initialized)
+     * @param position the desired position (x, y in pixels) or null to leave
+     * the tool where it is (unaffected)
+     */
+    private static void applySelect(EditorTool tool, int[] position) {
+        assert tool.isInitialized();
+
+        tool.select();
+        if (position != null) {
+            Element element = tool.getElement();
+            SizeValue newX = new SizeValue(position[0], SizeValueType.Pixel);
+            element.setConstraintX(newX);
+            SizeValue newY = new SizeValue(position[1], SizeValueType.Pixel);
+            element.setConstraintY(newY);
+            Screen screen = Maud.gui.getScreen();
+            screen.layoutLayers();
+        }
+    }
+
+    /**
+     * Instantiate the named tool.
+     *
+     * @param toolName which tool to instantiate (not null)
+     * @return a new instance, or null if there's no such tool
+     */
+    private EditorTool instantiate(String toolName) {
+        EditorTool result;
+        switch (toolName) {
+            case "animation":
+                result = new AnimationTool(screenController);
+                break;
+            case "axes":
+                result = new AxesTool(screenController);
+                break;
+            case "background":
+                result = new BackgroundTool(screenController);
+                break;
+            case "bone":
+                result = new BoneTool(screenController);
+                break;
+            case "boneMirror":
+                result = new BoneMirrorTool(screenController);
+                break;
+            case "boneRotation":
+                result = new BoneRotationTool(screenController);
+                break;
+            case "boneScale":
+                result = new BoneScaleTool(screenController);
+                break;
+            case "boneTranslation":
+                result = new BoneTranslationTool(screenController);
+                break;
+            case "bounds":
+                result = new BoundsTool(screenController);
+                break;
+            case "camera":
+                result = new CameraTool(screenController);
+                break;
+            case "cgm":
+                result = new CgmTool(screenController);
+                break;
+            case "cursor":
+                result = new CursorTool(screenController);
+                break;
+            case "dump":
+                result = new DumpTool(screenController);
+                break;
+            case "extract":
+                result = new ExtractTool(screenController);
+                break;
+            case "extremeVertex":
+                result = new ExtremeVertexTool(screenController);
+                break;
+            case "history":
+                result = new HistoryTool(screenController);
+                break;
+            case "joint":
+                result = new JointTool(screenController);
+                break;
+            case "keyframe":
+                result = new KeyframeTool(screenController);
+                break;
+            case "lightColor":
+                result = new LightColorTool(screenController);
+                break;
+            case "lightDirection":
+                result = new LightDirectionTool(screenController);
+                break;
+            case "lightPosition":
+                result = new LightPositionTool(screenController);
+                break;
+            case "lights":
+                result = new LightsTool(screenController);
+                break;
+            case "link":
+                result = new LinkTool(screenController);
+                break;
+            case "mapping":
+                result = new MappingTool(screenController);
+                break;
+            case "material":
+                result = new MaterialTool(screenController);
+                break;
+            case "mesh":
+                result = new MeshTool(screenController);
+                break;
+            case "overrides":
+                result = new OverridesTool(screenController);
+                break;
+            case "pco":
+                result = new PcoTool(screenController);
+                break;
+            case "physics":
+                result = new PhysicsTool(screenController);
+                break;
+            case "platform":
+                result = new PlatformTool(screenController);
+                break;
+            case "render":
+                result = new RenderTool(screenController);
+                break;
+            case "retarget":
+                result = new RetargetTool(screenController);
+                break;
+            case "sceneLighting":
+                result = new SceneLightingTool(screenController);
+                break;
+            case "score":
+                result = new ScoreTool(screenController);
+                break;
+            case "settings":
+                result = new SettingsTool(screenController);
+                break;
+            case "sgc":
+                result = new SgcTool(screenController);
+                break;
+            case "shape":
+                result = new ShapeTool(screenController);
+                break;
+            case "skeleton":
+                result = new SkeletonTool(screenController);
+                break;
+            case "sky":
+                result = new SkyTool(screenController);
+                break;
+            case "sourceAnimation":
+                result = new SourceAnimationTool(screenController);
+                break;
+            case "spatial":
+                result = new SpatialTool(screenController);
+                break;
+            case "spatialBounds":
+                result = new SpatialBoundsTool(screenController);
+                break;
+            case "spatialDetails":
+                result = new SpatialDetailsTool(screenController);
+                break;
+            case "spatialRotation":
+                result = new SpatialRotationTool(screenController);
+                break;
+            case "spatialScale":
+                result = new SpatialScaleTool(screenController);
+                break;
+            case "spatialTranslation":
+                result = new SpatialTranslationTool(screenController);
+                break;
+            case "texture":
+                result = new TextureTool(screenController);
+                break;
+            case "track":
+                result = new TrackTool(screenController);
+                break;
+            case "tweening":
+                result = new TweeningTool(screenController);
+                break;
+            case "twist":
+                result = new TwistTool(screenController);
+                break;
+            case "userData":
+                result = new UserDataTool(screenController);
+                break;
+            case "vertex":
+                result = new VertexTool(screenController);
+                break;
+            default:
+                result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Select the named tool now if it's initialized, otherwise defer the
+     * selection until it is.
+     *
+     * @param toolName which tool to select (not null, not empty)
+     * @param position the desired position (x, y in pixels) or null to leave
+     * the tool where it is
+     * @return true if the tool exists, otherwise false
+     */
+    private boolean request(String toolName, int[] position) {
+        EditorTool tool = instantiated.get(toolName);
+        if (tool == null) {
+            tool = instantiate(toolName);
+            if (tool == null) {
+                return false;
+            }
+            instantiated.put(toolName, tool);
+            AppStateManager stateManager
+                    = Maud.getApplication().getStateManager();
+            stateManager.attach(tool);
+        }
+
+        if (tool.isInitialized() && !pendingSelects.containsKey(toolName)) {
+            applySelect(tool, position);
         } else {
-            tool.select();
+            pendingSelects.put(toolName, position);
         }
+
+        return true;
     }
 }
@@ -28,7 +28,6 @@ package maud.tool;
 
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedTrack;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class ExtractTool extends Tool {
+class ExtractTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,14 +64,14 @@ class ExtractTool extends Tool {
         super(screenController, "extract");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         LoadedCgm target = Maud.getModel().getTarget();
 
         String animControlButton = "";
@@ -29,7 +29,6 @@ package maud.tool;
 import com.jme3.math.Transform;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
 import maud.model.cgm.Cgm;
@@ -42,7 +41,7 @@ import maud.view.scene.SceneUpdater;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class ExtremeVertexTool extends Tool {
+class ExtremeVertexTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,14 +63,14 @@ class ExtremeVertexTool extends Tool {
         super(screenController, "extremeVertex");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         EditorModel model = Maud.getModel();
         AxesSubject subject = model.getScene().getAxes().getSubject();
         String axesButton = subject.toString();
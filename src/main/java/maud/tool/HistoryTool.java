@@ -26,36 +26,50 @@
  */
 package maud.tool;
 
+import de.lessvoid.nifty.builder.PanelBuilder;
+import de.lessvoid.nifty.controls.Label;
 import de.lessvoid.nifty.controls.ScrollPanel;
 import de.lessvoid.nifty.controls.label.builder.LabelBuilder;
 import de.lessvoid.nifty.elements.Element;
+import de.lessvoid.nifty.elements.render.PanelRenderer;
 import de.lessvoid.nifty.screen.Screen;
+import de.lessvoid.nifty.tools.Color;
+import de.lessvoid.nifty.tools.SizeValue;
 import java.text.DateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.BasicScreenController;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.Checkpoint;
 import maud.model.History;
+import maud.model.ModelAspect;
 
 /**
  * The controller for the "History" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class HistoryTool extends Tool {
+public class HistoryTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
+    /**
+     * row height to assume until a label has been measured (in pixels)
+     */
+    final private static int defaultRowHeight = 16;
     /**
      * message logger for this class
      */
     final private static Logger logger
             = Logger.getLogger(HistoryTool.class.getName());
+    /**
+     * width of each row (in pixels)
+     */
+    final private static String rowWidth = "330px";
     // *************************************************************************
     // fields
 
@@ -64,9 +78,48 @@ public class HistoryTool extends Tool {
      */
     private boolean autoScrollFlag = false;
     /**
-     * number of labels written to the content area
+     * spacer below the displayed rows, or null if not yet built
      */
-    private int numLabelsWritten = 0;
+    private Element bottomSpacer = null;
+    /**
+     * panel containing the reusable labels, or null if not yet built
+     */
+    private Element labelPanel = null;
+    /**
+     * spacer above the displayed rows, or null if not yet built
+     */
+    private Element topSpacer = null;
+    /**
+     * index of the first row displayed, or -1 if the rows must be rewritten
+     */
+    private int firstDisplayedRow = -1;
+    /**
+     * History modification count when the rows were last listed, or -1 if
+     * never listed
+     */
+    private int listedModCount = -1;
+    /**
+     * height of each row (in pixels, measured from the first label, or &le;0
+     * if not yet measured)
+     */
+    private int rowHeight = 0;
+    /**
+     * index of the "you are here" row
+     */
+    private int urHereRow = 0;
+    /**
+     * reusable labels, displaying consecutive rows starting with
+     * firstDisplayedRow
+     */
+    final private List<Element> labels = new ArrayList<>(12);
+    /**
+     * Nifty color string for the background of each row
+     */
+    final private List<String> rowColors = new ArrayList<>(40);
+    /**
+     * text of each row
+     */
+    final private List<String> rowTexts = new ArrayList<>(40);
     // *************************************************************************
     // constructors
 
@@ -77,7 +130,8 @@ public class HistoryTool extends Tool {
      * the tool (not null)
      */
     HistoryTool(GuiScreenController screenController) {
-        super(screenController, "history");
+        super(screenController, "history", ModelAspect.Content,
+                ModelAspect.History, ModelAspect.Options);
     }
     // *************************************************************************
     // new methods exposed
@@ -89,46 +143,14 @@ public class HistoryTool extends Tool {
         autoScrollFlag = true;
     }
     // *************************************************************************
-    // Tool methods
-
-    /**
-     * Enumerate this tool's check boxes.
-     *
-     * @return a new list of names (unique id prefixes)
-     */
-    @Override
-    protected List<String> listCheckBoxes() {
-        List<String> result = super.listCheckBoxes();
-        result.add("autoCheckpoint");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on a check-box event.
-     *
-     * @param name the name (unique id prefix) of the checkbox
-     * @param isChecked the new state of the checkbox (true&rarr;checked,
-     * false&rarr;unchecked)
-     */
-    @Override
-    public void onCheckBoxChanged(String name, boolean isChecked) {
-        switch (name) {
-            case "autoCheckpoint":
-                History.setAutoAdd(isChecked);
-                break;
-
-            default:
-                super.onCheckBoxChanged(name, isChecked);
-        }
-    }
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         String aButton = "";
         String rButton = "";
         int nextIndex = History.getNextIndex();
@@ -153,44 +175,91 @@ public class HistoryTool extends Tool {
         }
         setButtonText("historyUndo", uButton);
         /*
-         * Add dynamic content to the scroll panel.
+         * Update the "automatic checkpoints" checkbox.
          */
-        numLabelsWritten = 0;
-        for (int cpIndex = 0; cpIndex < nextIndex; cpIndex++) {
-            addCheckpoint(cpIndex, "#cfcf");
-            /* green = secure for now */
-        }
-        List<String> events = History.listRecentEvents();
-        for (String event : events) {
-            addLabel(".. " + event, "#ffcf");
-            /* yellow = vulnerable to redo */
-        }
-        Element urHere = addLabel(".. ( you are here )", "#ffff");
-        for (int cpIndex = nextIndex; cpIndex < numCheckpoints; cpIndex++) {
-            addCheckpoint(cpIndex, "#fccf");
-            /* pink = vulnerable to add */
+        boolean autoAddFlag = History.isAutoAdd();
+        setChecked("autoCheckpoint", autoAddFlag);
+        /*
+         * List the rows only if the history has changed.
+         */
+        int modCount = History.countModifications();
+        if (modCount != listedModCount) {
+            listedModCount = modCount;
+            listRows();
+            firstDisplayedRow = -1;
         }
+    }
 
-        Element windowElement = getElement();
-        windowElement.layoutElements();
+    /**
+     * Update the displayed rows from the scroll position, which the user can
+     * change without altering the MVC model. (Invoked once per frame while
+     * this tool is displayed.)
+     */
+    @Override
+    protected void toolUpdateGui() {
         /*
-         * Update the "automatic checkpoints" checkbox.
+         * Rewrite the labels only if the rows or the scroll position have
+         * changed.
          */
-        boolean autoAddFlag = History.isAutoAdd();
-        setChecked("autoCheckpoint", autoAddFlag);
+        if (topSpacer == null) {
+            buildPanels();
+            addLabel();
+        }
+        int height = rowHeight();
 
+        ScrollPanel scrollPanel = getScrollPanel();
         if (autoScrollFlag) {
             autoScrollFlag = false;
-            Element parent = urHere.getParent();
-            int y = urHere.getY() - parent.getY();
-            scrollTo(y);
+            int urHereY = urHereRow * height;
+            scrollTo(urHereY);
+        }
+
+        int numRows = rowTexts.size();
+        int y = Math.round(scrollPanel.getVerticalPos());
+        int firstRow = Math.min(y / height, Math.max(numRows - 1, 0));
+        if (firstRow != firstDisplayedRow) {
+            displayRows(firstRow);
+        }
+    }
+    // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's check boxes.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listCheckBoxes() {
+        List<String> result = super.listCheckBoxes();
+        result.add("autoCheckpoint");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on a check-box event.
+     *
+     * @param name the name (unique id prefix) of the checkbox
+     * @param isChecked the new state of the checkbox (true&rarr;checked,
+     * false&rarr;unchecked)
+     */
+    @Override
+    public void onCheckBoxChanged(String name, boolean isChecked) {
+        switch (name) {
+            case "autoCheckpoint":
+                History.setAutoAdd(isChecked);
+                break;
+
+            default:
+                super.onCheckBoxChanged(name, isChecked);
         }
     }
     // *************************************************************************
     // private methods
 
     /**
-     * Add a checkpoint to the scroll-panel content.
+     * Append a checkpoint's rows to the row lists.
      *
      * @param cpIndex which checkpoint (&ge;0)
      * @param bgColor Nifty color string for the background
@@ -199,7 +268,7 @@ public class HistoryTool extends Tool {
         Checkpoint checkpoint = History.getCheckpoint(cpIndex);
         List<String> events = checkpoint.listEvents();
         for (String event : events) {
-            addLabel(". " + event, bgColor);
+            addRow(". " + event, bgColor);
         }
 
         String id = DescribeUtil.index(cpIndex);
@@ -208,38 +277,169 @@ public class HistoryTool extends Tool {
         String creationTime = timestampFormatter.format(creationDate);
         String text = String
                 .format("checkpoint%s added at %s", id, creationTime);
-        addLabel(text, bgColor);
+        addRow(text, bgColor);
     }
 
     /**
-     * Add a label to the scroll-panel content.
+     * Build a reusable label and add it to the label panel. The first label
+     * built is used to measure the row height.
+     */
+    private void addLabel() {
+        final String labelId = String.format("historyLine%d", labels.size());
+        LabelBuilder builder = new LabelBuilder() {
+            {
+                alignLeft();
+                id(labelId);
+                label(" ");
+                width(rowWidth);
+            }
+        };
+        Element newLabel = builder.build(labelPanel);
+        labels.add(newLabel);
+
+        if (rowHeight == 0) {
+            Element windowElement = getElement();
+            windowElement.layoutElements();
+            rowHeight = newLabel.getHeight();
+        }
+    }
+
+    /**
+     * Append a row to the row lists.
      *
      * @param text (not null)
      * @param bgColor Nifty color string for the background
-     * @return the element of the newly-created label
      */
-    private Element addLabel(final String text, final String bgColor) {
-        BasicScreenController screenController = getScreenController();
-        Screen screen = screenController.getScreen();
-        Element content = screen.findElementById("historyDynamicContent");
+    private void addRow(String text, String bgColor) {
+        rowTexts.add(" " + text);
+        rowColors.add(bgColor);
+    }
 
-        final String labelId = String.format("historyLine%d", numLabelsWritten);
-        ++numLabelsWritten;
-        LabelBuilder builder = new LabelBuilder() {
+    /**
+     * Build the panel for the reusable labels, along with the spacers that
+     * stand in for the rows above and below the displayed ones.
+     */
+    private void buildPanels() {
+        Element content = getContent();
+        PanelBuilder spacerBuilder = new PanelBuilder() {
             {
-                alignLeft();
-                backgroundColor(bgColor);
-                id(labelId);
-                label(" " + text);
-                width("330px");
+                height("0px");
+                width(rowWidth);
+            }
+        };
+        PanelBuilder labelPanelBuilder = new PanelBuilder() {
+            {
+                childLayoutVertical();
+                width(rowWidth);
             }
         };
-        Element newLabel = builder.build(content);
+        topSpacer = spacerBuilder.build(content);
+        labelPanel = labelPanelBuilder.build(content);
+        bottomSpacer = spacerBuilder.build(content);
+    }
+
+    /**
+     * Write the rows that fit in the scroll panel, starting with the
+     * specified row, to the reusable labels, building more labels if needed.
+     *
+     * @param firstRow the index of the first row to display (&ge;0)
+     */
+    private void displayRows(int firstRow) {
+        int height = rowHeight();
+        int numRows = rowTexts.size();
+        int viewHeight = getScrollPanel().getElement().getHeight();
+        int numLabels = Math.min(viewHeight / height + 2, numRows - firstRow);
+        while (labels.size() < numLabels) {
+            addLabel();
+        }
+
+        for (int labelIndex = 0; labelIndex < labels.size(); ++labelIndex) {
+            Element element = labels.get(labelIndex);
+            Label label = element.getNiftyControl(Label.class);
+            int rowIndex = firstRow + labelIndex;
+            if (rowIndex < numRows) {
+                label.setText(rowTexts.get(rowIndex));
+                PanelRenderer renderer
+                        = element.getRenderer(PanelRenderer.class);
+                Color bgColor = new Color(rowColors.get(rowIndex));
+                renderer.setBackgroundColor(bgColor);
+                element.setConstraintHeight(SizeValue.px(height));
+            } else {
+                label.setText("");
+                element.setConstraintHeight(SizeValue.px(0));
+            }
+        }
 
-        // Mark the label for removal before the next update.
-        getNifty().removeElement(screen, newLabel);
+        int numShown = Math.min(labels.size(), numRows - firstRow);
+        int numBelow = Math.max(numRows - firstRow - numShown, 0);
+        topSpacer.setConstraintHeight(SizeValue.px(firstRow * height));
+        bottomSpacer.setConstraintHeight(SizeValue.px(numBelow * height));
+        firstDisplayedRow = firstRow;
 
-        return newLabel;
+        Element windowElement = getElement();
+        windowElement.layoutElements();
+    }
+
+    /**
+     * Access the element that contains the scroll-panel content.
+     *
+     * @return the pre-existing element (not null)
+     */
+    private Element getContent() {
+        BasicScreenController screenController = getScreenController();
+        Screen screen = screenController.getScreen();
+        Element result = screen.findElementById("historyDynamicContent");
+
+        return result;
+    }
+
+    /**
+     * Access the scroll panel.
+     *
+     * @return the pre-existing control (not null)
+     */
+    private ScrollPanel getScrollPanel() {
+        Screen screen = Maud.gui.getScreen();
+        ScrollPanel result = screen.findNiftyControl("historyScrollPanel",
+                ScrollPanel.class);
+
+        return result;
+    }
+
+    /**
+     * Regenerate the row lists from the History.
+     */
+    private void listRows() {
+        rowColors.clear();
+        rowTexts.clear();
+
+        int nextIndex = History.getNextIndex();
+        int numCheckpoints = History.countCheckpoints();
+        for (int cpIndex = 0; cpIndex < nextIndex; cpIndex++) {
+            addCheckpoint(cpIndex, "#cfcf");
+            /* green = secure for now */
+        }
+        List<String> events = History.listRecentEvents();
+        for (String event : events) {
+            addRow(".. " + event, "#ffcf");
+            /* yellow = vulnerable to redo */
+        }
+        urHereRow = rowTexts.size();
+        addRow(".. ( you are here )", "#ffff");
+        for (int cpIndex = nextIndex; cpIndex < numCheckpoints; cpIndex++) {
+            addCheckpoint(cpIndex, "#fccf");
+            /* pink = vulnerable to add */
+        }
+    }
+
+    /**
+     * Determine the height of each row.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    private int rowHeight() {
+        int result = (rowHeight > 0) ? rowHeight : defaultRowHeight;
+        return result;
     }
 
     /**
@@ -248,9 +448,7 @@ public class HistoryTool extends Tool {
      * @param y vertical offset (in pixels downward from top edge)
      */
     private void scrollTo(int y) {
-        Screen screen = Maud.gui.getScreen();
-        ScrollPanel scpa = screen.findNiftyControl("historyScrollPanel",
-                ScrollPanel.class);
+        ScrollPanel scpa = getScrollPanel();
         scpa.setVerticalPos(y);
         /*
          * Redo the layout.
@@ -29,7 +29,6 @@ package maud.tool;
 import com.jme3.bullet.joints.JointEnd;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -40,7 +39,7 @@ import maud.model.cgm.SelectedJoint;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class JointTool extends Tool {
+class JointTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -62,14 +61,14 @@ class JointTool extends Tool {
         super(screenController, "joint");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateDescription();
         updateIndex();
         updateName();
@@ -32,7 +32,6 @@ import java.util.logging.Logger;
 import jme3utilities.math.MyMath;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedLight;
 
@@ -41,7 +40,7 @@ import maud.model.cgm.SelectedLight;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class LightColorTool extends Tool {
+class LightColorTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -71,47 +70,14 @@ class LightColorTool extends Tool {
         super(screenController, "lightColor");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Enumerate this tool's sliders.
-     *
-     * @return a new list of names (unique id prefixes)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected List<String> listSliders() {
-        List<String> result = super.listSliders();
-        result.add("lcR");
-        result.add("lcG");
-        result.add("lcB");
-        result.add("lightLevel");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on the sliders.
-     *
-     * @param sliderName the name (unique id prefix) of the slider (not null)
-     */
-    @Override
-    public void onSliderChanged(String sliderName) {
-        ColorRGBA color = readColorBank("lc", colorSt, null);
-        float level = readSlider("lightLevel", levelSt);
-        color.r *= level;
-        color.g *= level;
-        color.b *= level;
-
-        SelectedLight light = Maud.getModel().getTarget().getLight();
-        light.setColor(color);
-    }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         String resetButton = "";
         float r = 1f;
         float g = 1f;
@@ -143,4 +109,39 @@ class LightColorTool extends Tool {
         setSlider("lightLevel", levelSt, level);
         setSlidersEnabled(selected);
     }
+    // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's sliders.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listSliders() {
+        List<String> result = super.listSliders();
+        result.add("lcR");
+        result.add("lcG");
+        result.add("lcB");
+        result.add("lightLevel");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on the sliders.
+     *
+     * @param sliderName the name (unique id prefix) of the slider (not null)
+     */
+    @Override
+    public void onSliderChanged(String sliderName) {
+        ColorRGBA color = readColorBank("lc", colorSt, null);
+        float level = readSlider("lightLevel", levelSt);
+        color.r *= level;
+        color.g *= level;
+        color.b *= level;
+
+        SelectedLight light = Maud.getModel().getTarget().getLight();
+        light.setColor(color);
+    }
 }
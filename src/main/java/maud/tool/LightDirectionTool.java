@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedLight;
 
@@ -40,7 +39,7 @@ import maud.model.cgm.SelectedLight;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class LightDirectionTool extends Tool {
+class LightDirectionTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -74,6 +73,35 @@ class LightDirectionTool extends Tool {
         super(screenController, "lightDirection");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        String resetButton = "";
+        String reverseButton = "";
+        String snapButton = "";
+
+        SelectedLight light = Maud.getModel().getTarget().getLight();
+        boolean enabled = light.canDirect();
+        if (enabled) {
+            resetButton = "Reset";
+            reverseButton = "Reverse";
+            snapButton = "Snap";
+            setSlidersToDirection();
+        } else {
+            clear();
+        }
+
+        setButtonText("resetLightDir", resetButton);
+        setButtonText("reverseLightDir", reverseButton);
+        setButtonText("snapLightDir", snapButton);
+        setSlidersEnabled(enabled);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -105,33 +133,6 @@ class LightDirectionTool extends Tool {
         SelectedLight light = Maud.getModel().getTarget().getLight();
         light.setDirection(direction);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        String resetButton = "";
-        String reverseButton = "";
-        String snapButton = "";
-
-        SelectedLight light = Maud.getModel().getTarget().getLight();
-        boolean enabled = light.canDirect();
-        if (enabled) {
-            resetButton = "Reset";
-            reverseButton = "Reverse";
-            snapButton = "Snap";
-            setSlidersToDirection();
-        } else {
-            clear();
-        }
-
-        setButtonText("resetLightDir", resetButton);
-        setButtonText("reverseLightDir", reverseButton);
-        setButtonText("snapLightDir", snapButton);
-        setSlidersEnabled(enabled);
-    }
     // *************************************************************************
     // private methods
 
@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedLight;
 
@@ -41,7 +40,7 @@ import maud.model.cgm.SelectedLight;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class LightPositionTool extends Tool {
+class LightPositionTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -87,6 +86,29 @@ class LightPositionTool extends Tool {
         super(screenController, "lightPosition");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        String resetButton = "";
+
+        SelectedLight light = Maud.getModel().getTarget().getLight();
+        boolean enabled = light.canPosition();
+        if (enabled) {
+            resetButton = "Reset";
+            setSlidersToPosition();
+        } else {
+            clear();
+        }
+
+        setButtonText("resetLightPos", resetButton);
+        setSlidersEnabled(enabled);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -120,27 +142,6 @@ class LightPositionTool extends Tool {
         SelectedLight light = Maud.getModel().getTarget().getLight();
         light.setPosition(offsets);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        String resetButton = "";
-
-        SelectedLight light = Maud.getModel().getTarget().getLight();
-        boolean enabled = light.canPosition();
-        if (enabled) {
-            resetButton = "Reset";
-            setSlidersToPosition();
-        } else {
-            clear();
-        }
-
-        setButtonText("resetLightPos", resetButton);
-        setSlidersEnabled(enabled);
-    }
     // *************************************************************************
     // private methods
 
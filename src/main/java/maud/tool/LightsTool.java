@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -44,7 +43,7 @@ import maud.model.cgm.SelectedLight;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class LightsTool extends Tool {
+class LightsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -66,47 +65,14 @@ class LightsTool extends Tool {
         super(screenController, "lights");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Enumerate this tool's check boxes.
-     *
-     * @return a new list of names (unique id prefixes)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected List<String> listCheckBoxes() {
-        List<String> result = super.listCheckBoxes();
-        result.add("lightEnable");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on a check-box event.
-     *
-     * @param name the name (unique id prefix) of the checkbox
-     * @param isChecked the new state of the checkbox (true&rarr;checked,
-     * false&rarr;unchecked)
-     */
-    @Override
-    public void onCheckBoxChanged(String name, boolean isChecked) {
-        SelectedLight light = Maud.getModel().getTarget().getLight();
-        switch (name) {
-            case "lightEnable":
-                light.setEnabled(isChecked);
-                break;
-
-            default:
-                super.onCheckBoxChanged(name, isChecked);
-        }
-    }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateIndex();
         updateProperties();
 
@@ -150,6 +116,41 @@ class LightsTool extends Tool {
         setStatusText("lightType", " " + typeStatus);
     }
     // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's check boxes.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listCheckBoxes() {
+        List<String> result = super.listCheckBoxes();
+        result.add("lightEnable");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on a check-box event.
+     *
+     * @param name the name (unique id prefix) of the checkbox
+     * @param isChecked the new state of the checkbox (true&rarr;checked,
+     * false&rarr;unchecked)
+     */
+    @Override
+    public void onCheckBoxChanged(String name, boolean isChecked) {
+        SelectedLight light = Maud.getModel().getTarget().getLight();
+        switch (name) {
+            case "lightEnable":
+                light.setEnabled(isChecked);
+                break;
+
+            default:
+                super.onCheckBoxChanged(name, isChecked);
+        }
+    }
+    // *************************************************************************
     // private methods
 
     /**
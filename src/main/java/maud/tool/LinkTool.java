@@ -35,7 +35,6 @@ import jme3utilities.MyString;
 import jme3utilities.math.MyMath;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.EditorModel;
@@ -52,7 +51,7 @@ import maud.model.option.RotationDisplayMode;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class LinkTool extends Tool {
+class LinkTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -78,52 +77,14 @@ class LinkTool extends Tool {
         super(screenController, "link");
     }
     // *************************************************************************
-    // Tool methods
-
-    /**
-     * Enumerate this tool's sliders.
-     *
-     * @return a new list of names (unique id prefixes)
-     */
-    @Override
-    protected List<String> listSliders() {
-        List<String> result = super.listSliders();
-        result.add("maxLinkAngle");
-        result.add("minLinkAngle");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on the sliders.
-     *
-     * @param sliderName the name (unique id prefix) of the slider (not null)
-     */
-    @Override
-    public void onSliderChanged(String sliderName) {
-        EditorModel model = Maud.getModel();
-        int axisIndex = model.getMisc().linkToolAxis();
-        float maxAngle = readSlider("maxLinkAngle", angleSt);
-        float minAngle = readSlider("minLinkAngle", angleSt);
-
-        if (maxAngle < minAngle) {
-            if (sliderName.equals("maxLinkAngle")) {
-                minAngle = maxAngle;
-            } else {
-                maxAngle = minAngle;
-            }
-        }
-
-        EditableCgm target = model.getTarget();
-        target.setLinkAxisLimits(axisIndex, maxAngle, minAngle);
-    }
+    // EditorTool methods
 
     /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateChildren();
         updateIndex();
         updateName();
@@ -180,6 +141,46 @@ class LinkTool extends Tool {
         setButtonText("linkShape", shapeButton);
     }
     // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's sliders.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listSliders() {
+        List<String> result = super.listSliders();
+        result.add("maxLinkAngle");
+        result.add("minLinkAngle");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on the sliders.
+     *
+     * @param sliderName the name (unique id prefix) of the slider (not null)
+     */
+    @Override
+    public void onSliderChanged(String sliderName) {
+        EditorModel model = Maud.getModel();
+        int axisIndex = model.getMisc().linkToolAxis();
+        float maxAngle = readSlider("maxLinkAngle", angleSt);
+        float minAngle = readSlider("minLinkAngle", angleSt);
+
+        if (maxAngle < minAngle) {
+            if (sliderName.equals("maxLinkAngle")) {
+                minAngle = maxAngle;
+            } else {
+                maxAngle = minAngle;
+            }
+        }
+
+        EditableCgm target = model.getTarget();
+        target.setLinkAxisLimits(axisIndex, maxAngle, minAngle);
+    }
+    // *************************************************************************
     // private methods
 
     /**
@@ -30,7 +30,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.EditableMap;
@@ -45,7 +44,7 @@ import maud.model.cgm.SelectedSkeleton;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class MappingTool extends Tool {
+class MappingTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,6 +66,40 @@ class MappingTool extends Tool {
         super(screenController, "mapping");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateAsset();
+        updateFeedback();
+        updateIndex();
+        updateSelected();
+        updateSource();
+        updateTarget();
+        /*
+         * the "use inverse" checkbox
+         */
+        EditorModel model = Maud.getModel();
+        boolean invertFlag = model.getMap().isInvertingMap();
+        setChecked("invertRma2", invertFlag);
+        /*
+         * the "Show retargeted pose" button
+         */
+        String mButton;
+        if (model.getTarget().getAnimation().isRetargetedPose()
+                || !model.getSource().isLoaded()
+                || !model.getTarget().getSkeleton().isSelected()) {
+            mButton = "";
+        } else {
+            mButton = "Show retargeted pose";
+        }
+        setButtonText("loadRetargetedPose", mButton);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -101,38 +134,6 @@ class MappingTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateAsset();
-        updateFeedback();
-        updateIndex();
-        updateSelected();
-        updateSource();
-        updateTarget();
-        /*
-         * the "use inverse" checkbox
-         */
-        EditorModel model = Maud.getModel();
-        boolean invertFlag = model.getMap().isInvertingMap();
-        setChecked("invertRma2", invertFlag);
-        /*
-         * the "Show retargeted pose" button
-         */
-        String mButton;
-        if (model.getTarget().getAnimation().isRetargetedPose()
-                || !model.getSource().isLoaded()
-                || !model.getTarget().getSkeleton().isSelected()) {
-            mButton = "";
-        } else {
-            mButton = "Show retargeted pose";
-        }
-        setButtonText("loadRetargetedPose", mButton);
-    }
     // *************************************************************************
     // private methods
 
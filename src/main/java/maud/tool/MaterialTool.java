@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.menu.WhichSpatials;
@@ -48,7 +47,7 @@ import maud.model.cgm.WhichParams;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class MaterialTool extends Tool {
+class MaterialTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -70,6 +69,24 @@ class MaterialTool extends Tool {
         super(screenController, "material");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateIndex();
+        updateNames();
+        updateRenderState();
+        updateParameterIndex();
+        updateParameterName();
+        updateParameterValue();
+        updateSelect();
+        updateTreePosition();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -109,22 +126,6 @@ class MaterialTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateIndex();
-        updateNames();
-        updateRenderState();
-        updateParameterIndex();
-        updateParameterName();
-        updateParameterValue();
-        updateSelect();
-        updateTreePosition();
-    }
     // *************************************************************************
     // private methods
 
@@ -33,7 +33,6 @@ import com.jme3.scene.VertexBuffer;
 import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.menu.WhichSpatials;
@@ -47,7 +46,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class MeshTool extends Tool {
+class MeshTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -69,6 +68,22 @@ class MeshTool extends Tool {
         super(screenController, "mesh");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateBufferInfo();
+        updateBufferIndex();
+        updateGeometryIndex();
+        updateMeshInfo();
+        updateSelect();
+        updateTreePosition();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -103,20 +118,6 @@ class MeshTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateBufferInfo();
-        updateBufferIndex();
-        updateGeometryIndex();
-        updateMeshInfo();
-        updateSelect();
-        updateTreePosition();
-    }
     // *************************************************************************
     // private methods
 
@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedOverride;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class OverridesTool extends Tool {
+class OverridesTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,6 +63,20 @@ class OverridesTool extends Tool {
         super(screenController, "overrides");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateIndex();
+        updateName();
+        updateType();
+        updateValue();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -97,18 +110,6 @@ class OverridesTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateIndex();
-        updateName();
-        updateType();
-        updateValue();
-    }
     // *************************************************************************
     // private methods
 
@@ -28,7 +28,6 @@ package maud.tool;
 
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.EditorModel;
@@ -41,7 +40,7 @@ import maud.model.option.RigidBodyParameter;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class PcoTool extends Tool {
+class PcoTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -63,14 +62,14 @@ class PcoTool extends Tool {
         super(screenController, "pco");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateIndex();
         updateName();
         updateParameter();
@@ -29,7 +29,6 @@ package maud.tool;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
 import maud.model.LoadedMap;
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedAnimControl;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class RetargetTool extends Tool {
+class RetargetTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,14 +64,14 @@ class RetargetTool extends Tool {
         super(screenController, "retarget");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Callback to update this tool prior to rendering. (Invoked once per frame
-     * while this tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         EditorModel model = Maud.getModel();
         LoadedCgm target = model.getTarget();
         String targetCgmName = target.getName();
@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedSgc;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SgcTool extends Tool {
+class SgcTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,52 +64,14 @@ class SgcTool extends Tool {
         super(screenController, "sgc");
     }
     // *************************************************************************
-    // Tool methods
-
-    /**
-     * Enumerate this tool's check boxes.
-     *
-     * @return a new list of names (unique id prefixes)
-     */
-    @Override
-    protected List<String> listCheckBoxes() {
-        List<String> result = super.listCheckBoxes();
-        result.add("sgcEnable");
-        result.add("sgcLocalPhysics");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on a check-box event.
-     *
-     * @param name the name (unique id prefix) of the checkbox
-     * @param isChecked the new state of the checkbox (true&rarr;checked,
-     * false&rarr;unchecked)
-     */
-    @Override
-    public void onCheckBoxChanged(String name, boolean isChecked) {
-        EditableCgm target = Maud.getModel().getTarget();
-        switch (name) {
-            case "sgcEnable":
-                target.setSgcEnabled(isChecked);
-                break;
-
-            case "sgcLocalPhysics":
-                target.setApplyPhysicsLocal(isChecked);
-                break;
-
-            default:
-                super.onCheckBoxChanged(name, isChecked);
-        }
-    }
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateIndex();
 
         String deleteButton;
@@ -169,6 +130,46 @@ class SgcTool extends Tool {
         setStatusText("sgcType", " " + typeStatus);
     }
     // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's check boxes.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listCheckBoxes() {
+        List<String> result = super.listCheckBoxes();
+        result.add("sgcEnable");
+        result.add("sgcLocalPhysics");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on a check-box event.
+     *
+     * @param name the name (unique id prefix) of the checkbox
+     * @param isChecked the new state of the checkbox (true&rarr;checked,
+     * false&rarr;unchecked)
+     */
+    @Override
+    public void onCheckBoxChanged(String name, boolean isChecked) {
+        EditableCgm target = Maud.getModel().getTarget();
+        switch (name) {
+            case "sgcEnable":
+                target.setSgcEnabled(isChecked);
+                break;
+
+            case "sgcLocalPhysics":
+                target.setApplyPhysicsLocal(isChecked);
+                break;
+
+            default:
+                super.onCheckBoxChanged(name, isChecked);
+        }
+    }
+    // *************************************************************************
     // private methods
 
     /**
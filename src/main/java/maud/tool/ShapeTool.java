@@ -32,7 +32,6 @@ import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.EditorModel;
@@ -45,7 +44,7 @@ import maud.model.option.ShapeParameter;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class ShapeTool extends Tool {
+class ShapeTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,14 +66,14 @@ class ShapeTool extends Tool {
         super(screenController, "shape");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateChildren();
         updateIndex();
         updateName();
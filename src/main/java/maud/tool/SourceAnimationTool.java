@@ -31,7 +31,6 @@ import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -44,7 +43,7 @@ import maud.model.cgm.SelectedAnimControl;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SourceAnimationTool extends Tool {
+class SourceAnimationTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -74,6 +73,23 @@ class SourceAnimationTool extends Tool {
         super(screenController, "sourceAnimation");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateControlIndex();
+        updateIndex();
+        updateLooping();
+        updateName();
+        updateSpeed();
+        updateTrackTime();
+        updateTrackCounts();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -157,21 +173,6 @@ class SourceAnimationTool extends Tool {
             cgm.getPlay().setTime(time);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateControlIndex();
-        updateIndex();
-        updateLooping();
-        updateName();
-        updateSpeed();
-        updateTrackTime();
-        updateTrackCounts();
-    }
     // *************************************************************************
     // private methods
 
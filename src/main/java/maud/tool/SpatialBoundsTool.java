@@ -33,7 +33,6 @@ import com.jme3.math.Vector3f;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedSpatial;
 
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialBoundsTool extends Tool {
+class SpatialBoundsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,14 +63,14 @@ class SpatialBoundsTool extends Tool {
         super(screenController, "spatialBounds");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateName();
         updateType();
 
@@ -34,7 +34,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedSpatial;
 
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialDetailsTool extends Tool {
+class SpatialDetailsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,6 +64,28 @@ class SpatialDetailsTool extends Tool {
         super(screenController, "spatialDetails");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateBatchHint();
+        updateBound();
+        updateBucket();
+        updateCull();
+        updateIgnoreTransform();
+        updateInfluence();
+        updateLights();
+        updateName();
+        updateOverrides();
+        updateSgcs();
+        updateShadows();
+        updateUserData();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -98,26 +119,6 @@ class SpatialDetailsTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateBatchHint();
-        updateBound();
-        updateBucket();
-        updateCull();
-        updateIgnoreTransform();
-        updateInfluence();
-        updateLights();
-        updateName();
-        updateOverrides();
-        updateSgcs();
-        updateShadows();
-        updateUserData();
-    }
     // *************************************************************************
     // private methods
 
@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditorModel;
@@ -43,7 +42,7 @@ import maud.model.option.RotationDisplayMode;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialRotationTool extends Tool {
+class SpatialRotationTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -77,6 +76,23 @@ class SpatialRotationTool extends Tool {
         super(screenController, "spatialRotation");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        setSlidersToTransform();
+        updateSnapButtons();
+
+        RotationDisplayMode mode
+                = Maud.getModel().getMisc().rotationDisplayMode();
+        String dButton = mode.toString();
+        setButtonText("rotationMode2", dButton);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -119,21 +135,6 @@ class SpatialRotationTool extends Tool {
         }
         Maud.getModel().getTarget().setSpatialRotation(rotation);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        setSlidersToTransform();
-        updateSnapButtons();
-
-        RotationDisplayMode mode
-                = Maud.getModel().getMisc().rotationDisplayMode();
-        String dButton = mode.toString();
-        setButtonText("rotationMode2", dButton);
-    }
     // *************************************************************************
     // private methods
 
@@ -33,7 +33,6 @@ import jme3utilities.math.MyMath;
 import jme3utilities.math.MyVector3f;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedSpatial;
 
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialScaleTool extends Tool {
+class SpatialScaleTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -80,6 +79,17 @@ class SpatialScaleTool extends Tool {
         super(screenController, "spatialScale");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        setSlidersToTransform();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -118,15 +128,6 @@ class SpatialScaleTool extends Tool {
         scales.multLocal(masterScale);
         Maud.getModel().getTarget().setSpatialScale(scales);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        setSlidersToTransform();
-    }
     // *************************************************************************
     // private methods
 
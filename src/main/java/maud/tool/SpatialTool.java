@@ -34,7 +34,6 @@ import jme3utilities.MyString;
 import jme3utilities.math.MyQuaternion;
 import jme3utilities.math.MyVector3f;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedSpatial;
 
@@ -43,7 +42,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialTool extends Tool {
+class SpatialTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,14 +64,14 @@ class SpatialTool extends Tool {
         super(screenController, "spatial");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateChildren();
         updateMaterial();
         updateMesh();
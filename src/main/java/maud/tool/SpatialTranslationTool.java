@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.cgm.SelectedSpatial;
 
@@ -41,7 +40,7 @@ import maud.model.cgm.SelectedSpatial;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class SpatialTranslationTool extends Tool {
+class SpatialTranslationTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -87,6 +86,24 @@ class SpatialTranslationTool extends Tool {
         super(screenController, "spatialTranslation");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        setSlidersToTransform();
+
+        String buttonText = "";
+        boolean isNode = Maud.getModel().getTarget().getSpatial().isNode();
+        if (isNode) {
+            buttonText = "Smart set";
+        }
+        setButtonText("spatialTranslationSmartSet", buttonText);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -118,22 +135,6 @@ class SpatialTranslationTool extends Tool {
         offsets.multLocal(masterScale);
         Maud.getModel().getTarget().setSpatialTranslation(offsets);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        setSlidersToTransform();
-
-        String buttonText = "";
-        boolean isNode = Maud.getModel().getTarget().getSpatial().isNode();
-        if (isNode) {
-            buttonText = "Smart set";
-        }
-        setButtonText("spatialTranslationSmartSet", buttonText);
-    }
     // *************************************************************************
     // private methods
 
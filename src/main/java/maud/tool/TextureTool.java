@@ -31,7 +31,6 @@ import de.lessvoid.nifty.controls.CheckBox;
 import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.EditorModel;
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedTexture;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class TextureTool extends Tool {
+class TextureTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,58 +63,14 @@ class TextureTool extends Tool {
         super(screenController, "texture");
     }
     // *************************************************************************
-    // Tool methods
-
-    /**
-     * Enumerate this tool's check boxes.
-     *
-     * @return a new list of names (unique id prefixes)
-     */
-    @Override
-    protected List<String> listCheckBoxes() {
-        List<String> result = super.listCheckBoxes();
-        result.add("flipY");
-        result.add("mipMap");
-        result.add("texturePreview");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on a check-box event.
-     *
-     * @param name the name (unique id prefix) of the checkbox
-     * @param isChecked the new state of the checkbox (true&rarr;checked,
-     * false&rarr;unchecked)
-     */
-    @Override
-    public void onCheckBoxChanged(String name, boolean isChecked) {
-        EditorModel model = Maud.getModel();
-        SelectedTexture texture = model.getTarget().getTexture();
-        switch (name) {
-            case "flipY":
-                texture.setFlipY(isChecked);
-                break;
-
-            case "mipMap":
-                texture.setGenerateMips(isChecked);
-                break;
-
-            case "texturePreview":
-                model.getMisc().setTexturePreviewVisible(isChecked);
-                break;
-
-            default:
-                super.onCheckBoxChanged(name, isChecked);
-        }
-    }
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateIndex();
         updateKey();
         updateUsers();
@@ -172,6 +127,52 @@ class TextureTool extends Tool {
         Maud.gui.setPreviewedTexture(tex);
     }
     // *************************************************************************
+    // Tool methods
+
+    /**
+     * Enumerate this tool's check boxes.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listCheckBoxes() {
+        List<String> result = super.listCheckBoxes();
+        result.add("flipY");
+        result.add("mipMap");
+        result.add("texturePreview");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on a check-box event.
+     *
+     * @param name the name (unique id prefix) of the checkbox
+     * @param isChecked the new state of the checkbox (true&rarr;checked,
+     * false&rarr;unchecked)
+     */
+    @Override
+    public void onCheckBoxChanged(String name, boolean isChecked) {
+        EditorModel model = Maud.getModel();
+        SelectedTexture texture = model.getTarget().getTexture();
+        switch (name) {
+            case "flipY":
+                texture.setFlipY(isChecked);
+                break;
+
+            case "mipMap":
+                texture.setGenerateMips(isChecked);
+                break;
+
+            case "texturePreview":
+                model.getMisc().setTexturePreviewVisible(isChecked);
+                break;
+
+            default:
+                super.onCheckBoxChanged(name, isChecked);
+        }
+    }
+    // *************************************************************************
     // private methods
 
     /**
@@ -28,7 +28,6 @@ package maud.tool;
 
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -39,7 +38,7 @@ import maud.model.cgm.SelectedTrack;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class TrackTool extends Tool {
+class TrackTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -61,14 +60,14 @@ class TrackTool extends Tool {
         super(screenController, "track");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         boolean isReal = Maud.getModel().getTarget().getAnimation().isReal();
         String selectButton = isReal ? "Select track" : "";
         setButtonText("selectTrack", selectButton);
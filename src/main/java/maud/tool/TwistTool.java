@@ -31,7 +31,6 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.MaudUtil;
 import maud.model.EditableMap;
@@ -43,7 +42,7 @@ import maud.model.option.RotationDisplayMode;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class TwistTool extends Tool {
+class TwistTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -77,6 +76,22 @@ class TwistTool extends Tool {
         super(screenController, "twist");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        updateSelected();
+
+        RotationDisplayMode mode
+                = Maud.getModel().getMisc().rotationDisplayMode();
+        String dButton = mode.toString();
+        setButtonText("rotationMode3", dButton);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -122,20 +137,6 @@ class TwistTool extends Tool {
             map.setTwist(twist);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        updateSelected();
-
-        RotationDisplayMode mode
-                = Maud.getModel().getMisc().rotationDisplayMode();
-        String dButton = mode.toString();
-        setButtonText("rotationMode3", dButton);
-    }
     // *************************************************************************
     // private methods
 
@@ -30,7 +30,6 @@ import com.jme3.animation.Bone;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -42,7 +41,7 @@ import maud.model.cgm.SelectedUserData;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class UserDataTool extends Tool {
+class UserDataTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -64,14 +63,14 @@ class UserDataTool extends Tool {
         super(screenController, "userData");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateIndex();
         updateKey();
         updateType();
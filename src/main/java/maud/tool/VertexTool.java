@@ -34,7 +34,6 @@ import com.jme3.scene.VertexBuffer;
 import java.util.logging.Logger;
 import jme3utilities.MyString;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.cgm.Cgm;
@@ -48,7 +47,7 @@ import maud.model.cgm.SelectedVertex;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class VertexTool extends Tool {
+class VertexTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -70,14 +69,14 @@ class VertexTool extends Tool {
         super(screenController, "vertex");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         updateBuffer();
         updateBone(0);
         updateBone(1);
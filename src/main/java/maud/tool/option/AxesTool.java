@@ -30,18 +30,18 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.scene.AxesDragEffect;
 import maud.model.option.scene.AxesOptions;
 import maud.model.option.scene.AxesSubject;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Axes" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class AxesTool extends Tool {
+public class AxesTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,6 +67,24 @@ public class AxesTool extends Tool {
         super(screenController, "axes");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        AxesOptions options = Maud.getModel().getScene().getAxes();
+        boolean depthTestFlag = options.getDepthTestFlag();
+        setChecked("axesDepthTest", depthTestFlag);
+
+        float lineWidth = options.getLineWidth();
+        setSlider("axesLineWidth", widthSt, lineWidth);
+
+        updateLabels();
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -125,22 +143,6 @@ public class AxesTool extends Tool {
         float lineWidth = readSlider("axesLineWidth", widthSt);
         Maud.getModel().getScene().getAxes().setLineWidth(lineWidth);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        AxesOptions options = Maud.getModel().getScene().getAxes();
-        boolean depthTestFlag = options.getDepthTestFlag();
-        setChecked("axesDepthTest", depthTestFlag);
-
-        float lineWidth = options.getLineWidth();
-        setSlider("axesLineWidth", widthSt, lineWidth);
-
-        updateLabels();
-    }
     // *************************************************************************
     // private methods
 
@@ -31,19 +31,19 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
 import maud.model.option.Background;
 import maud.model.option.ScoreOptions;
 import maud.model.option.scene.RenderOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Background" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class BackgroundTool extends Tool {
+public class BackgroundTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -69,93 +69,95 @@ public class BackgroundTool extends Tool {
         super(screenController, "background");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Enumerate this tool's sliders.
-     *
-     * @return a new list of names (unique id prefixes)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected List<String> listSliders() {
-        List<String> result = super.listSliders();
-        result.add("bgR");
-        result.add("bgG");
-        result.add("bgB");
-
-        return result;
-    }
-
-    /**
-     * Update the MVC model based on the sliders.
-     *
-     * @param sliderName the name (unique id prefix) of the slider (not null)
-     */
-    @Override
-    public void onSliderChanged(String sliderName) {
+    protected void toolRefresh() {
         EditorModel editorModel = Maud.getModel();
         RenderOptions forScenes = editorModel.getScene().getRender();
         ScoreOptions forScores = editorModel.getScore();
 
-        ColorRGBA color = readColorBank("bg", colorSt, null);
+        ColorRGBA color;
         Background background = Maud.getModel().getMisc().background();
         switch (background) {
             case SourceScenesWithNoSky:
-                forScenes.setSourceBackgroundColor(color);
+                color = forScenes.sourceBackgroundColor(null);
                 break;
 
             case SourceScores:
-                forScores.setSourceBackgroundColor(color);
+                color = forScores.sourceBackgroundColor(null);
                 break;
 
             case TargetScenesWithNoSky:
-                forScenes.setTargetBackgroundColor(color);
+                color = forScenes.targetBackgroundColor(null);
                 break;
 
             case TargetScores:
-                forScores.setTargetBackgroundColor(color);
+                color = forScores.targetBackgroundColor(null);
                 break;
 
             default:
                 throw new IllegalStateException("background = " + background);
         }
+        setColorBank("bg", colorSt, color);
+
+        String buttonText = background.toString();
+        setButtonText("bgSelect", buttonText);
     }
+    // *************************************************************************
+    // Tool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Enumerate this tool's sliders.
+     *
+     * @return a new list of names (unique id prefixes)
+     */
+    @Override
+    protected List<String> listSliders() {
+        List<String> result = super.listSliders();
+        result.add("bgR");
+        result.add("bgG");
+        result.add("bgB");
+
+        return result;
+    }
+
+    /**
+     * Update the MVC model based on the sliders.
+     *
+     * @param sliderName the name (unique id prefix) of the slider (not null)
      */
     @Override
-    protected void toolUpdate() {
+    public void onSliderChanged(String sliderName) {
         EditorModel editorModel = Maud.getModel();
         RenderOptions forScenes = editorModel.getScene().getRender();
         ScoreOptions forScores = editorModel.getScore();
 
-        ColorRGBA color;
+        ColorRGBA color = readColorBank("bg", colorSt, null);
         Background background = Maud.getModel().getMisc().background();
         switch (background) {
             case SourceScenesWithNoSky:
-                color = forScenes.sourceBackgroundColor(null);
+                forScenes.setSourceBackgroundColor(color);
                 break;
 
             case SourceScores:
-                color = forScores.sourceBackgroundColor(null);
+                forScores.setSourceBackgroundColor(color);
                 break;
 
             case TargetScenesWithNoSky:
-                color = forScenes.targetBackgroundColor(null);
+                forScenes.setTargetBackgroundColor(color);
                 break;
 
             case TargetScores:
-                color = forScores.targetBackgroundColor(null);
+                forScores.setTargetBackgroundColor(color);
                 break;
 
             default:
                 throw new IllegalStateException("background = " + background);
         }
-        setColorBank("bg", colorSt, color);
-
-        String buttonText = background.toString();
-        setButtonText("bgSelect", buttonText);
     }
 }
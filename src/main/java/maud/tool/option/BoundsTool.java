@@ -31,16 +31,16 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.scene.BoundsOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Bounds" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class BoundsTool extends Tool {
+public class BoundsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -70,6 +70,28 @@ public class BoundsTool extends Tool {
         super(screenController, "bounds");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        BoundsOptions options = Maud.getModel().getScene().getBounds();
+
+        ColorRGBA color = options.copyColor(null);
+        setColorBank("bounds", colorSt, color);
+
+        boolean depthTestFlag = options.getDepthTestFlag();
+        setChecked("boundsDepthTest", depthTestFlag);
+
+        float lineWidth = options.getLineWidth();
+        setSlider("boundsLineWidth", widthSt, lineWidth);
+        lineWidth = Math.round(lineWidth);
+        updateSliderStatus("boundsLineWidth", lineWidth, " pixels");
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -136,24 +158,4 @@ public class BoundsTool extends Tool {
         ColorRGBA color = readColorBank("bounds", colorSt, null);
         options.setColor(color);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        BoundsOptions options = Maud.getModel().getScene().getBounds();
-
-        ColorRGBA color = options.copyColor(null);
-        setColorBank("bounds", colorSt, color);
-
-        boolean depthTestFlag = options.getDepthTestFlag();
-        setChecked("boundsDepthTest", depthTestFlag);
-
-        float lineWidth = options.getLineWidth();
-        setSlider("boundsLineWidth", widthSt, lineWidth);
-        lineWidth = Math.round(lineWidth);
-        updateSliderStatus("boundsLineWidth", lineWidth, " pixels");
-    }
 }
@@ -28,12 +28,12 @@ package maud.tool.option;
 
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.scene.CameraOptions;
 import maud.model.option.scene.MovementMode;
 import maud.model.option.scene.OrbitCenter;
 import maud.model.option.scene.ProjectionMode;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Camera" tool in Maud's editor screen. The camera tool
@@ -45,7 +45,7 @@ import maud.model.option.scene.ProjectionMode;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class CameraTool extends Tool {
+public class CameraTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,14 +67,14 @@ public class CameraTool extends Tool {
         super(screenController, "camera");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         CameraOptions options = Maud.getModel().getScene().getCamera();
 
         MovementMode movement = options.getMovementMode();
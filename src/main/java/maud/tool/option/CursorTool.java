@@ -31,12 +31,12 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.DescribeUtil;
 import maud.Maud;
 import maud.model.option.scene.DddCursorOptions;
 import maud.model.option.scene.SceneOptions;
 import maud.model.option.scene.VertexOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Cursor" tool in Maud's editor screen. The tool
@@ -45,7 +45,7 @@ import maud.model.option.scene.VertexOptions;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class CursorTool extends Tool {
+public class CursorTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -83,6 +83,42 @@ public class CursorTool extends Tool {
         super(screenController, "cursor");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        SceneOptions sOptions = Maud.getModel().getScene();
+        DddCursorOptions options = sOptions.getCursor();
+
+        boolean visible = options.isVisible();
+        setChecked("3DCursor", visible);
+
+        int colorIndex = Maud.getModel().getMisc().colorIndex();
+        String indexStatus = DescribeUtil.index(colorIndex);
+        setButtonText("cursorColorIndex", indexStatus);
+
+        ColorRGBA color = options.copyColor(colorIndex, null);
+        setColorBank("cursor", colorSt, color);
+
+        float cycleTime = options.getCycleTime();
+        setSlider("cursorCycle", cycleSt, cycleTime);
+        updateSliderStatus("cursorCycle", cycleTime, " seconds");
+
+        float size = options.getSize();
+        setSlider("cursorSize", sizeSt, size);
+        updateSliderStatus("cursorSize", size, "");
+
+        VertexOptions svOptions = sOptions.getVertex();
+        float pointSize = svOptions.getPointSize();
+        setSlider("svPointSize", pointSizeSt, pointSize);
+        pointSize = Math.round(pointSize);
+        updateSliderStatus("svPointSize", pointSize, " pixels");
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -160,38 +196,4 @@ public class CursorTool extends Tool {
         float pointSize = readSlider("svPointSize", pointSizeSt);
         svOptions.setPointSize(pointSize);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        SceneOptions sOptions = Maud.getModel().getScene();
-        DddCursorOptions options = sOptions.getCursor();
-
-        boolean visible = options.isVisible();
-        setChecked("3DCursor", visible);
-
-        int colorIndex = Maud.getModel().getMisc().colorIndex();
-        String indexStatus = DescribeUtil.index(colorIndex);
-        setButtonText("cursorColorIndex", indexStatus);
-
-        ColorRGBA color = options.copyColor(colorIndex, null);
-        setColorBank("cursor", colorSt, color);
-
-        float cycleTime = options.getCycleTime();
-        setSlider("cursorCycle", cycleSt, cycleTime);
-        updateSliderStatus("cursorCycle", cycleTime, " seconds");
-
-        float size = options.getSize();
-        setSlider("cursorSize", sizeSt, size);
-        updateSliderStatus("cursorSize", size, "");
-
-        VertexOptions svOptions = sOptions.getVertex();
-        float pointSize = svOptions.getPointSize();
-        setSlider("svPointSize", pointSizeSt, pointSize);
-        pointSize = Math.round(pointSize);
-        updateSliderStatus("svPointSize", pointSize, " pixels");
-    }
 }
@@ -31,15 +31,15 @@ import java.util.logging.Logger;
 import jme3utilities.minie.DumpFlags;
 import jme3utilities.minie.PhysicsDumper;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Dump" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class DumpTool extends Tool {
+public class DumpTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -61,6 +61,57 @@ public class DumpTool extends Tool {
         super(screenController, "dump");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        PhysicsDumper dumper = Maud.getModel().getDumper();
+
+        boolean dumpBuckets = dumper.isDumpBucket();
+        setChecked("dumpBuckets", dumpBuckets);
+
+        boolean dumpCullHints = dumper.isDumpCull();
+        setChecked("dumpCullHints", dumpCullHints);
+
+        boolean dumpJib = dumper.isEnabled(DumpFlags.JointsInBodies);
+        setChecked("dumpJib", dumpJib);
+
+        boolean dumpJis = dumper.isEnabled(DumpFlags.JointsInSpaces);
+        setChecked("dumpJis", dumpJis);
+
+        boolean dumpMatParams = dumper.isDumpMatParam();
+        setChecked("dumpMatParams", dumpMatParams);
+
+        boolean dumpMpo = dumper.isDumpOverride();
+        setChecked("dumpMpos", dumpMpo);
+
+        boolean dumpShadows = dumper.isDumpShadow();
+        setChecked("dumpShadows", dumpShadows);
+
+        boolean dumpTransforms = dumper.isDumpTransform();
+        setChecked("dumpTransforms", dumpTransforms);
+
+        boolean dumpUserData = dumper.isDumpUser();
+        setChecked("dumpUserData", dumpUserData);
+
+        String indentIncrement = dumper.indentIncrement();
+        int numSpaces = indentIncrement.length();
+        String text = Integer.toString(numSpaces);
+        setButtonText("dumpIndent", text);
+
+        int maxChildren = dumper.maxChildren();
+        if (maxChildren == Integer.MAX_VALUE) {
+            text = "All";
+        } else {
+            text = Integer.toString(maxChildren);
+        }
+        setButtonText("dumpMaxChildren", text);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -128,53 +179,4 @@ public class DumpTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        PhysicsDumper dumper = Maud.getModel().getDumper();
-
-        boolean dumpBuckets = dumper.isDumpBucket();
-        setChecked("dumpBuckets", dumpBuckets);
-
-        boolean dumpCullHints = dumper.isDumpCull();
-        setChecked("dumpCullHints", dumpCullHints);
-
-        boolean dumpJib = dumper.isEnabled(DumpFlags.JointsInBodies);
-        setChecked("dumpJib", dumpJib);
-
-        boolean dumpJis = dumper.isEnabled(DumpFlags.JointsInSpaces);
-        setChecked("dumpJis", dumpJis);
-
-        boolean dumpMatParams = dumper.isDumpMatParam();
-        setChecked("dumpMatParams", dumpMatParams);
-
-        boolean dumpMpo = dumper.isDumpOverride();
-        setChecked("dumpMpos", dumpMpo);
-
-        boolean dumpShadows = dumper.isDumpShadow();
-        setChecked("dumpShadows", dumpShadows);
-
-        boolean dumpTransforms = dumper.isDumpTransform();
-        setChecked("dumpTransforms", dumpTransforms);
-
-        boolean dumpUserData = dumper.isDumpUser();
-        setChecked("dumpUserData", dumpUserData);
-
-        String indentIncrement = dumper.indentIncrement();
-        int numSpaces = indentIncrement.length();
-        String text = Integer.toString(numSpaces);
-        setButtonText("dumpIndent", text);
-
-        int maxChildren = dumper.maxChildren();
-        if (maxChildren == Integer.MAX_VALUE) {
-            text = "All";
-        } else {
-            text = Integer.toString(maxChildren);
-        }
-        setButtonText("dumpMaxChildren", text);
-    }
 }
@@ -30,16 +30,16 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.scene.SceneOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Physics" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class PhysicsTool extends Tool {
+public class PhysicsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -65,6 +65,24 @@ public class PhysicsTool extends Tool {
         super(screenController, "physics");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        SceneOptions options = Maud.getModel().getScene();
+
+        boolean isRendered = options.getRender().isPhysicsRendered();
+        setChecked("physics2", isRendered);
+
+        int maxIterations = options.numPhysicsIterations();
+        setSlider("maxIterations", iterSt, maxIterations);
+        updateSliderStatus("maxIterations", maxIterations, "");
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -126,20 +144,4 @@ public class PhysicsTool extends Tool {
         int intMax = Math.round(floatMax);
         options.setNumPhysicsIterations(intMax);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        SceneOptions options = Maud.getModel().getScene();
-
-        boolean isRendered = options.getRender().isPhysicsRendered();
-        setChecked("physics2", isRendered);
-
-        int maxIterations = options.numPhysicsIterations();
-        setSlider("maxIterations", iterSt, maxIterations);
-        updateSliderStatus("maxIterations", maxIterations, "");
-    }
 }
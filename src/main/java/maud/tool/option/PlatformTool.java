@@ -30,18 +30,18 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.WhichCgm;
 import maud.model.option.scene.PlatformType;
 import maud.model.option.scene.SceneOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Platform" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class PlatformTool extends Tool {
+public class PlatformTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,6 +67,29 @@ public class PlatformTool extends Tool {
         super(screenController, "platform");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        SceneOptions options = Maud.getModel().getScene();
+
+        PlatformType type = options.getPlatformType();
+        String tButton = type.toString();
+        setButtonText("platformType", tButton);
+
+        float sourceDiameter = options.getPlatformDiameter(WhichCgm.Source);
+        setSlider("sourcePlatformDiameter", diameterSt, sourceDiameter);
+        updateSliderStatus("sourcePlatformDiameter", sourceDiameter, " wu");
+
+        float targetDiameter = options.getPlatformDiameter(WhichCgm.Target);
+        setSlider("targetPlatformDiameter", diameterSt, targetDiameter);
+        updateSliderStatus("targetPlatformDiameter", targetDiameter, " wu");
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -98,25 +121,4 @@ public class PlatformTool extends Tool {
         float targetDiameter = readSlider("targetPlatformDiameter", diameterSt);
         options.setPlatformDiameter(WhichCgm.Target, targetDiameter);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        SceneOptions options = Maud.getModel().getScene();
-
-        PlatformType type = options.getPlatformType();
-        String tButton = type.toString();
-        setButtonText("platformType", tButton);
-
-        float sourceDiameter = options.getPlatformDiameter(WhichCgm.Source);
-        setSlider("sourcePlatformDiameter", diameterSt, sourceDiameter);
-        updateSliderStatus("sourcePlatformDiameter", sourceDiameter, " wu");
-
-        float targetDiameter = options.getPlatformDiameter(WhichCgm.Target);
-        setSlider("targetPlatformDiameter", diameterSt, targetDiameter);
-        updateSliderStatus("targetPlatformDiameter", targetDiameter, " wu");
-    }
 }
@@ -31,12 +31,13 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
 import maud.model.option.scene.RenderOptions;
 import maud.model.option.scene.SceneOptions;
 import maud.model.option.scene.TriangleMode;
+import maud.tool.EditorTool;
 import maud.view.scene.SceneView;
 
 /**
@@ -44,7 +45,7 @@ import maud.view.scene.SceneView;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class RenderTool extends Tool {
+public class RenderTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,7 +68,42 @@ public class RenderTool extends Tool {
      * the tool (not null)
      */
     public RenderTool(GuiScreenController screenController) {
-        super(screenController, "render");
+        super(screenController, "render", ModelAspect.Options,
+                ModelAspect.View);
+    }
+    // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        EditorModel model = Maud.getModel();
+        SceneOptions sceneOptions = model.getScene();
+        RenderOptions options = sceneOptions.getRender();
+
+        boolean shadowsFlag = options.areShadowsRendered();
+        setChecked("shadows", shadowsFlag);
+
+        TriangleMode mode = options.triangleMode();
+        String modeName = mode.toString();
+        setButtonText("triangles", modeName);
+
+        EdgeFilteringMode edgeFilter = options.edgeFilter();
+        modeName = edgeFilter.toString();
+        setButtonText("edgeFilter", modeName);
+
+        SceneView sourceView = model.getSource().getSceneView();
+        float sourceScale = sourceView.getTransform().getScale();
+        setSlider("sourceScale", scaleSt, sourceScale);
+        updateSliderStatus("sourceScale", sourceScale, "x");
+
+        SceneView targetView = model.getTarget().getSceneView();
+        float targetScale = targetView.getTransform().getScale();
+        setSlider("targetScale", scaleSt, targetScale);
+        updateSliderStatus("targetScale", targetScale, "x");
     }
     // *************************************************************************
     // Tool methods
@@ -133,36 +169,4 @@ public class RenderTool extends Tool {
         float targetScale = readSlider("targetScale", scaleSt);
         model.getTarget().getSceneView().getTransform().setScale(targetScale);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        EditorModel model = Maud.getModel();
-        SceneOptions sceneOptions = model.getScene();
-        RenderOptions options = sceneOptions.getRender();
-
-        boolean shadowsFlag = options.areShadowsRendered();
-        setChecked("shadows", shadowsFlag);
-
-        TriangleMode mode = options.triangleMode();
-        String modeName = mode.toString();
-        setButtonText("triangles", modeName);
-
-        EdgeFilteringMode edgeFilter = options.edgeFilter();
-        modeName = edgeFilter.toString();
-        setButtonText("edgeFilter", modeName);
-
-        SceneView sourceView = model.getSource().getSceneView();
-        float sourceScale = sourceView.getTransform().getScale();
-        setSlider("sourceScale", scaleSt, sourceScale);
-        updateSliderStatus("sourceScale", sourceScale, "x");
-
-        SceneView targetView = model.getTarget().getSceneView();
-        float targetScale = targetView.getTransform().getScale();
-        setSlider("targetScale", scaleSt, targetScale);
-        updateSliderStatus("targetScale", targetScale, "x");
-    }
 }
@@ -33,12 +33,13 @@ import java.util.logging.Logger;
 import jme3utilities.math.MyVector3f;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
 import maud.model.option.scene.LightsOptions;
 import maud.model.option.scene.RenderOptions;
 import maud.model.option.scene.SceneOptions;
+import maud.tool.EditorTool;
 import maud.view.scene.SceneView;
 
 /**
@@ -46,7 +47,7 @@ import maud.view.scene.SceneView;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class SceneLightingTool extends Tool {
+public class SceneLightingTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -81,7 +82,71 @@ public class SceneLightingTool extends Tool {
      * the tool (not null)
      */
     public SceneLightingTool(GuiScreenController screenController) {
-        super(screenController, "sceneLighting");
+        super(screenController, "sceneLighting", ModelAspect.Options,
+                ModelAspect.View);
+    }
+    // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        EditorModel model = Maud.getModel();
+        SceneOptions sceneOptions = model.getScene();
+        boolean isSkySimulated = sceneOptions.getRender().isSkySimulated();
+        setChecked("sky2", isSkySimulated);
+
+        SceneView sceneView = model.getTarget().getSceneView();
+        int count = sceneView.countAddedLightProbes();
+        String countText;
+        if (Maud.envCamIsBusy && count > 0) {
+            countText = Integer.toString(count - 1) + "+";
+        } else {
+            countText = Integer.toString(count);
+        }
+        setStatusText("probeCount", countText);
+
+        String addText;
+        if (Maud.envCamIsBusy) {
+            addText = "";
+        } else {
+            addText = "Add";
+        }
+        setButtonText("probeAdd", addText);
+
+        if (count > 0) {
+            setButtonText("probeDeleteAll", "Delete all");
+        } else {
+            setButtonText("probeDeleteAll", "");
+        }
+
+        LightsOptions lightsOptions = sceneOptions.getLights();
+        Vector3f direction;
+        if (isSkySimulated) {
+            DirectionalLight main = sceneView.getMainLight();
+            direction = main.getDirection(); // alias
+        } else {
+            direction = lightsOptions.direction(null);
+        }
+
+        for (int iAxis = 0; iAxis < numAxes; iAxis++) {
+            String sliderName = axisNames[iAxis] + "Dir";
+            setSliderEnabled(sliderName, !isSkySimulated);
+            float value = direction.get(iAxis);
+            setSlider(sliderName, directionSt, value);
+            updateSliderStatus(sliderName, value, "");
+        }
+
+        float ambientLevel = lightsOptions.getAmbientLevel();
+        setSlider("ambientLevel", levelSt, ambientLevel);
+        updateSliderStatus("ambientLevel", ambientLevel, "");
+
+        float mainLevel = lightsOptions.getMainLevel();
+        setSlider("mainLevel", levelSt, mainLevel);
+        updateSliderStatus("mainLevel", mainLevel, "");
     }
     // *************************************************************************
     // Tool methods
@@ -158,65 +223,4 @@ public class SceneLightingTool extends Tool {
         float mainLevel = readSlider("mainLevel", levelSt);
         options.setMainLevel(mainLevel);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        EditorModel model = Maud.getModel();
-        SceneOptions sceneOptions = model.getScene();
-        boolean isSkySimulated = sceneOptions.getRender().isSkySimulated();
-        setChecked("sky2", isSkySimulated);
-
-        SceneView sceneView = model.getTarget().getSceneView();
-        int count = sceneView.countAddedLightProbes();
-        String countText;
-        if (Maud.envCamIsBusy && count > 0) {
-            countText = Integer.toString(count - 1) + "+";
-        } else {
-            countText = Integer.toString(count);
-        }
-        setStatusText("probeCount", countText);
-
-        String addText;
-        if (Maud.envCamIsBusy) {
-            addText = "";
-        } else {
-            addText = "Add";
-        }
-        setButtonText("probeAdd", addText);
-
-        if (count > 0) {
-            setButtonText("probeDeleteAll", "Delete all");
-        } else {
-            setButtonText("probeDeleteAll", "");
-        }
-
-        LightsOptions lightsOptions = sceneOptions.getLights();
-        Vector3f direction;
-        if (isSkySimulated) {
-            DirectionalLight main = sceneView.getMainLight();
-            direction = main.getDirection(); // alias
-        } else {
-            direction = lightsOptions.direction(null);
-        }
-
-        for (int iAxis = 0; iAxis < numAxes; iAxis++) {
-            String sliderName = axisNames[iAxis] + "Dir";
-            setSliderEnabled(sliderName, !isSkySimulated);
-            float value = direction.get(iAxis);
-            setSlider(sliderName, directionSt, value);
-            updateSliderStatus(sliderName, value, "");
-        }
-
-        float ambientLevel = lightsOptions.getAmbientLevel();
-        setSlider("ambientLevel", levelSt, ambientLevel);
-        updateSliderStatus("ambientLevel", ambientLevel, "");
-
-        float mainLevel = lightsOptions.getMainLevel();
-        setSlider("mainLevel", levelSt, mainLevel);
-        updateSliderStatus("mainLevel", mainLevel, "");
-    }
 }
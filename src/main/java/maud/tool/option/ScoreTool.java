@@ -29,17 +29,17 @@ package maud.tool.option;
 import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.ScoreOptions;
 import maud.model.option.ShowBones;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Score" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class ScoreTool extends Tool {
+public class ScoreTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -61,6 +61,34 @@ public class ScoreTool extends Tool {
         super(screenController, "score");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        ScoreOptions scoreOptions = Maud.getModel().getScore();
+
+        boolean translations = scoreOptions.showsTranslations();
+        setChecked("scoreTranslations", translations);
+
+        boolean rotations = scoreOptions.showsRotations();
+        setChecked("scoreRotations", rotations);
+
+        boolean scales = scoreOptions.showsScales();
+        setChecked("scoreScales", scales);
+
+        ShowBones showNoneSelected = scoreOptions.getShowNoneSelected();
+        String noneButton = showNoneSelected.toString();
+        setButtonText("scoreShowNoneSelected", noneButton);
+
+        ShowBones showWhenSelected = scoreOptions.getShowWhenSelected();
+        String whenButton = showWhenSelected.toString();
+        setButtonText("scoreShowWhenSelected", whenButton);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -105,30 +133,4 @@ public class ScoreTool extends Tool {
                 super.onCheckBoxChanged(name, isChecked);
         }
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        ScoreOptions scoreOptions = Maud.getModel().getScore();
-
-        boolean translations = scoreOptions.showsTranslations();
-        setChecked("scoreTranslations", translations);
-
-        boolean rotations = scoreOptions.showsRotations();
-        setChecked("scoreRotations", rotations);
-
-        boolean scales = scoreOptions.showsScales();
-        setChecked("scoreScales", scales);
-
-        ShowBones showNoneSelected = scoreOptions.getShowNoneSelected();
-        String noneButton = showNoneSelected.toString();
-        setButtonText("scoreShowNoneSelected", noneButton);
-
-        ShowBones showWhenSelected = scoreOptions.getShowWhenSelected();
-        String whenButton = showWhenSelected.toString();
-        setButtonText("scoreShowWhenSelected", whenButton);
-    }
 }
@@ -30,18 +30,18 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.LoadBvhAxisOrder;
 import maud.model.option.MiscOptions;
 import maud.model.option.RotationDisplayMode;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Settings" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class SettingsTool extends Tool {
+public class SettingsTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -67,6 +67,44 @@ public class SettingsTool extends Tool {
         super(screenController, "settings");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        MiscOptions options = Maud.getModel().getMisc();
+
+        RotationDisplayMode mode = options.rotationDisplayMode();
+        String description = mode.toString();
+        setButtonText("settingsRotationDisplay", description);
+
+        int indexBase = options.indexBase();
+        description = Integer.toString(indexBase);
+        setButtonText("settingsIndexBase", description);
+
+        boolean zUpFlag = options.isLoadZup();
+        description = zUpFlag ? "+Z up" : "+Y up";
+        setButtonText("settingsLoadOrientation", description);
+
+        boolean diagnoseFlag = options.diagnoseLoads();
+        setChecked("settingsDiagnose", diagnoseFlag);
+
+        LoadBvhAxisOrder axisOrder = options.loadBvhAxisOrder();
+        description = axisOrder.toString();
+        setButtonText("settingsAxisOrder", description);
+
+        float x = options.submenuWarpX();
+        setSlider("submenuWarpX", submenuSt, x);
+        updateSliderStatus("submenuWarpX", x, "");
+
+        float y = options.submenuWarpY();
+        setSlider("submenuWarpY", submenuSt, y);
+        updateSliderStatus("submenuWarpY", y, "");
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -127,40 +165,4 @@ public class SettingsTool extends Tool {
         float y = readSlider("submenuWarpY", submenuSt);
         options.setSubmenuWarp(x, y);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        MiscOptions options = Maud.getModel().getMisc();
-
-        RotationDisplayMode mode = options.rotationDisplayMode();
-        String description = mode.toString();
-        setButtonText("settingsRotationDisplay", description);
-
-        int indexBase = options.indexBase();
-        description = Integer.toString(indexBase);
-        setButtonText("settingsIndexBase", description);
-
-        boolean zUpFlag = options.isLoadZup();
-        description = zUpFlag ? "+Z up" : "+Y up";
-        setButtonText("settingsLoadOrientation", description);
-
-        boolean diagnoseFlag = options.diagnoseLoads();
-        setChecked("settingsDiagnose", diagnoseFlag);
-
-        LoadBvhAxisOrder axisOrder = options.loadBvhAxisOrder();
-        description = axisOrder.toString();
-        setButtonText("settingsAxisOrder", description);
-
-        float x = options.submenuWarpX();
-        setSlider("submenuWarpX", submenuSt, x);
-        updateSliderStatus("submenuWarpX", x, "");
-
-        float y = options.submenuWarpY();
-        setSlider("submenuWarpY", submenuSt, y);
-        updateSliderStatus("submenuWarpY", y, "");
-    }
 }
@@ -31,18 +31,18 @@ import java.util.List;
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.ShowBones;
 import maud.model.option.scene.SkeletonColors;
 import maud.model.option.scene.SkeletonOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Skeleton" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class SkeletonTool extends Tool {
+public class SkeletonTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -76,6 +76,38 @@ public class SkeletonTool extends Tool {
         super(screenController, "skeleton");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        SkeletonOptions options = Maud.getModel().getScene().getSkeleton();
+
+        ShowBones showBones = options.getShowBones();
+        String showBonesStatus = showBones.toString();
+        setButtonText("skeletonShowBones", showBonesStatus);
+
+        float lineWidth = options.getLineWidth();
+        setSlider("skeletonLineWidth", widthSt, lineWidth);
+        lineWidth = Math.round(lineWidth);
+        updateSliderStatus("skeletonLineWidth", lineWidth, " px");
+
+        float pointSize = options.getPointSize();
+        setSlider("skeletonPointSize", sizeSt, pointSize);
+        pointSize = Math.round(pointSize);
+        updateSliderStatus("skeletonPointSize", pointSize, " px");
+
+        SkeletonColors editColor = options.getEditColor();
+        String colorSelectButton = editColor.toString();
+        setButtonText("skeletonColorSelect", colorSelectButton);
+
+        ColorRGBA color = options.copyColor(editColor, null);
+        setColorBank("ske", colorSt, color);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -114,34 +146,4 @@ public class SkeletonTool extends Tool {
         SkeletonColors use = options.getEditColor();
         options.setColor(use, color);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        SkeletonOptions options = Maud.getModel().getScene().getSkeleton();
-
-        ShowBones showBones = options.getShowBones();
-        String showBonesStatus = showBones.toString();
-        setButtonText("skeletonShowBones", showBonesStatus);
-
-        float lineWidth = options.getLineWidth();
-        setSlider("skeletonLineWidth", widthSt, lineWidth);
-        lineWidth = Math.round(lineWidth);
-        updateSliderStatus("skeletonLineWidth", lineWidth, " px");
-
-        float pointSize = options.getPointSize();
-        setSlider("skeletonPointSize", sizeSt, pointSize);
-        pointSize = Math.round(pointSize);
-        updateSliderStatus("skeletonPointSize", pointSize, " px");
-
-        SkeletonColors editColor = options.getEditColor();
-        String colorSelectButton = editColor.toString();
-        setButtonText("skeletonColorSelect", colorSelectButton);
-
-        ColorRGBA color = options.copyColor(editColor, null);
-        setColorBank("ske", colorSt, color);
-    }
 }
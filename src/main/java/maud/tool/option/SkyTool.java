@@ -31,16 +31,16 @@ import java.util.logging.Logger;
 import jme3utilities.TimeOfDay;
 import jme3utilities.nifty.GuiScreenController;
 import jme3utilities.nifty.SliderTransform;
-import jme3utilities.nifty.Tool;
 import maud.Maud;
 import maud.model.option.scene.RenderOptions;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Sky" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class SkyTool extends Tool {
+public class SkyTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -70,6 +70,33 @@ public class SkyTool extends Tool {
         super(screenController, "sky");
     }
     // *************************************************************************
+    // EditorTool methods
+
+    /**
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
+     */
+    @Override
+    protected void toolRefresh() {
+        RenderOptions options = Maud.getModel().getScene().getRender();
+
+        boolean isSkySimulated = options.isSkySimulated();
+        setChecked("sky", isSkySimulated);
+
+        float cloudiness = options.cloudiness();
+        setSlider("cloudiness", cloudinessSt, cloudiness);
+        updateSliderStatus("cloudiness", 100f * cloudiness, "%");
+
+        float hour = options.hour();
+        setSlider("hour", hourSt, hour);
+        int second = Math.round(hour * 3_600);
+        int minute = second / TimeOfDay.secondsPerMinute;
+        int mm = minute % TimeOfDay.minutesPerHour;
+        int hh = minute / TimeOfDay.minutesPerHour;
+        String tod = String.format("solar time = %d:%02d", hh, mm);
+        setStatusText("hourSliderStatus", tod);
+    }
+    // *************************************************************************
     // Tool methods
 
     /**
@@ -134,29 +161,4 @@ public class SkyTool extends Tool {
         float hour = readSlider("hour", hourSt);
         options.setHour(hour);
     }
-
-    /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
-     */
-    @Override
-    protected void toolUpdate() {
-        RenderOptions options = Maud.getModel().getScene().getRender();
-
-        boolean isSkySimulated = options.isSkySimulated();
-        setChecked("sky", isSkySimulated);
-
-        float cloudiness = options.cloudiness();
-        setSlider("cloudiness", cloudinessSt, cloudiness);
-        updateSliderStatus("cloudiness", 100f * cloudiness, "%");
-
-        float hour = options.hour();
-        setSlider("hour", hourSt, hour);
-        int second = Math.round(hour * 3_600);
-        int minute = second / TimeOfDay.secondsPerMinute;
-        int mm = minute % TimeOfDay.minutesPerHour;
-        int hh = minute / TimeOfDay.minutesPerHour;
-        String tod = String.format("solar time = %d:%02d", hh, mm);
-        setStatusText("hourSliderStatus", tod);
-    }
 }
@@ -28,18 +28,18 @@ package maud.tool.option;
 
 import java.util.logging.Logger;
 import jme3utilities.nifty.GuiScreenController;
-import jme3utilities.nifty.Tool;
 import jme3utilities.wes.TweenRotations;
 import jme3utilities.wes.TweenTransforms;
 import jme3utilities.wes.TweenVectors;
 import maud.Maud;
+import maud.tool.EditorTool;
 
 /**
  * The controller for the "Tweening" tool in Maud's editor screen.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-public class TweeningTool extends Tool {
+public class TweeningTool extends EditorTool {
     // *************************************************************************
     // constants and loggers
 
@@ -61,14 +61,14 @@ public class TweeningTool extends Tool {
         super(screenController, "tweening");
     }
     // *************************************************************************
-    // Tool methods
+    // EditorTool methods
 
     /**
-     * Update this tool prior to rendering. (Invoked once per frame while this
-     * tool is displayed.)
+     * Update this tool's controls from the MVC model. (Invoked while this tool
+     * is displayed, whenever any of its aspects has changed.)
      */
     @Override
-    protected void toolUpdate() {
+    protected void toolRefresh() {
         TweenTransforms techniques = Maud.getModel().getTweenTransforms();
         TweenVectors tweenTranslations = techniques.getTweenTranslations();
         String desc = tweenTranslations.toString();
@@ -37,6 +37,7 @@ import com.jme3.material.RenderState;
 import com.jme3.math.ColorRGBA;
 import com.jme3.math.FastMath;
 import com.jme3.math.Quaternion;
+import com.jme3.math.Transform;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Mesh;
@@ -45,6 +46,9 @@ import com.jme3.scene.Spatial;
 import com.jme3.scene.shape.Line;
 import com.jme3.system.AppSettings;
 import com.jme3.texture.Texture;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Logger;
 import jme3utilities.MyAsset;
 import jme3utilities.mesh.RectangleOutlineMesh;
@@ -62,6 +66,15 @@ public class ScoreResources {
     // *************************************************************************
     // constants and loggers
 
+    /**
+     * color for the lines of tracks that aren't selected (grey)
+     */
+    final static ColorRGBA notSelectedColor
+            = new ColorRGBA(0.5f, 0.5f, 0.5f, 1f);
+    /**
+     * color for the lines of the selected track (black)
+     */
+    final static ColorRGBA selectedColor = new ColorRGBA(0f, 0f, 0f, 1f);
     /**
      * color for the w-axis (white)
      */
@@ -82,6 +95,10 @@ public class ScoreResources {
      * horizontal size of hash mark (in world units)
      */
     final static float hashSize = 0.05f;
+    /**
+     * maximum number of labels to retain in the label cache
+     */
+    final private static int maxCachedLabels = 256;
     /**
      * hash-mark mesh to represent a bone without a track, or any track when the
      * POV is zoomed all the way out
@@ -94,6 +111,10 @@ public class ScoreResources {
      */
     final private static Logger logger
             = Logger.getLogger(ScoreResources.class.getName());
+    /**
+     * vertex-color material for the batched lines and points of staves
+     */
+    final Material batchMaterial;
     /**
      * material for label backgrounds of selected tracks
      */
@@ -123,13 +144,9 @@ public class ScoreResources {
      */
     final Material traMaterial;
     /**
-     * material for finials of non-selected tracks
+     * wireframe material for the gnomon when the pose isn't frozen
      */
     final Material wireNotSelected;
-    /**
-     * material for finials of selected tracks
-     */
-    final Material wireSelected;
     /**
      * material for sparklines of W components of quaternions
      */
@@ -165,6 +182,19 @@ public class ScoreResources {
      * font for labels
      */
     final TrueTypeFont<?, ?> labelFont;
+    /**
+     * recently used labels, in least-recently-used order, so that text needn't
+     * be laid out again when a label is re-created with the same inputs
+     */
+    final private Map<LabelKey, Spatial> labelCache
+            = new LinkedHashMap<LabelKey, Spatial>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<LabelKey, Spatial> eldest) {
+            boolean result = size() > maxCachedLabels;
+            return result;
+        }
+    };
     // *************************************************************************
     // constructors
 
@@ -179,14 +209,13 @@ public class ScoreResources {
                 "Interface/Fonts/ProFontWindows.ttf", Style.Plain, 18);
         labelFont = assetManager.loadAsset(assetKey);
 
-        ColorRGBA black = new ColorRGBA(0f, 0f, 0f, 1f);
-        ColorRGBA grey = new ColorRGBA(0.5f, 0.5f, 0.5f, 1f);
         ColorRGBA yellow = new ColorRGBA(1f, 1f, 0f, 1f);
 
-        bgSelected = MyAsset.createUnshadedMaterial(assetManager, black);
+        bgSelected = MyAsset.createUnshadedMaterial(assetManager,
+                selectedColor);
         gnomonFrozen = MyAsset.createUnshadedMaterial(assetManager, yellow);
-        wireNotSelected = MyAsset.createWireframeMaterial(assetManager, grey);
-        wireSelected = MyAsset.createWireframeMaterial(assetManager, black);
+        wireNotSelected = MyAsset.createWireframeMaterial(assetManager,
+                notSelectedColor);
 
         ColorRGBA frosted = new ColorRGBA(1f, 1f, 1f, 0.25f);
         limitsMaterial = MyAsset.createUnshadedMaterial(assetManager, frosted);
@@ -209,6 +238,11 @@ public class ScoreResources {
                 pointSize);
         zMaterial = MyAsset.createWireframeMaterial(assetManager, zColor,
                 pointSize);
+
+        batchMaterial = new Material(assetManager,
+                "MatDefs/wireframe/multicolor2.j3md");
+        batchMaterial.setBoolean("UseVertexColor", true);
+        batchMaterial.setFloat("PointSize", pointSize);
         /*
          * textured materials for track-component icons
          */
@@ -234,8 +268,33 @@ public class ScoreResources {
     // new methods exposed
 
     /**
-     * Create a node with the text and background for a label, but don't parent
-     * it.
+     * Determine the vertex color that corresponds to the specified axis
+     * material.
+     *
+     * @param material one of the axis materials (not null)
+     * @return the pre-existing color (not null)
+     */
+    ColorRGBA axisColor(Material material) {
+        ColorRGBA result;
+        if (material == wMaterial) {
+            result = wColor;
+        } else if (material == xMaterial) {
+            result = xColor;
+        } else if (material == yMaterial) {
+            result = yColor;
+        } else if (material == zMaterial) {
+            result = zColor;
+        } else {
+            throw new IllegalArgumentException(material.toString());
+        }
+
+        return result;
+    }
+
+    /**
+     * Access a node with the text and background for a label, re-using a
+     * cached label with identical inputs if one is available. Text is laid out
+     * only when no such label is cached.
      *
      * @param labelText text of the label (not null)
      * @param sizeFactor text size relative to preferred size (&gt;0)
@@ -243,8 +302,8 @@ public class ScoreResources {
      * @param bgMaterial material for the background, or null for no background
      * @param width size in the local X direction (in local units, &gt;0)
      * @param height size in the local Y direction (in local units, &gt;0)
-     * @return a new orphan spatial with its local origin at its upper left
-     * corner
+     * @return an orphan spatial with its local origin at its upper left corner
+     * and an identity local transform
      */
     Spatial makeLabel(String labelText,
             float sizeFactor, ColorRGBA textColor, Material bgMaterial,
@@ -255,6 +314,43 @@ public class ScoreResources {
         assert width > 0f : width;
         assert height > 0f : height;
 
+        LabelKey key = new LabelKey(labelText, sizeFactor, textColor,
+                bgMaterial, width, height);
+        Spatial result = labelCache.get(key);
+        if (result == null || result.getParent() != null) {
+            /*
+             * Nothing cached, or the cached label is in use elsewhere.
+             */
+            result = createLabel(labelText, sizeFactor, textColor, bgMaterial,
+                    width, height);
+            if (!labelCache.containsKey(key)) {
+                labelCache.put(key, result);
+            }
+        } else {
+            result.setLocalTransform(Transform.IDENTITY);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Create a node with the text and background for a label, but don't parent
+     * it.
+     *
+     * @param labelText text of the label (not null)
+     * @param sizeFactor text size relative to preferred size (&gt;0)
+     * @param textColor color for the text (not null, unaffected)
+     * @param bgMaterial material for the background, or null for no background
+     * @param width size in the local X direction (in local units, &gt;0)
+     * @param height size in the local Y direction (in local units, &gt;0)
+     * @return a new orphan spatial with its local origin at its upper left
+     * corner
+     */
+    private Spatial createLabel(String labelText,
+            float sizeFactor, ColorRGBA textColor, Material bgMaterial,
+            float width, float height) {
         Node node = new Node();
         if (bgMaterial != null) {
             /*
@@ -284,4 +380,97 @@ public class ScoreResources {
 
         return node;
     }
+    // *************************************************************************
+    // LabelKey
+
+    /**
+     * The inputs that determine the appearance of a label, used to key the
+     * label cache.
+     */
+    private static class LabelKey {
+        /**
+         * text color (not null)
+         */
+        final ColorRGBA textColor;
+        /**
+         * text size relative to preferred size
+         */
+        final float sizeFactor;
+        /**
+         * size in the local X direction
+         */
+        final float width;
+        /**
+         * size in the local Y direction
+         */
+        final float height;
+        /**
+         * background material, or null for no background
+         */
+        final Material bgMaterial;
+        /**
+         * text of the label (not null)
+         */
+        final String labelText;
+
+        /**
+         * Instantiate a key.
+         *
+         * @param labelText text of the label (not null)
+         * @param sizeFactor text size relative to preferred size
+         * @param textColor color for the text (not null, unaffected)
+         * @param bgMaterial material for the background, or null
+         * @param width size in the local X direction
+         * @param height size in the local Y direction
+         */
+        LabelKey(String labelText, float sizeFactor, ColorRGBA textColor,
+                Material bgMaterial, float width, float height) {
+            this.labelText = labelText;
+            this.sizeFactor = sizeFactor;
+            this.textColor = textColor.clone();
+            this.bgMaterial = bgMaterial;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Test for equivalence with another object.
+         *
+         * @param otherObject the object to compare (may be null, unaffected)
+         * @return true if the objects are equivalent, otherwise false
+         */
+        @Override
+        public boolean equals(Object otherObject) {
+            boolean result;
+            if (otherObject == this) {
+                result = true;
+            } else if (otherObject instanceof LabelKey) {
+                LabelKey other = (LabelKey) otherObject;
+                result = other.labelText.equals(labelText)
+                        && Float.compare(other.sizeFactor, sizeFactor) == 0
+                        && other.textColor.equals(textColor)
+                        && other.bgMaterial == bgMaterial
+                        && Float.compare(other.width, width) == 0
+                        && Float.compare(other.height, height) == 0;
+            } else {
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generate the hash code for this key.
+         *
+         * @return the value to use for hashing
+         */
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(labelText, sizeFactor, textColor, width,
+                    height);
+            result = 37 * result + System.identityHashCode(bgMaterial);
+
+            return result;
+        }
+    }
 }
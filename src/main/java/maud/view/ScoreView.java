@@ -44,6 +44,7 @@ import com.jme3.scene.shape.Line;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -56,6 +57,7 @@ import jme3utilities.mesh.RectangleMesh;
 import jme3utilities.wes.Pose;
 import maud.Maud;
 import maud.mesh.Finial;
+import maud.mesh.LineBatch;
 import maud.mesh.Sparkline;
 import maud.mesh.YSwarm;
 import maud.model.EditorModel;
@@ -82,6 +84,12 @@ public class ScoreView implements EditorView {
      * height of a spark line (in world units)
      */
     final private static float sparklineHeight = 0.08f;
+    /**
+     * extra height above and below the frustum within which staves are
+     * visualized, as a fraction of its half height, so that staves scrolled
+     * just out of view needn't be rebuilt
+     */
+    final private static float visibilityMargin = 0.1f;
     /**
      * horizontal gap between visuals and left/right edges of the viewport (in
      * world units)
@@ -119,6 +127,11 @@ public class ScoreView implements EditorView {
     // *************************************************************************
     // fields
 
+    /**
+     * true if a retained staff has been removed since the batches were last
+     * written
+     */
+    private boolean isBatchStale = false;
     /**
      * true when the selected track is being visualized, otherwise false
      */
@@ -135,6 +148,10 @@ public class ScoreView implements EditorView {
      * end-cap mesh for a bone track without scales
      */
     private static Finial finialNoScales;
+    /**
+     * end-cap meshes, indexed by the bitmask of transform channels shown
+     */
+    final private Finial[] finials = new Finial[8];
     /**
      * height of this score (in world units, &ge;0)
      */
@@ -163,6 +180,28 @@ public class ScoreView implements EditorView {
      * index of the staff currently being visualized, used to name geometries
      */
     private int staffIndex = 0;
+    /**
+     * count of updates, used to detect stale staves and plots
+     */
+    private int updateCount = 0;
+    /**
+     * geometry to render the batched lines of all staves, or null if not yet
+     * created
+     */
+    private Geometry lineGeometry = null;
+    /**
+     * geometry to render the batched points of all staves, or null if not yet
+     * created
+     */
+    private Geometry pointGeometry = null;
+    /**
+     * batched line primitives of all staves
+     */
+    final private LineBatch lineBatch = new LineBatch(Mesh.Mode.Lines, 4096);
+    /**
+     * batched point primitives of all staves
+     */
+    final private LineBatch pointBatch = new LineBatch(Mesh.Mode.Points, 4096);
     /**
      * world X-coordinates of each keyframe in the selected bone track
      */
@@ -171,6 +210,19 @@ public class ScoreView implements EditorView {
      * min/max world Y-coordinates of each track in the CG model
      */
     final private Map<String, Vector2f> trackYs = new HashMap<>(120);
+    /**
+     * retained staves, keyed by bone index or (-1 - spatial track index)
+     */
+    final private Map<Integer, Staff> staves = new HashMap<>(120);
+    /**
+     * subtree for the gnomon, limits, and other visuals that are rebuilt on
+     * every update
+     */
+    final private Node overlay = new Node("overlay");
+    /**
+     * scene root of the view port in use, or null if not yet updated
+     */
+    private Node root = null;
     /**
      * visualization subtree: attach geometries here
      */
@@ -179,6 +231,10 @@ public class ScoreView implements EditorView {
      * reusable resources for visualization
      */
     private ScoreResources r = null;
+    /**
+     * staff currently being visualized, or null if none
+     */
+    private Staff staff = null;
     /**
      * view port used when the screen isn't split, or null for none
      */
@@ -542,6 +598,7 @@ public class ScoreView implements EditorView {
         if (r == null) {
             r = new ScoreResources();
         }
+        ++updateCount;
         trackYs.clear();
         frameXs.clear();
         poseMesh.clear();
@@ -568,10 +625,8 @@ public class ScoreView implements EditorView {
             boolean translations = options.showsTranslations();
             boolean rotations = options.showsRotations();
             boolean scales = options.showsScales();
-            finialComplete = new Finial(translations, rotations, scales,
-                    sparklineHeight);
-            finialNoScales = new Finial(translations, rotations, false,
-                    sparklineHeight);
+            finialComplete = finial(translations, rotations, scales);
+            finialNoScales = finial(translations, rotations, false);
 
             cgm.getScorePov().updatePartial();
             /*
@@ -597,13 +652,37 @@ public class ScoreView implements EditorView {
             int numRoots = roots.size();
             assert numRoots == 1 : numRoots;
             Spatial visualsSpatial = roots.get(0);
-            visuals = (Node) visualsSpatial;
-            visuals.detachAllChildren();
+            if (visualsSpatial != root) {
+                /*
+                 * The view port changed: discard all retained visuals.
+                 */
+                for (Staff oldStaff : staves.values()) {
+                    oldStaff.getNode().removeFromParent();
+                }
+                staves.clear();
+                root = (Node) visualsSpatial;
+                root.detachAllChildren();
+                root.attachChild(overlay);
+
+                if (lineGeometry == null) {
+                    lineGeometry = new Geometry("line batch", lineBatch);
+                    lineGeometry.setMaterial(r.batchMaterial);
+                    pointGeometry = new Geometry("point batch", pointBatch);
+                    pointGeometry.setMaterial(r.batchMaterial);
+                }
+                root.attachChild(lineGeometry);
+                root.attachChild(pointGeometry);
+                rebatch();
+            }
+            overlay.detachAllChildren();
+            visuals = overlay;
             height = 0f;
             staffIndex = 0;
 
             attachBones();
             attachSpatialTracks();
+            removeStaleStaves();
+            updateBatches();
             attachGnomon();
             attachLimits();
 
@@ -761,11 +840,7 @@ public class ScoreView implements EditorView {
             if (boneIndex == targetBoneIndex) {
                 isSelectedTrack = true;
             }
-            if (finial == null) {
-                attachTracklessStaff();
-            } else {
-                attachTrackedStaff(finial);
-            }
+            attachStaff(boneIndex, finial);
             ++staffIndex;
         }
         height = newHeight;
@@ -795,16 +870,12 @@ public class ScoreView implements EditorView {
     private void attachFinials(Finial finial) {
         assert finial != null;
 
-        Material wireMaterial
-                = isSelectedTrack ? r.wireSelected : r.wireNotSelected;
+        ColorRGBA wireColor = wireColor();
         /*
-         * Attach the left-hand finial.
+         * Add the left-hand finial.
          */
-        String name = String.format("left finial%d", staffIndex);
-        Geometry geometry = new Geometry(name, finial);
-        visuals.attachChild(geometry);
-        geometry.setLocalTranslation(xLeftMargin, -height, zLines);
-        geometry.setMaterial(wireMaterial);
+        staff.addOutline(finial, xLeftMargin, -height, zLines, 1f, 1f,
+                wireColor);
         /*
          * Attach a track label to the left of the left-hand finial.
          */
@@ -818,14 +889,10 @@ public class ScoreView implements EditorView {
         float minWidth = ScoreResources.hashSize / compression;
         attachLabel(rightX, middleY, minWidth, maxWidth, staffHeight);
         /*
-         * Attach the right-hand finial.
+         * Add the right-hand finial.
          */
-        name = String.format("right finial%d", staffIndex);
-        geometry = new Geometry(name, finial);
-        visuals.attachChild(geometry);
-        geometry.setLocalTranslation(xRightMargin, -height, zLines);
-        geometry.setLocalScale(-1f, 1f, 1f);
-        geometry.setMaterial(wireMaterial);
+        staff.addOutline(finial, xRightMargin, -height, zLines, -1f, 1f,
+                wireColor);
         /*
          * Attach transform icons to the right of the right-hand finial.
          */
@@ -901,27 +968,18 @@ public class ScoreView implements EditorView {
     }
 
     /**
-     * Attach a pair of hash marks to indicate a track or bone.
+     * Add a pair of hash marks to indicate a track or bone.
      *
      * @param staffHeight (&ge;0)
      */
     private void attachHashes(float staffHeight) {
         float y = -height - staffHeight / 2;
-        Material material
-                = isSelectedTrack ? r.wireSelected : r.wireNotSelected;
+        ColorRGBA wireColor = wireColor();
 
-        String name = String.format("left hash%d", staffIndex);
-        Geometry geometry = new Geometry(name, ScoreResources.hashMark);
-        geometry.setLocalTranslation(xLeftMargin, y, zLines);
-        geometry.setMaterial(material);
-        visuals.attachChild(geometry);
-
-        name = String.format("right hash%d", staffIndex);
-        geometry = new Geometry(name, ScoreResources.hashMark);
-        geometry.setLocalTranslation(xRightMargin, y, zLines);
-        geometry.setLocalScale(-1f, 1f, 1f); // grows to the right
-        geometry.setMaterial(material);
-        visuals.attachChild(geometry);
+        staff.addOutline(ScoreResources.hashMark, xLeftMargin, y, zLines, 1f,
+                1f, wireColor);
+        staff.addOutline(ScoreResources.hashMark, xRightMargin, y, zLines,
+                -1f, 1f, wireColor); // grows to the right
     }
 
     /**
@@ -1090,17 +1148,12 @@ public class ScoreView implements EditorView {
     private void attachRectangles(float staffHeight) {
         assert staffHeight >= 0f : staffHeight;
 
-        Material wireMaterial
-                = isSelectedTrack ? r.wireSelected : r.wireNotSelected;
+        ColorRGBA wireColor = wireColor();
         /*
-         * Attach the left-hand rectangle: a narrow outline.
+         * Add the left-hand rectangle: a narrow outline.
          */
-        String rectName = String.format("left rect%d", staffIndex);
-        Geometry geometry = new Geometry(rectName, ScoreResources.outlineMesh);
-        visuals.attachChild(geometry);
-        geometry.setLocalScale(-0.2f, staffHeight, 1f);
-        geometry.setLocalTranslation(xLeftMargin, -height, zLines);
-        geometry.setMaterial(wireMaterial);
+        staff.addOutline(ScoreResources.outlineMesh, xLeftMargin, -height,
+                zLines, -0.2f, staffHeight, wireColor);
         /*
          * Attach a track label overlapping the left-hand rectangle.
          */
@@ -1112,26 +1165,22 @@ public class ScoreView implements EditorView {
         float minWidth = ScoreResources.hashSize / compression;
         attachLabel(rightX, middleY, minWidth, maxWidth, staffHeight);
         /*
-         * Attach the right-hand rectangle: an outline.
+         * Add the right-hand rectangle: an outline.
          */
-        rectName = String.format("right rect%d", staffIndex);
-        geometry = new Geometry(rectName, ScoreResources.outlineMesh);
-        visuals.attachChild(geometry);
-        geometry.setLocalScale(1f, staffHeight, 1f);
-        geometry.setLocalTranslation(xRightMargin, -height, zLines);
-        geometry.setMaterial(wireMaterial);
+        staff.addOutline(ScoreResources.outlineMesh, xRightMargin, -height,
+                zLines, 1f, staffHeight, wireColor);
     }
 
     /**
-     * Attach a single sparkline to the visualization.
+     * Add a single sparkline to the current staff.
      *
      * @param numVertices number of values to use (&ge;0)
      * @param xx array of X-values for the sparkline (not null, unaffected)
      * @param yy array of Y-values for the sparkline (not null, unaffected)
      * @param mode mesh mode for the sparkline (Mode.LineStrip, or Mode.Points)
-     * @param suffix suffix for the geometry name (not null)
+     * @param suffix suffix that identifies the plot (not null)
      * @param yIndex position in the staff (&ge;0, &lt;10, 0&rarr; top position)
-     * @param material material for the geometry (not null)
+     * @param material axis material that determines the color (not null)
      */
     private void attachSparkline(int numVertices, float[] xx, float[] yy,
             Mesh.Mode mode, String suffix, int yIndex, Material material) {
@@ -1143,16 +1192,19 @@ public class ScoreView implements EditorView {
         assert yIndex < 10 : yIndex;
         assert material != null;
 
-        Sparkline sparkline = new Sparkline(numVertices, xx, yy,
-                sparklineHeight, mode);
-        String name = String.format("%d%s", staffIndex, suffix);
-        Geometry geometry = new Geometry(name, sparkline);
-        visuals.attachChild(geometry);
+        boolean found
+                = staff.findPlot(suffix, numVertices, xx, yy, updateCount);
+        if (!found) {
+            Sparkline sparkline = new Sparkline(numVertices, xx, yy,
+                    sparklineHeight, mode);
+            ColorRGBA color = r.axisColor(material);
+            staff.addPlot(suffix, sparkline, color, numVertices, xx, yy,
+                    updateCount);
+        }
 
         float yOffset = sparklineHeight + yIndex * (float) Finial.hpf;
         float y = -height - yOffset;
-        geometry.setLocalTranslation(xLeftMargin, y, zLines);
-        geometry.setMaterial(material);
+        staff.placePlot(suffix, xLeftMargin, y, zLines);
     }
 
     /**
@@ -1215,8 +1267,7 @@ public class ScoreView implements EditorView {
         boolean scales = hasScales && options.showsScales();
 
         float staffHeight;
-        Finial finial = new Finial(translations, rotations, scales,
-                sparklineHeight);
+        Finial finial = finial(translations, rotations, scales);
         staffHeight = finial.getHeight();
         if (staffHeight == 0f) {
             finial = null;
@@ -1240,11 +1291,7 @@ public class ScoreView implements EditorView {
             if (trackDesc.equals(desc)) {
                 isSelectedTrack = true;
             }
-            if (finial == null) {
-                attachTracklessStaff();
-            } else {
-                attachTrackedStaff(finial);
-            }
+            attachStaff(-1 - spatialTrackIndex, finial);
             ++staffIndex;
         }
         height = newHeight;
@@ -1265,7 +1312,59 @@ public class ScoreView implements EditorView {
     }
 
     /**
-     * Attach a staff to visualize a bone/spatial track.
+     * Attach the retained staff for the current bone/spatial track. Its frame
+     * is rebuilt only if the inputs to the frame have changed, and its plots
+     * only if their data have changed.
+     *
+     * @param key key for the retained staff
+     * @param finial the finial mesh, or null for a staff without finials
+     */
+    private void attachStaff(int key, Finial finial) {
+        staff = staves.get(key);
+        if (staff == null) {
+            String name = String.format("staff%d", key);
+            staff = new Staff(name);
+            staves.put(key, staff);
+            root.attachChild(staff.getNode());
+        }
+        staff.markUsed(updateCount);
+
+        ScoreOptions options = Maud.getModel().getScore();
+        boolean translations
+                = StaffTrack.hasTranslations() && options.showsTranslations();
+        boolean rotations
+                = StaffTrack.hasRotations() && options.showsRotations();
+        boolean scales = StaffTrack.hasScales() && options.showsScales();
+        int channels = channels(translations, rotations, scales);
+
+        String labelText = StaffTrack.labelText();
+        int zoomBand = zoomBand();
+        float compression = cgm.getScorePov().compression();
+        float leftX = cgm.getScorePov().leftX();
+        float rightX = cgm.getScorePov().rightX();
+        boolean rebuild = staff.setLayout(finial, channels, isSelectedTrack,
+                labelText, zoomBand, height, compression, leftX, rightX);
+
+        visuals = staff.getFrame();
+        if (rebuild) {
+            staff.clearFrame();
+            if (finial == null) {
+                attachTracklessStaff();
+            } else {
+                attachTrackedStaff(finial);
+            }
+        }
+        if (finial != null) {
+            attachSparklines();
+        }
+        staff.removeStalePlots(updateCount);
+
+        visuals = overlay;
+        staff = null;
+    }
+
+    /**
+     * Attach finials, outlines, or hash marks to indicate a bone/spatial track.
      *
      * @param finial (not null)
      */
@@ -1284,8 +1383,6 @@ public class ScoreView implements EditorView {
         } else {
             attachFinials(finial);
         }
-
-        attachSparklines();
     }
 
     /**
@@ -1336,6 +1433,52 @@ public class ScoreView implements EditorView {
         geometry.setQueueBucket(RenderQueue.Bucket.Transparent);
     }
 
+    /**
+     * Encode a combination of transform channels as a bitmask.
+     *
+     * @param translations true to include translations
+     * @param rotations true to include rotations
+     * @param scales true to include scales
+     * @return the bitmask (&ge;0, &lt;8)
+     */
+    private static int channels(boolean translations, boolean rotations,
+            boolean scales) {
+        int result = 0;
+        if (translations) {
+            result |= 0x1;
+        }
+        if (rotations) {
+            result |= 0x2;
+        }
+        if (scales) {
+            result |= 0x4;
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the end-cap mesh for the specified transform channels, creating
+     * it if necessary.
+     *
+     * @param translations true to include translations
+     * @param rotations true to include rotations
+     * @param scales true to include scales
+     * @return a pre-existing or new instance (not null)
+     */
+    private Finial finial(boolean translations, boolean rotations,
+            boolean scales) {
+        int index = channels(translations, rotations, scales);
+        Finial result = finials[index];
+        if (result == null) {
+            result = new Finial(translations, rotations, scales,
+                    sparklineHeight);
+            finials[index] = result;
+        }
+
+        return result;
+    }
+
     /**
      * Calculate the location of the gnomon (time indicator).
      *
@@ -1357,7 +1500,9 @@ public class ScoreView implements EditorView {
     }
 
     /**
-     * Test visibility of a range of Y values.
+     * Test visibility of a range of Y values, allowing a small margin above
+     * and below the frustum. Staves that fail this test are represented only
+     * by their heights.
      *
      * @param minY bottom of range (world Y coordinate)
      * @param maxY top of range (world Y coordinate)
@@ -1367,8 +1512,9 @@ public class ScoreView implements EditorView {
         float cameraY = cgm.getScorePov().getCameraY();
         float halfHeight = cgm.getScorePov().getHalfHeight();
         assert halfHeight > 0f : halfHeight;
-        float bottomY = cameraY - halfHeight;
-        float topY = cameraY + halfHeight;
+        float extent = (1f + visibilityMargin) * halfHeight;
+        float bottomY = cameraY - extent;
+        float topY = cameraY + extent;
         if (maxY >= bottomY && minY <= topY) {
             return true;
         } else {
@@ -1376,6 +1522,45 @@ public class ScoreView implements EditorView {
         }
     }
 
+    /**
+     * Rewrite the line and point batches from the primitives of all retained
+     * staves.
+     */
+    private void rebatch() {
+        lineBatch.clear();
+        pointBatch.clear();
+        for (Staff retained : staves.values()) {
+            retained.appendTo(lineBatch, pointBatch);
+        }
+        lineBatch.flip();
+        pointBatch.flip();
+        /*
+         * Don't render an empty batch.
+         */
+        Spatial.CullHint hint = lineBatch.isEmpty()
+                ? Spatial.CullHint.Always : Spatial.CullHint.Inherit;
+        lineGeometry.setCullHint(hint);
+        hint = pointBatch.isEmpty()
+                ? Spatial.CullHint.Always : Spatial.CullHint.Inherit;
+        pointGeometry.setCullHint(hint);
+    }
+
+    /**
+     * Detach and forget any retained staves that weren't visualized during the
+     * current update.
+     */
+    private void removeStaleStaves() {
+        Iterator<Staff> iterator = staves.values().iterator();
+        while (iterator.hasNext()) {
+            Staff oldStaff = iterator.next();
+            if (oldStaff.isStale(updateCount)) {
+                oldStaff.getNode().removeFromParent();
+                iterator.remove();
+                isBatchStale = true;
+            }
+        }
+    }
+
     /**
      * Convert a sparkline ordinate value to a world Y coordinate.
      *
@@ -1390,4 +1575,59 @@ public class ScoreView implements EditorView {
 
         return result;
     }
+
+    /**
+     * Rewrite the line and point batches if any retained staff has been
+     * added, removed, or modified since they were last written.
+     */
+    private void updateBatches() {
+        for (Staff retained : staves.values()) {
+            if (retained.isModified()) {
+                isBatchStale = true;
+                break;
+            }
+        }
+        if (isBatchStale) {
+            rebatch();
+            isBatchStale = false;
+        }
+    }
+
+    /**
+     * Determine the color for the lines of the current staff.
+     *
+     * @return a pre-existing color (not null)
+     */
+    private ColorRGBA wireColor() {
+        ColorRGBA result;
+        if (isSelectedTrack) {
+            result = ScoreResources.selectedColor;
+        } else {
+            result = ScoreResources.notSelectedColor;
+        }
+
+        return result;
+    }
+
+    /**
+     * Determine the level of detail for staff frames, based on the zoom.
+     *
+     * @return 0 if the half height &lt; 4, 1 if it equals 4, 2 if it's &le;
+     * 25, otherwise 3
+     */
+    private int zoomBand() {
+        float zoom = cgm.getScorePov().getHalfHeight();
+        int result;
+        if (zoom < 4f) {
+            result = 0;
+        } else if (zoom == 4f) {
+            result = 1;
+        } else if (zoom <= 25f) {
+            result = 2;
+        } else {
+            result = 3;
+        }
+
+        return result;
+    }
 }
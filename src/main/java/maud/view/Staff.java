@@ -0,0 +1,489 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.view;
+
+import com.jme3.math.ColorRGBA;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import maud.mesh.Finial;
+import maud.mesh.LineBatch;
+import maud.mesh.Sparkline;
+
+/**
+ * Retained visuals for a single staff in a score view, kept between frames so
+ * that they need be rebuilt only when their inputs change.
+ * <p>
+ * Labels and icons are attached to the staff's subtree. Line and point
+ * primitives (finials, outlines, hash marks, and sparklines) aren't rendered
+ * directly: they are copied into the view's shared batches.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+class Staff {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Staff.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the frame visualizes the selected track
+     */
+    private boolean isSelected;
+    /**
+     * true if the primitives have changed since they were last batched
+     */
+    private boolean isModified = true;
+    /**
+     * finial mesh used by the frame, or null for none
+     */
+    private Finial finial;
+    /**
+     * Y-axis magnification used by the frame
+     */
+    private float compression;
+    /**
+     * height of the score above the staff (in world units)
+     */
+    private float height;
+    /**
+     * world X-coordinate of the left edge of the frustum
+     */
+    private float leftX;
+    /**
+     * world X-coordinate of the right edge of the frustum
+     */
+    private float rightX;
+    /**
+     * bitmask of the transform channels shown
+     */
+    private int channels;
+    /**
+     * update count when this staff was last visualized
+     */
+    private int lastUpdate;
+    /**
+     * level of detail used by the frame
+     */
+    private int zoomBand;
+    /**
+     * line primitives of the frame
+     */
+    final private List<Outline> outlines = new ArrayList<>(4);
+    /**
+     * retained plots, keyed by geometry-name suffix
+     */
+    final private Map<String, Plot> plots = new HashMap<>(20);
+    /**
+     * subtree for labels, icons, and other non-data visuals
+     */
+    final private Node frame = new Node("frame");
+    /**
+     * root of the staff's subtree
+     */
+    final private Node node;
+    /**
+     * label text used by the frame, or null if the frame hasn't been built
+     */
+    private String labelText = null;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty staff.
+     *
+     * @param name name for the root node (may be null)
+     */
+    Staff(String name) {
+        node = new Node(name);
+        node.attachChild(frame);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a line primitive to the frame.
+     *
+     * @param mesh the line-mode mesh (not null, alias created)
+     * @param x world X-coordinate of the mesh origin
+     * @param y world Y-coordinate of the mesh origin
+     * @param z world Z-coordinate of the mesh origin
+     * @param xScale X scale factor for the mesh
+     * @param yScale Y scale factor for the mesh
+     * @param color the color (not null, alias created)
+     */
+    void addOutline(Mesh mesh, float x, float y, float z, float xScale,
+            float yScale, ColorRGBA color) {
+        assert mesh != null;
+        assert color != null;
+
+        Outline outline = new Outline();
+        outline.mesh = mesh;
+        outline.x = x;
+        outline.y = y;
+        outline.z = z;
+        outline.xScale = xScale;
+        outline.yScale = yScale;
+        outline.color = color;
+        outlines.add(outline);
+        isModified = true;
+    }
+
+    /**
+     * Add a plot to this staff, replacing any previous plot with the same
+     * suffix.
+     *
+     * @param suffix suffix that identifies the plot (not null)
+     * @param sparkline the plot mesh (not null, alias created)
+     * @param color the color (not null, alias created)
+     * @param numVertices number of values used (&ge;0)
+     * @param xx array of X-values (not null, unaffected)
+     * @param yy array of Y-values (not null, unaffected)
+     * @param updateCount the current update count
+     */
+    void addPlot(String suffix, Sparkline sparkline, ColorRGBA color,
+            int numVertices, float[] xx, float[] yy, int updateCount) {
+        Plot plot = new Plot(sparkline, color, numVertices, xx, yy);
+        plot.lastUpdate = updateCount;
+        plots.put(suffix, plot);
+        isModified = true;
+    }
+
+    /**
+     * Copy the primitives of this staff to the specified batches and mark
+     * them as batched.
+     *
+     * @param lines the batch for line primitives (not null, modified)
+     * @param points the batch for point primitives (not null, modified)
+     */
+    void appendTo(LineBatch lines, LineBatch points) {
+        for (Outline outline : outlines) {
+            lines.add(outline.mesh, outline.x, outline.y, outline.z,
+                    outline.xScale, outline.yScale, outline.color);
+        }
+        for (Plot plot : plots.values()) {
+            LineBatch batch;
+            if (plot.sparkline.getMode() == Mesh.Mode.Points) {
+                batch = points;
+            } else {
+                batch = lines;
+            }
+            batch.add(plot.sparkline, plot.x, plot.y, plot.z, 1f, 1f,
+                    plot.color);
+        }
+
+        isModified = false;
+    }
+
+    /**
+     * Discard the visuals of the frame, in preparation for rebuilding it.
+     */
+    void clearFrame() {
+        frame.detachAllChildren();
+        if (!outlines.isEmpty()) {
+            outlines.clear();
+            isModified = true;
+        }
+    }
+
+    /**
+     * Find the retained plot with the specified suffix and data, and mark it
+     * as current.
+     *
+     * @param suffix suffix that identifies the plot (not null)
+     * @param numVertices number of values to use (&ge;0)
+     * @param xx array of X-values (not null, unaffected)
+     * @param yy array of Y-values (not null, unaffected)
+     * @param updateCount the current update count
+     * @return true if a matching plot was found, otherwise false
+     */
+    boolean findPlot(String suffix, int numVertices, float[] xx, float[] yy,
+            int updateCount) {
+        boolean result = false;
+        Plot plot = plots.get(suffix);
+        if (plot != null && plot.matches(numVertices, xx, yy)) {
+            plot.lastUpdate = updateCount;
+            result = true;
+        }
+
+        return result;
+    }
+
+    /**
+     * Access the subtree for non-data visuals.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    Node getFrame() {
+        return frame;
+    }
+
+    /**
+     * Access the root of the staff's subtree.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    Node getNode() {
+        return node;
+    }
+
+    /**
+     * Test whether any primitives have changed since they were last batched.
+     *
+     * @return true if changed, otherwise false
+     */
+    boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Test whether this staff was skipped by the specified update.
+     *
+     * @param updateCount the current update count
+     * @return true if stale, otherwise false
+     */
+    boolean isStale(int updateCount) {
+        boolean result = (lastUpdate != updateCount);
+        return result;
+    }
+
+    /**
+     * Mark this staff as visualized by the specified update.
+     *
+     * @param updateCount the current update count
+     */
+    void markUsed(int updateCount) {
+        lastUpdate = updateCount;
+    }
+
+    /**
+     * Alter the location of the plot with the specified suffix.
+     *
+     * @param suffix suffix that identifies the plot (not null)
+     * @param x world X-coordinate of the plot origin
+     * @param y world Y-coordinate of the plot origin
+     * @param z world Z-coordinate of the plot origin
+     */
+    void placePlot(String suffix, float x, float y, float z) {
+        Plot plot = plots.get(suffix);
+        if (plot.x != x || plot.y != y || plot.z != z) {
+            plot.x = x;
+            plot.y = y;
+            plot.z = z;
+            isModified = true;
+        }
+    }
+
+    /**
+     * Forget any plots that weren't used by the specified update.
+     *
+     * @param updateCount the current update count
+     */
+    void removeStalePlots(int updateCount) {
+        Iterator<Plot> iterator = plots.values().iterator();
+        while (iterator.hasNext()) {
+            Plot plot = iterator.next();
+            if (plot.lastUpdate != updateCount) {
+                iterator.remove();
+                isModified = true;
+            }
+        }
+    }
+
+    /**
+     * Alter the inputs of the frame.
+     *
+     * @param newFinial finial mesh, or null for none
+     * @param newChannels bitmask of the transform channels shown
+     * @param newSelected true if the staff's track is selected
+     * @param newLabel label text (not null)
+     * @param newZoomBand level of detail
+     * @param newHeight height of the score above the staff (in world units)
+     * @param newCompression Y-axis magnification
+     * @param newLeftX world X-coordinate of the left edge of the frustum
+     * @param newRightX world X-coordinate of the right edge of the frustum
+     * @return true if any input changed (the frame must be rebuilt),
+     * otherwise false
+     */
+    boolean setLayout(Finial newFinial, int newChannels, boolean newSelected,
+            String newLabel, int newZoomBand, float newHeight,
+            float newCompression, float newLeftX, float newRightX) {
+        assert newLabel != null;
+
+        if (newFinial == finial && newChannels == channels
+                && newSelected == isSelected && newLabel.equals(labelText)
+                && newZoomBand == zoomBand && newHeight == height
+                && newCompression == compression && newLeftX == leftX
+                && newRightX == rightX) {
+            return false;
+        }
+
+        finial = newFinial;
+        channels = newChannels;
+        isSelected = newSelected;
+        labelText = newLabel;
+        zoomBand = newZoomBand;
+        height = newHeight;
+        compression = newCompression;
+        leftX = newLeftX;
+        rightX = newRightX;
+
+        return true;
+    }
+    // *************************************************************************
+    // Outline
+
+    /**
+     * A line primitive of the frame, with its placement and color.
+     */
+    private static class Outline {
+        /**
+         * the color
+         */
+        ColorRGBA color;
+        /**
+         * X scale factor
+         */
+        float xScale;
+        /**
+         * Y scale factor
+         */
+        float yScale;
+        /**
+         * world X-coordinate of the mesh origin
+         */
+        float x;
+        /**
+         * world Y-coordinate of the mesh origin
+         */
+        float y;
+        /**
+         * world Z-coordinate of the mesh origin
+         */
+        float z;
+        /**
+         * the line-mode mesh
+         */
+        Mesh mesh;
+    }
+    // *************************************************************************
+    // Plot
+
+    /**
+     * A retained sparkline mesh and a copy of the data it visualizes.
+     */
+    private static class Plot {
+        /**
+         * the color
+         */
+        final ColorRGBA color;
+        /**
+         * world X-coordinate of the plot origin
+         */
+        float x;
+        /**
+         * world Y-coordinate of the plot origin
+         */
+        float y;
+        /**
+         * world Z-coordinate of the plot origin
+         */
+        float z;
+        /**
+         * number of values used
+         */
+        final int numVertices;
+        /**
+         * update count when this plot was last used
+         */
+        int lastUpdate;
+        /**
+         * the mesh
+         */
+        final Sparkline sparkline;
+        /**
+         * copy of the X-values
+         */
+        final float[] xx;
+        /**
+         * copy of the Y-values
+         */
+        final float[] yy;
+
+        /**
+         * Instantiate a plot.
+         *
+         * @param sparkline the mesh (not null, alias created)
+         * @param color the color (not null, alias created)
+         * @param numVertices number of values used (&ge;0)
+         * @param xx array of X-values (not null, unaffected)
+         * @param yy array of Y-values (not null, unaffected)
+         */
+        Plot(Sparkline sparkline, ColorRGBA color, int numVertices,
+                float[] xx, float[] yy) {
+            this.sparkline = sparkline;
+            this.color = color;
+            this.numVertices = numVertices;
+            this.xx = new float[numVertices];
+            System.arraycopy(xx, 0, this.xx, 0, numVertices);
+            this.yy = new float[numVertices];
+            System.arraycopy(yy, 0, this.yy, 0, numVertices);
+        }
+
+        /**
+         * Test whether this plot visualizes the specified data.
+         *
+         * @param n number of values to use (&ge;0)
+         * @param xs array of X-values (not null, unaffected)
+         * @param ys array of Y-values (not null, unaffected)
+         * @return true if identical, otherwise false
+         */
+        boolean matches(int n, float[] xs, float[] ys) {
+            if (n != numVertices) {
+                return false;
+            }
+            for (int i = 0; i < n; ++i) {
+                if (xs[i] != xx[i] || ys[i] != yy[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
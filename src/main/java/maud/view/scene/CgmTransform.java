@@ -33,6 +33,8 @@ import com.jme3.math.Vector3f;
 import java.util.logging.Logger;
 import jme3utilities.Validate;
 import jme3utilities.math.MyMath;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 
 /**
  * The world transform applied to a loaded C-G model in its scene view.
@@ -137,6 +139,8 @@ public class CgmTransform implements Cloneable {
      */
     public void setScale(float newScale) {
         Validate.positive(newScale, "new scale");
+
+        ModelVersion.bump(ModelAspect.View);
         scale = newScale;
     }
 
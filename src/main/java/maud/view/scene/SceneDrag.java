@@ -306,7 +306,7 @@ final public class SceneDrag {
              */
             newUserRotation = oldUserRotation.mult(rotation);
             MyQuaternion.normalizeLocal(newUserRotation);
-            pose.setRotation(boneIndex, newUserRotation);
+            cgm.getPose().setRotation(boneIndex, newUserRotation);
 
         } else if (cgm == target
                 && cgm.getAnimation().isRetargetedPose()
@@ -315,7 +315,7 @@ final public class SceneDrag {
              * Apply the rotation to the target bone in the displayed pose.
              */
             newUserRotation = oldUserRotation.mult(rotation);
-            pose.setRotation(boneIndex, newUserRotation);
+            cgm.getPose().setRotation(boneIndex, newUserRotation);
         }
 
         if (newUserRotation != null && !bone.shouldEnableControls()) {
@@ -459,7 +459,7 @@ final public class SceneDrag {
                     int boneIndex = cgm.getBone().index();
                     Vector3f userScale = pose.userScale(boneIndex, null);
                     userScale.multLocal(factor);
-                    pose.setScale(boneIndex, userScale);
+                    cgm.getPose().setScale(boneIndex, userScale);
                 }
                 break;
 
@@ -622,7 +622,7 @@ final public class SceneDrag {
                     Vector3f userTranslation
                             = pose.userTranslation(boneIndex, null);
                     userTranslation.addLocal(userOffset);
-                    pose.setTranslation(boneIndex, userTranslation);
+                    cgm.getPose().setTranslation(boneIndex, userTranslation);
                 }
                 break;
 
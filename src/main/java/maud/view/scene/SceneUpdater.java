@@ -42,6 +42,7 @@ import com.jme3.scene.Spatial;
 import com.jme3.shadow.DirectionalLightShadowRenderer;
 import com.jme3.shadow.EdgeFilteringMode;
 import com.jme3.system.AppSettings;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.logging.Logger;
 import jme3utilities.MySpatial;
@@ -52,8 +53,11 @@ import jme3utilities.sky.SkyControl;
 import jme3utilities.sky.Updater;
 import maud.EditorViewPorts;
 import maud.Maud;
+import maud.model.EditableMap;
 import maud.model.EditorModel;
 import maud.model.cgm.Cgm;
+import maud.model.cgm.EditableCgm;
+import maud.model.cgm.LoadedAnimation;
 import maud.model.cgm.SelectedLight;
 import maud.model.option.ShowBones;
 import maud.model.option.scene.AxesDragEffect;
@@ -433,13 +437,15 @@ final public class SceneUpdater {
     }
 
     /**
-     * Update the skeleton visualizer based on the MVC model.
+     * Update the skeleton visualizer based on the MVC model. The visualizer is
+     * reconfigured only if the selection, map, animation, show-bones mode, or
+     * skeleton options have changed since it was last configured.
      *
      * @param cgm which C-G model (not null)
      */
     private static void updateSkeleton(Cgm cgm) {
-        SkeletonVisualizer visualizer
-                = cgm.getSceneView().getSkeletonVisualizer();
+        SceneView sceneView = cgm.getSceneView();
+        SkeletonVisualizer visualizer = sceneView.getSkeletonVisualizer();
 
         SkeletonOptions options = Maud.getModel().getScene().getSkeleton();
         ShowBones showBones = options.getShowBones();
@@ -449,36 +455,59 @@ final public class SceneUpdater {
                 selectedBoneIndex, null);
 
         float lineWidth = options.getLineWidth();
-        visualizer.setLineWidth(lineWidth);
-
         float pointSize = options.getPointSize();
         AppSettings current = Maud.getApplication().getSettings();
         int msaaSamples = current.getSamples();
         if (msaaSamples == 16) { // work around JME issue #878
             pointSize *= 2f;
         }
-        visualizer.setHeadSize(pointSize);
-
-        ColorRGBA color = options.copyColor(SkeletonColors.Links, null);
-        visualizer.setLineColor(color);
-
-        options.copyColor(SkeletonColors.IdleBones, color);
-        visualizer.setHeadColor(color);
 
+        ColorRGBA forLinks = options.copyColor(SkeletonColors.Links, null);
+        ColorRGBA forIdle = options.copyColor(SkeletonColors.IdleBones, null);
         ColorRGBA forTracked
                 = options.copyColor(SkeletonColors.TrackedBones, null);
         ColorRGBA forMapped
                 = options.copyColor(SkeletonColors.MappedBones, null);
+        /*
+         * Compare with the inputs of the previous configuration.
+         */
+        LoadedAnimation animation = cgm.getAnimation();
+        boolean isRetargeted = animation.isRetargetedPose();
+        int cgmEdits = 0;
+        if (cgm instanceof EditableCgm) {
+            cgmEdits = ((EditableCgm) cgm).getEditState().countAllEdits();
+        }
         int numBones = cgm.getSkeleton().countBones();
+        Object mapInputs = null;
+        if (isRetargeted) {
+            EditableMap map = Maud.getModel().getMap();
+            mapInputs = Arrays.asList(map.getAssetPath(), map.countMappings(),
+                    map.isInvertingMap(),
+                    map.getEditState().countAllEdits());
+        }
+        boolean changed = sceneView.getSkeletonStamp().update(
+                visualizer.getSubtree(), numBones, showSet, lineWidth,
+                pointSize, forLinks, forIdle, forTracked, forMapped,
+                animation.name(), animation.countTracks(), isRetargeted,
+                cgmEdits, mapInputs);
+        if (!changed) {
+            return;
+        }
+
+        visualizer.setLineWidth(lineWidth);
+        visualizer.setHeadSize(pointSize);
+        visualizer.setLineColor(forLinks);
+        visualizer.setHeadColor(forIdle);
+
         for (int boneIndex = 0; boneIndex < numBones; boneIndex++) {
             if (showSet.get(boneIndex) == false) {
                 visualizer.setHeadColor(boneIndex, invisibleColor);
-            } else if (cgm.getAnimation().isRetargetedPose()) {
+            } else if (isRetargeted) {
                 String name = cgm.getSkeleton().getBoneName(boneIndex);
                 if (Maud.getModel().getMap().isBoneMapped(name)) {
                     visualizer.setHeadColor(boneIndex, forMapped);
                 }
-            } else if (cgm.getAnimation().hasTrackForBone(boneIndex)) {
+            } else if (animation.hasTrackForBone(boneIndex)) {
                 visualizer.setHeadColor(boneIndex, forTracked);
             } // else default to trackless/unmapped color
         }
@@ -50,7 +50,6 @@ import com.jme3.light.LightProbe;
 import com.jme3.material.MatParamOverride;
 import com.jme3.math.ColorRGBA;
 import com.jme3.math.FastMath;
-import com.jme3.math.Matrix4f;
 import com.jme3.math.Ray;
 import com.jme3.math.Transform;
 import com.jme3.math.Vector2f;
@@ -75,7 +74,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.MyCamera;
-import jme3utilities.MyMesh;
 import jme3utilities.MySkeleton;
 import jme3utilities.MySpatial;
 import jme3utilities.MyString;
@@ -94,7 +92,11 @@ import jme3utilities.ui.Locators;
 import jme3utilities.wes.Pose;
 import maud.Maud;
 import maud.MaudUtil;
+import maud.SkinningCache;
+import maud.StageTimes;
 import maud.model.EditorModel;
+import maud.model.ModelAspect;
+import maud.model.ModelVersion;
 import maud.model.WhichCgm;
 import maud.model.cgm.Cgm;
 import maud.model.cgm.DisplayedPose;
@@ -142,6 +144,10 @@ public class SceneViewCore implements EditorView, JmeCloneable {
     // *************************************************************************
     // fields
 
+    /**
+     * status of the environment camera at the most recent update
+     */
+    private boolean envCamWasBusy = false;
     /**
      * animation control with the selected skeleton - apparently needed for
      * software skinning, though it's unclear why
@@ -208,6 +214,10 @@ public class SceneViewCore implements EditorView, JmeCloneable {
      * test projectile
      */
     final private Projectile projectile = new Projectile(this);
+    /**
+     * inputs last used to configure the skeleton visualizer
+     */
+    final private SkeletonStamp skeletonStamp = new SkeletonStamp();
     /**
      * skeleton visualizer added to the overlay scene
      */
@@ -228,6 +238,10 @@ public class SceneViewCore implements EditorView, JmeCloneable {
      * base view port used when the screen is not split, or null for none
      */
     private ViewPort viewPort1 = null;
+    /**
+     * direction of the main light at the most recent update
+     */
+    final private Vector3f updatedLightDirection = new Vector3f();
     /**
      * base view port used when the screen is split (not null)
      */
@@ -311,6 +325,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         addedProbes.add(probe);
         probe.getArea().setRadius(far);
         probe.setName(lpName);
+        ModelVersion.bump(ModelAspect.View);
     }
 
     /**
@@ -355,6 +370,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
             sceneRoot.removeLight(probe);
         }
         addedProbes.clear();
+        ModelVersion.bump(ModelAspect.View);
     }
 
     /**
@@ -525,6 +541,15 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         return result;
     }
 
+    /**
+     * Access the inputs last used to configure the skeleton visualizer.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    SkeletonStamp getSkeletonStamp() {
+        return skeletonStamp;
+    }
+
     /**
      * Access the skeleton visualizer added to the overlay scene.
      *
@@ -641,6 +666,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         }
 
         skeletonVisualizer.setSubject(skeletonControl);
+        skeletonStamp.invalidate();
         fillPhysicsSpace();
     }
 
@@ -728,6 +754,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
             }
 
             skeletonVisualizer.setSubject(skeletonControl);
+            skeletonStamp.invalidate();
             /*
              * Cause the visualizer to add its geometries to the overlay scene
              * graph.
@@ -889,12 +916,11 @@ public class SceneViewCore implements EditorView, JmeCloneable {
             int[] vertexIndices = new int[3];
             mesh.getTriangle(triangleIndex, vertexIndices);
 
-            Pose pose = cgm.getPose().get();
-            Matrix4f[] matrices = pose.skin(null);
+            DisplayedPose pose = cgm.getPose();
             Vector3f worldPosition = new Vector3f();
 
             for (int vertexIndex : vertexIndices) {
-                MyMesh.vertexWorldLocation(geometry, vertexIndex, matrices,
+                SkinningCache.worldLocation(geometry, vertexIndex, pose,
                         worldPosition);
                 Vector3f screen = camera.getScreenCoordinates(worldPosition);
                 Vector2f screenXY = new Vector2f(screen.x, screen.y);
@@ -972,6 +998,9 @@ public class SceneViewCore implements EditorView, JmeCloneable {
             SceneOptions options = Maud.getModel().getScene();
             int numIterations = options.numPhysicsIterations();
             space.setSolverNumIterations(numIterations);
+            StageTimes.watchPhysics(space);
+
+            noteViewChanges();
         }
     }
 
@@ -1015,6 +1044,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         // boundsVisualizer not cloned: shared
         // bulletAppState not cloned: shared
         // cgm not cloned: set later
+        // envCamWasBusy not cloned: copied
         this.cgmRoot = cloner.clone(cgmRoot);
         this.cgmTransform = cloner.clone(cgmTransform);
         // cursor not cloned: shared
@@ -1025,8 +1055,10 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         // projectile not cloned: shared
         this.skeleton = cloner.clone(skeleton);
         this.skeletonControl = cloner.clone(skeletonControl);
+        // skeletonStamp not cloned: shared
         // skeletonVisualizer not cloned: shared
         // skyControl not cloned: shared
+        // updatedLightDirection not cloned: shared
         // vertexSpatial not cloned: shared
         // viewPort1, viewPort2 not cloned: shared
     }
@@ -1152,6 +1184,7 @@ public class SceneViewCore implements EditorView, JmeCloneable {
 
         this.skeleton = null;
         this.skeletonVisualizer.setSubject(null);
+        skeletonStamp.invalidate();
         /*
          * Remove any skeleton-dependent S-G controls from the base scene graph.
          */
@@ -1367,6 +1400,22 @@ public class SceneViewCore implements EditorView, JmeCloneable {
         return result;
     }
 
+    /**
+     * Note changes to view state that tools display but no mutator sees: the
+     * completion of a light probe and, when the sky is simulated, the
+     * direction of the main light.
+     */
+    private void noteViewChanges() {
+        boolean isBusy = Maud.envCamIsBusy;
+        Vector3f direction = mainLight.getDirection(); // alias
+        if (isBusy != envCamWasBusy
+                || !direction.equals(updatedLightDirection)) {
+            this.envCamWasBusy = isBusy;
+            updatedLightDirection.set(direction);
+            ModelVersion.bump(ModelAspect.View);
+        }
+    }
+
     /**
      * Alter a newly loaded C-G model to prepare it for visualization.
      */
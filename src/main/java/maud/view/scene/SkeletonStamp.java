@@ -0,0 +1,84 @@
+/*
+ Copyright (c) 2023, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package maud.view.scene;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * A record of the inputs last used to configure a skeleton visualizer, so that
+ * per-bone configuration can be skipped when none of them has changed.
+ * <p>
+ * Inputs are compared using {@link Object#equals(java.lang.Object)}, so
+ * mutable inputs should be passed as fresh copies.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class SkeletonStamp {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(SkeletonStamp.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * inputs recorded by the most recent change, or null if none
+     */
+    private Object[] inputs = null;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Forget the recorded inputs, so that the next update reports a change.
+     */
+    void invalidate() {
+        inputs = null;
+    }
+
+    /**
+     * Compare the specified inputs with the recorded ones, and record them if
+     * they differ.
+     *
+     * @param newInputs the current inputs (not null, alias created)
+     * @return true if any input changed, otherwise false
+     */
+    boolean update(Object... newInputs) {
+        assert newInputs != null;
+
+        if (Arrays.equals(newInputs, inputs)) {
+            return false;
+        } else {
+            inputs = newInputs;
+            return true;
+        }
+    }
+}